@@ -21,7 +21,8 @@ public class ClickService {
 
     public ClickStatsResult getClickStats(ClickStatsCommand command) {
 
-        long totalClicks = urlClickRepository.countByShortCode(command.shortCode());
+        // 핫 링크는 1/N 샘플링된 클릭을 가중치 N으로 저장하므로 행 수가 아닌 가중치 합으로 집계
+        long totalClicks = urlClickRepository.sumSampleWeightByShortCode(command.shortCode());
 
         LocalDateTime now = LocalDateTime.now();
         LocalDateTime last24Hours = now.minusHours(24);
@@ -31,10 +32,13 @@ public class ClickService {
                 command.shortCode(), last7Days, now
         );
 
-        long clicksLast7Days = last7DaysClicks.size();
+        long clicksLast7Days = last7DaysClicks.stream()
+                .mapToLong(UrlClick::getSampleWeight)
+                .sum();
         long clicksLast24Hours = last7DaysClicks.stream()
                 .filter(click -> click.getClickedAt().isAfter(last24Hours))
-                .count();
+                .mapToLong(UrlClick::getSampleWeight)
+                .sum();
 
         return ClickStatsResult.of(
             command.shortCode(),
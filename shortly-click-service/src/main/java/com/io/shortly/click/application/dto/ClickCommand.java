@@ -1,19 +1,17 @@
 package com.io.shortly.click.application.dto;
 
+import com.io.shortly.shared.shortcode.ValidShortCode;
 import jakarta.validation.constraints.Max;
 import jakarta.validation.constraints.NotBlank;
-import jakarta.validation.constraints.Pattern;
 import jakarta.validation.constraints.Positive;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class ClickCommand {
 
-    private static final String SHORT_CODE_REGEX = "^[a-zA-Z0-9]{6,10}$";
-
     public record ClickStatsCommand(
             @NotBlank(message = "Short code must not be blank")
-            @Pattern(regexp = SHORT_CODE_REGEX, message = "Short code must be 6-10 alphanumeric characters")
+            @ValidShortCode
             String shortCode
     ) {
         public static ClickStatsCommand of(String shortCode) {
@@ -23,7 +21,7 @@ public class ClickCommand {
 
     public record ClickDetailCommand(
             @NotBlank(message = "Short code must not be blank")
-            @Pattern(regexp = SHORT_CODE_REGEX, message = "Short code must be 6-10 alphanumeric characters")
+            @ValidShortCode
             String shortCode,
             @Positive(message = "Limit must be positive")
             @Max(value = 1000, message = "Limit must not exceed 1000")
@@ -9,6 +9,8 @@ public class UrlClick {
     private final long eventId;
     private final String shortCode;
     private final String originalUrl;
+    // 핫 링크 샘플링으로 이 행 1건이 대표하는 클릭 수 (샘플링하지 않으면 1). 클릭 수 집계는 이 값의 합
+    private final int sampleWeight;
     private final LocalDateTime clickedAt;
 
     private UrlClick(
@@ -16,12 +18,14 @@ public class UrlClick {
             long eventId,
             String shortCode,
             String originalUrl,
+            int sampleWeight,
             LocalDateTime clickedAt
     ) {
         this.id = id;
         this.eventId = eventId;
         this.shortCode = shortCode;
         this.originalUrl = originalUrl;
+        this.sampleWeight = Math.max(1, sampleWeight);
         this.clickedAt = clickedAt;
     }
 
@@ -30,7 +34,26 @@ public class UrlClick {
             String shortCode,
             String originalUrl
     ) {
-        return new UrlClick(null, eventId, shortCode, originalUrl, LocalDateTime.now());
+        return create(eventId, shortCode, originalUrl, 1);
+    }
+
+    public static UrlClick create(
+            long eventId,
+            String shortCode,
+            String originalUrl,
+            int sampleWeight
+    ) {
+        return new UrlClick(null, eventId, shortCode, originalUrl, sampleWeight, LocalDateTime.now());
+    }
+
+    public static UrlClick restore(
+            Long id,
+            long eventId,
+            String shortCode,
+            String originalUrl,
+            LocalDateTime clickedAt
+    ) {
+        return restore(id, eventId, shortCode, originalUrl, 1, clickedAt);
     }
 
     public static UrlClick restore(
@@ -38,9 +61,10 @@ public class UrlClick {
             long eventId,
             String shortCode,
             String originalUrl,
+            int sampleWeight,
             LocalDateTime clickedAt
     ) {
-        return new UrlClick(id, eventId, shortCode, originalUrl, clickedAt);
+        return new UrlClick(id, eventId, shortCode, originalUrl, sampleWeight, clickedAt);
     }
 
     public Long getId() {
@@ -59,6 +83,10 @@ public class UrlClick {
         return originalUrl;
     }
 
+    public int getSampleWeight() {
+        return sampleWeight;
+    }
+
     public LocalDateTime getClickedAt() {
         return clickedAt;
     }
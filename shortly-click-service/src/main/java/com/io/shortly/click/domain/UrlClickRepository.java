@@ -9,7 +9,10 @@ public interface UrlClickRepository {
 
     void saveAll(List<UrlClick> urlClicks);
 
-    long countByShortCode(String shortCode);
+    // 샘플링 가중치를 반영한 클릭 수
+    long sumSampleWeightByShortCode(String shortCode);
+
+    List<Long> findExistingEventIds(List<Long> eventIds);
 
     List<UrlClick> findByShortCodeAndClickedAtBetween(
             String shortCode,
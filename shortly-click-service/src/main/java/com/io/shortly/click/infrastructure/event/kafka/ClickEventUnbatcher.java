@@ -0,0 +1,29 @@
+package com.io.shortly.click.infrastructure.event.kafka;
+
+import com.io.shortly.shared.event.EventBatch;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class ClickEventUnbatcher {
+
+    // envelope을 풀어 eventId 기준으로 중복 제거 (재전송된 envelope 포함, 최초 등장 순서 유지)
+    public List<UrlClickedEvent> unbatch(List<EventBatch<UrlClickedEvent>> batches) {
+        int capacity = 0;
+        for (EventBatch<UrlClickedEvent> batch : batches) {
+            capacity += batch.size();
+        }
+
+        Map<Long, UrlClickedEvent> unique = new LinkedHashMap<>(Math.max(16, capacity * 4 / 3 + 1));
+        for (EventBatch<UrlClickedEvent> batch : batches) {
+            for (UrlClickedEvent event : batch.getEvents()) {
+                unique.putIfAbsent(event.getEventId(), event);
+            }
+        }
+        return new ArrayList<>(unique.values());
+    }
+}
@@ -1,5 +1,6 @@
 package com.io.shortly.click.infrastructure.event.kafka;
 
+import com.io.shortly.shared.event.EventBatch;
 import com.io.shortly.shared.event.UrlClickedEvent;
 import com.io.shortly.shared.event.TopicType;
 import java.util.Map;
@@ -29,7 +30,7 @@ public class KafkaConsumerConfig {
     private final KafkaTemplate<String, UrlClickedEvent> dlqKafkaTemplate;
 
     @Bean
-    public ConsumerFactory<String, UrlClickedEvent> consumerFactory() {
+    public ConsumerFactory<String, EventBatch<UrlClickedEvent>> consumerFactory() {
         Map<String, Object> config = kafkaProperties.buildConsumerProperties(null);
         return new DefaultKafkaConsumerFactory<>(config);
     }
@@ -72,8 +73,8 @@ public class KafkaConsumerConfig {
     }
 
     @Bean
-    public ConcurrentKafkaListenerContainerFactory<String, UrlClickedEvent> kafkaListenerContainerFactory() {
-        ConcurrentKafkaListenerContainerFactory<String, UrlClickedEvent> factory = new ConcurrentKafkaListenerContainerFactory<>();
+    public ConcurrentKafkaListenerContainerFactory<String, EventBatch<UrlClickedEvent>> kafkaListenerContainerFactory() {
+        ConcurrentKafkaListenerContainerFactory<String, EventBatch<UrlClickedEvent>> factory = new ConcurrentKafkaListenerContainerFactory<>();
         factory.setConsumerFactory(consumerFactory());
         factory.setCommonErrorHandler(errorHandler());
         return factory;
@@ -2,10 +2,17 @@ package com.io.shortly.click.infrastructure.event.kafka;
 
 import com.io.shortly.click.domain.UrlClick;
 import com.io.shortly.click.domain.UrlClickRepository;
+import com.io.shortly.shared.api.support.error.BusinessException;
+import com.io.shortly.shared.api.support.error.CommonErrorCode;
+import com.io.shortly.shared.event.EventBatch;
 import com.io.shortly.shared.event.TopicType;
 import com.io.shortly.shared.event.UrlClickedEvent;
+import com.io.shortly.shared.metrics.ConsumerBatchMetrics;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
-import lombok.RequiredArgsConstructor;
+import java.util.Set;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.kafka.annotation.KafkaListener;
@@ -14,38 +21,61 @@ import org.springframework.transaction.annotation.Transactional;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UrlClickedEventConsumer {
 
     private final UrlClickRepository urlClickRepository;
+    private final HotPathMetrics hotPathMetrics;
+    private final ConsumerBatchMetrics batchMetrics;
+
+    public UrlClickedEventConsumer(UrlClickRepository urlClickRepository, HotPathMetrics hotPathMetrics) {
+        this.urlClickRepository = urlClickRepository;
+        this.hotPathMetrics = hotPathMetrics;
+        this.batchMetrics = hotPathMetrics.consumerBatch(TopicType.URL_CLICKED.getTopicName());
+    }
 
     @Transactional
     @KafkaListener(topics = "#{T(com.io.shortly.shared.event.TopicType).URL_CLICKED.getTopicName()}", groupId = TopicType.ConsumerGroups.CLICK_SERVICE, containerFactory = "kafkaListenerContainerFactory", batch = "true")
-    public void consumeUrlClicked(List<UrlClickedEvent> events) {
+    public void consumeUrlClicked(List<EventBatch<UrlClickedEvent>> batches) {
+        List<UrlClickedEvent> events = ClickEventUnbatcher.unbatch(batches);
         if (events.isEmpty()) {
             return;
         }
 
-        log.debug("[Kafka Consumer] 배치 처리 시작 - size={}", events.size());
+        long start = hotPathMetrics.start();
+        log.debug("[Kafka Consumer] 배치 처리 시작 - records={}, events={}", batches.size(), events.size());
 
-        int successCount = 0;
-        int duplicateCount = 0;
+        List<Long> eventIds = new ArrayList<>(events.size());
+        for (UrlClickedEvent event : events) {
+            eventIds.add(event.getEventId());
+        }
+        Set<Long> existing = new HashSet<>(urlClickRepository.findExistingEventIds(eventIds));
 
+        List<UrlClick> clicks = new ArrayList<>(events.size());
         for (UrlClickedEvent event : events) {
-            try {
-                UrlClick click = UrlClick.create(
-                        event.getEventId(),
-                        event.getShortCode(),
-                        event.getOriginalUrl());
-                urlClickRepository.save(click);
-                successCount++;
-            } catch (DataIntegrityViolationException e) {
-                duplicateCount++;
+            if (existing.contains(event.getEventId())) {
                 log.trace("[Kafka Retry] 중복 이벤트 스킵 - eventId={}", event.getEventId());
+                continue;
             }
+            clicks.add(UrlClick.create(
+                    event.getEventId(),
+                    event.getShortCode(),
+                    event.getOriginalUrl(),
+                    event.getSampleWeight()));
+        }
+
+        try {
+            urlClickRepository.saveAll(clicks);
+        } catch (DataIntegrityViolationException e) {
+            // 조회 이후 다른 컨슈머가 먼저 저장한 경우: 재시도 시 중복 조회로 걸러지도록 재처리 대상 예외로 전환
+            // DefaultErrorHandler는 cause 체인까지 분류하므로 재시도 불가 예외(DIVE)를 cause로 남기지 않음
+            log.warn("[Kafka Consumer] 동시 저장된 중복 이벤트로 배치 재처리 - events={}, error={}",
+                    events.size(), e.getMostSpecificCause().getMessage());
+            throw new BusinessException(CommonErrorCode.MESSAGE_PROCESSING_FAILED,
+                    "Concurrent duplicate click events detected");
         }
 
+        batchMetrics.record(events.size(), start);
         log.debug("[Kafka Consumer] 배치 처리 완료 - total={}, saved={}, duplicates={}",
-                events.size(), successCount, duplicateCount);
+                events.size(), clicks.size(), events.size() - clicks.size());
     }
 }
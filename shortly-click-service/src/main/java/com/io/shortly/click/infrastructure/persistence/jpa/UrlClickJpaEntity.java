@@ -38,12 +38,16 @@ public class UrlClickJpaEntity {
     @Column(name = "original_url", nullable = false, length = 2048)
     private String originalUrl;
 
+    // 컬럼 추가 이전 행은 샘플링하지 않은 1건
+    @Column(name = "sample_weight", nullable = false, columnDefinition = "INT NOT NULL DEFAULT 1")
+    private int sampleWeight;
+
     @CreationTimestamp
     @Column(name = "clicked_at", nullable = false, updatable = false)
     private LocalDateTime clickedAt;
 
     public UrlClick toDomain() {
-        return UrlClick.restore(id, eventId, shortCode, originalUrl, clickedAt);
+        return UrlClick.restore(id, eventId, shortCode, originalUrl, sampleWeight, clickedAt);
     }
 
     public static UrlClickJpaEntity fromDomain(UrlClick urlClick) {
@@ -52,6 +56,7 @@ public class UrlClickJpaEntity {
                 urlClick.getEventId(),
                 urlClick.getShortCode(),
                 urlClick.getOriginalUrl(),
+                urlClick.getSampleWeight(),
                 urlClick.getClickedAt()
         );
     }
@@ -12,7 +12,8 @@ import java.util.List;
 @Repository
 public interface UrlClickJpaRepository extends JpaRepository<UrlClickJpaEntity, Long> {
 
-    long countByShortCode(String shortCode);
+    @Query("SELECT COALESCE(SUM(u.sampleWeight), 0) FROM UrlClickJpaEntity u WHERE u.shortCode = :shortCode")
+    long sumSampleWeightByShortCode(@Param("shortCode") String shortCode);
 
     List<UrlClickJpaEntity> findByShortCodeAndClickedAtBetween(
             String shortCode,
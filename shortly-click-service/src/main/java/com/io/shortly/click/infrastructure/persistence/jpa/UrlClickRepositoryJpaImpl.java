@@ -2,6 +2,7 @@ package com.io.shortly.click.infrastructure.persistence.jpa;
 
 import com.io.shortly.click.domain.UrlClick;
 import com.io.shortly.click.domain.UrlClickRepository;
+import com.io.shortly.shared.metrics.HotPathMetrics;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
@@ -13,11 +14,14 @@ import java.util.List;
 public class UrlClickRepositoryJpaImpl implements UrlClickRepository {
 
     private final UrlClickJpaRepository jpaRepository;
+    private final HotPathMetrics hotPathMetrics;
 
     @Override
     public UrlClick save(UrlClick urlClick) {
+        long start = hotPathMetrics.start();
         UrlClickJpaEntity entity = UrlClickJpaEntity.fromDomain(urlClick);
         UrlClickJpaEntity saved = jpaRepository.save(entity);
+        hotPathMetrics.recordDbWrite("url_click.save", start);
         return saved.toDomain();
     }
 
@@ -26,12 +30,22 @@ public class UrlClickRepositoryJpaImpl implements UrlClickRepository {
         List<UrlClickJpaEntity> entities = urlClicks.stream()
                 .map(UrlClickJpaEntity::fromDomain)
                 .toList();
+        long start = hotPathMetrics.start();
         jpaRepository.saveAll(entities);
+        hotPathMetrics.recordDbWrite("url_click.save_all", start);
     }
 
     @Override
-    public long countByShortCode(String shortCode) {
-        return jpaRepository.countByShortCode(shortCode);
+    public long sumSampleWeightByShortCode(String shortCode) {
+        return jpaRepository.sumSampleWeightByShortCode(shortCode);
+    }
+
+    @Override
+    public List<Long> findExistingEventIds(List<Long> eventIds) {
+        if (eventIds.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findExistingEventIds(eventIds);
     }
 
     @Override
@@ -0,0 +1,30 @@
+package com.io.shortly.redirect.api;
+
+import com.io.shortly.redirect.application.RedirectFacade;
+import com.io.shortly.redirect.application.dto.RedirectResult.RedirectLookupResult;
+import io.swagger.v3.oas.annotations.Hidden;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RestController;
+
+// redirect 노드 간 내부 조회용 (nginx는 /r/ 경로만 프록시하므로 외부에 노출되지 않음)
+@Hidden
+@RestController
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shortly.cache.peer.enabled", havingValue = "true")
+public class PeerRedirectController {
+
+    private final RedirectFacade redirectFacade;
+
+    @GetMapping("/internal/peer/redirects/{shortCode}")
+    public ResponseEntity<RedirectLookupResult> lookup(@PathVariable String shortCode) {
+        RedirectLookupResult result = redirectFacade.resolveOwned(shortCode);
+        if (!result.isFound()) {
+            return ResponseEntity.notFound().build();
+        }
+        return ResponseEntity.ok(result);
+    }
+}
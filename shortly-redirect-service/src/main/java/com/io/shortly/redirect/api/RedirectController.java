@@ -1,17 +1,33 @@
 package com.io.shortly.redirect.api;
 
+import com.io.shortly.redirect.api.dto.RedirectRequest.ResolveRequest;
+import com.io.shortly.redirect.api.dto.RedirectResponse.ResolveResponse;
+import com.io.shortly.redirect.api.support.RedirectErrorCode;
 import com.io.shortly.redirect.application.RedirectFacade;
 import com.io.shortly.redirect.application.dto.RedirectResult.RedirectLookupResult;
+import com.io.shortly.redirect.infrastructure.edge.PurgeRequestVerifier;
+import com.io.shortly.shared.api.support.error.ErrorResponse;
+import com.io.shortly.shared.redirect.RedirectPolicy;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.Valid;
 import java.net.URI;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RestController;
 
 @Slf4j
@@ -20,17 +36,70 @@ import org.springframework.web.bind.annotation.RestController;
 public class RedirectController {
 
     private final RedirectFacade redirectFacade;
+    private final PurgeRequestVerifier purgeRequestVerifier;
+
+    @Value("${spring.application.name:unknown-service}")
+    private String serviceName;
+
+    // 브라우저 캐시는 purge할 수 없으므로 짧게, edge(nginx) 캐시는 purge 가능하므로 길게 유지
+    @Value("${shortly.redirect.cache-control.max-age:60s}")
+    private Duration browserMaxAge;
+
+    @Value("${shortly.redirect.cache-control.s-maxage:1h}")
+    private Duration edgeMaxAge;
 
     @GetMapping("/r/{shortCode}")
-    @Operation(summary = "단축 URL 리다이렉션", description = "단축 코드로 원본 URL을 조회하여 리다이렉션 (HTTP 302)")
-    @ApiResponse(responseCode = "302", description = "리다이렉션 성공", content = @Content)
+    @Operation(summary = "단축 URL 리다이렉션",
+        description = "단축 코드로 원본 URL을 조회하여 리다이렉션 (링크의 redirect 정책에 따라 HTTP 302 또는 301)")
+    @ApiResponse(responseCode = "301", description = "리다이렉션 성공 (PERMANENT)", content = @Content)
+    @ApiResponse(responseCode = "302", description = "리다이렉션 성공 (TRACKED, CACHED)", content = @Content)
     @ApiResponse(responseCode = "404", description = "단축 코드를 찾을 수 없음")
-    public ResponseEntity<Void> redirect(@PathVariable String shortCode) {
-        RedirectLookupResult result = redirectFacade.getOriginalUrl(shortCode);
+    @ApiResponse(responseCode = "503", description = "캐시에 없는 코드를 URL Service에서 조회하지 못함 (Retry-After)")
+    public ResponseEntity<ErrorResponse> redirect(@PathVariable String shortCode, HttpServletRequest request) {
+        // nginx purge 전용 server가 보낸 요청은 클릭으로 집계하지 않음
+        boolean purge = purgeRequestVerifier.isPurge(request);
+        RedirectLookupResult result = redirectFacade.getOriginalUrl(shortCode, !purge,
+            request.getHeader(HttpHeaders.USER_AGENT), request.getHeader(HttpHeaders.ACCEPT_LANGUAGE));
+
+        // 미존재 코드는 예외 처리기를 거치지 않고 바로 404 응답
+        if (!result.isFound()) {
+            RedirectErrorCode errorCode = RedirectErrorCode.SHORT_CODE_NOT_FOUND;
+            return ResponseEntity
+                .status(errorCode.getHttpStatus())
+                .body(ErrorResponse.of(errorCode, request.getRequestURI(), serviceName));
+        }
 
         return ResponseEntity
-            .status(HttpStatus.FOUND)
+            .status(result.policy() == RedirectPolicy.PERMANENT ? HttpStatus.MOVED_PERMANENTLY : HttpStatus.FOUND)
             .location(URI.create(result.originalUrl()))
+            .cacheControl(cacheControl(result))
             .build();
     }
+
+    @PostMapping("/api/v1/redirects/resolve")
+    @Operation(summary = "단축 URL 일괄 조회", description = "최대 100개 단축 코드의 원본 URL을 JSON으로 반환 (recordClicks=true일 때만 클릭 집계)")
+    @ApiResponse(responseCode = "200", description = "조회 성공 (미존재 코드는 found=false)")
+    @ApiResponse(responseCode = "400", description = "코드 목록이 비었거나 100개 초과")
+    @ApiResponse(responseCode = "503", description = "캐시에 없는 코드를 URL Service에서 조회하지 못함 (Retry-After)")
+    public ResolveResponse resolve(@Valid @RequestBody ResolveRequest request) {
+        return ResolveResponse.of(redirectFacade.resolveAll(request.shortCodes(), request.recordClicks()));
+    }
+
+    // 캐시 가능한 정책도 링크 만료 시각 이후까지 캐시되지 않도록 남은 시간으로 제한.
+    // redirect 규칙이 있으면 요청마다 목적지가 다르므로 캐시하지 않음 (edge 캐시 키는 경로만 사용)
+    private CacheControl cacheControl(RedirectLookupResult result) {
+        if (!result.policy().isCacheable() || result.hasRules()) {
+            return CacheControl.noStore();
+        }
+        long remainingSeconds = result.expiresAt() != null
+            ? Duration.between(Instant.now(), result.expiresAt()).toSeconds()
+            : Long.MAX_VALUE;
+        long edgeSeconds = Math.min(edgeMaxAge.toSeconds(), remainingSeconds);
+        if (edgeSeconds <= 0) {
+            return CacheControl.noStore();
+        }
+        return CacheControl.maxAge(Math.min(browserMaxAge.toSeconds(), edgeSeconds), TimeUnit.SECONDS)
+            .sMaxAge(edgeSeconds, TimeUnit.SECONDS)
+            .cachePublic();
+    }
 }
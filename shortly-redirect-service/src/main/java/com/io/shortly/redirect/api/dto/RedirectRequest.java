@@ -0,0 +1,18 @@
+package com.io.shortly.redirect.api.dto;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class RedirectRequest {
+
+    // recordClicks를 생략하면 클릭 이벤트를 발행하지 않음
+    public record ResolveRequest(
+            @NotEmpty(message = "Short codes must not be empty")
+            @Size(max = 100, message = "Short codes must not exceed 100 entries")
+            List<String> shortCodes,
+            boolean recordClicks
+    ) {}
+}
@@ -0,0 +1,30 @@
+package com.io.shortly.redirect.api.dto;
+
+import com.io.shortly.redirect.application.dto.RedirectResult.ResolvedLinkResult;
+import java.time.Instant;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class RedirectResponse {
+
+    // 요청한 코드 순서와 같은 순서로 반환
+    public record ResolveResponse(
+            List<ResolvedLinkResponse> results
+    ) {
+        public static ResolveResponse of(List<ResolvedLinkResult> results) {
+            return new ResolveResponse(results.stream().map(ResolvedLinkResponse::of).toList());
+        }
+    }
+
+    public record ResolvedLinkResponse(
+            String shortCode,
+            boolean found,
+            String originalUrl,
+            Instant expiresAt
+    ) {
+        public static ResolvedLinkResponse of(ResolvedLinkResult result) {
+            return new ResolvedLinkResponse(result.shortCode(), result.isFound(), result.originalUrl(), result.expiresAt());
+        }
+    }
+}
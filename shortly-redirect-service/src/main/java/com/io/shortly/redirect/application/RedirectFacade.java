@@ -1,11 +1,23 @@
 package com.io.shortly.redirect.application;
 
 import com.io.shortly.redirect.application.dto.RedirectResult.RedirectLookupResult;
+import com.io.shortly.redirect.application.dto.RedirectResult.ResolvedLinkResult;
+import com.io.shortly.redirect.domain.ClickSampler;
 import com.io.shortly.redirect.domain.Redirect;
 import com.io.shortly.redirect.domain.RedirectCacheService;
 import com.io.shortly.redirect.domain.RedirectEventPublisher;
+import com.io.shortly.redirect.domain.RuleTable;
 import com.io.shortly.shared.event.UrlClickedEvent;
 import com.io.shortly.shared.id.UniqueIdGenerator;
+import com.io.shortly.shared.jfr.IdGenerationEvent;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import com.io.shortly.shared.shortcode.ShortCode;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -19,21 +31,121 @@ public class RedirectFacade {
     private final RedirectCacheService cacheService;
     private final RedirectEventPublisher eventPublisher;
     private final UniqueIdGenerator uniqueIdGenerator;
+    private final HotPathMetrics hotPathMetrics;
+    private final ClickSampler clickSampler;
 
     public RedirectLookupResult getOriginalUrl(String shortCode) {
+        return getOriginalUrl(shortCode, true);
+    }
+
+    public RedirectLookupResult getOriginalUrl(String shortCode, boolean recordClick) {
+        return getOriginalUrl(shortCode, recordClick, null, null);
+    }
+
+    /*
+     * edge 캐시 purge 요청은 클릭이 아니므로 recordClick=false로 조회만 함
+     * 링크에 redirect 규칙이 있으면 캐시 항목에 미리 만들어 둔 결정 테이블로 User-Agent/Accept-Language와
+     * 무작위 bucket(weight 분배)을 평가해 목적지를 고르고, 클릭 이벤트에도 고른 목적지를 기록
+     * 샘플링으로 발행하지 않는 클릭은 이벤트 ID도 만들지 않음
+     */
+    public RedirectLookupResult getOriginalUrl(
+            String shortCode,
+            boolean recordClick,
+            String userAgent,
+            String acceptLanguage
+    ) {
         Assert.hasText(shortCode, "Short code must not be blank");
 
-        Redirect redirect = cacheService.getRedirect(shortCode);
+        // 형식이 잘못된 코드는 캐시/URL Service 조회 없이 바로 미존재 처리
+        if (!ShortCode.isValid(shortCode)) {
+            return RedirectLookupResult.notFound();
+        }
 
+        Redirect redirect = cacheService.findRedirectOrNull(shortCode);
+        if (redirect == null) {
+            return RedirectLookupResult.notFound();
+        }
+        String targetUrl = redirect.getTargetUrl();
+        if (redirect.hasRules()) {
+            int bucket = ThreadLocalRandom.current().nextInt(RuleTable.BUCKETS);
+            targetUrl = redirect.resolveTarget(userAgent, acceptLanguage, bucket);
+        }
+        if (!recordClick) {
+            return RedirectLookupResult.of(redirect, targetUrl);
+        }
+        int sampleWeight = clickSampler.sample(redirect.getShortCode());
+        if (sampleWeight == ClickSampler.DROP) {
+            return RedirectLookupResult.of(redirect, targetUrl);
+        }
+
+        IdGenerationEvent idEvent = new IdGenerationEvent();
+        idEvent.begin();
+        long idStart = hotPathMetrics.start();
         long eventId = uniqueIdGenerator.generate();
+        hotPathMetrics.recordIdGeneration(idStart);
+        idEvent.complete(shortCode, eventId);
 
         UrlClickedEvent event = UrlClickedEvent.of(
                 eventId,
                 redirect.getShortCode(),
-                redirect.getTargetUrl()
+                targetUrl,
+                sampleWeight
         );
         eventPublisher.publishUrlClicked(event);
 
-        return RedirectLookupResult.of(redirect.getTargetUrl());
+        return RedirectLookupResult.of(redirect, targetUrl);
+    }
+
+    /*
+     * 여러 코드의 원본 URL 일괄 조회 (링크 미리보기, 메일 스캐너, 리포트 등)
+     * 메타데이터 조회는 클릭이 아니므로 recordClicks가 true일 때만 찾은 코드마다 클릭 이벤트를 1건씩 발행
+     * 결과는 요청 순서를 유지하며, 중복 코드는 한 번만 조회함
+     */
+    public List<ResolvedLinkResult> resolveAll(List<String> shortCodes, boolean recordClicks) {
+        Assert.notNull(shortCodes, "Short codes must not be null");
+
+        Set<String> validCodes = new LinkedHashSet<>();
+        for (String shortCode : shortCodes) {
+            if (ShortCode.isValid(shortCode)) {
+                validCodes.add(shortCode);
+            }
+        }
+
+        Map<String, Redirect> found = validCodes.isEmpty() ? Map.of() : cacheService.findRedirects(validCodes);
+
+        if (recordClicks) {
+            for (String shortCode : validCodes) {
+                Redirect redirect = found.get(shortCode);
+                if (redirect == null) {
+                    continue;
+                }
+                int sampleWeight = clickSampler.sample(redirect.getShortCode());
+                if (sampleWeight != ClickSampler.DROP) {
+                    eventPublisher.publishUrlClicked(UrlClickedEvent.of(
+                            uniqueIdGenerator.generate(),
+                            redirect.getShortCode(),
+                            redirect.getTargetUrl(),
+                            sampleWeight
+                    ));
+                }
+            }
+        }
+
+        List<ResolvedLinkResult> results = new ArrayList<>(shortCodes.size());
+        for (String shortCode : shortCodes) {
+            Redirect redirect = shortCode != null ? found.get(shortCode) : null;
+            results.add(redirect != null ? ResolvedLinkResult.of(redirect) : ResolvedLinkResult.notFound(shortCode));
+        }
+        return results;
+    }
+
+    // 다른 redirect 노드의 peer 조회 요청 처리. 클릭 이벤트는 요청을 받은 노드에서만 발행
+    public RedirectLookupResult resolveOwned(String shortCode) {
+        if (!ShortCode.isValid(shortCode)) {
+            return RedirectLookupResult.notFound();
+        }
+        return cacheService.findOwnedRedirect(shortCode)
+                .map(RedirectLookupResult::of)
+                .orElseGet(RedirectLookupResult::notFound);
     }
 }
@@ -1,14 +1,70 @@
 package com.io.shortly.redirect.application.dto;
 
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import java.time.Instant;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class RedirectResult {
 
-    public record RedirectLookupResult(String originalUrl) {
+    // rules: 링크의 redirect 규칙(RedirectRules 형식). originalUrl은 규칙을 적용해 고른 목적지
+    public record RedirectLookupResult(
+        String originalUrl,
+        long version,
+        Instant expiresAt,
+        RedirectPolicy policy,
+        String rules
+    ) {
+
+        private static final RedirectLookupResult NOT_FOUND =
+            new RedirectLookupResult(null, 0L, null, RedirectPolicy.DEFAULT, null);
 
         public static RedirectLookupResult of(String originalUrl) {
-            return new RedirectLookupResult(originalUrl);
+            return new RedirectLookupResult(originalUrl, 0L, null, RedirectPolicy.DEFAULT, null);
+        }
+
+        public static RedirectLookupResult of(String originalUrl, long version, Instant expiresAt) {
+            return new RedirectLookupResult(originalUrl, version, expiresAt, RedirectPolicy.DEFAULT, null);
+        }
+
+        // 기본 URL과 규칙을 그대로 전달 (peer 조회 응답)
+        public static RedirectLookupResult of(Redirect redirect) {
+            return of(redirect, redirect.getTargetUrl());
+        }
+
+        public static RedirectLookupResult of(Redirect redirect, String targetUrl) {
+            return new RedirectLookupResult(
+                targetUrl, redirect.getVersion(), redirect.getExpiresAt(), redirect.getPolicy(), redirect.getRules());
+        }
+
+        public static RedirectLookupResult notFound() {
+            return NOT_FOUND;
+        }
+
+        public boolean isFound() {
+            return originalUrl != null;
+        }
+
+        // 요청 헤더나 weight에 따라 목적지가 달라질 수 있음
+        public boolean hasRules() {
+            return rules != null;
+        }
+    }
+
+    // 일괄 조회 결과 항목. 미존재/비활성화/만료 코드는 originalUrl이 null
+    public record ResolvedLinkResult(String shortCode, String originalUrl, Instant expiresAt) {
+
+        public static ResolvedLinkResult of(Redirect redirect) {
+            return new ResolvedLinkResult(redirect.getShortCode(), redirect.getTargetUrl(), redirect.getExpiresAt());
+        }
+
+        public static ResolvedLinkResult notFound(String shortCode) {
+            return new ResolvedLinkResult(shortCode, null, null);
+        }
+
+        public boolean isFound() {
+            return originalUrl != null;
         }
     }
 }
@@ -0,0 +1,24 @@
+package com.io.shortly.redirect.domain;
+
+import com.io.shortly.shared.event.UrlClickedEvent;
+
+// 클릭 이벤트 발행 여부와 가중치 결정. DROP이면 발행하지 않고, 아니면 이벤트 1건이 대표하는 클릭 수
+public interface ClickSampler {
+
+    int DROP = 0;
+
+    int sample(String shortCode);
+
+    static ClickSampler none() {
+        return None.INSTANCE;
+    }
+
+    enum None implements ClickSampler {
+        INSTANCE;
+
+        @Override
+        public int sample(String shortCode) {
+            return UrlClickedEvent.UNSAMPLED;
+        }
+    }
+}
@@ -1,42 +1,126 @@
 package com.io.shortly.redirect.domain;
 
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.util.Objects;
 import org.springframework.util.Assert;
 
 public class Redirect {
 
+    private static final long NO_EXPIRY = Long.MAX_VALUE;
+
     private final Long eventId;
     private final String shortCode;
     private final String targetUrl;
     private final LocalDateTime createdAt;
+    private final long version;
+    private final boolean disabled;
+    // 만료 없음은 Long.MAX_VALUE. 조회 경로에서 객체 생성 없이 long 비교만 하도록 epoch millis로 보관
+    private final long expiresAtMillis;
+    // 팩토리는 기본값(TRACKED)으로 만들고 withPolicy로 지정
+    private final RedirectPolicy policy;
+    // withRules에서 한 번 변환한 결정 테이블. 규칙이 없으면 null
+    private final RuleTable rules;
 
     private Redirect(
             final Long eventId,
             final String shortCode,
             final String targetUrl,
-            final LocalDateTime createdAt
+            final LocalDateTime createdAt,
+            final long version,
+            final boolean disabled,
+            final long expiresAtMillis,
+            final RedirectPolicy policy,
+            final RuleTable rules
     ) {
         Assert.hasText(shortCode, "Short code must not be blank");
-        Assert.hasText(targetUrl, "Target URL must not be blank");
+        if (!disabled) {
+            Assert.hasText(targetUrl, "Target URL must not be blank");
+        }
         Assert.notNull(createdAt, "Created at must not be null");
 
         this.eventId = eventId;
         this.shortCode = shortCode;
-        this.targetUrl = targetUrl;
+        this.targetUrl = disabled ? null : targetUrl;
         this.createdAt = createdAt;
+        this.version = version;
+        this.disabled = disabled;
+        this.expiresAtMillis = expiresAtMillis;
+        this.policy = RedirectPolicy.orDefault(policy);
+        this.rules = disabled ? null : rules;
     }
 
     public static Redirect create(Long eventId, String shortCode, String targetUrl) {
-        return new Redirect(eventId, shortCode, targetUrl, LocalDateTime.now());
+        return new Redirect(eventId, shortCode, targetUrl, LocalDateTime.now(), 0L, false, NO_EXPIRY, null, null);
     }
 
     public static Redirect create(String shortCode, String targetUrl) {
-        return new Redirect(null, shortCode, targetUrl, LocalDateTime.now());
+        return new Redirect(null, shortCode, targetUrl, LocalDateTime.now(), 0L, false, NO_EXPIRY, null, null);
+    }
+
+    public static Redirect create(String shortCode, String targetUrl, long version) {
+        return new Redirect(null, shortCode, targetUrl, LocalDateTime.now(), version, false, NO_EXPIRY, null, null);
+    }
+
+    // 비활성화 tombstone. 캐시에 남겨 두어 늦게 도착한 이전 version 쓰기를 막음
+    public static Redirect disabled(String shortCode, long version) {
+        return new Redirect(null, shortCode, null, LocalDateTime.now(), version, true, NO_EXPIRY, null, null);
     }
 
     public static Redirect of(long eventId, String shortCode, String targetUrl, LocalDateTime createdAt) {
-        return new Redirect(eventId, shortCode, targetUrl, createdAt);
+        return new Redirect(eventId, shortCode, targetUrl, createdAt, 0L, false, NO_EXPIRY, null, null);
+    }
+
+    public static Redirect of(
+            long eventId,
+            String shortCode,
+            String targetUrl,
+            LocalDateTime createdAt,
+            long version,
+            boolean disabled
+    ) {
+        return new Redirect(eventId, shortCode, targetUrl, createdAt, version, disabled, NO_EXPIRY, null, null);
+    }
+
+    public Redirect expiringAt(Instant expiresAt) {
+        long millis = expiresAt != null ? expiresAt.toEpochMilli() : NO_EXPIRY;
+        return new Redirect(eventId, shortCode, targetUrl, createdAt, version, disabled, millis, policy, rules);
+    }
+
+    public Redirect withPolicy(RedirectPolicy policy) {
+        return new Redirect(eventId, shortCode, targetUrl, createdAt, version, disabled, expiresAtMillis, policy,
+                rules);
+    }
+
+    // RedirectRules 형식의 규칙을 결정 테이블로 변환해 보관 (캐시 항목을 만들 때 한 번만 호출)
+    public Redirect withRules(String rulesSpec) {
+        return new Redirect(eventId, shortCode, targetUrl, createdAt, version, disabled, expiresAtMillis, policy,
+                RuleTable.compile(rulesSpec));
+    }
+
+    public boolean hasRules() {
+        return rules != null;
+    }
+
+    // 조회 경로에서 호출. 규칙이 없으면 기본 URL, bucket은 0 ~ RuleTable.BUCKETS-1
+    public String resolveTarget(String userAgent, String acceptLanguage, int bucket) {
+        return rules == null ? targetUrl : rules.select(targetUrl, userAgent, acceptLanguage, bucket);
+    }
+
+    // 조회 경로에서 호출. 비활성화 tombstone이거나 만료 시각이 지났으면 false
+    public boolean isActive(long nowMillis) {
+        return !disabled && nowMillis < expiresAtMillis;
+    }
+
+    // 만료가 없으면 Long.MAX_VALUE
+    public long remainingMillis(long nowMillis) {
+        return expiresAtMillis == NO_EXPIRY ? NO_EXPIRY : expiresAtMillis - nowMillis;
+    }
+
+    // 같은 version은 동일한 내용이므로 덮어써도 무방
+    public boolean supersedes(Redirect existing) {
+        return existing == null || version >= existing.version;
     }
 
     public Long getEventId() {
@@ -55,6 +139,27 @@ public class Redirect {
         return createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAtMillis == NO_EXPIRY ? null : Instant.ofEpochMilli(expiresAtMillis);
+    }
+
+    public RedirectPolicy getPolicy() {
+        return policy;
+    }
+
+    // RedirectRules 형식, 규칙이 없으면 null
+    public String getRules() {
+        return rules != null ? rules.spec() : null;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o)
@@ -62,13 +167,18 @@ public class Redirect {
         if (o == null || getClass() != o.getClass())
             return false;
         Redirect redirect = (Redirect) o;
-        return Objects.equals(shortCode, redirect.shortCode) &&
+        return version == redirect.version &&
+                disabled == redirect.disabled &&
+                expiresAtMillis == redirect.expiresAtMillis &&
+                policy == redirect.policy &&
+                Objects.equals(getRules(), redirect.getRules()) &&
+                Objects.equals(shortCode, redirect.shortCode) &&
                 Objects.equals(targetUrl, redirect.targetUrl);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(shortCode, targetUrl);
+        return Objects.hash(shortCode, targetUrl, version, disabled, expiresAtMillis, policy);
     }
 
     @Override
@@ -77,6 +187,11 @@ public class Redirect {
                 "shortCode='" + shortCode + '\'' +
                 ", targetUrl='" + targetUrl + '\'' +
                 ", createdAt=" + createdAt +
+                ", version=" + version +
+                ", disabled=" + disabled +
+                ", expiresAt=" + getExpiresAt() +
+                ", policy=" + policy +
+                ", rules=" + (rules != null) +
                 '}';
     }
 }
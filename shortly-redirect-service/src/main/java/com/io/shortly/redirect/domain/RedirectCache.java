@@ -1,5 +1,8 @@
 package com.io.shortly.redirect.domain;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Supplier;
 
@@ -9,5 +12,40 @@ public interface RedirectCache {
 
     Redirect getOrLoad(String shortCode, Supplier<Redirect> loader);
 
+    // getOrLoad를 peek과 miss 경로로 나눈 것. hit 경로에서 Optional/loader를 만들지 않도록 값이 없으면 null 반환
+    default Redirect getIfPresent(String shortCode) {
+        return get(shortCode).orElse(null);
+    }
+
+    // getIfPresent가 null을 반환한 뒤 호출. 같은 키의 동시 miss는 한 번만 loader를 실행
+    default Redirect load(String shortCode, Supplier<Redirect> loader) {
+        return getOrLoad(shortCode, loader);
+    }
+
+    // 캐시에 더 높은 version이 있으면 무시. 늦게 도착한 이벤트나 조회 결과가 최신 값을 덮어쓰지 않도록 함
     void put(Redirect redirect);
+
+    // 조회 경로에서 원본 조회 결과를 적재. 원격 캐시는 응답이 쓰기를 기다리지 않도록 비동기로 재정의
+    default void fill(Redirect redirect) {
+        put(redirect);
+    }
+
+    // 조회 통계와 admission에 영향 없이 값이 있는지만 확인 (부하 제어의 요청 분류용). 원격 캐시는 항상 false
+    default boolean contains(String shortCode) {
+        return false;
+    }
+
+    // 새로 생성된 링크 적재. 로컬 캐시는 클릭되지 않는 링크가 핫 항목을 밀어내지 않도록 admission 정책을 적용
+    default void warm(Redirect redirect) {
+        put(redirect);
+    }
+
+    // 존재하는 코드만 반환. 원격 캐시는 왕복 횟수를 줄이도록 재정의
+    default Map<String, Redirect> getAll(Collection<String> shortCodes) {
+        Map<String, Redirect> found = new LinkedHashMap<>();
+        for (String shortCode : shortCodes) {
+            get(shortCode).ifPresent(redirect -> found.put(shortCode, redirect));
+        }
+        return found;
+    }
 }
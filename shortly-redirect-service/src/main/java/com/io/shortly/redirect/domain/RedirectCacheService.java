@@ -1,5 +1,13 @@
 package com.io.shortly.redirect.domain;
 
+import com.io.shortly.redirect.domain.RedirectLookupRecorder.ServedBy;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -10,30 +18,129 @@ public class RedirectCacheService {
     private final RedirectCache l1Cache;
     private final RedirectCache l2Cache;
     private final UrlFetcher urlFetcher;
+    private final RedirectPeerLookup peerLookup;
+    private final RedirectLookupRecorder lookupRecorder;
 
     public RedirectCacheService(
             RedirectCache l1Cache,
         RedirectCache l2Cache,
         UrlFetcher urlFetcher
+    ) {
+        this(l1Cache, l2Cache, urlFetcher, RedirectPeerLookup.local());
+    }
+
+    public RedirectCacheService(
+        RedirectCache l1Cache,
+        RedirectCache l2Cache,
+        UrlFetcher urlFetcher,
+        RedirectPeerLookup peerLookup
+    ) {
+        this(l1Cache, l2Cache, urlFetcher, peerLookup, RedirectLookupRecorder.noop());
+    }
+
+    public RedirectCacheService(
+        RedirectCache l1Cache,
+        RedirectCache l2Cache,
+        UrlFetcher urlFetcher,
+        RedirectPeerLookup peerLookup,
+        RedirectLookupRecorder lookupRecorder
     ) {
         this.l1Cache = l1Cache;
         this.l2Cache = l2Cache;
         this.urlFetcher = urlFetcher;
+        this.peerLookup = peerLookup;
+        this.lookupRecorder = lookupRecorder;
     }
 
-    public Redirect getRedirect(String shortCode) {
-        return l1Cache.getOrLoad(shortCode, () ->
-            // L1 miss -> L2
-            l2Cache.get(shortCode)
-                // L2 miss → HTTP(DB)
-                .orElseGet(() -> {
-                    Redirect redirect = urlFetcher.fetchShortUrl(shortCode);
-                    l2Cache.put(redirect);
-                    return redirect;
-                })
-        );
+    // 미존재 코드는 loader가 null을 반환하여 L1에 캐싱되지 않고 빈 결과로 반환됨
+    // 비활성화 tombstone과 만료된 항목은 캐시에 남아 있어도 미존재와 동일하게 빈 결과로 반환됨
+    public Optional<Redirect> findRedirect(String shortCode) {
+        return Optional.ofNullable(findRedirectOrNull(shortCode));
+    }
+
+    /*
+     * redirect 경로용: 값이 없으면 null. L1을 먼저 확인하고 miss일 때만 loader(Lookup)를 만들므로
+     * L1 HIT 경로는 Optional/loader를 할당하지 않음
+     */
+    public Redirect findRedirectOrNull(String shortCode) {
+        long start = lookupRecorder.start();
+        ServedBy servedBy = ServedBy.L1;
+        Redirect redirect;
+        try {
+            redirect = l1Cache.getIfPresent(shortCode);
+            if (redirect == null) {
+                // L1 miss -> 담당 peer -> L2 -> HTTP(DB)
+                Lookup lookup = new Lookup(shortCode, true);
+                redirect = l1Cache.load(shortCode, lookup);
+                servedBy = lookup.servedBy;
+            }
+        } catch (RuntimeException e) {
+            lookupRecorder.record(ServedBy.ERROR, start);
+            throw e;
+        }
+
+        if (redirect == null || !redirect.isActive(System.currentTimeMillis())) {
+            lookupRecorder.record(ServedBy.NOT_FOUND, start);
+            return null;
+        }
+        lookupRecorder.record(servedBy, start);
+        return redirect;
+    }
+
+    // L1 loader 없이 응답할 수 있는 요청인지 (부하 제어에서 비용이 작은 요청을 우선 처리하기 위함)
+    public boolean isCachedLocally(String shortCode) {
+        return l1Cache.contains(shortCode);
+    }
+
+    // peer 요청 처리용. 노드 간 링 정보가 잠시 달라도 요청이 다시 전달되지 않도록 peer 계층을 건너뜀
+    // 요청을 받은 노드에서 이미 기록하므로 조회 계층은 기록하지 않음
+    public Optional<Redirect> findOwnedRedirect(String shortCode) {
+        return Optional.ofNullable(l1Cache.getOrLoad(shortCode, new Lookup(shortCode, false)))
+            .filter(redirect -> redirect.isActive(System.currentTimeMillis()));
+    }
+
+    /*
+     * 일괄 조회: L1 -> L2 multi-get -> URL Service 일괄 조회 순으로 남은 miss만 다음 계층에 요청
+     * 단건 조회와 달리 peer 계층과 L1 loader(single-flight)를 거치지 않아 redirect 경로의 락과 peer 연결을 점유하지 않음
+     * 조회 결과는 클릭이 아니므로 L1에는 warming과 같은 admission 정책으로 적재
+     */
+    public Map<String, Redirect> findRedirects(Collection<String> shortCodes) {
+        Map<String, Redirect> found = new HashMap<>();
+        List<String> l1Misses = new ArrayList<>();
+        for (String shortCode : shortCodes) {
+            l1Cache.get(shortCode).ifPresentOrElse(
+                redirect -> found.put(shortCode, redirect),
+                () -> l1Misses.add(shortCode));
+        }
+
+        if (!l1Misses.isEmpty()) {
+            Map<String, Redirect> l2Hits = l2Cache.getAll(l1Misses);
+            List<String> l2Misses = new ArrayList<>();
+            for (String shortCode : l1Misses) {
+                Redirect redirect = l2Hits.get(shortCode);
+                if (redirect == null) {
+                    l2Misses.add(shortCode);
+                    continue;
+                }
+                found.put(shortCode, redirect);
+                warmLocal(redirect);
+            }
+
+            if (!l2Misses.isEmpty()) {
+                urlFetcher.fetchShortUrls(l2Misses).forEach((shortCode, redirect) -> {
+                    found.put(shortCode, redirect);
+                    l2Cache.fill(redirect);
+                    warmLocal(redirect);
+                });
+            }
+        }
+
+        long now = System.currentTimeMillis();
+        found.values().removeIf(redirect -> !redirect.isActive(now));
+        return found;
     }
 
+    // 생성/변경/비활성화 모두 같은 경로. 각 계층이 version을 비교하여 이전 값은 무시함
     public void put(Redirect redirect) {
         try {
             l1Cache.put(redirect);
@@ -45,4 +152,79 @@ public class RedirectCacheService {
             );
         }
     }
+
+    // 새 링크 warming. L1은 admission 정책에 따라 적재 여부가 결정됨
+    public void warmLocal(Redirect redirect) {
+        try {
+            l1Cache.warm(redirect);
+        } catch (Exception e) {
+            log.error("[Cache] L1 warming 실패: shortCode={}, error={}", redirect.getShortCode(), e.getMessage());
+        }
+    }
+
+    // warming: 모든 노드가 자기 L1만 채움
+    public void putLocal(Redirect redirect) {
+        try {
+            l1Cache.put(redirect);
+        } catch (Exception e) {
+            log.error("[Cache] L1 저장 실패: shortCode={}, error={}", redirect.getShortCode(), e.getMessage());
+        }
+    }
+
+    // warming: 공유 L2는 이벤트당 한 노드만 기록하여 노드 수와 무관하게 쓰기 1회
+    public void putShared(Redirect redirect) {
+        try {
+            l2Cache.put(redirect);
+        } catch (Exception e) {
+            log.error("[Cache] L2 저장 실패: shortCode={}, error={}", redirect.getShortCode(), e.getMessage());
+        }
+    }
+
+    /*
+     * L1 loader. 실행되는 동안 값을 찾은 계층을 servedBy에 남김
+     * 다른 요청이 진행 중인 로드를 기다려 받은 경우에는 loader가 실행되지 않으므로 L1으로 남음
+     */
+    private final class Lookup implements Supplier<Redirect> {
+
+        private final String shortCode;
+        private final boolean throughPeer;
+        private ServedBy servedBy = ServedBy.L1;
+
+        private Lookup(String shortCode, boolean throughPeer) {
+            this.shortCode = shortCode;
+            this.throughPeer = throughPeer;
+        }
+
+        @Override
+        public Redirect get() {
+            if (!throughPeer) {
+                return loadRemote();
+            }
+            RedirectPeerLookup.PeerLookupResult result = peerLookup.lookup(shortCode);
+            return switch (result.status()) {
+                case FOUND -> {
+                    servedBy = ServedBy.PEER;
+                    yield result.redirect();
+                }
+                case NOT_FOUND -> null;
+                case LOCAL -> loadRemote();
+            };
+        }
+
+        private Redirect loadRemote() {
+            Optional<Redirect> cached = l2Cache.get(shortCode);
+            if (cached.isPresent()) {
+                servedBy = ServedBy.L2;
+                return cached.get();
+            }
+            // L2 miss → HTTP(DB)
+            return urlFetcher.fetchShortUrl(shortCode)
+                .map(redirect -> {
+                    servedBy = ServedBy.FALLBACK;
+                    l2Cache.fill(redirect);
+                    return redirect;
+                })
+                .orElse(null);
+        }
+    }
 }
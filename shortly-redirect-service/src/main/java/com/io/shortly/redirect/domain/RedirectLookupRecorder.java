@@ -0,0 +1,37 @@
+package com.io.shortly.redirect.domain;
+
+// redirect 요청마다 응답을 제공한 계층과 조회 시간을 기록
+public interface RedirectLookupRecorder {
+
+    enum ServedBy {
+        L1,
+        PEER,
+        L2,
+        FALLBACK,
+        // 미존재, 비활성화, 만료
+        NOT_FOUND,
+        // 원본 조회 실패로 예외 응답
+        ERROR
+    }
+
+    long start();
+
+    void record(ServedBy servedBy, long startNanos);
+
+    static RedirectLookupRecorder noop() {
+        return Noop.INSTANCE;
+    }
+
+    enum Noop implements RedirectLookupRecorder {
+        INSTANCE;
+
+        @Override
+        public long start() {
+            return 0L;
+        }
+
+        @Override
+        public void record(ServedBy servedBy, long startNanos) {
+        }
+    }
+}
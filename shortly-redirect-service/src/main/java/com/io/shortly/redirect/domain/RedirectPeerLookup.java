@@ -0,0 +1,53 @@
+package com.io.shortly.redirect.domain;
+
+// 다른 redirect 노드(담당 peer)의 L1을 조회하는 계층. 담당 노드가 아니면 로컬 L2/원본 조회를 건너뜀
+public interface RedirectPeerLookup {
+
+    boolean isOwner(String shortCode);
+
+    PeerLookupResult lookup(String shortCode);
+
+    // peer 계층을 사용하지 않을 때: 모든 코드를 이 노드가 직접 처리
+    static RedirectPeerLookup local() {
+        return LocalOnly.INSTANCE;
+    }
+
+    enum LocalOnly implements RedirectPeerLookup {
+        INSTANCE;
+
+        @Override
+        public boolean isOwner(String shortCode) {
+            return true;
+        }
+
+        @Override
+        public PeerLookupResult lookup(String shortCode) {
+            return PeerLookupResult.local();
+        }
+    }
+
+    record PeerLookupResult(Status status, Redirect redirect) {
+
+        private static final PeerLookupResult LOCAL = new PeerLookupResult(Status.LOCAL, null);
+        private static final PeerLookupResult NOT_FOUND = new PeerLookupResult(Status.NOT_FOUND, null);
+
+        public enum Status {
+            // 이 노드가 담당하거나 peer 장애로 로컬 조회 필요
+            LOCAL,
+            FOUND,
+            NOT_FOUND
+        }
+
+        public static PeerLookupResult local() {
+            return LOCAL;
+        }
+
+        public static PeerLookupResult found(Redirect redirect) {
+            return new PeerLookupResult(Status.FOUND, redirect);
+        }
+
+        public static PeerLookupResult notFound() {
+            return NOT_FOUND;
+        }
+    }
+}
@@ -0,0 +1,141 @@
+package com.io.shortly.redirect.domain;
+
+import com.io.shortly.shared.redirect.DeviceClass;
+import com.io.shortly.shared.redirect.RedirectRule;
+import com.io.shortly.shared.redirect.RedirectRules;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+
+/*
+ * 링크 redirect 규칙의 결정 테이블
+ *
+ * 캐시 항목(Redirect)을 만들 때 RedirectRules 문자열을 한 번 변환해 두고, 조회 경로에서는 배열 인덱싱만 함.
+ *   cells[device][languageSlot] -> 조건 그룹 (선언 순서상 처음 일치하는 device/lang 조합)
+ *   buckets[group][0..99]       -> 규칙 인덱스 (weight만큼의 구간). 조건이 없거나 weight 합을 넘는 구간은 기본 URL
+ * languageSlot은 규칙에 나온 언어 목록의 인덱스이며, 일치하는 언어가 없으면 마지막 슬롯.
+ * select는 User-Agent/Accept-Language를 문자열 비교만으로 분류하므로 요청마다 객체를 만들지 않음
+ */
+public final class RuleTable {
+
+    public static final int BUCKETS = RedirectRule.FULL_WEIGHT;
+
+    private static final DeviceClass[] DEVICES = DeviceClass.values();
+    private static final byte NO_GROUP = -1;
+    private static final byte DEFAULT_TARGET = -1;
+
+    private final String spec;
+    private final String[] targets;
+    private final String[] languages;
+    // device 조건이 없는 규칙만 있으면 User-Agent 분류를 건너뜀
+    private final boolean matchesDevice;
+    private final byte[] cells;
+    private final byte[][] buckets;
+
+    private RuleTable(String spec, List<RedirectRule> rules) {
+        this.spec = spec;
+        this.targets = rules.stream().map(RedirectRule::targetUrl).toArray(String[]::new);
+        this.languages = rules.stream().map(RedirectRule::language).filter(Objects::nonNull).distinct()
+            .toArray(String[]::new);
+        this.matchesDevice = rules.stream().anyMatch(rule -> rule.device() != null);
+
+        List<RedirectRule> conditions = new ArrayList<>();
+        for (RedirectRule rule : rules) {
+            if (conditions.stream().noneMatch(rule::sameCondition)) {
+                conditions.add(rule);
+            }
+        }
+
+        this.buckets = new byte[conditions.size()][BUCKETS];
+        for (int group = 0; group < conditions.size(); group++) {
+            Arrays.fill(buckets[group], DEFAULT_TARGET);
+            int next = 0;
+            for (int index = 0; index < rules.size(); index++) {
+                RedirectRule rule = rules.get(index);
+                if (rule.sameCondition(conditions.get(group))) {
+                    Arrays.fill(buckets[group], next, next + rule.weight(), (byte) index);
+                    next += rule.weight();
+                }
+            }
+        }
+
+        int slots = languages.length + 1;
+        this.cells = new byte[DEVICES.length * slots];
+        for (DeviceClass device : DEVICES) {
+            for (int slot = 0; slot < slots; slot++) {
+                String language = slot < languages.length ? languages[slot] : null;
+                cells[device.ordinal() * slots + slot] = firstMatching(conditions, device, language);
+            }
+        }
+    }
+
+    // 규칙이 없으면 null. 형식이 잘못되었으면 IllegalArgumentException (url-service에서 저장 전에 검증함)
+    public static RuleTable compile(String spec) {
+        List<RedirectRule> rules = RedirectRules.parse(spec);
+        return rules.isEmpty() ? null : new RuleTable(spec, rules);
+    }
+
+    // bucket: 0 ~ BUCKETS-1 균등 분포 값
+    public String select(String defaultTarget, String userAgent, String acceptLanguage, int bucket) {
+        int device = matchesDevice ? DeviceClass.classify(userAgent).ordinal() : 0;
+        int slot = languages.length == 0 ? 0 : languageSlot(acceptLanguage);
+        byte group = cells[device * (languages.length + 1) + slot];
+        if (group == NO_GROUP) {
+            return defaultTarget;
+        }
+        byte target = buckets[group][bucket];
+        return target == DEFAULT_TARGET ? defaultTarget : targets[target];
+    }
+
+    public String spec() {
+        return spec;
+    }
+
+    // Accept-Language의 언어 태그를 선호 순서대로 보며 처음 일치하는 규칙 언어 (q 값은 보지 않음)
+    private int languageSlot(String acceptLanguage) {
+        if (acceptLanguage == null) {
+            return languages.length;
+        }
+        int length = acceptLanguage.length();
+        int start = 0;
+        while (start < length) {
+            while (start < length && acceptLanguage.charAt(start) == ' ') {
+                start++;
+            }
+            int end = start;
+            while (end < length && isTagChar(acceptLanguage.charAt(end))) {
+                end++;
+            }
+            int tagLength = end - start;
+            for (int i = 0; i < languages.length; i++) {
+                if (languages[i].length() == tagLength
+                    && acceptLanguage.regionMatches(true, start, languages[i], 0, tagLength)) {
+                    return i;
+                }
+            }
+            int next = acceptLanguage.indexOf(',', end);
+            if (next < 0) {
+                break;
+            }
+            start = next + 1;
+        }
+        return languages.length;
+    }
+
+    // 기본 언어 태그는 '-'(지역), ';'(q 값), ','(다음 항목) 앞까지
+    private static boolean isTagChar(char c) {
+        return c != '-' && c != '_' && c != ';' && c != ',' && c != ' ';
+    }
+
+    private static byte firstMatching(List<RedirectRule> conditions, DeviceClass device, String language) {
+        for (int group = 0; group < conditions.size(); group++) {
+            RedirectRule condition = conditions.get(group);
+            if ((condition.device() == null || condition.device() == device)
+                && (condition.language() == null || condition.language().equals(language))) {
+                return (byte) group;
+            }
+        }
+        return NO_GROUP;
+    }
+}
@@ -1,6 +1,21 @@
 package com.io.shortly.redirect.domain;
 
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
 public interface UrlFetcher {
 
-    Redirect fetchShortUrl(String shortCode);
+    // 존재하지 않는 단축 코드는 예외 대신 Optional.empty()로 반환
+    Optional<Redirect> fetchShortUrl(String shortCode);
+
+    // 찾은 코드만 반환. 원격 구현은 요청 횟수를 줄이도록 일괄 조회로 재정의
+    default Map<String, Redirect> fetchShortUrls(Collection<String> shortCodes) {
+        Map<String, Redirect> found = new HashMap<>();
+        for (String shortCode : shortCodes) {
+            fetchShortUrl(shortCode).ifPresent(redirect -> found.put(shortCode, redirect));
+        }
+        return found;
+    }
 }
@@ -0,0 +1,164 @@
+package com.io.shortly.redirect.infrastructure.cache;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.LongSupplier;
+
+/*
+ * 원격 캐시 계층용 circuit breaker
+ *
+ * 최근 windowSize 건 중 실패(예외 또는 slowCallThreshold 이상 소요) 비율이 임계치를 넘으면 OPEN.
+ * OPEN 동안은 호출 없이 즉시 건너뛰고, openDuration 후 HALF_OPEN에서 한 번에 하나씩 probe를 보내
+ * probeSuccesses 번 연속 성공하면 CLOSED, 한 번이라도 실패하면 다시 OPEN.
+ *
+ * L2 호출은 L1 miss에서만 발생하므로 window 갱신은 단일 락으로 처리
+ */
+public class CacheCircuitBreaker {
+
+    public enum State {
+        CLOSED, HALF_OPEN, OPEN
+    }
+
+    private final int windowSize;
+    private final int minimumCalls;
+    private final int failureRatePercent;
+    private final long slowCallNanos;
+    private final long openNanos;
+    private final int probeSuccesses;
+    private final LongSupplier nanoClock;
+
+    private final boolean[] failedWindow;
+    private int next;
+    private int recorded;
+    private int failures;
+    private long openedAt;
+    private int probesSucceeded;
+
+    private final AtomicBoolean probeInFlight = new AtomicBoolean();
+    private volatile State state = State.CLOSED;
+
+    public CacheCircuitBreaker(
+        int windowSize,
+        int minimumCalls,
+        int failureRatePercent,
+        Duration slowCallThreshold,
+        Duration openDuration,
+        int probeSuccesses
+    ) {
+        this(windowSize, minimumCalls, failureRatePercent, slowCallThreshold, openDuration, probeSuccesses,
+            System::nanoTime);
+    }
+
+    public CacheCircuitBreaker(
+        int windowSize,
+        int minimumCalls,
+        int failureRatePercent,
+        Duration slowCallThreshold,
+        Duration openDuration,
+        int probeSuccesses,
+        LongSupplier nanoClock
+    ) {
+        this.windowSize = Math.max(1, windowSize);
+        this.minimumCalls = Math.clamp(minimumCalls, 1, this.windowSize);
+        this.failureRatePercent = Math.clamp(failureRatePercent, 1, 100);
+        this.slowCallNanos = slowCallThreshold.toNanos();
+        this.openNanos = openDuration.toNanos();
+        this.probeSuccesses = Math.max(1, probeSuccesses);
+        this.nanoClock = nanoClock;
+        this.failedWindow = new boolean[this.windowSize];
+    }
+
+    public long start() {
+        return nanoClock.getAsLong();
+    }
+
+    // false이면 호출하지 않고 바로 fallback
+    public boolean tryAcquire() {
+        State current = state;
+        if (current == State.CLOSED) {
+            return true;
+        }
+        if (current == State.OPEN && !halfOpenIfElapsed()) {
+            return false;
+        }
+        return probeInFlight.compareAndSet(false, true);
+    }
+
+    public void recordSuccess(long startNanos) {
+        record(nanoClock.getAsLong() - startNanos >= slowCallNanos);
+    }
+
+    public void recordFailure() {
+        record(true);
+    }
+
+    // 결과를 판정할 수 없이 끝난 호출(연결이 명령을 지원하지 않아 다른 방식으로 재시도 등)의 permit 반환
+    // HALF_OPEN probe였다면 다음 probe를 허용. window와 상태는 바꾸지 않음
+    public void release() {
+        probeInFlight.set(false);
+    }
+
+    public State state() {
+        return state;
+    }
+
+    public synchronized double failureRate() {
+        return recorded == 0 ? 0.0 : (double) failures / recorded;
+    }
+
+    private synchronized boolean halfOpenIfElapsed() {
+        if (state == State.OPEN) {
+            if (nanoClock.getAsLong() - openedAt < openNanos) {
+                return false;
+            }
+            state = State.HALF_OPEN;
+            probesSucceeded = 0;
+            probeInFlight.set(false);
+        }
+        return state != State.OPEN;
+    }
+
+    private synchronized void record(boolean failed) {
+        switch (state) {
+            case HALF_OPEN -> {
+                probeInFlight.set(false);
+                if (failed) {
+                    open();
+                } else if (++probesSucceeded >= probeSuccesses) {
+                    close();
+                }
+            }
+            case CLOSED -> {
+                if (recorded == windowSize && failedWindow[next]) {
+                    failures--;
+                }
+                failedWindow[next] = failed;
+                next = (next + 1) % windowSize;
+                recorded = Math.min(recorded + 1, windowSize);
+                if (failed) {
+                    failures++;
+                }
+                if (recorded >= minimumCalls && failures * 100 >= failureRatePercent * recorded) {
+                    open();
+                }
+            }
+            // OPEN 이전에 시작된 호출의 결과는 무시
+            case OPEN -> {
+            }
+        }
+    }
+
+    private void open() {
+        state = State.OPEN;
+        openedAt = nanoClock.getAsLong();
+    }
+
+    private void close() {
+        Arrays.fill(failedWindow, false);
+        next = 0;
+        recorded = 0;
+        failures = 0;
+        state = State.CLOSED;
+    }
+}
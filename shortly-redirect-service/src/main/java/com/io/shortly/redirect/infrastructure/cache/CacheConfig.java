@@ -2,8 +2,11 @@ package com.io.shortly.redirect.infrastructure.cache;
 
 import com.io.shortly.redirect.domain.RedirectCache;
 import com.io.shortly.redirect.domain.RedirectCacheService;
+import com.io.shortly.redirect.domain.RedirectLookupRecorder;
+import com.io.shortly.redirect.domain.RedirectPeerLookup;
 import com.io.shortly.redirect.domain.UrlFetcher;
 import com.io.shortly.redirect.infrastructure.cache.caffeine.RedirectCacheCaffeineImpl;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -14,8 +17,12 @@ public class CacheConfig {
     public RedirectCacheService redirectCacheService(
         @Qualifier("caffeineRedirectCache") RedirectCacheCaffeineImpl l1Cache,
         @Qualifier("redisCache") RedirectCache l2Cache,
-        UrlFetcher urlFetcher
+        UrlFetcher urlFetcher,
+        ObjectProvider<RedirectPeerLookup> peerLookup,
+        RedirectLookupRecorder lookupRecorder
     ) {
-        return new RedirectCacheService(l1Cache, l2Cache, urlFetcher);
+        // shortly.cache.peer.enabled=false이면 peer 계층 없이 L1 -> L2 -> 원본 순서로 조회
+        return new RedirectCacheService(l1Cache, l2Cache, urlFetcher,
+            peerLookup.getIfAvailable(RedirectPeerLookup::local), lookupRecorder);
     }
 }
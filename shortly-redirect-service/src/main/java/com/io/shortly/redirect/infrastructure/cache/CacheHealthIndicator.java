@@ -0,0 +1,40 @@
+package com.io.shortly.redirect.infrastructure.cache;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.io.shortly.redirect.domain.Redirect;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.health.Health;
+import org.springframework.boot.actuate.health.HealthIndicator;
+import org.springframework.boot.actuate.health.Status;
+import org.springframework.stereotype.Component;
+
+/*
+ * /actuator/health의 "cache" 항목
+ *
+ * L2 장애 시에도 L1과 원본 조회로 리다이렉트는 계속 처리되므로 DOWN 대신 DEGRADED로 표시하여
+ * 로드밸런서 헬스체크(200 응답)에서 노드가 빠지지 않게 함
+ */
+@Component
+@RequiredArgsConstructor
+public class CacheHealthIndicator implements HealthIndicator {
+
+    static final Status DEGRADED = new Status("DEGRADED", "L2 cache is bypassed by the circuit breaker");
+
+    private final Cache<String, Redirect> caffeineCache;
+    private final CacheCircuitBreaker l2CircuitBreaker;
+
+    @Override
+    public Health health() {
+        CacheCircuitBreaker.State l2State = l2CircuitBreaker.state();
+        return Health.status(l2State == CacheCircuitBreaker.State.CLOSED ? Status.UP : DEGRADED)
+            .withDetail(CacheLayer.L1.name(), Map.of(
+                "status", Status.UP.getCode(),
+                "estimatedSize", caffeineCache.estimatedSize()))
+            .withDetail(CacheLayer.L2.name(), Map.of(
+                "status", l2State == CacheCircuitBreaker.State.CLOSED ? Status.UP.getCode() : DEGRADED.getCode(),
+                "breaker", l2State.name(),
+                "failureRate", l2CircuitBreaker.failureRate()))
+            .build();
+    }
+}
@@ -1,5 +1,6 @@
 package com.io.shortly.redirect.infrastructure.cache;
 
+import com.io.shortly.shared.redirect.cache.L2RedirectFormat;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 
@@ -7,7 +8,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public enum CacheLayer {
     L1("redirect:l1:"),
-    L2("redirect:l2:");
+    L2(L2RedirectFormat.KEY_PREFIX);
 
     private final String keyPrefix;
 }
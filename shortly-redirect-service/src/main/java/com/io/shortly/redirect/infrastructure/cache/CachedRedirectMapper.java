@@ -0,0 +1,36 @@
+package com.io.shortly.redirect.infrastructure.cache;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class CachedRedirectMapper {
+
+    public CachedRedirect toCached(Redirect redirect, long l2TtlMillis, long nowMillis) {
+        return new CachedRedirect(
+            redirect.getEventId() != null ? redirect.getEventId() : 0L,
+            redirect.getShortCode(),
+            redirect.getTargetUrl(),
+            redirect.getCreatedAt(),
+            redirect.getVersion(),
+            redirect.isDisabled(),
+            redirect.getExpiresAt(),
+            l2TtlMillis,
+            CachedRedirect.l2ExpiresAt(l2TtlMillis, nowMillis),
+            redirect.getPolicy(),
+            redirect.getRules()
+        );
+    }
+
+    public Redirect toDomain(CachedRedirect cached) {
+        return Redirect.of(
+            cached.eventId(),
+            cached.shortCode(),
+            cached.targetUrl(),
+            cached.createdAt(),
+            cached.version(),
+            cached.disabled()
+        ).expiringAt(cached.expiresAt()).withPolicy(cached.policy()).withRules(cached.rules());
+    }
+}
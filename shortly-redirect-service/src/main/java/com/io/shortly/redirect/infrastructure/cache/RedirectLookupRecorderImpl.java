@@ -0,0 +1,33 @@
+package com.io.shortly.redirect.infrastructure.cache;
+
+import com.io.shortly.redirect.domain.RedirectLookupRecorder;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import com.io.shortly.shared.metrics.LookupMetrics;
+import org.springframework.stereotype.Component;
+
+// shortly.redirect.lookup{layer}: 계층별 timer를 미리 등록해 두고 요청마다 ordinal로 선택 (태그 조회/할당 없음)
+@Component
+public class RedirectLookupRecorderImpl implements RedirectLookupRecorder {
+
+    private final HotPathMetrics hotPathMetrics;
+    private final LookupMetrics[] byServedBy;
+
+    public RedirectLookupRecorderImpl(HotPathMetrics hotPathMetrics) {
+        this.hotPathMetrics = hotPathMetrics;
+        ServedBy[] values = ServedBy.values();
+        this.byServedBy = new LookupMetrics[values.length];
+        for (ServedBy servedBy : values) {
+            byServedBy[servedBy.ordinal()] = hotPathMetrics.lookup(servedBy.name());
+        }
+    }
+
+    @Override
+    public long start() {
+        return hotPathMetrics.start();
+    }
+
+    @Override
+    public void record(ServedBy servedBy, long startNanos) {
+        byServedBy[servedBy.ordinal()].record(startNanos);
+    }
+}
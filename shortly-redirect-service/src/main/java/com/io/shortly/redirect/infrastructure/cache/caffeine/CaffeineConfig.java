@@ -2,7 +2,13 @@ package com.io.shortly.redirect.infrastructure.cache.caffeine;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.github.benmanes.caffeine.cache.Scheduler;
 import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RedirectPeerLookup;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -11,18 +17,65 @@ import org.springframework.context.annotation.Configuration;
 public class CaffeineConfig {
 
     private final long l1MaxSize;
+    private final Duration l1MaxTtl;
+    private final Duration peerNearTtl;
 
     public CaffeineConfig(
-            @Value("${shortly.cache.l1.max-size:100000}") long l1MaxSize
+            @Value("${shortly.cache.l1.max-size:100000}") long l1MaxSize,
+            @Value("${shortly.cache.l1.max-ttl:10m}") Duration l1MaxTtl,
+            @Value("${shortly.cache.peer.near-ttl:2s}") Duration peerNearTtl
     ) {
         this.l1MaxSize = l1MaxSize;
+        this.l1MaxTtl = l1MaxTtl;
+        this.peerNearTtl = peerNearTtl;
     }
 
+    /*
+     * 항목별 만료는 Caffeine의 계층형 timing wheel에 등록되어 O(1)로 관리됨 (전체 캐시 스캔 없음)
+     * systemScheduler가 가장 가까운 만료 시점에 정리를 예약하므로, 조회가 없어도 만료 항목이 제거됨
+     */
     @Bean
-    public Cache<String, Redirect> caffeineCache() {
+    public Cache<String, Redirect> caffeineCache(ObjectProvider<RedirectPeerLookup> peerLookup) {
         return Caffeine.newBuilder()
                 .maximumSize(l1MaxSize)
+                .expireAfter(new RedirectEntryExpiry(peerLookup.getIfAvailable(), l1MaxTtl, peerNearTtl))
+                .scheduler(Scheduler.systemScheduler())
                 .recordStats()
                 .build();
     }
+
+    /*
+     * 링크 만료 시각까지만 보관하고, peer 계층 사용 시 다른 노드가 담당하는 코드는 near-ttl만 보관
+     * -> 노드 수에 비례해 전체 L1 용량이 늘어나고, 핫키는 near-ttl 동안 peer 호출 없이 응답
+     *
+     * 변경/비활성화 전파(Pub/Sub)는 유실될 수 있으므로 모든 항목은 기록(또는 갱신) 후 maxTtl이 지나면 만료되어 L2에서 다시 읽음
+     * -> 무효화 메시지를 놓친 노드도 오래된 값을 최대 maxTtl까지만 응답
+     */
+    private record RedirectEntryExpiry(RedirectPeerLookup peer, Duration maxTtl, Duration nearTtl)
+            implements Expiry<String, Redirect> {
+
+        @Override
+        public long expireAfterCreate(String key, Redirect value, long currentTime) {
+            long remainingMillis = value.remainingMillis(System.currentTimeMillis());
+            long nanos = remainingMillis == Long.MAX_VALUE
+                    ? Long.MAX_VALUE
+                    : TimeUnit.MILLISECONDS.toNanos(Math.max(0L, remainingMillis));
+            nanos = Math.min(nanos, maxTtl.toNanos());
+
+            if (peer != null && !peer.isOwner(value.getShortCode())) {
+                nanos = Math.min(nanos, nearTtl.toNanos());
+            }
+            return nanos;
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Redirect value, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, value, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Redirect value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
+    }
 }
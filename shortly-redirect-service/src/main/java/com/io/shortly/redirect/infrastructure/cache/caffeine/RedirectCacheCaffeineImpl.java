@@ -6,32 +6,117 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.io.shortly.redirect.domain.Redirect;
 import com.io.shortly.redirect.domain.RedirectCache;
 import com.io.shortly.redirect.infrastructure.cache.CacheKeyGenerator;
+import com.io.shortly.shared.jfr.CacheLookupEvent;
+import com.io.shortly.shared.metrics.CacheMetrics;
+import com.io.shortly.shared.metrics.HotPathMetrics;
 import java.util.Optional;
 import java.util.function.Supplier;
-import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
-@RequiredArgsConstructor
 @Component("caffeineRedirectCache")
 public class RedirectCacheCaffeineImpl implements RedirectCache {
 
+    private static final String LAYER = L1.name();
+
     private final Cache<String, Redirect> caffeineCache;
+    private final WarmingAdmission admission;
+    private final HotPathMetrics hotPathMetrics;
+    private final CacheMetrics cacheMetrics;
+
+    public RedirectCacheCaffeineImpl(
+            Cache<String, Redirect> caffeineCache,
+            WarmingAdmission admission,
+            HotPathMetrics hotPathMetrics
+    ) {
+        this.caffeineCache = caffeineCache;
+        this.admission = admission;
+        this.hotPathMetrics = hotPathMetrics;
+        this.cacheMetrics = hotPathMetrics.cache(LAYER);
+    }
 
     @Override
     public Optional<Redirect> get(String shortCode) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        long start = hotPathMetrics.start();
         String key = CacheKeyGenerator.generateCacheKey(L1, shortCode);
-        return Optional.ofNullable(caffeineCache.getIfPresent(key));
+        Redirect cached = caffeineCache.getIfPresent(key);
+        cacheMetrics.recordGet(cached != null, start);
+        if (cached == null) {
+            Redirect promoted = admission.promote(key);
+            if (promoted != null) {
+                store(key, promoted);
+                event.complete(LAYER, shortCode, "PROMOTED");
+                return Optional.of(promoted);
+            }
+        }
+        event.complete(LAYER, shortCode, cached != null ? "HIT" : "MISS");
+        return Optional.ofNullable(cached);
     }
 
     @Override
     public Redirect getOrLoad(String shortCode, Supplier<Redirect> loader) {
+        Redirect cached = getIfPresent(shortCode);
+        return cached != null ? cached : load(shortCode, loader);
+    }
+
+    // HIT 경로는 조회 시간만 기록하고, MISS 경로는 loader 실행 전까지만 기록
+    // hit/miss 통계는 여기서 한 번만 기록됨. probation 승격은 load에서 처리
+    @Override
+    public Redirect getIfPresent(String shortCode) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        long start = hotPathMetrics.start();
+        Redirect cached = caffeineCache.getIfPresent(CacheKeyGenerator.generateCacheKey(L1, shortCode));
+        cacheMetrics.recordGet(cached != null, start);
+        event.complete(LAYER, shortCode, cached != null ? "HIT" : "MISS");
+        return cached;
+    }
+
+    /*
+     * MISS 경로. get(key, loader)는 miss를 한 번 더 기록하므로 통계에 hit/miss를 남기지 않는 asMap().compute로 적재
+     * 같은 키의 동시 miss는 compute의 키 단위 잠금으로 한 번만 로드되고, 뒤따른 요청은 먼저 적재된 값을 받음
+     * probation 항목은 loader 없이 L1으로 승격
+     */
+    @Override
+    public Redirect load(String shortCode, Supplier<Redirect> loader) {
         String key = CacheKeyGenerator.generateCacheKey(L1, shortCode);
-        return caffeineCache.get(key, k -> loader.get());
+        return caffeineCache.asMap().compute(key, (k, existing) -> {
+            if (existing != null) {
+                return existing;
+            }
+            Redirect promoted = admission.promote(k);
+            return promoted != null ? promoted : loader.get();
+        });
+    }
+
+    // asMap 조회는 hit/miss 통계와 frequency sketch를 갱신하지 않음
+    @Override
+    public boolean contains(String shortCode) {
+        return caffeineCache.asMap().containsKey(CacheKeyGenerator.generateCacheKey(L1, shortCode));
     }
 
     @Override
     public void put(Redirect redirect) {
+        long start = hotPathMetrics.start();
         String key = CacheKeyGenerator.generateCacheKey(L1, redirect.getShortCode());
-        caffeineCache.put(key, redirect);
+        store(key, redirect);
+        admission.update(key, redirect);
+        cacheMetrics.recordPut(start);
+    }
+
+    // 새 링크는 admission 정책을 거쳐 L1 적재 여부를 결정
+    @Override
+    public void warm(Redirect redirect) {
+        String key = CacheKeyGenerator.generateCacheKey(L1, redirect.getShortCode());
+        if (admission.admit(key, redirect)) {
+            put(redirect);
+        }
+    }
+
+    // 키 단위 원자적 비교 - 진행 중인 loader와도 직렬화되어 더 높은 version만 반영
+    private void store(String key, Redirect redirect) {
+        caffeineCache.asMap().compute(key,
+                (k, existing) -> redirect.supersedes(existing) ? redirect : existing);
     }
 }
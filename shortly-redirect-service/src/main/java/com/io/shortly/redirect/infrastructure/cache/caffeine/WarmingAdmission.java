@@ -0,0 +1,119 @@
+package com.io.shortly.redirect.infrastructure.cache.caffeine;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.RemovalCause;
+import com.io.shortly.redirect.domain.Redirect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Locale;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * 새로 생성된 링크(warming)의 L1 admission 정책
+ *
+ * 생성된 링크 대부분은 클릭되지 않으므로, 대량 생성 시 바로 L1에 넣으면 실제 핫 항목이 밀려남.
+ * - ALWAYS:    기존처럼 L1에 바로 적재
+ * - L2_ONLY:   L1에 넣지 않음 (첫 조회 때 L2에서 적재)
+ * - PROBATION: L1과 분리된 작은 probation 영역에 보관하고, 첫 조회 때 L1으로 승격.
+ *              probation-ttl 동안 조회가 없거나 영역이 가득 차면 L1을 건드리지 않고 제거됨
+ */
+@Slf4j
+@Component
+public class WarmingAdmission {
+
+    public enum Policy {
+        ALWAYS, L2_ONLY, PROBATION;
+
+        static Policy from(String value) {
+            return valueOf(value.trim().replace('-', '_').toUpperCase(Locale.ROOT));
+        }
+    }
+
+    private final Policy policy;
+    private final Cache<String, Redirect> probation;
+    private final Counter admitted;
+    private final Counter skipped;
+    private final Counter onProbation;
+    private final Counter promoted;
+    private final Counter evictedUnused;
+
+    public WarmingAdmission(
+            MeterRegistry meterRegistry,
+            @Value("${shortly.cache.l1.warming.admission:probation}") String policy,
+            @Value("${shortly.cache.l1.warming.probation-size:10000}") long probationSize,
+            @Value("${shortly.cache.l1.warming.probation-ttl:5m}") Duration probationTtl
+    ) {
+        this.policy = Policy.from(policy);
+        this.admitted = outcome(meterRegistry, "admitted");
+        this.skipped = outcome(meterRegistry, "skipped");
+        this.onProbation = outcome(meterRegistry, "probation");
+        this.promoted = probationResult(meterRegistry, "promoted");
+        this.evictedUnused = probationResult(meterRegistry, "evicted");
+        this.probation = Caffeine.newBuilder()
+                .maximumSize(Math.max(1L, probationSize))
+                .expireAfterWrite(probationTtl)
+                .evictionListener((String key, Redirect value, RemovalCause cause) -> evictedUnused.increment())
+                .build();
+        log.info("[Cache:L1] warming admission - policy={}, probationSize={}, probationTtl={}",
+                this.policy, probationSize, probationTtl);
+    }
+
+    public Policy policy() {
+        return policy;
+    }
+
+    // 반환값이 true이면 호출자가 L1에 바로 적재
+    boolean admit(String key, Redirect redirect) {
+        switch (policy) {
+            case ALWAYS -> {
+                admitted.increment();
+                return true;
+            }
+            case L2_ONLY -> skipped.increment();
+            case PROBATION -> {
+                probation.asMap().compute(key,
+                        (k, existing) -> redirect.supersedes(existing) ? redirect : existing);
+                onProbation.increment();
+            }
+        }
+        return false;
+    }
+
+    // L1 miss 시 probation에 있으면 꺼내서 반환 (호출자가 L1에 승격)
+    Redirect promote(String key) {
+        if (policy != Policy.PROBATION) {
+            return null;
+        }
+        Redirect redirect = probation.asMap().remove(key);
+        if (redirect != null) {
+            promoted.increment();
+        }
+        return redirect;
+    }
+
+    // 변경/비활성화가 probation 항목에도 반영되도록 이미 있는 경우에만 갱신
+    void update(String key, Redirect redirect) {
+        if (policy == Policy.PROBATION) {
+            probation.asMap().computeIfPresent(key,
+                    (k, existing) -> redirect.supersedes(existing) ? redirect : existing);
+        }
+    }
+
+    private static Counter outcome(MeterRegistry registry, String outcome) {
+        return Counter.builder("shortly.cache.warming.admission")
+                .description("Warmed entries by L1 admission outcome")
+                .tag("outcome", outcome)
+                .register(registry);
+    }
+
+    private static Counter probationResult(MeterRegistry registry, String result) {
+        return Counter.builder("shortly.cache.warming.probation")
+                .description("Probation entries promoted on first access or evicted without a hit")
+                .tag("result", result)
+                .register(registry);
+    }
+}
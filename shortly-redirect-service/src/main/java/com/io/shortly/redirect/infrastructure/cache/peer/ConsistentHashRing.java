@@ -0,0 +1,72 @@
+package com.io.shortly.redirect.infrastructure.cache.peer;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.TreeSet;
+
+// 멤버 변경 시 새로 만들어 교체하는 불변 링. 조회는 정렬된 배열의 이진 탐색
+public final class ConsistentHashRing {
+
+    private static final long FNV_OFFSET = 0xcbf29ce484222325L;
+    private static final long FNV_PRIME = 0x100000001b3L;
+
+    private final List<String> members;
+    private final long[] points;
+    private final String[] owners;
+
+    public ConsistentHashRing(Collection<String> members, int virtualNodes) {
+        this.members = List.copyOf(new TreeSet<>(members));
+
+        int replicas = Math.max(1, virtualNodes);
+        Point[] ring = new Point[this.members.size() * replicas];
+        int index = 0;
+        for (String member : this.members) {
+            for (int v = 0; v < replicas; v++) {
+                ring[index++] = new Point(hash(member + '#' + v), member);
+            }
+        }
+        Arrays.sort(ring, Comparator.comparingLong(Point::hash));
+
+        this.points = new long[ring.length];
+        this.owners = new String[ring.length];
+        for (int i = 0; i < ring.length; i++) {
+            points[i] = ring[i].hash();
+            owners[i] = ring[i].member();
+        }
+    }
+
+    public String ownerOf(String key) {
+        if (points.length == 0) {
+            throw new IllegalStateException("Hash ring has no members");
+        }
+        int index = Arrays.binarySearch(points, hash(key));
+        if (index < 0) {
+            index = -index - 1;
+        }
+        return owners[index == points.length ? 0 : index];
+    }
+
+    public List<String> members() {
+        return members;
+    }
+
+    // FNV-1a 64bit + murmur3 finalizer (짧은 코드에서도 링 위에 고르게 분산)
+    static long hash(String value) {
+        long hash = FNV_OFFSET;
+        for (int i = 0; i < value.length(); i++) {
+            hash ^= value.charAt(i);
+            hash *= FNV_PRIME;
+        }
+        hash ^= hash >>> 33;
+        hash *= 0xff51afd7ed558ccdL;
+        hash ^= hash >>> 33;
+        hash *= 0xc4ceb9fe1a85ec53L;
+        hash ^= hash >>> 33;
+        return hash;
+    }
+
+    private record Point(long hash, String member) {
+    }
+}
@@ -0,0 +1,122 @@
+package com.io.shortly.redirect.infrastructure.cache.peer;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.stereotype.Component;
+
+/*
+ * redirect 노드 멤버십
+ *
+ * 각 노드는 heartbeat마다 sorted set(score = 만료 시각)에 자신의 주소를 갱신하고, 만료되지 않은
+ * 멤버로 consistent hash 링을 만든다. Redis에 접근할 수 없는 상태가 member-ttl 이상 지속되면
+ * 다른 노드가 이미 이 노드를 제외했을 수 있으므로 링을 자기 자신만으로 축소해 모든 코드를 직접 처리한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shortly.cache.peer.enabled", havingValue = "true")
+public class PeerMembershipManager {
+
+    private static final String MEMBERS_KEY = "redirect:peers";
+
+    private final StringRedisTemplate redisTemplate;
+    private final String selfUrl;
+    private final int virtualNodes;
+    private final long heartbeatMillis;
+    private final long memberTtlMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("peer-membership").daemon().factory());
+
+    private volatile ConsistentHashRing ring;
+    private volatile long lastHeartbeatAt;
+
+    public PeerMembershipManager(
+            StringRedisTemplate redisTemplate,
+            @Value("${shortly.cache.peer.advertise-url:}") String advertiseUrl,
+            @Value("${server.port:8082}") int serverPort,
+            @Value("${shortly.cache.peer.virtual-nodes:128}") int virtualNodes,
+            @Value("${shortly.cache.peer.heartbeat-interval:2s}") Duration heartbeatInterval,
+            @Value("${shortly.cache.peer.member-ttl:6s}") Duration memberTtl
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.selfUrl = advertiseUrl.isBlank() ? defaultUrl(serverPort) : advertiseUrl;
+        this.virtualNodes = virtualNodes;
+        this.heartbeatMillis = heartbeatInterval.toMillis();
+        this.memberTtlMillis = memberTtl.toMillis();
+        this.ring = new ConsistentHashRing(Set.of(selfUrl), virtualNodes);
+    }
+
+    @PostConstruct
+    public void start() {
+        heartbeat();
+        scheduler.scheduleWithFixedDelay(this::heartbeat, heartbeatMillis, heartbeatMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        scheduler.shutdown();
+        try {
+            redisTemplate.opsForZSet().remove(MEMBERS_KEY, selfUrl);
+            log.info("[Peer] 멤버 탈퇴 - self={}", selfUrl);
+        } catch (Exception e) {
+            log.warn("[Peer] 멤버 탈퇴 실패 - self={}, error={}", selfUrl, e.getMessage());
+        }
+    }
+
+    public String ownerOf(String shortCode) {
+        return ring.ownerOf(shortCode);
+    }
+
+    public boolean isSelf(String member) {
+        return selfUrl.equals(member);
+    }
+
+    private void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            ZSetOperations<String, String> members = redisTemplate.opsForZSet();
+            members.add(MEMBERS_KEY, selfUrl, now + memberTtlMillis);
+            members.removeRangeByScore(MEMBERS_KEY, 0, now);
+
+            Set<String> alive = new HashSet<>(members.rangeByScore(MEMBERS_KEY, now, Double.POSITIVE_INFINITY));
+            alive.add(selfUrl);
+            lastHeartbeatAt = now;
+            updateRing(alive);
+
+        } catch (Exception e) {
+            log.warn("[Peer] heartbeat 실패 - self={}, error={}", selfUrl, e.getMessage());
+            if (now - lastHeartbeatAt > memberTtlMillis) {
+                updateRing(Set.of(selfUrl));
+            }
+        }
+    }
+
+    private void updateRing(Set<String> alive) {
+        if (alive.equals(Set.copyOf(ring.members()))) {
+            return;
+        }
+        ring = new ConsistentHashRing(alive, virtualNodes);
+        log.info("[Peer] 멤버 변경 - members={}", ring.members());
+    }
+
+    private static String defaultUrl(int serverPort) {
+        try {
+            return "http://" + InetAddress.getLocalHost().getHostAddress() + ":" + serverPort;
+        } catch (UnknownHostException e) {
+            throw new IllegalStateException("Cannot resolve local address for peer membership", e);
+        }
+    }
+}
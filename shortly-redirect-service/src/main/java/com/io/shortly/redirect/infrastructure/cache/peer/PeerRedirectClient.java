@@ -0,0 +1,103 @@
+package com.io.shortly.redirect.infrastructure.cache.peer;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RedirectPeerLookup;
+import com.io.shortly.shared.jfr.CacheLookupEvent;
+import com.io.shortly.shared.metrics.CacheMetrics;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shortly.cache.peer.enabled", havingValue = "true")
+public class PeerRedirectClient implements RedirectPeerLookup {
+
+    private static final String LOOKUP_PATH = "/internal/peer/redirects/{shortCode}";
+    private static final String LAYER = "PEER";
+
+    private final PeerMembershipManager membership;
+    private final RestClient restClient;
+    private final CacheMetrics peerMetrics;
+    private final HotPathMetrics hotPathMetrics;
+
+    public PeerRedirectClient(
+            PeerMembershipManager membership,
+            HotPathMetrics hotPathMetrics,
+            @Value("${shortly.cache.peer.timeout:100ms}") Duration timeout
+    ) {
+        // peer가 느리면 기다리지 않고 로컬 L2로 진행하도록 짧은 timeout 사용
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory();
+        factory.setConnectTimeout(timeout);
+        factory.setReadTimeout(timeout);
+
+        this.membership = membership;
+        this.restClient = RestClient.builder()
+                .requestFactory(factory)
+                .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
+                .build();
+        this.hotPathMetrics = hotPathMetrics;
+        this.peerMetrics = hotPathMetrics.cache(LAYER);
+    }
+
+    @Override
+    public boolean isOwner(String shortCode) {
+        return membership.isSelf(membership.ownerOf(shortCode));
+    }
+
+    @Override
+    public PeerLookupResult lookup(String shortCode) {
+        String owner = membership.ownerOf(shortCode);
+        if (membership.isSelf(owner)) {
+            return PeerLookupResult.local();
+        }
+
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        long start = hotPathMetrics.start();
+        try {
+            PeerLookupResult result = restClient.get()
+                    .uri(owner + LOOKUP_PATH, shortCode)
+                    .exchange((request, response) -> {
+                        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                            return PeerLookupResult.notFound();
+                        }
+                        if (response.getStatusCode().isError()) {
+                            return null;
+                        }
+                        PeerRedirectResponse body = response.bodyTo(PeerRedirectResponse.class);
+                        return PeerLookupResult.found(
+                                Redirect.create(shortCode, body.originalUrl(), body.version())
+                                        .expiringAt(body.expiresAt())
+                                        .withPolicy(body.policy())
+                                        .withRules(body.rules()));
+                    });
+
+            if (result == null) {
+                peerMetrics.recordError();
+                event.complete(LAYER, shortCode, "ERROR");
+                log.debug("[Cache:Peer] 에러 응답, 로컬 조회 - owner={}, shortCode={}", owner, shortCode);
+                return PeerLookupResult.local();
+            }
+
+            peerMetrics.recordGet(result.status() == PeerLookupResult.Status.FOUND, start);
+            event.complete(LAYER, shortCode, result.status() == PeerLookupResult.Status.FOUND ? "HIT" : "MISS");
+            return result;
+
+        } catch (Exception e) {
+            peerMetrics.recordError();
+            event.complete(LAYER, shortCode, "ERROR");
+            log.debug("[Cache:Peer] 조회 실패, 로컬 조회 - owner={}, shortCode={}, error={}",
+                    owner, shortCode, e.getMessage());
+            return PeerLookupResult.local();
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.io.shortly.redirect.infrastructure.cache.peer;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import java.time.Instant;
+
+@JsonIgnoreProperties(ignoreUnknown = true)
+public record PeerRedirectResponse(
+    String originalUrl,
+    long version,
+    Instant expiresAt,
+    RedirectPolicy policy,
+    // RedirectRules 형식, 규칙이 없거나 이전 버전 노드이면 null
+    String rules
+) {
+}
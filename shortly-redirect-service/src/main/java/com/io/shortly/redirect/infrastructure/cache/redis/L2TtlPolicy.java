@@ -0,0 +1,88 @@
+package com.io.shortly.redirect.infrastructure.cache.redis;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.DoubleSupplier;
+
+/*
+ * 조회 빈도에 따라 늘어나는 L2 TTL
+ *
+ * - 처음 기록은 initialTtl: 클릭되지 않는 링크는 짧게 보관 후 제거
+ * - 조회 시 XFetch 방식으로 만료 직전에 확률적으로 미리 갱신하며, 갱신마다 TTL을 growth배(최대 maxTtl)로 늘림
+ *   -> 만료 구간에 조회가 있는 핫 링크만 계속 연장되고, 한 키에 대한 재적재가 만료 시점에 몰리지 않음
+ * - L1 HIT은 L2까지 오지 않으므로 핫 링크의 L2 조회는 L1 항목이 만료되어 다시 읽을 때(최대 l1Lifetime 간격)뿐임.
+ *   남은 TTL이 l1Lifetime보다 짧으면 다음 L1 재적재 전에 만료되므로 이때 연장 -> L1에서만 조회되는 링크도 L2에 남음
+ * - 모든 TTL에 jitter를 적용하여 같은 시점에 기록된 키들이 동시에 만료되지 않게 함
+ * - 링크 자체의 만료 시각을 넘지 않음
+ */
+public class L2TtlPolicy {
+
+    private final long initialTtlMillis;
+    private final long maxTtlMillis;
+    private final double growth;
+    private final double jitter;
+    private final long refreshDeltaMillis;
+    private final double beta;
+    private final long l1LifetimeMillis;
+    private final DoubleSupplier random;
+
+    public L2TtlPolicy(
+        Duration initialTtl,
+        Duration maxTtl,
+        double growth,
+        double jitter,
+        Duration refreshDelta,
+        double beta,
+        Duration l1Lifetime
+    ) {
+        this(initialTtl, maxTtl, growth, jitter, refreshDelta, beta, l1Lifetime,
+            () -> ThreadLocalRandom.current().nextDouble());
+    }
+
+    public L2TtlPolicy(
+        Duration initialTtl,
+        Duration maxTtl,
+        double growth,
+        double jitter,
+        Duration refreshDelta,
+        double beta,
+        Duration l1Lifetime,
+        DoubleSupplier random
+    ) {
+        this.initialTtlMillis = Math.max(1L, initialTtl.toMillis());
+        this.maxTtlMillis = Math.max(this.initialTtlMillis, maxTtl.toMillis());
+        this.growth = Math.max(1.0, growth);
+        this.jitter = Math.clamp(jitter, 0.0, 0.5);
+        this.refreshDeltaMillis = refreshDelta.toMillis();
+        this.beta = beta;
+        this.l1LifetimeMillis = l1Lifetime.toMillis();
+        this.random = random;
+    }
+
+    // previousTtlMillis가 0이면 새로 기록하는 항목, 그 외에는 조회로 연장되는 항목. 0 이하이면 기록하지 않음
+    public long ttlMillis(Redirect redirect, long previousTtlMillis, long nowMillis) {
+        long base = previousTtlMillis <= 0
+            ? initialTtlMillis
+            : (long) Math.min(maxTtlMillis, previousTtlMillis * growth);
+        // [1 - jitter, 1] 구간으로 줄여 maxTtl을 넘지 않게 함
+        long jittered = Math.max(1L, (long) (base * (1.0 - jitter * random.getAsDouble())));
+        return Math.min(jittered, redirect.remainingMillis(nowMillis));
+    }
+
+    // XFetch: now - delta * beta * ln(U) >= expiry 이면 갱신. 만료가 가까울수록 확률이 높아짐
+    public boolean shouldRefresh(CachedRedirect cached, long nowMillis) {
+        if (cached.l2ExpiresAt() <= 0) {
+            return false;
+        }
+        if (cached.l2ExpiresAt() - nowMillis < l1LifetimeMillis) {
+            return true;
+        }
+        if (refreshDeltaMillis <= 0) {
+            return false;
+        }
+        double u = Math.max(Double.MIN_VALUE, random.getAsDouble());
+        return nowMillis - refreshDeltaMillis * beta * Math.log(u) >= cached.l2ExpiresAt();
+    }
+}
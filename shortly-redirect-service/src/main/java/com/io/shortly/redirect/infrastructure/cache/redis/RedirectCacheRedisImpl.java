@@ -4,73 +4,328 @@ import static com.io.shortly.redirect.infrastructure.cache.CacheLayer.L2;
 
 import com.io.shortly.redirect.domain.Redirect;
 import com.io.shortly.redirect.domain.RedirectCache;
+import com.io.shortly.redirect.infrastructure.cache.CacheCircuitBreaker;
 import com.io.shortly.redirect.infrastructure.cache.CacheKeyGenerator;
-import com.io.shortly.redirect.infrastructure.cache.CachedRedirect;
+import com.io.shortly.redirect.infrastructure.cache.CachedRedirectMapper;
+import com.io.shortly.shared.jfr.CacheLookupEvent;
+import com.io.shortly.shared.metrics.CacheMetrics;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import com.io.shortly.shared.redirect.cache.L2RedirectFormat;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Supplier;
 
 import lombok.extern.slf4j.Slf4j;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.GenericToStringSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component("redisCache")
 public class RedirectCacheRedisImpl implements RedirectCache {
 
+    // url-service의 Pub/Sub 발행 경로와 같은 스크립트 (L2RedirectFormat)
+    private static final RedisScript<Long> VERSIONED_SET = L2RedirectFormat.VERSIONED_SET;
+    private static final byte[] VERSIONED_SET_SOURCE = VERSIONED_SET.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+    private static final String VERSIONED_SET_SHA = VERSIONED_SET.getSha1();
+    private static final String NOSCRIPT = "NOSCRIPT";
+    // 파이프라인 미지원으로 건별 기록 중일 때 파이프라인을 다시 시도하는 주기 (연결/토폴로지 변경 후 복구)
+    private static final long PIPELINE_RETRY_MILLIS = TimeUnit.MINUTES.toMillis(1);
+    private static final RedisSerializer<Long> RESULT_SERIALIZER = new GenericToStringSerializer<>(Long.class);
+    private static final String LAYER = L2.name();
+
     private final RedisTemplate<String, CachedRedirect> redisTemplate;
-    private final Duration l2Ttl;
+    private final RedisSerializer<CachedRedirect> valueSerializer;
+    private final RedisReadRouter readRouter;
+    private final CacheCircuitBreaker breaker;
+    private final L2TtlPolicy ttlPolicy;
+    private final HotPathMetrics hotPathMetrics;
+    private final CacheMetrics cacheMetrics;
+    private final RedisWriteBehindQueue writeBehind;
+
+    // 파이프라인을 지원하지 않는 연결(일부 클러스터 구성)이면 이 시각까지 건별 기록으로 전환
+    private volatile long pipelineRetryAt;
 
     public RedirectCacheRedisImpl(
             RedisTemplate<String, CachedRedirect> redisTemplate,
-            @Value("${shortly.cache.l2.ttl:30m}") Duration l2Ttl
+            RedisReadRouter readRouter,
+            CacheCircuitBreaker breaker,
+            L2TtlPolicy ttlPolicy,
+            @Value("${shortly.cache.l2.write-behind.max-pending:50000}") int writeBehindMaxPending,
+            @Value("${shortly.cache.l2.write-behind.batch-size:256}") int writeBehindBatchSize,
+            @Value("${shortly.cache.l2.write-behind.flush-interval:10ms}") Duration writeBehindFlushInterval,
+            HotPathMetrics hotPathMetrics,
+            MeterRegistry meterRegistry
     ) {
         this.redisTemplate = redisTemplate;
-        this.l2Ttl = l2Ttl;
+        this.valueSerializer = valueSerializer(redisTemplate);
+        this.readRouter = readRouter;
+        this.breaker = breaker;
+        this.ttlPolicy = ttlPolicy;
+        this.hotPathMetrics = hotPathMetrics;
+        this.cacheMetrics = hotPathMetrics.cache(LAYER);
+        this.writeBehind = new RedisWriteBehindQueue(this::putAll, writeBehindMaxPending, writeBehindBatchSize,
+                writeBehindFlushInterval, meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writeBehind.start();
+    }
+
+    @PreDestroy
+    public void stop() {
+        writeBehind.stop();
     }
 
     @Override
     public Optional<Redirect> get(String shortCode) {
+        CacheLookupEvent event = new CacheLookupEvent();
+        event.begin();
+        if (!breaker.tryAcquire()) {
+            cacheMetrics.recordRejected(false);
+            event.complete(LAYER, shortCode, "REJECTED");
+            return Optional.empty();
+        }
+        long start = hotPathMetrics.start();
+        long breakerStart = breaker.start();
         try {
             String key = CacheKeyGenerator.generateCacheKey(L2, shortCode);
-            CachedRedirect cached = redisTemplate.opsForValue().get(key);
+            CachedRedirect cached = readRouter.get(key);
+            breaker.recordSuccess(breakerStart);
+            cacheMetrics.recordGet(cached != null, start);
 
             if (cached != null) {
-                log.info("[Cache:L2] HIT - shortCode={}, targetUrl={}", shortCode, cached.targetUrl());
-                return Optional.of(cached.toDomain());
+                log.debug("[Cache:L2] HIT - shortCode={}, targetUrl={}", shortCode, cached.targetUrl());
+                event.complete(LAYER, shortCode, "HIT");
+                return Optional.of(toDomainRefreshing(cached));
             }
 
-            log.info("[Cache:L2] MISS - shortCode={}", shortCode);
+            log.debug("[Cache:L2] MISS - shortCode={}", shortCode);
+            event.complete(LAYER, shortCode, "MISS");
             return Optional.empty();
 
         } catch (Exception e) {
+            breaker.recordFailure();
+            cacheMetrics.recordError();
+            event.complete(LAYER, shortCode, "ERROR");
             log.warn("[Cache:L2] 조회 실패: shortCode={}, error={}",
                     shortCode, e.getMessage());
             return Optional.empty();
         }
     }
 
+    @Override
+    public Map<String, Redirect> getAll(Collection<String> shortCodes) {
+        if (shortCodes.isEmpty()) {
+            return Map.of();
+        }
+        if (!breaker.tryAcquire()) {
+            cacheMetrics.recordRejected(false);
+            return Map.of();
+        }
+        long start = hotPathMetrics.start();
+        long breakerStart = breaker.start();
+        try {
+            List<String> codes = List.copyOf(shortCodes);
+            List<String> keys = codes.stream()
+                    .map(shortCode -> CacheKeyGenerator.generateCacheKey(L2, shortCode))
+                    .toList();
+            List<CachedRedirect> values = readRouter.getAll(keys);
+            breaker.recordSuccess(breakerStart);
+
+            Map<String, Redirect> found = new LinkedHashMap<>();
+            for (int i = 0; i < codes.size(); i++) {
+                CachedRedirect cached = values.get(i);
+                if (cached != null) {
+                    found.put(codes.get(i), toDomainRefreshing(cached));
+                }
+            }
+            cacheMetrics.recordGet(!found.isEmpty(), start);
+            log.debug("[Cache:L2] 다건 조회 - requested={}, hit={}", codes.size(), found.size());
+            return found;
+
+        } catch (Exception e) {
+            breaker.recordFailure();
+            cacheMetrics.recordError();
+            log.warn("[Cache:L2] 다건 조회 실패: size={}, error={}", shortCodes.size(), e.getMessage());
+            return Map.of();
+        }
+    }
+
     @Override
     public Redirect getOrLoad(String shortCode, Supplier<Redirect> loader) {
         return get(shortCode).orElseGet(loader);
     }
 
+    // 조회 경로: 302 응답이 Redis 쓰기를 기다리지 않도록 write-behind 큐에 넣고 바로 반환
+    @Override
+    public void fill(Redirect redirect) {
+        writeBehind.offer(redirect, 0L);
+    }
+
     @Override
     public void put(Redirect redirect) {
+        long now = System.currentTimeMillis();
+        write(redirect, ttlPolicy.ttlMillis(redirect, 0L, now), now);
+    }
+
+    private void write(Redirect redirect, long ttlMillis, long now) {
+        if (ttlMillis <= 0) {
+            log.debug("[Cache:L2] 만료된 항목 저장 생략: shortCode={}", redirect.getShortCode());
+            return;
+        }
+        // OPEN 동안의 저장은 버림: L2는 조회 경로에서 다시 채워지며, 쌓아 두면 복구 직후 부하가 몰림
+        if (!breaker.tryAcquire()) {
+            cacheMetrics.recordRejected(true);
+            log.debug("[Cache:L2] circuit open, 저장 생략: shortCode={}", redirect.getShortCode());
+            return;
+        }
+
+        long start = hotPathMetrics.start();
+        long breakerStart = breaker.start();
         try {
             String key = CacheKeyGenerator.generateCacheKey(L2, redirect.getShortCode());
-            CachedRedirect cached = CachedRedirect.from(redirect);
+            String json = new String(valueSerializer.serialize(CachedRedirectMapper.toCached(redirect, ttlMillis, now)),
+                    StandardCharsets.UTF_8);
 
-            redisTemplate.opsForValue().set(key, cached, l2Ttl);
+            Long applied = redisTemplate.execute(VERSIONED_SET, StringRedisSerializer.UTF_8, RESULT_SERIALIZER,
+                    List.of(key), json, Long.toString(redirect.getVersion()), Long.toString(ttlMillis));
+            breaker.recordSuccess(breakerStart);
+            cacheMetrics.recordPut(start);
 
-            log.debug("[Cache:L2] 저장 완료: shortCode={}, ttl={}",
-                    redirect.getShortCode(), l2Ttl);
+            if (applied != null && applied == 0L) {
+                log.debug("[Cache:L2] 더 높은 version이 있어 저장 생략: shortCode={}, version={}",
+                        redirect.getShortCode(), redirect.getVersion());
+                return;
+            }
+            log.debug("[Cache:L2] 저장 완료: shortCode={}, version={}, ttl={}ms",
+                    redirect.getShortCode(), redirect.getVersion(), ttlMillis);
 
         } catch (Exception e) {
+            breaker.recordFailure();
+            cacheMetrics.recordError();
             log.warn("[Cache:L2] 저장 실패: shortCode={}, error={}",
                     redirect.getShortCode(), e.getMessage());
         }
     }
+
+    // 만료 직전 조회된 항목은 TTL을 늘려 다시 기록 (비동기). 응답에는 영향 없음
+    private Redirect toDomainRefreshing(CachedRedirect cached) {
+        Redirect redirect = CachedRedirectMapper.toDomain(cached);
+        if (ttlPolicy.shouldRefresh(cached, System.currentTimeMillis())) {
+            writeBehind.offer(redirect, cached.l2TtlMillis());
+        }
+        return redirect;
+    }
+
+    // write-behind 배치: 버전 비교 스크립트를 파이프라인 한 번으로 전송
+    private void putAll(List<RedisWriteBehindQueue.Entry> batch) {
+        long now = System.currentTimeMillis();
+        List<PendingWrite> writable = new ArrayList<>(batch.size());
+        for (RedisWriteBehindQueue.Entry entry : batch) {
+            long ttlMillis = ttlPolicy.ttlMillis(entry.redirect(), entry.previousTtlMillis(), now);
+            if (ttlMillis > 0) {
+                writable.add(new PendingWrite(entry.redirect(), ttlMillis));
+            }
+        }
+        if (writable.isEmpty()) {
+            return;
+        }
+        if (now < pipelineRetryAt) {
+            writable.forEach(write -> write(write.redirect(), write.ttlMillis(), now));
+            return;
+        }
+        if (!breaker.tryAcquire()) {
+            writable.forEach(write -> cacheMetrics.recordRejected(true));
+            return;
+        }
+
+        long start = hotPathMetrics.start();
+        long breakerStart = breaker.start();
+        try {
+            try {
+                pipelineVersionedSet(writable, now, true);
+            } catch (RuntimeException e) {
+                if (!isNoScript(e)) {
+                    throw e;
+                }
+                // 스크립트 캐시가 비어 있음 (재시작, SCRIPT FLUSH, 새 클러스터 노드): EVAL로 다시 보내면 각 노드에 적재됨
+                log.debug("[Cache:L2] NOSCRIPT, write-behind 배치를 EVAL로 재전송: size={}", writable.size());
+                pipelineVersionedSet(writable, now, false);
+            }
+            breaker.recordSuccess(breakerStart);
+            cacheMetrics.recordPut(start);
+            log.debug("[Cache:L2] write-behind 배치 저장: size={}", writable.size());
+
+        } catch (UnsupportedOperationException | InvalidDataAccessApiUsageException e) {
+            log.info("[Cache:L2] 파이프라인 미지원 연결, {}ms 동안 write-behind를 건별 기록으로 전환: {}",
+                    PIPELINE_RETRY_MILLIS, e.getMessage());
+            pipelineRetryAt = now + PIPELINE_RETRY_MILLIS;
+            // Redis 상태와 무관한 실패라 성공/실패로 집계하지 않고 permit만 반환 (건별 기록이 각자 permit을 받음)
+            breaker.release();
+            writable.forEach(write -> write(write.redirect(), write.ttlMillis(), now));
+        } catch (Exception e) {
+            breaker.recordFailure();
+            cacheMetrics.recordError();
+            log.warn("[Cache:L2] write-behind 배치 저장 실패: size={}, error={}", writable.size(), e.getMessage());
+        }
+    }
+
+    // 스크립트 본문 대신 SHA만 보내 배치당 전송량을 줄임 (useSha=false면 EVAL)
+    private void pipelineVersionedSet(List<PendingWrite> writable, long now, boolean useSha) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            for (PendingWrite write : writable) {
+                Redirect redirect = write.redirect();
+                byte[][] keyAndArgs = {
+                        CacheKeyGenerator.generateCacheKey(L2, redirect.getShortCode()).getBytes(StandardCharsets.UTF_8),
+                        valueSerializer.serialize(CachedRedirectMapper.toCached(redirect, write.ttlMillis(), now)),
+                        Long.toString(redirect.getVersion()).getBytes(StandardCharsets.UTF_8),
+                        Long.toString(write.ttlMillis()).getBytes(StandardCharsets.UTF_8)
+                };
+                if (useSha) {
+                    connection.scriptingCommands().evalSha(VERSIONED_SET_SHA, ReturnType.INTEGER, 1, keyAndArgs);
+                } else {
+                    connection.scriptingCommands().eval(VERSIONED_SET_SOURCE, ReturnType.INTEGER, 1, keyAndArgs);
+                }
+            }
+            return null;
+        }, RESULT_SERIALIZER);
+    }
+
+    private static boolean isNoScript(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(NOSCRIPT)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private record PendingWrite(Redirect redirect, long ttlMillis) {
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisSerializer<CachedRedirect> valueSerializer(RedisTemplate<String, CachedRedirect> template) {
+        return (RedisSerializer<CachedRedirect>) template.getValueSerializer();
+    }
 }
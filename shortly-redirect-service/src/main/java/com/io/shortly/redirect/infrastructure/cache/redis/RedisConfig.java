@@ -1,10 +1,12 @@
 package com.io.shortly.redirect.infrastructure.cache.redis;
 
-import com.fasterxml.jackson.databind.DeserializationFeature;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
-import com.io.shortly.redirect.infrastructure.cache.CachedRedirect;
+import com.io.shortly.redirect.infrastructure.cache.CacheCircuitBreaker;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import com.io.shortly.shared.redirect.cache.L2RedirectFormat;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -19,6 +21,50 @@ public class RedisConfig {
     public RedisTemplate<String, CachedRedirect> redisTemplate(
         RedisConnectionFactory connectionFactory
     ) {
+        return createTemplate(connectionFactory);
+    }
+
+    // Redis 장애 시 L1 miss마다 command timeout(1s)을 기다리지 않도록 L2 호출을 즉시 건너뜀
+    @Bean
+    public CacheCircuitBreaker l2CircuitBreaker(
+        MeterRegistry meterRegistry,
+        @Value("${shortly.cache.l2.breaker.window-size:100}") int windowSize,
+        @Value("${shortly.cache.l2.breaker.minimum-calls:20}") int minimumCalls,
+        @Value("${shortly.cache.l2.breaker.failure-rate-threshold:50}") int failureRateThreshold,
+        @Value("${shortly.cache.l2.breaker.slow-call-threshold:100ms}") Duration slowCallThreshold,
+        @Value("${shortly.cache.l2.breaker.open-duration:5s}") Duration openDuration,
+        @Value("${shortly.cache.l2.breaker.half-open-probes:3}") int halfOpenProbes
+    ) {
+        CacheCircuitBreaker breaker = new CacheCircuitBreaker(windowSize, minimumCalls, failureRateThreshold,
+            slowCallThreshold, openDuration, halfOpenProbes);
+
+        // 0 = CLOSED, 1 = HALF_OPEN, 2 = OPEN
+        Gauge.builder("shortly.cache.breaker.state", breaker, b -> b.state().ordinal())
+            .description("Cache layer circuit breaker state (0 closed, 1 half-open, 2 open)")
+            .tag("layer", "L2")
+            .register(meterRegistry);
+        Gauge.builder("shortly.cache.breaker.failure.rate", breaker, CacheCircuitBreaker::failureRate)
+            .description("Failure ratio of the cache layer breaker sliding window")
+            .tag("layer", "L2")
+            .register(meterRegistry);
+        return breaker;
+    }
+
+    @Bean
+    public L2TtlPolicy l2TtlPolicy(
+        @Value("${shortly.cache.l2.ttl:30m}") Duration initialTtl,
+        @Value("${shortly.cache.l2.max-ttl:6h}") Duration maxTtl,
+        @Value("${shortly.cache.l2.ttl-growth:2.0}") double growth,
+        @Value("${shortly.cache.l2.ttl-jitter:0.1}") double jitter,
+        @Value("${shortly.cache.l2.early-refresh.delta:30s}") Duration refreshDelta,
+        @Value("${shortly.cache.l2.early-refresh.beta:1.0}") double beta,
+        @Value("${shortly.cache.l1.max-ttl:10m}") Duration l1Lifetime
+    ) {
+        return new L2TtlPolicy(initialTtl, maxTtl, growth, jitter, refreshDelta, beta, l1Lifetime);
+    }
+
+    // replica 전용 연결에서도 master와 동일한 직렬화 설정을 사용
+    static RedisTemplate<String, CachedRedirect> createTemplate(RedisConnectionFactory connectionFactory) {
         RedisTemplate<String, CachedRedirect> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
 
@@ -28,11 +74,8 @@ public class RedisConfig {
         template.setKeySerializer(new StringRedisSerializer());
         template.setHashKeySerializer(new StringRedisSerializer());
 
-        // JSON 직렬화
-        ObjectMapper objectMapper = createObjectMapper();
-
-        Jackson2JsonRedisSerializer<CachedRedirect> serializer =
-            new Jackson2JsonRedisSerializer<>(objectMapper, CachedRedirect.class);
+        // JSON 직렬화 (url-service의 L2 기록과 같은 설정)
+        Jackson2JsonRedisSerializer<CachedRedirect> serializer = L2RedirectFormat.serializer();
         template.setValueSerializer(serializer);
         template.setHashValueSerializer(serializer);
 
@@ -40,19 +83,4 @@ public class RedisConfig {
 
         return template;
     }
-
-    private ObjectMapper createObjectMapper() {
-        ObjectMapper objectMapper = new ObjectMapper();
-
-        objectMapper.registerModule(new JavaTimeModule());
-
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
-        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
-
-        objectMapper.disable(SerializationFeature.INDENT_OUTPUT);
-        objectMapper.disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
-
-        return objectMapper;
-    }
 }
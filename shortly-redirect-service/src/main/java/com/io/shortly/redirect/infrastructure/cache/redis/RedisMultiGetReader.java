@@ -0,0 +1,80 @@
+package com.io.shortly.redirect.infrastructure.cache.redis;
+
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import io.lettuce.core.KeyValue;
+import io.lettuce.core.LettuceFutures;
+import io.lettuce.core.RedisFuture;
+import io.lettuce.core.cluster.api.async.RedisAdvancedClusterAsyncCommands;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/*
+ * L2 다건 조회
+ *
+ * standalone/Sentinel: MGET 한 번
+ * Cluster: Spring Data의 cluster mGet은 슬롯이 다르면 키마다 GET을 보내므로, Lettuce advanced cluster
+ *          API로 직접 MGET을 보냄. 키를 슬롯별로 나눠 슬롯당 MGET 한 번을 노드별 연결에 동시에
+ *          pipeline하고 결과를 원래 순서로 합쳐준다.
+ */
+class RedisMultiGetReader {
+
+    private final RedisTemplate<String, CachedRedirect> redisTemplate;
+    private final boolean clusterAware;
+    private final Duration timeout;
+
+    RedisMultiGetReader(RedisTemplate<String, CachedRedirect> redisTemplate, Duration timeout) {
+        this.redisTemplate = redisTemplate;
+        this.clusterAware = isClusterAware(redisTemplate.getConnectionFactory());
+        this.timeout = timeout;
+    }
+
+    // keys와 같은 순서로 반환하며, 없는 키는 null
+    List<CachedRedirect> getAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        if (!clusterAware) {
+            return redisTemplate.opsForValue().multiGet(keys);
+        }
+        return redisTemplate.execute((RedisCallback<List<CachedRedirect>>) connection ->
+                clusterGetAll(nativeCommands(connection.getNativeConnection()), keys));
+    }
+
+    private List<CachedRedirect> clusterGetAll(RedisAdvancedClusterAsyncCommands<byte[], byte[]> commands,
+                                               List<String> keys) {
+        byte[][] rawKeys = new byte[keys.size()][];
+        for (int i = 0; i < rawKeys.length; i++) {
+            rawKeys[i] = keys.get(i).getBytes(StandardCharsets.UTF_8);
+        }
+
+        RedisFuture<List<KeyValue<byte[], byte[]>>> future = commands.mget(rawKeys);
+        if (!LettuceFutures.awaitAll(timeout, future)) {
+            throw new QueryTimeoutException("Redis cluster MGET timed out after " + timeout);
+        }
+
+        @SuppressWarnings("unchecked")
+        RedisSerializer<CachedRedirect> serializer = (RedisSerializer<CachedRedirect>) redisTemplate.getValueSerializer();
+        List<CachedRedirect> results = new ArrayList<>(keys.size());
+        for (KeyValue<byte[], byte[]> value : future.toCompletableFuture().join()) {
+            results.add(value.hasValue() ? serializer.deserialize(value.getValue()) : null);
+        }
+        return results;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static RedisAdvancedClusterAsyncCommands<byte[], byte[]> nativeCommands(Object nativeConnection) {
+        return (RedisAdvancedClusterAsyncCommands<byte[], byte[]>) nativeConnection;
+    }
+
+    private static boolean isClusterAware(RedisConnectionFactory connectionFactory) {
+        return connectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.isClusterAware();
+    }
+}
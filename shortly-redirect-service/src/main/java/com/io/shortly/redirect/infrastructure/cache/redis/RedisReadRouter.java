@@ -0,0 +1,13 @@
+package com.io.shortly.redirect.infrastructure.cache.redis;
+
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import java.util.List;
+
+// L2 읽기 경로 선택. 쓰기(put)는 항상 master RedisTemplate을 직접 사용
+public interface RedisReadRouter {
+
+    CachedRedirect get(String key);
+
+    // keys와 같은 순서로 반환하며, 없는 키는 null
+    List<CachedRedirect> getAll(List<String> keys);
+}
@@ -0,0 +1,35 @@
+package com.io.shortly.redirect.infrastructure.cache.redis;
+
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import java.time.Duration;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Component
+@ConditionalOnProperty(name = "shortly.cache.l2.read-from", havingValue = "master", matchIfMissing = true)
+public class RedisReadRouterMasterImpl implements RedisReadRouter {
+
+    private final RedisTemplate<String, CachedRedirect> redisTemplate;
+    private final RedisMultiGetReader multiGetReader;
+
+    public RedisReadRouterMasterImpl(
+            RedisTemplate<String, CachedRedirect> redisTemplate,
+            @Value("${spring.data.redis.timeout:1000ms}") Duration timeout
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.multiGetReader = new RedisMultiGetReader(redisTemplate, timeout);
+    }
+
+    @Override
+    public CachedRedirect get(String key) {
+        return redisTemplate.opsForValue().get(key);
+    }
+
+    @Override
+    public List<CachedRedirect> getAll(List<String> keys) {
+        return multiGetReader.getAll(keys);
+    }
+}
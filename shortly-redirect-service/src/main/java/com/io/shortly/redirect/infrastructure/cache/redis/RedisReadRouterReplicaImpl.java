@@ -0,0 +1,273 @@
+package com.io.shortly.redirect.infrastructure.cache.redis;
+
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisSentinelConnection;
+import org.springframework.data.redis.connection.RedisServer;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceClientConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shortly.cache.l2.read-from", havingValue = "replica-preferred")
+public class RedisReadRouterReplicaImpl implements RedisReadRouter {
+
+    private static final String MASTER_NODE = "master";
+    private static final ReplicaNode[] NONE = new ReplicaNode[0];
+
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisTemplate<String, CachedRedirect> masterTemplate;
+    private final HotPathMetrics hotPathMetrics;
+    private final MeterRegistry meterRegistry;
+    private final String masterName;
+    private final String password;
+    private final long maxLagBytes;
+    private final long refreshIntervalMillis;
+    private final Duration commandTimeout;
+
+    // 토폴로지 갱신 스레드에서만 변경
+    private final Map<String, ReplicaNode> nodes = new HashMap<>();
+    private final ScheduledExecutorService refresher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("redis-replica-refresher").daemon().factory());
+
+    private final AtomicInteger cursor = new AtomicInteger();
+    private volatile ReplicaNode[] readable = NONE;
+
+    public RedisReadRouterReplicaImpl(
+            RedisConnectionFactory connectionFactory,
+            RedisTemplate<String, CachedRedirect> redisTemplate,
+            HotPathMetrics hotPathMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${spring.data.redis.sentinel.master:mymaster}") String masterName,
+            @Value("${spring.data.redis.password:}") String password,
+            @Value("${shortly.cache.l2.replica.max-lag-bytes:1048576}") long maxLagBytes,
+            @Value("${shortly.cache.l2.replica.refresh-interval:1s}") Duration refreshInterval,
+            @Value("${spring.data.redis.timeout:1000ms}") Duration commandTimeout
+    ) {
+        this.connectionFactory = connectionFactory;
+        this.masterTemplate = redisTemplate;
+        this.hotPathMetrics = hotPathMetrics;
+        this.meterRegistry = meterRegistry;
+        this.masterName = masterName;
+        this.password = password;
+        this.maxLagBytes = maxLagBytes;
+        this.refreshIntervalMillis = Math.max(100L, refreshInterval.toMillis());
+        this.commandTimeout = commandTimeout;
+    }
+
+    @PostConstruct
+    public void start() {
+        if (connectionFactory instanceof LettuceConnectionFactory lettuce && lettuce.getSentinelConfiguration() == null) {
+            log.warn("[Cache:L2] Sentinel 설정이 없어 replica 읽기를 사용하지 않음 - master에서만 읽기");
+            return;
+        }
+        refresher.scheduleWithFixedDelay(this::refresh, 0, refreshIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        refresher.shutdown();
+        try {
+            refresher.awaitTermination(refreshIntervalMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        readable = NONE;
+        nodes.values().forEach(ReplicaNode::close);
+        nodes.clear();
+    }
+
+    @Override
+    public CachedRedirect get(String key) {
+        return read(template -> template.opsForValue().get(key));
+    }
+
+    @Override
+    public List<CachedRedirect> getAll(List<String> keys) {
+        if (keys.isEmpty()) {
+            return List.of();
+        }
+        return read(template -> template.opsForValue().multiGet(keys));
+    }
+
+    private <T> T read(Function<RedisTemplate<String, CachedRedirect>, T> operation) {
+        ReplicaNode[] current = readable;
+        if (current.length > 0) {
+            ReplicaNode node = current[Math.floorMod(cursor.getAndIncrement(), current.length)];
+            long start = hotPathMetrics.start();
+            try {
+                T result = operation.apply(node.template);
+                hotPathMetrics.recordRedisRead(node.id, true, start);
+                return result;
+            } catch (Exception e) {
+                hotPathMetrics.recordRedisRead(node.id, false, start);
+                log.debug("[Cache:L2] replica 조회 실패, master로 재시도 - node={}, error={}", node.id, e.getMessage());
+            }
+        }
+
+        long start = hotPathMetrics.start();
+        try {
+            T result = operation.apply(masterTemplate);
+            hotPathMetrics.recordRedisRead(MASTER_NODE, true, start);
+            return result;
+        } catch (RuntimeException e) {
+            hotPathMetrics.recordRedisRead(MASTER_NODE, false, start);
+            throw e;
+        }
+    }
+
+    private void refresh() {
+        try {
+            Collection<RedisServer> discovered = discoverReplicas();
+            ReplicationInfo replication = ReplicationInfo.parse(masterTemplate.execute(
+                    (RedisCallback<Properties>) connection -> connection.serverCommands().info("replication")));
+
+            Set<String> alive = new HashSet<>();
+            List<ReplicaNode> next = new ArrayList<>();
+            for (RedisServer server : discovered) {
+                if (isDown(server)) {
+                    continue;
+                }
+                String id = ReplicationInfo.nodeId(server.getHost(), server.getPort());
+                alive.add(id);
+
+                ReplicaNode node = nodes.computeIfAbsent(id, key -> connect(key, server.getHost(), server.getPort()));
+                node.lagBytes = replication.lagBytes(id);
+                if (node.lagBytes <= maxLagBytes) {
+                    next.add(node);
+                }
+            }
+
+            // 읽기 대상에서 먼저 빼고 닫음. 이전 목록으로 조회 중이던 요청은 실패 시 master로 재시도
+            List<ReplicaNode> stale = removeStale(alive);
+            publish(next);
+            stale.forEach(this::close);
+        } catch (Exception e) {
+            // 복제 지연을 확인할 수 없으면 오래된 값을 읽지 않도록 master로 전환
+            publish(List.of());
+            log.warn("[Cache:L2] replica 토폴로지 갱신 실패, master에서 읽기 - error={}", e.getMessage());
+        }
+    }
+
+    private Collection<RedisServer> discoverReplicas() throws Exception {
+        try (RedisSentinelConnection sentinel = connectionFactory.getSentinelConnection()) {
+            return sentinel.replicas(() -> masterName);
+        }
+    }
+
+    private static boolean isDown(RedisServer server) {
+        String flags = server.getFlags();
+        return flags != null
+                && (flags.contains("s_down") || flags.contains("o_down") || flags.contains("disconnected"));
+    }
+
+    private ReplicaNode connect(String id, String host, int port) {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(host, port);
+        if (!password.isBlank()) {
+            configuration.setPassword(password);
+        }
+
+        LettuceConnectionFactory factory = new LettuceConnectionFactory(configuration,
+                LettuceClientConfiguration.builder().commandTimeout(commandTimeout).build());
+        factory.afterPropertiesSet();
+        factory.start();
+
+        log.info("[Cache:L2] replica 연결 - node={}", id);
+        return new ReplicaNode(id, factory);
+    }
+
+    private List<ReplicaNode> removeStale(Set<String> alive) {
+        List<ReplicaNode> stale = new ArrayList<>();
+        Iterator<Map.Entry<String, ReplicaNode>> iterator = nodes.entrySet().iterator();
+        while (iterator.hasNext()) {
+            ReplicaNode node = iterator.next().getValue();
+            if (!alive.contains(node.id)) {
+                iterator.remove();
+                stale.add(node);
+            }
+        }
+        return stale;
+    }
+
+    private void close(ReplicaNode node) {
+        node.close();
+        log.info("[Cache:L2] replica 연결 해제 - node={}", node.id);
+    }
+
+    private void publish(List<ReplicaNode> next) {
+        ReplicaNode[] previous = readable;
+        ReplicaNode[] updated = next.toArray(NONE);
+        readable = updated;
+
+        if (!sameNodes(previous, updated)) {
+            log.info("[Cache:L2] 읽기 대상 replica 변경 - replicas={}, maxLagBytes={}",
+                    next.stream().map(node -> node.id).toList(), maxLagBytes);
+        }
+    }
+
+    private static boolean sameNodes(ReplicaNode[] left, ReplicaNode[] right) {
+        if (left.length != right.length) {
+            return false;
+        }
+        Set<ReplicaNode> nodes = Set.of(left);
+        for (ReplicaNode node : right) {
+            if (!nodes.contains(node)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private final class ReplicaNode {
+
+        private final String id;
+        private final LettuceConnectionFactory factory;
+        private final RedisTemplate<String, CachedRedirect> template;
+        private final Gauge lagGauge;
+        private volatile long lagBytes = Long.MAX_VALUE;
+
+        private ReplicaNode(String id, LettuceConnectionFactory factory) {
+            this.id = id;
+            this.factory = factory;
+            this.template = RedisConfig.createTemplate(factory);
+            this.lagGauge = Gauge.builder("shortly.redis.replica.lag", this,
+                            node -> node.lagBytes == Long.MAX_VALUE ? Double.NaN : node.lagBytes)
+                    .description("Replication lag behind master per replica")
+                    .baseUnit("bytes")
+                    .tag("node", id)
+                    .register(meterRegistry);
+        }
+
+        private void close() {
+            meterRegistry.remove(lagGauge);
+            factory.destroy();
+        }
+    }
+}
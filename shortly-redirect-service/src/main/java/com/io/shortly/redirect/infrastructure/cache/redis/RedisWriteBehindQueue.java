@@ -0,0 +1,147 @@
+package com.io.shortly.redirect.infrastructure.cache.redis;
+
+import com.io.shortly.redirect.domain.Redirect;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+
+/*
+ * L2 fill write-behind
+ *
+ * 조회 경로의 L2 적재를 큐에 넣고 바로 반환하며, 전용 스레드가 batchSize 단위 파이프라인으로 기록한다.
+ * - 같은 shortCode는 큐에서 하나로 합쳐짐 (더 높은 version, 같은 version이면 더 긴 연장 유지)
+ * - maxPending을 넘으면 새 키는 버림: 버려진 항목은 다음 조회에서 다시 채워짐
+ */
+@Slf4j
+public class RedisWriteBehindQueue {
+
+    private final Consumer<List<Entry>> batchWriter;
+    private final int maxPending;
+    private final int batchSize;
+    private final long flushIntervalMillis;
+
+    private final ConcurrentHashMap<String, Entry> pending = new ConcurrentHashMap<>();
+    private final AtomicInteger depth = new AtomicInteger();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+    private final Counter dropped;
+    private final Counter coalesced;
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("l2-write-behind").daemon().factory());
+
+    public RedisWriteBehindQueue(
+            Consumer<List<Entry>> batchWriter,
+            int maxPending,
+            int batchSize,
+            Duration flushInterval,
+            MeterRegistry meterRegistry
+    ) {
+        this.batchWriter = batchWriter;
+        this.maxPending = Math.max(1, maxPending);
+        this.batchSize = Math.max(1, batchSize);
+        this.flushIntervalMillis = Math.max(1L, flushInterval.toMillis());
+
+        Gauge.builder("shortly.cache.write.behind.depth", depth, AtomicInteger::get)
+                .description("L2 fills waiting in the write-behind queue")
+                .tag("layer", "L2")
+                .register(meterRegistry);
+        this.dropped = Counter.builder("shortly.cache.write.behind.dropped")
+                .description("L2 fills dropped because the write-behind queue was full")
+                .tag("layer", "L2")
+                .register(meterRegistry);
+        this.coalesced = Counter.builder("shortly.cache.write.behind.coalesced")
+                .description("L2 fills merged into an already queued key")
+                .tag("layer", "L2")
+                .register(meterRegistry);
+    }
+
+    public void start() {
+        flusher.scheduleWithFixedDelay(this::flush, flushIntervalMillis, flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void stop() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(flushIntervalMillis * 10, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+
+    // previousTtlMillis: 조회로 연장하는 경우 기존 L2 TTL, 새로 적재하면 0
+    public void offer(Redirect redirect, long previousTtlMillis) {
+        Entry incoming = new Entry(redirect, previousTtlMillis);
+        boolean[] added = new boolean[1];
+        pending.compute(redirect.getShortCode(), (shortCode, queued) -> {
+            if (queued != null) {
+                coalesced.increment();
+                return incoming.supersedes(queued) ? incoming : queued;
+            }
+            if (depth.get() >= maxPending) {
+                dropped.increment();
+                return null;
+            }
+            added[0] = true;
+            return incoming;
+        });
+
+        // 한 배치 분량이 모이면 주기를 기다리지 않고 바로 기록
+        if (added[0] && depth.incrementAndGet() >= batchSize && !flusher.isShutdown()
+                && flushScheduled.compareAndSet(false, true)) {
+            flusher.execute(this::flush);
+        }
+    }
+
+    public int depth() {
+        return depth.get();
+    }
+
+    // flusher 스레드에서만 실행
+    private void flush() {
+        flushScheduled.set(false);
+        try {
+            List<Entry> batch = new ArrayList<>(batchSize);
+            Iterator<String> it = pending.keySet().iterator();
+            while (it.hasNext()) {
+                Entry entry = pending.remove(it.next());
+                if (entry == null) {
+                    continue;
+                }
+                depth.decrementAndGet();
+                batch.add(entry);
+                if (batch.size() == batchSize) {
+                    batchWriter.accept(batch);
+                    batch = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty()) {
+                batchWriter.accept(batch);
+            }
+        } catch (Exception e) {
+            log.warn("[Cache:L2] write-behind flush 실패: error={}", e.getMessage());
+        }
+    }
+
+    public record Entry(Redirect redirect, long previousTtlMillis) {
+
+        // 더 높은 version 우선, 같은 version이면 더 길게 연장하는 쪽을 유지
+        boolean supersedes(Entry queued) {
+            if (redirect.getVersion() != queued.redirect.getVersion()) {
+                return redirect.supersedes(queued.redirect);
+            }
+            return previousTtlMillis >= queued.previousTtlMillis;
+        }
+    }
+}
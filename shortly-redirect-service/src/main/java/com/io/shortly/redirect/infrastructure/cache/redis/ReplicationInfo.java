@@ -0,0 +1,76 @@
+package com.io.shortly.redirect.infrastructure.cache.redis;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Properties;
+
+/*
+ * master의 INFO replication 결과에서 replica별 복제 지연(byte)을 계산
+ *
+ *   master_repl_offset:10245
+ *   slave0:ip=172.18.0.3,port=6379,state=online,offset=10231,lag=0
+ */
+public record ReplicationInfo(long masterOffset, Map<String, Replica> replicas) {
+
+    private static final String MASTER_OFFSET = "master_repl_offset";
+    private static final String REPLICA_PREFIX = "slave";
+    private static final String ONLINE = "online";
+
+    public static ReplicationInfo parse(Properties info) {
+        long masterOffset = Long.parseLong(info.getProperty(MASTER_OFFSET, "0").trim());
+        Map<String, Replica> replicas = new HashMap<>();
+
+        for (String name : info.stringPropertyNames()) {
+            if (!name.startsWith(REPLICA_PREFIX) || !isDigits(name, REPLICA_PREFIX.length())) {
+                continue;
+            }
+            Map<String, String> fields = new HashMap<>();
+            for (String field : info.getProperty(name).trim().split(",")) {
+                int separator = field.indexOf('=');
+                if (separator > 0) {
+                    fields.put(field.substring(0, separator), field.substring(separator + 1));
+                }
+            }
+            Replica replica = new Replica(
+                fields.get("ip"),
+                Integer.parseInt(fields.getOrDefault("port", "0")),
+                ONLINE.equals(fields.get("state")),
+                Long.parseLong(fields.getOrDefault("offset", "0"))
+            );
+            replicas.put(replica.nodeId(), replica);
+        }
+        return new ReplicationInfo(masterOffset, Map.copyOf(replicas));
+    }
+
+    // master가 모르는 replica(아직 연결 전이거나 끊긴 상태)는 지연 무한대로 취급
+    public long lagBytes(String nodeId) {
+        Replica replica = replicas.get(nodeId);
+        if (replica == null || !replica.online()) {
+            return Long.MAX_VALUE;
+        }
+        return Math.max(0L, masterOffset - replica.offset());
+    }
+
+    public static String nodeId(String host, int port) {
+        return host + ":" + port;
+    }
+
+    private static boolean isDigits(String value, int from) {
+        if (from >= value.length()) {
+            return false;
+        }
+        for (int i = from; i < value.length(); i++) {
+            if (!Character.isDigit(value.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public record Replica(String host, int port, boolean online, long offset) {
+
+        public String nodeId() {
+            return ReplicationInfo.nodeId(host, port);
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.io.shortly.redirect.infrastructure.client;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/*
+ * URL Service fallback 요청 hedging 정책
+ *
+ * delay: 최근 windowSize 건의 성공 응답 시간 중 percentile 값 (minDelay ~ maxDelay로 제한).
+ *        첫 요청이 이 시간 안에 응답하지 않으면 두 번째 요청을 보냄.
+ *        샘플이 minimumSamples보다 적으면 maxDelay를 사용하고, recomputeInterval 건마다 다시 계산
+ * budget: 요청 1건마다 budgetRatio 만큼 토큰을 적립하고 hedge 1건에 토큰 1개를 사용 (최대 maxBurst개 적립).
+ *         URL Service 전체가 느려져도 추가 부하는 요청 수의 budgetRatio 이하로 제한됨
+ */
+public class HedgingPolicy {
+
+    private static final long TOKEN = 1_000;
+
+    private final int percentile;
+    private final int minimumSamples;
+    private final int recomputeInterval;
+    private final long minDelayNanos;
+    private final long maxDelayNanos;
+    private final long depositPerRequest;
+    private final long maxTokens;
+
+    private final AtomicLongArray samples;
+    private final AtomicLong recorded = new AtomicLong();
+    private final AtomicLong tokens = new AtomicLong();
+    private volatile long delayNanos;
+
+    public HedgingPolicy(
+        int percentile,
+        int windowSize,
+        Duration minDelay,
+        Duration maxDelay,
+        double budgetRatio,
+        int maxBurst
+    ) {
+        this.percentile = Math.clamp(percentile, 1, 99);
+        this.samples = new AtomicLongArray(Math.max(10, windowSize));
+        this.minimumSamples = Math.max(10, samples.length() / 10);
+        this.recomputeInterval = Math.max(1, samples.length() / 10);
+        this.minDelayNanos = minDelay.toNanos();
+        this.maxDelayNanos = Math.max(minDelayNanos, maxDelay.toNanos());
+        this.depositPerRequest = Math.round(Math.clamp(budgetRatio, 0.0, 1.0) * TOKEN);
+        this.maxTokens = Math.max(1, maxBurst) * TOKEN;
+        this.delayNanos = maxDelayNanos;
+    }
+
+    public long delayNanos() {
+        return delayNanos;
+    }
+
+    // 성공한 개별 요청(첫 요청, hedge 모두)의 응답 시간
+    public void recordLatency(long nanos) {
+        long index = recorded.getAndIncrement();
+        samples.set((int) (index % samples.length()), nanos);
+        if ((index + 1) % recomputeInterval == 0) {
+            recompute(index + 1);
+        }
+    }
+
+    public void recordRequest() {
+        tokens.accumulateAndGet(depositPerRequest, (current, deposit) -> Math.min(maxTokens, current + deposit));
+    }
+
+    // false이면 budget 소진으로 hedge 없이 첫 요청만 기다림
+    public boolean tryAcquireHedge() {
+        while (true) {
+            long current = tokens.get();
+            if (current < TOKEN) {
+                return false;
+            }
+            if (tokens.compareAndSet(current, current - TOKEN)) {
+                return true;
+            }
+        }
+    }
+
+    private void recompute(long count) {
+        int size = (int) Math.min(count, samples.length());
+        if (size < minimumSamples) {
+            return;
+        }
+        long[] snapshot = new long[size];
+        for (int i = 0; i < size; i++) {
+            snapshot[i] = samples.get(i);
+        }
+        Arrays.sort(snapshot);
+        long value = snapshot[Math.min(size - 1, (int) Math.ceil(size * percentile / 100.0) - 1)];
+        delayNanos = Math.clamp(value, minDelayNanos, maxDelayNanos);
+    }
+}
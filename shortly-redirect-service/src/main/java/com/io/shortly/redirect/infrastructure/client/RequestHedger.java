@@ -0,0 +1,128 @@
+package com.io.shortly.redirect.infrastructure.client;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/*
+ * 멱등 조회 요청 hedging
+ *
+ * 첫 요청이 policy.delayNanos() 안에 응답하지 않으면 같은 요청을 한 번 더 보내고 먼저 성공한 응답을 사용.
+ * 한쪽이 실패하면 다른 쪽 응답을 기다리고, 둘 다 실패하면 나중 예외를 그대로 던짐.
+ * 진 요청은 취소하지 않고 read timeout까지 진행되므로 blocking 호출은 virtual thread에서 실행
+ */
+public class RequestHedger implements AutoCloseable {
+
+    private final HedgingPolicy policy;
+    private final ExecutorService executor;
+    private final Counter sent;
+    private final Counter won;
+    private final Counter budgetExhausted;
+
+    public RequestHedger(HedgingPolicy policy, MeterRegistry meterRegistry) {
+        this.policy = policy;
+        this.executor = Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("url-fallback-", 0).factory());
+        this.sent = hedgeCounter(meterRegistry, "sent");
+        this.won = hedgeCounter(meterRegistry, "won");
+        this.budgetExhausted = hedgeCounter(meterRegistry, "budget_exhausted");
+        Gauge.builder("shortly.fallback.hedge.delay", policy, p -> p.delayNanos() / 1_000_000.0)
+            .description("Current hedging delay derived from recent fallback latency (ms)")
+            .register(meterRegistry);
+    }
+
+    public <T> T execute(Supplier<T> call) {
+        policy.recordRequest();
+
+        CompletableFuture<T> winner = new CompletableFuture<>();
+        AtomicInteger pending = new AtomicInteger(1);
+        submit(call, winner, pending, false);
+
+        try {
+            return winner.get(policy.delayNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            hedge(call, winner, pending);
+            return await(winner);
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for url-service", e);
+        }
+    }
+
+    private <T> void hedge(Supplier<T> call, CompletableFuture<T> winner, AtomicInteger pending) {
+        if (!policy.tryAcquireHedge()) {
+            budgetExhausted.increment();
+            return;
+        }
+        // 첫 요청이 아직 진행 중일 때만 두 번째 요청 수를 늘림 (이미 실패했으면 pending이 0)
+        if (pending.getAndUpdate(count -> count == 0 ? 0 : count + 1) == 0) {
+            return;
+        }
+        sent.increment();
+        submit(call, winner, pending, true);
+    }
+
+    private <T> void submit(Supplier<T> call, CompletableFuture<T> winner, AtomicInteger pending, boolean hedged) {
+        executor.execute(() -> {
+            long start = System.nanoTime();
+            try {
+                T result = call.get();
+                policy.recordLatency(System.nanoTime() - start);
+                if (winner.complete(result) && hedged) {
+                    won.increment();
+                }
+            } catch (Throwable e) {
+                if (pending.decrementAndGet() == 0) {
+                    winner.completeExceptionally(e);
+                }
+            }
+        });
+    }
+
+    private <T> T await(CompletableFuture<T> winner) {
+        try {
+            return winner.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for url-service", e);
+        }
+    }
+
+    private static RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new IllegalStateException(e.getCause());
+    }
+
+    private static Counter hedgeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("shortly.fallback.hedge")
+            .description("Hedged url-service fallback requests")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(1, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+}
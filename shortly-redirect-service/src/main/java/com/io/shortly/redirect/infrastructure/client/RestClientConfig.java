@@ -1,6 +1,9 @@
 package com.io.shortly.redirect.infrastructure.client;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpHeaders;
@@ -31,4 +34,23 @@ public class RestClientConfig {
             .defaultHeader(HttpHeaders.ACCEPT, MediaType.APPLICATION_JSON_VALUE)
             .build();
     }
+
+    /*
+     * 느린 URL Service 인스턴스 하나가 fallback p99를 read timeout(3s)까지 끌어올리지 않도록,
+     * 첫 요청이 최근 응답 시간의 percentile 안에 오지 않으면 같은 요청을 한 번 더 보냄
+     */
+    @Bean
+    @ConditionalOnProperty(name = "shortly.url-service.hedging.enabled", havingValue = "true")
+    public RequestHedger urlServiceHedger(
+        MeterRegistry meterRegistry,
+        @Value("${shortly.url-service.hedging.percentile:95}") int percentile,
+        @Value("${shortly.url-service.hedging.window-size:1000}") int windowSize,
+        @Value("${shortly.url-service.hedging.min-delay:20ms}") Duration minDelay,
+        @Value("${shortly.url-service.hedging.max-delay:500ms}") Duration maxDelay,
+        @Value("${shortly.url-service.hedging.budget-ratio:0.1}") double budgetRatio,
+        @Value("${shortly.url-service.hedging.max-burst:10}") int maxBurst
+    ) {
+        HedgingPolicy policy = new HedgingPolicy(percentile, windowSize, minDelay, maxDelay, budgetRatio, maxBurst);
+        return new RequestHedger(policy, meterRegistry);
+    }
 }
@@ -0,0 +1,8 @@
+package com.io.shortly.redirect.infrastructure.client;
+
+import java.util.List;
+
+public record UrlBatchLookupRequest(
+    List<String> shortCodes
+) {
+}
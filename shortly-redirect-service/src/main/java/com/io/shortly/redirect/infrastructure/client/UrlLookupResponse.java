@@ -1,7 +1,15 @@
 package com.io.shortly.redirect.infrastructure.client;
 
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import java.time.Instant;
+
 public record UrlLookupResponse(
     String shortCode,
-    String originalUrl
+    String originalUrl,
+    long version,
+    Instant expiresAt,
+    RedirectPolicy redirectPolicy,
+    // RedirectRules 형식, 규칙이 없으면 null
+    String redirectRules
 ) {
 }
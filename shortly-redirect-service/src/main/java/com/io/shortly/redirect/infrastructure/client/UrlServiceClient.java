@@ -1,62 +1,155 @@
 package com.io.shortly.redirect.infrastructure.client;
 
 import com.io.shortly.redirect.domain.Redirect;
-import com.io.shortly.redirect.domain.ShortCodeNotFoundException;
 import com.io.shortly.redirect.domain.UrlFetcher;
+import com.io.shortly.shared.api.support.error.BusinessException;
+import com.io.shortly.shared.api.support.error.CommonErrorCode;
+import com.io.shortly.shared.jfr.UrlFallbackEvent;
+import com.io.shortly.shared.metrics.CacheMetrics;
+import com.io.shortly.shared.metrics.HotPathMetrics;
 import io.micrometer.core.annotation.Counted;
-import lombok.RequiredArgsConstructor;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.HttpStatusCode;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class UrlServiceClient implements UrlFetcher {
 
     private final RestClient urlServiceRestClient;
+    // hedging 비활성화 시 null
+    private final RequestHedger hedger;
+    private final HotPathMetrics hotPathMetrics;
+    // 캐시 계층과 같은 shortly.cache.get/errors 미터에 FALLBACK 계층으로 기록
+    private final CacheMetrics fallbackMetrics;
 
     private static final String GET_SHORT_CODE_URI = "/api/v1/urls/{shortCode}";
+    private static final String LOOKUP_URI = "/api/v1/urls/lookup";
+    private static final String LAYER = "FALLBACK";
+    // URL Service 일괄 조회 요청의 최대 코드 수
+    private static final int LOOKUP_CHUNK_SIZE = 100;
+
+    public UrlServiceClient(
+            RestClient urlServiceRestClient,
+            ObjectProvider<RequestHedger> urlServiceHedger,
+            HotPathMetrics hotPathMetrics
+    ) {
+        this.urlServiceRestClient = urlServiceRestClient;
+        this.hedger = urlServiceHedger.getIfAvailable();
+        this.hotPathMetrics = hotPathMetrics;
+        this.fallbackMetrics = hotPathMetrics.cache(LAYER);
+    }
 
     @Override
     @Counted(
             value = "redirect.cache.l2.db.calls",
             extraTags = {"layer", "L2"}
     )
-    public Redirect fetchShortUrl(String shortCode) {
-        log.info("[API Fallback] URL Service 호출 시작: shortCode={}", shortCode);
+    public Optional<Redirect> fetchShortUrl(String shortCode) {
+        UrlFallbackEvent event = new UrlFallbackEvent();
+        event.begin();
+        long start = hotPathMetrics.start();
+        try {
+            Optional<Redirect> found = hedger == null ? fetch(shortCode) : hedger.execute(() -> fetch(shortCode));
+            fallbackMetrics.recordGet(found.isPresent(), start);
+            event.complete(shortCode, found.isPresent() ? "FOUND" : "NOT_FOUND");
+            return found;
+        } catch (RuntimeException e) {
+            fallbackMetrics.recordError();
+            event.complete(shortCode, "ERROR");
+            throw e;
+        }
+    }
+
+    /*
+     * 404만 미존재로 응답. 5xx/그 밖의 에러 응답과 타임아웃/연결 실패는 SERVICE_UNAVAILABLE(503, Retry-After)로 올려
+     * URL Service 장애가 존재하는 링크의 404로 바뀌지 않게 함
+     */
+    private Optional<Redirect> fetch(String shortCode) {
+        log.debug("[API Fallback] URL Service 호출 시작: shortCode={}", shortCode);
 
         try {
             UrlLookupResponse response = urlServiceRestClient.get()
                     .uri(GET_SHORT_CODE_URI, shortCode)
-                    .retrieve()
-                    .onStatus(HttpStatusCode::is4xxClientError,
-                            (request, responseEntity) -> log.debug("[API Fallback] 4xx 에러: status={}, shortCode={}",
-                                    responseEntity.getStatusCode(), shortCode))
-                    .onStatus(HttpStatusCode::is5xxServerError,
-                            (request, responseEntity) -> log.debug("[API Fallback] 5xx 에러: status={}, shortCode={}",
-                                    responseEntity.getStatusCode(), shortCode))
-                    .body(UrlLookupResponse.class);
+                    .exchange((request, clientResponse) -> {
+                        if (clientResponse.getStatusCode().isSameCodeAs(HttpStatus.NOT_FOUND)) {
+                            return null;
+                        }
+                        if (clientResponse.getStatusCode().isError()) {
+                            throw unavailable("status " + clientResponse.getStatusCode().value(), null);
+                        }
+                        return clientResponse.bodyTo(UrlLookupResponse.class);
+                    });
 
             if (response == null) {
-                log.warn("[API Fallback] 응답이 null: shortCode={}", shortCode);
-                throw new ShortCodeNotFoundException(shortCode);
+                log.debug("[API Fallback] 존재하지 않는 단축 코드: shortCode={}", shortCode);
+                return Optional.empty();
             }
 
-            log.info("[API Fallback] 조회 성공: shortCode={}, url={} (eventId=0 fallback)",
-                    response.shortCode(), response.originalUrl());
+            log.debug("[API Fallback] 조회 성공: shortCode={}, url={}, version={} (eventId=0 fallback)",
+                    response.shortCode(), response.originalUrl(), response.version());
 
-            return Redirect.create(response.shortCode(), response.originalUrl());
+            return Optional.of(Redirect.create(response.shortCode(), response.originalUrl(), response.version())
+                    .expiringAt(response.expiresAt())
+                    .withPolicy(response.redirectPolicy())
+                    .withRules(response.redirectRules()));
 
         } catch (RestClientException e) {
-            log.error("[API Fallback] 호출 실패: shortCode={}, error={}",
-                    shortCode, e.getMessage());
-            throw new ShortCodeNotFoundException(shortCode);
-        } catch (Exception e) {
-            log.error("[API Fallback] 예상치 못한 오류: shortCode={}", shortCode, e);
-            throw new ShortCodeNotFoundException(shortCode);
+            log.warn("[API Fallback] 호출 실패: shortCode={}, error={}", shortCode, e.getMessage());
+            throw unavailable(e.getMessage(), e);
         }
     }
+
+    private static BusinessException unavailable(String reason, Throwable cause) {
+        return new BusinessException(CommonErrorCode.SERVICE_UNAVAILABLE, "URL Service unavailable: " + reason, cause);
+    }
+
+    /*
+     * 일괄 조회: 코드 묶음당 요청 1회. 응답에 없는 코드만 미존재
+     * 한 묶음이라도 호출이 실패하면 단건 조회와 마찬가지로 SERVICE_UNAVAILABLE (실패한 코드를 미존재로 응답하지 않음)
+     */
+    @Override
+    @Counted(
+            value = "redirect.cache.l2.db.batch.calls",
+            extraTags = {"layer", "L2"}
+    )
+    public Map<String, Redirect> fetchShortUrls(Collection<String> shortCodes) {
+        List<String> codes = List.copyOf(shortCodes);
+        Map<String, Redirect> found = new HashMap<>();
+
+        for (int from = 0; from < codes.size(); from += LOOKUP_CHUNK_SIZE) {
+            List<String> chunk = codes.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, codes.size()));
+            try {
+                UrlBatchLookupResponse response = urlServiceRestClient.post()
+                        .uri(LOOKUP_URI)
+                        .body(new UrlBatchLookupRequest(chunk))
+                        .retrieve()
+                        .body(UrlBatchLookupResponse.class);
+
+                if (response == null || response.urls() == null) {
+                    continue;
+                }
+                for (UrlLookupResponse url : response.urls()) {
+                    found.put(url.shortCode(), Redirect.create(url.shortCode(), url.originalUrl(), url.version())
+                            .expiringAt(url.expiresAt())
+                            .withPolicy(url.redirectPolicy())
+                            .withRules(url.redirectRules()));
+                }
+            } catch (RestClientException e) {
+                log.warn("[API Fallback] 일괄 조회 실패: size={}, error={}", chunk.size(), e.getMessage());
+                throw unavailable(e.getMessage(), e);
+            }
+        }
+
+        log.debug("[API Fallback] 일괄 조회 완료: requested={}, found={}", codes.size(), found.size());
+        return found;
+    }
 }
@@ -0,0 +1,29 @@
+package com.io.shortly.redirect.infrastructure.edge;
+
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/*
+ * /actuator/edgecache/{shortCode} - edge 캐시 수동 purge
+ *
+ * 링크 변경/비활성화는 무효화 이벤트를 받을 때 자동으로 purge하므로, 이벤트 유실이나 nginx 재배포 후 정리용
+ * 기본 노출 목록에 없고, 노출해도 loopback 요청만 허용 (ManagementAccessConfig)
+ */
+@Component
+@RequiredArgsConstructor
+@WebEndpoint(id = "edgecache")
+@ConditionalOnProperty(name = "shortly.edge-cache.purge.enabled", havingValue = "true")
+public class EdgeCacheEndpoint {
+
+    private final EdgeCachePurger purger;
+
+    @DeleteOperation
+    public Map<String, Object> purge(@Selector String shortCode) {
+        return Map.of("shortCode", shortCode, "purged", purger.purge(shortCode));
+    }
+}
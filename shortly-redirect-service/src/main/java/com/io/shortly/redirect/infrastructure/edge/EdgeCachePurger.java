@@ -0,0 +1,85 @@
+package com.io.shortly.redirect.infrastructure.edge;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.io.IOException;
+import java.net.HttpURLConnection;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/*
+ * nginx proxy_cache의 redirect 항목 purge
+ *
+ * OSS nginx에는 purge 모듈이 없으므로 외부에 공개하지 않는 purge 전용 server에 같은 경로를 요청함.
+ * 이 server는 캐시를 건너뛰고(proxy_cache_bypass) 새 응답으로 기존 항목을 1초짜리 항목으로 덮어쓰므로,
+ * 이후 요청부터는 변경된 목적지/정책으로 다시 캐시됨 (infra/nginx/nginx.conf 참고)
+ * purge server가 X-Shortly-Purge 헤더를 붙여 전달하므로 redirect 노드에서 클릭으로 집계되지 않음
+ * (헤더는 purge server 주소에서 온 요청만 인정, PurgeRequestVerifier)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shortly.edge-cache.purge.enabled", havingValue = "true")
+public class EdgeCachePurger {
+
+    private static final String REDIRECT_PATH = "/r/{shortCode}";
+
+    private final RestClient restClient;
+    private final Counter purged;
+    private final Counter failed;
+
+    public EdgeCachePurger(
+        @Value("${shortly.edge-cache.purge.url}") String purgeUrl,
+        @Value("${shortly.edge-cache.purge.timeout:500ms}") Duration timeout,
+        MeterRegistry meterRegistry
+    ) {
+        SimpleClientHttpRequestFactory factory = new SimpleClientHttpRequestFactory() {
+            @Override
+            protected void prepareConnection(HttpURLConnection connection, String httpMethod) throws IOException {
+                super.prepareConnection(connection, httpMethod);
+                // 응답의 Location(원본 URL)을 따라가지 않음
+                connection.setInstanceFollowRedirects(false);
+            }
+        };
+        factory.setConnectTimeout(timeout);
+        factory.setReadTimeout(timeout);
+
+        this.restClient = RestClient.builder()
+            .requestFactory(factory)
+            .baseUrl(purgeUrl)
+            .build();
+        this.purged = purgeCounter(meterRegistry, "success");
+        this.failed = purgeCounter(meterRegistry, "failure");
+    }
+
+    // 실패해도 예외를 던지지 않음. 이미 캐시된 항목은 s-maxage가 지나면 만료됨
+    public boolean purge(String shortCode) {
+        try {
+            HttpStatusCode status = restClient.get()
+                .uri(REDIRECT_PATH, shortCode)
+                .exchange((request, response) -> response.getStatusCode());
+            if (status.is5xxServerError()) {
+                throw new IllegalStateException("Unexpected status " + status.value());
+            }
+            purged.increment();
+            log.debug("[Edge] purge 완료: shortCode={}, status={}", shortCode, status.value());
+            return true;
+        } catch (Exception e) {
+            failed.increment();
+            log.warn("[Edge] purge 실패: shortCode={}, error={}", shortCode, e.getMessage());
+            return false;
+        }
+    }
+
+    private static Counter purgeCounter(MeterRegistry meterRegistry, String outcome) {
+        return Counter.builder("shortly.edge.purge")
+            .description("Edge (nginx proxy_cache) purge requests")
+            .tag("outcome", outcome)
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,87 @@
+package com.io.shortly.redirect.infrastructure.edge;
+
+import jakarta.servlet.http.HttpServletRequest;
+import java.net.InetAddress;
+import java.net.URI;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/*
+ * X-Shortly-Purge 헤더는 nginx purge 전용 server가 보낸 요청에서만 인정
+ *
+ * redirect-service 포트는 외부에 공개되어 있어 누구나 헤더를 붙일 수 있고, purge 요청은 클릭 집계를 건너뛰며
+ * 동시 처리 한도에서 HIGH로 분류되므로 출발지가 shortly.edge-cache.purge.url의 호스트일 때만 purge로 취급.
+ * purge가 꺼져 있으면 헤더를 항상 무시. 호스트 주소는 컨테이너 재시작으로 바뀔 수 있어 resolve-interval마다 다시 조회하며,
+ * 조회는 헤더가 붙은 요청에서만 일어남
+ */
+@Slf4j
+@Component
+public class PurgeRequestVerifier {
+
+    public static final String PURGE_HEADER = "X-Shortly-Purge";
+
+    private final String purgeHost;
+    private final long resolveIntervalNanos;
+
+    private volatile Set<InetAddress> purgeAddresses = Set.of();
+    private volatile long resolvedAt;
+    private volatile boolean resolved;
+
+    public PurgeRequestVerifier(
+        @Value("${shortly.edge-cache.purge.enabled:false}") boolean enabled,
+        @Value("${shortly.edge-cache.purge.url:}") String purgeUrl,
+        @Value("${shortly.edge-cache.purge.resolve-interval:30s}") Duration resolveInterval
+    ) {
+        this.purgeHost = enabled && !purgeUrl.isBlank() ? URI.create(purgeUrl).getHost() : null;
+        this.resolveIntervalNanos = resolveInterval.toNanos();
+    }
+
+    public boolean isPurge(HttpServletRequest request) {
+        if (purgeHost == null || request.getHeader(PURGE_HEADER) == null) {
+            return false;
+        }
+        InetAddress remote = parse(request.getRemoteAddr());
+        if (remote != null && addresses().contains(remote)) {
+            return true;
+        }
+        log.debug("[Edge] purge server가 아닌 출발지의 purge 헤더 무시: remoteAddr={}", request.getRemoteAddr());
+        return false;
+    }
+
+    private Set<InetAddress> addresses() {
+        long now = System.nanoTime();
+        if (!resolved || now - resolvedAt >= resolveIntervalNanos) {
+            synchronized (this) {
+                if (!resolved || now - resolvedAt >= resolveIntervalNanos) {
+                    purgeAddresses = resolve();
+                    resolvedAt = now;
+                    resolved = true;
+                }
+            }
+        }
+        return purgeAddresses;
+    }
+
+    // 조회에 실패하면 이전 주소를 유지 (DNS 일시 장애로 purge가 클릭으로 집계되지 않도록)
+    private Set<InetAddress> resolve() {
+        try {
+            return Set.of(InetAddress.getAllByName(purgeHost));
+        } catch (UnknownHostException e) {
+            log.warn("[Edge] purge server 주소 조회 실패: host={}, error={}", purgeHost, e.getMessage());
+            return purgeAddresses;
+        }
+    }
+
+    // remoteAddr는 IP 문자열이므로 DNS 조회 없이 변환됨
+    private static InetAddress parse(String remoteAddr) {
+        try {
+            return remoteAddr != null ? InetAddress.getByName(remoteAddr) : null;
+        } catch (UnknownHostException e) {
+            return null;
+        }
+    }
+}
@@ -0,0 +1,292 @@
+package com.io.shortly.redirect.infrastructure.event.kafka;
+
+import static com.io.shortly.shared.event.TopicType.URL_CLICKED;
+
+import com.io.shortly.redirect.domain.RedirectEventPublisher;
+import com.io.shortly.shared.event.EventBatch;
+import com.io.shortly.shared.event.EventType;
+import com.io.shortly.shared.event.TopicType;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import com.io.shortly.shared.event.codec.EventBatchKafkaSerializer;
+import com.io.shortly.shared.jfr.ClickPublishEvent;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import com.io.shortly.shared.metrics.PublishMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.common.serialization.StringSerializer;
+import org.apache.kafka.common.utils.Utils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.kafka.core.DefaultKafkaProducerFactory;
+import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.util.backoff.BackOffExecution;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shortly.event.batch.enabled", havingValue = "true")
+public class RedirectEventPublisherKafkaBatchImpl implements RedirectEventPublisher {
+
+    private static final String MAIN_TOPIC = URL_CLICKED.getTopicName();
+    private static final String DLQ_TOPIC = TopicType.URL_CLICKED_DLQ.getTopicName();
+
+    private final DefaultKafkaProducerFactory<String, EventBatch<UrlClickedEvent>> producerFactory;
+    private final KafkaTemplate<String, EventBatch<UrlClickedEvent>> kafkaTemplate;
+    private final ExponentialBackOff producerBackOff;
+    private final HotPathMetrics hotPathMetrics;
+    private final PublishMetrics publishMetrics;
+    private final int maxEvents;
+    private final int maxPending;
+    private final long lingerMillis;
+    private final long partitionRefreshMillis;
+
+    // 파티션별 전송 순서를 유지하기 위해 drain과 send, 파티션 수 조회는 이 스레드에서만 수행
+    private final ScheduledExecutorService flusher = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("click-event-batcher").daemon().factory());
+
+    // 파티션 수를 알기 전(또는 조회 실패 시)에는 파티션 지정 없이 보내는 단일 buffer
+    private volatile PartitionBuffer[] buffers = { new PartitionBuffer(null) };
+    // 파티션 수 변경으로 교체된 buffer. 교체 직전에 add된 이벤트가 남지 않도록 다음 flush 주기에 한 번 더 비움 (flusher 전용)
+    private PartitionBuffer[] retired;
+    // 모든 buffer에 쌓인 이벤트 수. flusher가 send에서 막혀도(broker 장애) 요청 스레드의 적재가 maxPending을 넘지 않도록 제한
+    private final AtomicInteger pending = new AtomicInteger();
+    private final Counter dropped;
+
+    public RedirectEventPublisherKafkaBatchImpl(
+            KafkaProperties kafkaProperties,
+            ExponentialBackOff producerBackOff,
+            HotPathMetrics hotPathMetrics,
+            MeterRegistry meterRegistry,
+            @Value("${shortly.event.batch.max-events:500}") int maxEvents,
+            @Value("${shortly.event.batch.max-pending:100000}") int maxPending,
+            @Value("${shortly.event.batch.linger:20ms}") Duration linger,
+            @Value("${shortly.event.batch.partition-refresh:5m}") Duration partitionRefresh
+    ) {
+        // 기본 KafkaTemplate(단건)은 그대로 두고, envelope 전용 producer를 별도로 구성
+        this.producerFactory = new DefaultKafkaProducerFactory<>(
+                kafkaProperties.buildProducerProperties(null),
+                new StringSerializer(),
+                new EventBatchKafkaSerializer<>());
+        this.kafkaTemplate = new KafkaTemplate<>(producerFactory);
+        this.producerBackOff = producerBackOff;
+        this.hotPathMetrics = hotPathMetrics;
+        this.publishMetrics = hotPathMetrics.publish(MAIN_TOPIC);
+        this.maxEvents = Math.max(1, maxEvents);
+        this.maxPending = Math.max(this.maxEvents, maxPending);
+        this.lingerMillis = Math.max(1L, linger.toMillis());
+        this.partitionRefreshMillis = Math.max(1_000L, partitionRefresh.toMillis());
+
+        Gauge.builder("shortly.event.publish.pending", pending, AtomicInteger::get)
+                .description("Click events buffered for batch publishing")
+                .tag("destination", MAIN_TOPIC)
+                .register(meterRegistry);
+        this.dropped = Counter.builder("shortly.event.publish.dropped")
+                .description("Click events dropped because the batch buffers were full")
+                .tag("destination", MAIN_TOPIC)
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        // 파티션 조회는 broker 장애 시 max.block.ms 동안 막힐 수 있으므로 요청 스레드가 아닌 flusher에서 수행
+        flusher.scheduleWithFixedDelay(this::refreshPartitions, 0, partitionRefreshMillis, TimeUnit.MILLISECONDS);
+        flusher.scheduleAtFixedRate(this::flushAll, lingerMillis, lingerMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        flusher.shutdown();
+        try {
+            flusher.awaitTermination(lingerMillis * 10, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flushAll();
+        kafkaTemplate.flush();
+        producerFactory.destroy();
+    }
+
+    @Override
+    public void publishUrlClicked(UrlClickedEvent event) {
+        ClickPublishEvent enqueue = new ClickPublishEvent();
+        enqueue.begin();
+        // 가득 차면 새 클릭은 버림 (요청 경로를 막거나 메모리를 계속 쓰지 않도록)
+        if (pending.incrementAndGet() > maxPending) {
+            pending.decrementAndGet();
+            dropped.increment();
+            enqueue.complete(ClickPublishEvent.ENQUEUE, event.getShortCode(), maxPending, "DROPPED");
+            return;
+        }
+        PartitionBuffer[] current = buffers;
+        PartitionBuffer buffer = current[partitionOf(event.getShortCode(), current.length)];
+
+        int buffered = buffer.add(event, hotPathMetrics.start());
+        // 가득 찬 buffer의 flush는 한 번만 예약 (flush 전까지 이어지는 add마다 작업을 쌓지 않음)
+        if (buffered >= maxEvents && buffer.markFlushPending()) {
+            flusher.execute(() -> flush(buffer));
+        }
+        enqueue.complete(ClickPublishEvent.ENQUEUE, event.getShortCode(), buffered,
+                buffered >= maxEvents ? "FLUSH" : "QUEUED");
+    }
+
+    // 조회 실패 시 현재 buffer(처음에는 파티션 미지정 단일 buffer)를 유지하고 다음 주기에 다시 시도
+    private void refreshPartitions() {
+        int partitions;
+        try {
+            partitions = kafkaTemplate.partitionsFor(MAIN_TOPIC).size();
+        } catch (Exception e) {
+            log.warn("[Event] 클릭 토픽 파티션 조회 실패, 기존 buffer 유지 - buffers={}, error={}",
+                    buffers.length, e.getMessage());
+            return;
+        }
+        PartitionBuffer[] current = buffers;
+        if (partitions == 0 || (current.length == partitions && current[0].partition != null)) {
+            return;
+        }
+
+        PartitionBuffer[] created = new PartitionBuffer[partitions];
+        for (int i = 0; i < partitions; i++) {
+            created[i] = new PartitionBuffer(i);
+        }
+        buffers = created;
+        flushRetired();
+        retired = current;
+        for (PartitionBuffer buffer : current) {
+            flush(buffer);
+        }
+        log.info("[Event] 클릭 이벤트 배치 파티션 갱신 - partitions={}, maxEvents={}, linger={}ms",
+                partitions, maxEvents, lingerMillis);
+    }
+
+    // 단건 발행과 같은 키 해시(murmur2)를 사용하여 링크별 파티션과 순서를 유지
+    private static int partitionOf(String shortCode, int partitions) {
+        return Utils.toPositive(Utils.murmur2(shortCode.getBytes(StandardCharsets.UTF_8))) % partitions;
+    }
+
+    private void flushAll() {
+        flushRetired();
+        for (PartitionBuffer buffer : buffers) {
+            flush(buffer);
+        }
+    }
+
+    private void flushRetired() {
+        PartitionBuffer[] old = retired;
+        if (old == null) {
+            return;
+        }
+        retired = null;
+        for (PartitionBuffer buffer : old) {
+            flush(buffer);
+        }
+    }
+
+    private void flush(PartitionBuffer buffer) {
+        buffer.clearFlushPending();
+        try {
+            PartitionBuffer.Drained drained = buffer.drain();
+            if (drained == null) {
+                return;
+            }
+
+            List<UrlClickedEvent> events = drained.events();
+            pending.addAndGet(-events.size());
+            publishMetrics.recordQueued(drained.firstEnqueuedAt());
+            for (int from = 0; from < events.size(); from += maxEvents) {
+                List<UrlClickedEvent> chunk = events.subList(from, Math.min(from + maxEvents, events.size()));
+                EventBatch<UrlClickedEvent> batch = EventBatch.of(EventType.URL_CLICKED, chunk);
+                publishMetrics.recordBatch(batch.size());
+                publish(buffer.partition, batch, producerBackOff.start());
+            }
+        } catch (Exception e) {
+            log.error("[Event] 클릭 이벤트 배치 flush 실패 - partition={}", buffer.partition, e);
+        }
+    }
+
+    // partition이 null이면 파티션 수를 알기 전이므로 Kafka partitioner에 맡김
+    private void publish(Integer partition, EventBatch<UrlClickedEvent> batch, BackOffExecution backOff) {
+        ClickPublishEvent send = new ClickPublishEvent();
+        send.begin();
+        long start = hotPathMetrics.start();
+        kafkaTemplate.send(MAIN_TOPIC, partition, null, batch)
+                .whenComplete((result, ex) -> {
+                    if (ex == null) {
+                        send.complete(ClickPublishEvent.SEND, null, batch.size(), "SUCCESS");
+                        publishMetrics.recordSuccess(start);
+                        log.debug("[Event] 클릭 이벤트 배치 발행 성공: partition={}, size={}", partition, batch.size());
+                        return;
+                    }
+
+                    long nextBackOff = backOff.nextBackOff();
+                    send.complete(ClickPublishEvent.SEND, null, batch.size(),
+                            nextBackOff != BackOffExecution.STOP ? "RETRY" : "DEAD_LETTER");
+                    if (nextBackOff != BackOffExecution.STOP) {
+                        publishMetrics.recordRetry(start);
+                        log.warn("[Event] 배치 발행 실패, {}ms 후 재시도 - partition={}, size={}, error={}",
+                                nextBackOff, partition, batch.size(), ex.getMessage());
+                        CompletableFuture.delayedExecutor(nextBackOff, TimeUnit.MILLISECONDS)
+                                .execute(() -> publish(partition, batch, backOff));
+                    } else {
+                        publishMetrics.recordDeadLetter(start);
+                        log.error("[Event] 배치 발행 최종 실패, DLQ 전송 - partition={}, size={}", partition, batch.size());
+                        kafkaTemplate.send(DLQ_TOPIC, batch);
+                    }
+                });
+    }
+
+    private static final class PartitionBuffer {
+
+        private final Integer partition;
+        private final AtomicBoolean flushPending = new AtomicBoolean();
+        private List<UrlClickedEvent> events = new ArrayList<>();
+        private long firstEnqueuedAt;
+
+        private PartitionBuffer(Integer partition) {
+            this.partition = partition;
+        }
+
+        boolean markFlushPending() {
+            return flushPending.compareAndSet(false, true);
+        }
+
+        void clearFlushPending() {
+            flushPending.set(false);
+        }
+
+        synchronized int add(UrlClickedEvent event, long enqueuedAt) {
+            if (events.isEmpty()) {
+                firstEnqueuedAt = enqueuedAt;
+            }
+            events.add(event);
+            return events.size();
+        }
+
+        synchronized Drained drain() {
+            if (events.isEmpty()) {
+                return null;
+            }
+            Drained drained = new Drained(events, firstEnqueuedAt);
+            events = new ArrayList<>();
+            return drained;
+        }
+
+        private record Drained(List<UrlClickedEvent> events, long firstEnqueuedAt) {
+        }
+    }
+}
@@ -5,12 +5,15 @@ import static com.io.shortly.shared.event.TopicType.URL_CLICKED;
 import com.io.shortly.redirect.domain.RedirectEventPublisher;
 import com.io.shortly.shared.event.UrlClickedEvent;
 import com.io.shortly.shared.event.TopicType;
+import com.io.shortly.shared.jfr.ClickPublishEvent;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import com.io.shortly.shared.metrics.PublishMetrics;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.kafka.core.KafkaTemplate;
 import org.springframework.stereotype.Component;
 import org.springframework.util.backoff.BackOffExecution;
@@ -18,7 +21,7 @@ import org.springframework.util.backoff.ExponentialBackOff;
 
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shortly.event.batch.enabled", havingValue = "false", matchIfMissing = true)
 public class RedirectEventPublisherKafkaImpl implements RedirectEventPublisher {
 
     private static final String MAIN_TOPIC = URL_CLICKED.getTopicName();
@@ -27,27 +30,56 @@ public class RedirectEventPublisherKafkaImpl implements RedirectEventPublisher {
 
     private final KafkaTemplate<String, UrlClickedEvent> kafkaTemplate;
     private final ExponentialBackOff producerBackOff;
+    private final HotPathMetrics hotPathMetrics;
+    private final PublishMetrics publishMetrics;
+
+    public RedirectEventPublisherKafkaImpl(
+            KafkaTemplate<String, UrlClickedEvent> kafkaTemplate,
+            ExponentialBackOff producerBackOff,
+            HotPathMetrics hotPathMetrics
+    ) {
+        this.kafkaTemplate = kafkaTemplate;
+        this.producerBackOff = producerBackOff;
+        this.hotPathMetrics = hotPathMetrics;
+        this.publishMetrics = hotPathMetrics.publish(MAIN_TOPIC);
+    }
 
     @Override
     public void publishUrlClicked(UrlClickedEvent event) {
-        CompletableFuture.runAsync(() -> publish(event, producerBackOff.start()), ASYNC_EXECUTOR);
+        ClickPublishEvent enqueue = new ClickPublishEvent();
+        enqueue.begin();
+        long enqueuedAt = hotPathMetrics.start();
+        CompletableFuture.runAsync(() -> {
+            publishMetrics.recordQueued(enqueuedAt);
+            publish(event, producerBackOff.start());
+        }, ASYNC_EXECUTOR);
+        enqueue.complete(ClickPublishEvent.ENQUEUE, event.getShortCode(), 1, "QUEUED");
     }
 
     private void publish(UrlClickedEvent event, BackOffExecution backOff) {
+        ClickPublishEvent send = new ClickPublishEvent();
+        send.begin();
+        long start = hotPathMetrics.start();
         kafkaTemplate.send(MAIN_TOPIC, event.getShortCode(), event)
                 .whenComplete((result, ex) -> {
                     if (ex == null) {
+                        send.complete(ClickPublishEvent.SEND, event.getShortCode(), 1, "SUCCESS");
+                        publishMetrics.recordSuccess(start);
                         log.debug("[Event] 클릭 이벤트 발행 성공: eventId={}", event.getEventId());
                         return;
                     }
 
                     long nextBackOff = backOff.nextBackOff();
+                    send.complete(ClickPublishEvent.SEND, event.getShortCode(), 1,
+                            nextBackOff != BackOffExecution.STOP ? "RETRY" : "DEAD_LETTER");
                     if (nextBackOff != BackOffExecution.STOP) {
+                        publishMetrics.recordRetry(start);
                         log.warn("[Event] 발행 실패, {}ms 후 재시도 - eventId={}, error={}",
                                 nextBackOff, event.getEventId(), ex.getMessage());
                         CompletableFuture.delayedExecutor(nextBackOff, TimeUnit.MILLISECONDS)
                                 .execute(() -> publish(event, backOff));
                     } else {
+                        publishMetrics.recordDeadLetter(start);
                         log.error("[Event] 발행 최종 실패, DLQ 전송 - eventId={}", event.getEventId());
                         kafkaTemplate.send(DLQ_TOPIC, event.getShortCode(), event);
                     }
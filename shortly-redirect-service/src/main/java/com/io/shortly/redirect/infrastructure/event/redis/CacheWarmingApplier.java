@@ -0,0 +1,86 @@
+package com.io.shortly.redirect.infrastructure.event.redis;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RedirectCacheService;
+import com.io.shortly.redirect.infrastructure.edge.EdgeCachePurger;
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+/*
+ * warming 이벤트를 캐시에 반영 (Pub/Sub 리스너와 Streams 컨슈머 공용)
+ *
+ * 캐시 쓰기는 version 가드를 거치므로 같은 이벤트를 다시 적용(재전송, 스트림 replay)해도 결과가 같다.
+ * 변경/비활성화는 캐시 반영 후 edge(nginx) 캐시 항목도 purge (shortly.edge-cache.purge.enabled=true일 때)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CacheWarmingApplier {
+
+    private final RedirectCacheService cacheService;
+    private final HotPathMetrics hotPathMetrics;
+    private final ObjectProvider<EdgeCachePurger> edgeCachePurger;
+
+    // Pub/Sub: L2는 url-service가 발행과 같은 파이프라인으로 한 번 기록하므로 노드마다 자기 L1만 적재
+    // 새 링크의 L1 적재는 admission 정책을 따르고, 변경/비활성화는 항상 반영
+    public void apply(BaseEvent event) {
+        applyLocal(event);
+        purgeEdge(event);
+    }
+
+    // Streams 노드별 group: 자기 L1만 적재. edge purge는 공유 group에서 한 번만 수행
+    public void applyLocal(BaseEvent event) {
+        Redirect redirect = toRedirect(event);
+        if (event instanceof UrlCreatedEvent) {
+            cacheService.warmLocal(redirect);
+        } else {
+            cacheService.putLocal(redirect);
+        }
+        recordApplied(event);
+    }
+
+    // Streams 공유 group: 이벤트마다 한 노드에만 전달되어 L2 적재
+    public void applyShared(BaseEvent event) {
+        cacheService.putShared(toRedirect(event));
+        purgeEdge(event);
+    }
+
+    private Redirect toRedirect(BaseEvent event) {
+        return switch (event) {
+            case UrlCreatedEvent created -> Redirect.create(
+                created.getEventId(),
+                created.getShortCode(),
+                created.getOriginalUrl()
+            ).expiringAt(created.getExpiresAt()).withPolicy(created.getRedirectPolicy());
+            // 삭제 대신 새 version으로 덮어써서 늦게 도착한 이전 version 쓰기를 차단
+            case UrlInvalidatedEvent invalidated -> invalidated.isDisabled()
+                ? Redirect.disabled(invalidated.getShortCode(), invalidated.getVersion())
+                : Redirect.create(invalidated.getShortCode(), invalidated.getOriginalUrl(), invalidated.getVersion())
+                    .expiringAt(invalidated.getExpiresAt())
+                    .withPolicy(invalidated.getRedirectPolicy())
+                    .withRules(invalidated.getRedirectRules());
+            default -> throw new IllegalArgumentException("Unsupported warming event: " + event.getEventType());
+        };
+    }
+
+    // 새 링크는 edge에 캐시된 항목이 없으므로 변경/비활성화만 purge
+    private void purgeEdge(BaseEvent event) {
+        if (event instanceof UrlInvalidatedEvent invalidated) {
+            edgeCachePurger.ifAvailable(purger -> purger.purge(invalidated.getShortCode()));
+        }
+    }
+
+    private void recordApplied(BaseEvent event) {
+        if (event instanceof UrlInvalidatedEvent invalidated) {
+            hotPathMetrics.recordInvalidationLag(invalidated.getTimestamp());
+            log.debug("[Event] 캐시 무효화 적용: shortCode={}, version={}, disabled={}",
+                invalidated.getShortCode(), invalidated.getVersion(), invalidated.isDisabled());
+        }
+    }
+}
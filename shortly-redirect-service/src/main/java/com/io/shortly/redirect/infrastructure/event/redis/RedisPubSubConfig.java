@@ -2,6 +2,7 @@ package com.io.shortly.redirect.infrastructure.event.redis;
 
 import com.io.shortly.shared.event.TopicType;
 import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
@@ -10,12 +11,14 @@ import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 
 @Configuration
 @RequiredArgsConstructor
+@ConditionalOnProperty(name = "shortly.event.warming.transport", havingValue = "pubsub", matchIfMissing = true)
 public class RedisPubSubConfig {
 
     @Bean
     public RedisMessageListenerContainer redisMessageListenerContainer(
             RedisConnectionFactory connectionFactory,
-            UrlCreatedEventListener listener) {
+            UrlCreatedEventListener listener,
+            UrlInvalidatedEventListener invalidatedListener) {
 
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(connectionFactory);
@@ -24,6 +27,10 @@ public class RedisPubSubConfig {
             listener,
             new ChannelTopic(TopicType.URL_CREATED.getTopicName())
         );
+        container.addMessageListener(
+            invalidatedListener,
+            new ChannelTopic(TopicType.URL_INVALIDATED.getTopicName())
+        );
 
         return container;
     }
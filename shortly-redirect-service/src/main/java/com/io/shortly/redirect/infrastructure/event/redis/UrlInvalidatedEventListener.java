@@ -0,0 +1,29 @@
+package com.io.shortly.redirect.infrastructure.event.redis;
+
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.event.codec.EventRedisSerializer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UrlInvalidatedEventListener implements MessageListener {
+
+    private static final EventRedisSerializer<UrlInvalidatedEvent> EVENT_SERIALIZER =
+        new EventRedisSerializer<>(UrlInvalidatedEvent.class);
+
+    private final CacheWarmingApplier warmingApplier;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            warmingApplier.apply(EVENT_SERIALIZER.deserialize(message.getBody()));
+        } catch (Exception e) {
+            log.warn("캐시 무효화 실패: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,361 @@
+package com.io.shortly.redirect.infrastructure.event.redis;
+
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.TopicType;
+import com.io.shortly.shared.event.TopicType.ConsumerGroups;
+import com.io.shortly.shared.event.codec.WarmingStreamCodec;
+import com.io.shortly.shared.metrics.ConsumerBatchMetrics;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.connection.RedisStreamCommands.XClaimOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoConsumers;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroups;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * Redis Streams 기반 캐시 warming 수신
+ *
+ * 같은 스트림을 두 consumer group으로 읽는다.
+ * - 노드별 group (redirect-warming-{node}): 모든 노드가 전체 이벤트를 받아 자기 L1만 채움
+ * - 공유 group (redirect-l2-writer): 항목마다 한 노드에만 전달되어 L2를 한 번만 기록.
+ *   노드가 죽어 ACK되지 않은 항목은 idle 시간이 지나면 다른 노드가 XCLAIM으로 가져가 처리
+ *
+ * 노드별 group은 생성 시점 이후($)만 읽는다. 빈 L1을 채우는 용도이므로 과거 구간을 replay하지 않으며,
+ * 정상 종료 시 XGROUP DESTROY로 지우고, 비정상 종료로 남은 group은 모든 consumer가 staleGroupIdle 이상
+ * 읽지 않으면 다른 노드가 지운다 (노드 이름이 배포마다 바뀌어도 group이 쌓이지 않음).
+ * 공유 group은 한 번만 만들어지며 스트림 처음(0)부터 읽는다.
+ *
+ * 재연결 시에는 자신의 PEL을 먼저 처리한 뒤 마지막 ACK 이후를 이어서 읽는다.
+ * 캐시 쓰기는 version 가드를 거치므로 같은 이벤트를 다시 적용해도 안전하다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shortly.event.warming.transport", havingValue = "stream")
+public class WarmingStreamConsumer {
+
+    private static final String STREAM = TopicType.URL_WARMING_STREAM.getTopicName();
+    private static final byte[] STREAM_KEY = STREAM.getBytes(StandardCharsets.UTF_8);
+    private static final String BUSYGROUP = "BUSYGROUP";
+    private static final long SWEEP_INTERVAL_MILLIS = TimeUnit.MINUTES.toMillis(5);
+
+    private final StringRedisTemplate redisTemplate;
+    private final MeterRegistry meterRegistry;
+    private final HotPathMetrics hotPathMetrics;
+    private final ConsumerBatchMetrics batchMetrics;
+    private final int batchSize;
+    private final Duration block;
+    private final long retryBackoffMillis;
+    private final Duration claimMinIdle;
+    private final long staleGroupIdleMillis;
+
+    private final GroupReader nodeReader;
+    private final List<GroupReader> readers;
+    private final ExecutorService pollers = Executors.newFixedThreadPool(2,
+            Thread.ofPlatform().name("warming-stream-consumer-", 0).daemon().factory());
+
+    private volatile boolean running;
+
+    public WarmingStreamConsumer(
+            StringRedisTemplate redisTemplate,
+            CacheWarmingApplier warmingApplier,
+            MeterRegistry meterRegistry,
+            HotPathMetrics hotPathMetrics,
+            @Value("${shortly.event.warming.stream.node-name:local}") String nodeName,
+            @Value("${shortly.event.warming.stream.batch-size:100}") int batchSize,
+            @Value("${shortly.event.warming.stream.block:1s}") Duration block,
+            @Value("${shortly.event.warming.stream.retry-backoff:1s}") Duration retryBackoff,
+            @Value("${shortly.event.warming.stream.claim-min-idle:30s}") Duration claimMinIdle,
+            @Value("${shortly.event.warming.stream.stale-group-idle:1h}") Duration staleGroupIdle
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.meterRegistry = meterRegistry;
+        this.hotPathMetrics = hotPathMetrics;
+        this.batchMetrics = hotPathMetrics.consumerBatch(STREAM);
+        this.batchSize = Math.max(1, batchSize);
+        this.block = block;
+        this.retryBackoffMillis = Math.max(100L, retryBackoff.toMillis());
+        this.claimMinIdle = claimMinIdle;
+        this.staleGroupIdleMillis = staleGroupIdle.toMillis();
+        this.nodeReader = new GroupReader(ConsumerGroups.REDIRECT_WARMING_PREFIX + nodeName, nodeName,
+                warmingApplier::applyLocal, ReadOffset.latest(), false);
+        this.readers = List.of(
+                nodeReader,
+                new GroupReader(ConsumerGroups.REDIRECT_L2_WRITER, nodeName,
+                        warmingApplier::applyShared, ReadOffset.from("0"), true));
+    }
+
+    @PostConstruct
+    public void start() {
+        running = true;
+        for (GroupReader reader : readers) {
+            reader.registerLagGauge();
+            pollers.execute(reader::run);
+        }
+        log.info("[Event] warming 스트림 수신 시작 - groups={}, batchSize={}, block={}ms",
+                readers.stream().map(reader -> reader.consumer.getGroup()).toList(), batchSize, block.toMillis());
+    }
+
+    @PreDestroy
+    public void stop() {
+        running = false;
+        pollers.shutdownNow();
+        try {
+            pollers.awaitTermination(block.toMillis() + retryBackoffMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        readers.forEach(GroupReader::removeLagGauge);
+        destroyGroup(nodeReader.consumer.getGroup());
+    }
+
+    private void destroyGroup(String group) {
+        try {
+            redisTemplate.execute((RedisCallback<Boolean>) connection ->
+                    connection.streamCommands().xGroupDestroy(STREAM_KEY, group));
+            log.info("[Event] warming consumer group 삭제 - group={}", group);
+        } catch (Exception e) {
+            log.warn("[Event] warming consumer group 삭제 실패 - group={}, error={}", group, e.getMessage());
+        }
+    }
+
+    private final class GroupReader {
+
+        private final org.springframework.data.redis.connection.stream.Consumer consumer;
+        private final Consumer<BaseEvent> handler;
+        private final ReadOffset createOffset;
+        private final boolean claimIdle;
+
+        // 마지막으로 적용한 항목의 발행 시각 기준 지연(ms). 스트림을 따라잡아 대기 중이면 0
+        private final AtomicLong lagMillis = new AtomicLong();
+        private Gauge lagGauge;
+        private long nextClaimAt;
+        private long nextSweepAt;
+
+        private GroupReader(String group, String consumerName, Consumer<BaseEvent> handler,
+                ReadOffset createOffset, boolean claimIdle) {
+            this.consumer = org.springframework.data.redis.connection.stream.Consumer.from(group, consumerName);
+            this.handler = handler;
+            this.createOffset = createOffset;
+            this.claimIdle = claimIdle;
+        }
+
+        private void registerLagGauge() {
+            lagGauge = Gauge.builder("shortly.warming.lag", lagMillis, AtomicLong::get)
+                    .description("Age of the last applied cache warming record")
+                    .baseUnit("milliseconds")
+                    .tag("group", consumer.getGroup())
+                    .register(meterRegistry);
+        }
+
+        private void removeLagGauge() {
+            if (lagGauge != null) {
+                meterRegistry.remove(lagGauge);
+            }
+        }
+
+        private void run() {
+            while (running) {
+                try {
+                    ensureGroup();
+                    drainPending();
+                    while (running) {
+                        claimAbandoned();
+                        sweepStaleGroups();
+                        List<ByteRecord> records = read(ReadOffset.lastConsumed(), true);
+                        if (records.isEmpty()) {
+                            lagMillis.set(0L);
+                            continue;
+                        }
+                        process(records);
+                    }
+                } catch (Exception e) {
+                    if (!running) {
+                        return;
+                    }
+                    // 연결 단절 등: 잠시 후 group 확인부터 다시 시작하여 PEL과 미수신 구간을 이어서 처리
+                    log.warn("[Event] warming 스트림 수신 실패, {}ms 후 재연결 - group={}, error={}",
+                            retryBackoffMillis, consumer.getGroup(), e.getMessage());
+                    if (!sleep(retryBackoffMillis)) {
+                        return;
+                    }
+                }
+            }
+        }
+
+        private void ensureGroup() {
+            try {
+                redisTemplate.execute((RedisCallback<String>) connection -> connection.streamCommands()
+                        .xGroupCreate(STREAM_KEY, consumer.getGroup(), createOffset, true));
+                log.info("[Event] warming consumer group 생성 - group={}", consumer.getGroup());
+            } catch (Exception e) {
+                if (!isBusyGroup(e)) {
+                    throw e;
+                }
+            }
+        }
+
+        // 읽었지만 ACK하지 못한 항목(직전 프로세스가 처리 중 종료 등)을 id 순으로 다시 처리
+        // XREADGROUP에 id(0)를 주면 스트림이 아니라 이 consumer의 PEL만 읽음
+        private void drainPending() {
+            ReadOffset offset = ReadOffset.from("0");
+            while (running) {
+                List<ByteRecord> records = read(offset, false);
+                if (records.isEmpty()) {
+                    return;
+                }
+                process(records);
+                offset = ReadOffset.from(records.getLast().getId().getValue());
+            }
+        }
+
+        // 공유 group 전용: 다른 노드가 받아 놓고 claimMinIdle 동안 ACK하지 않은 항목을 가져옴
+        private void claimAbandoned() {
+            if (!claimIdle || System.currentTimeMillis() < nextClaimAt) {
+                return;
+            }
+            nextClaimAt = System.currentTimeMillis() + claimMinIdle.toMillis();
+
+            PendingMessages pending = redisTemplate.execute((RedisCallback<PendingMessages>) connection ->
+                    connection.streamCommands().xPending(STREAM_KEY, consumer.getGroup(), Range.unbounded(), (long) batchSize));
+            if (pending == null || pending.isEmpty()) {
+                return;
+            }
+
+            RecordId[] idle = pending.stream()
+                    .filter(message -> !message.getConsumerName().equals(consumer.getName()))
+                    .filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(claimMinIdle) >= 0)
+                    .map(PendingMessage::getId)
+                    .toArray(RecordId[]::new);
+            if (idle.length == 0) {
+                return;
+            }
+
+            List<ByteRecord> claimed = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                    connection.streamCommands().xClaim(STREAM_KEY, consumer.getGroup(), consumer.getName(),
+                            XClaimOptions.minIdle(claimMinIdle).ids(idle)));
+            if (claimed != null && !claimed.isEmpty()) {
+                log.info("[Event] 미처리 warming 항목 인수 - group={}, count={}", consumer.getGroup(), claimed.size());
+                process(claimed);
+            }
+        }
+
+        /*
+         * 공유 group 전용: 비정상 종료한 노드가 남긴 노드별 group 정리
+         * 모든 consumer가 staleGroupIdle 이상 읽지 않은 group만 지움. 살아 있는 노드는 block 주기마다 읽으므로 idle이 짧음
+         */
+        private void sweepStaleGroups() {
+            if (!claimIdle || System.currentTimeMillis() < nextSweepAt) {
+                return;
+            }
+            nextSweepAt = System.currentTimeMillis() + SWEEP_INTERVAL_MILLIS;
+
+            XInfoGroups groups = redisTemplate.execute((RedisCallback<XInfoGroups>) connection ->
+                    connection.streamCommands().xInfoGroups(STREAM_KEY));
+            if (groups == null) {
+                return;
+            }
+            groups.forEach(group -> {
+                String name = group.groupName();
+                if (!name.startsWith(ConsumerGroups.REDIRECT_WARMING_PREFIX)
+                        || name.equals(nodeReader.consumer.getGroup())
+                        || !isStale(name)) {
+                    return;
+                }
+                destroyGroup(name);
+            });
+        }
+
+        private boolean isStale(String group) {
+            XInfoConsumers consumers = redisTemplate.execute((RedisCallback<XInfoConsumers>) connection ->
+                    connection.streamCommands().xInfoConsumers(STREAM_KEY, group));
+            if (consumers == null || consumers.isEmpty()) {
+                return false;
+            }
+            return consumers.stream().allMatch(member -> member.idleTimeMs() >= staleGroupIdleMillis);
+        }
+
+        private List<ByteRecord> read(ReadOffset offset, boolean blocking) {
+            StreamReadOptions options = StreamReadOptions.empty().count(batchSize);
+            if (blocking) {
+                options = options.block(block);
+            }
+            StreamReadOptions readOptions = options;
+            List<ByteRecord> records = redisTemplate.execute((RedisCallback<List<ByteRecord>>) connection ->
+                    connection.streamCommands().xReadGroup(consumer, readOptions, StreamOffset.create(STREAM_KEY, offset)));
+            return records != null ? records : List.of();
+        }
+
+        private void process(List<ByteRecord> records) {
+            long start = hotPathMetrics.start();
+            RecordId[] ids = new RecordId[records.size()];
+
+            for (int i = 0; i < records.size(); i++) {
+                ByteRecord record = records.get(i);
+                ids[i] = record.getId();
+                apply(record);
+            }
+
+            // 적용 실패 항목도 ACK: 재시도해도 같은 결과이며, 누락분은 L2/DB 조회로 보정됨
+            redisTemplate.execute((RedisCallback<Long>) connection ->
+                    connection.streamCommands().xAck(STREAM_KEY, consumer.getGroup(), ids));
+
+            batchMetrics.record(records.size(), start);
+            Long publishedAt = records.getLast().getId().getTimestamp();
+            if (publishedAt != null) {
+                lagMillis.set(Math.max(0L, System.currentTimeMillis() - publishedAt));
+            }
+        }
+
+        private void apply(ByteRecord record) {
+            try {
+                handler.accept(WarmingStreamCodec.decode(record.getValue()));
+            } catch (Exception e) {
+                log.warn("[Event] warming 항목 적용 실패 - group={}, recordId={}, error={}",
+                        consumer.getGroup(), record.getId(), e.getMessage());
+            }
+        }
+    }
+
+    private static boolean isBusyGroup(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause.getMessage() != null && cause.getMessage().contains(BUSYGROUP)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
@@ -0,0 +1,152 @@
+package com.io.shortly.redirect.infrastructure.jfr;
+
+import com.io.shortly.shared.jfr.CacheLookupEvent;
+import com.io.shortly.shared.jfr.ClickPublishEvent;
+import com.io.shortly.shared.jfr.IdGenerationEvent;
+import com.io.shortly.shared.jfr.UrlFallbackEvent;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.text.ParseException;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import jdk.jfr.Configuration;
+import jdk.jfr.Recording;
+import jdk.jfr.RecordingState;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.boot.actuate.endpoint.web.WebEndpointResponse;
+import org.springframework.boot.actuate.endpoint.web.annotation.WebEndpoint;
+import org.springframework.core.io.InputStreamResource;
+import org.springframework.core.io.Resource;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+/*
+ * /actuator/jfr - redirect 경로 JFR recording 제어
+ *
+ *   POST   시작 (settings: default | profile, duration: 지정 시 자동 종료). 이미 진행 중이면 현재 상태만 반환
+ *   GET    현재까지 기록된 내용을 .jfr 파일로 다운로드 (recording은 계속 진행)
+ *   DELETE 종료 후 폐기
+ *
+ * shortly.* 이벤트는 기본 비활성화 상태이고 이 recording에서만 켜므로, recording이 없을 때 hot path 비용은 없음.
+ * virtual thread pinning과 락 경합(synchronized, LockSupport.park) 이벤트는 contention-threshold 이상만 stack trace와 함께 기록
+ * dump에 DB/Redis 접속 정보가 담기지 않도록 환경 변수, 시스템 프로퍼티 이벤트는 기록하지 않음
+ * 기본 노출 목록에 없고, 노출해도 loopback 요청만 허용 (ManagementAccessConfig)
+ */
+@Slf4j
+@Component
+@WebEndpoint(id = "jfr")
+public class FlightRecorderEndpoint {
+
+    private static final String RECORDING_NAME = "shortly-redirect";
+
+    private final Duration eventThreshold;
+    private final Duration contentionThreshold;
+    private final Duration maxAge;
+    private final DataSize maxSize;
+
+    private Recording recording;
+
+    public FlightRecorderEndpoint(
+        @Value("${shortly.jfr.event-threshold:0ms}") Duration eventThreshold,
+        @Value("${shortly.jfr.contention-threshold:10ms}") Duration contentionThreshold,
+        @Value("${shortly.jfr.max-age:10m}") Duration maxAge,
+        @Value("${shortly.jfr.max-size:100MB}") DataSize maxSize
+    ) {
+        this.eventThreshold = eventThreshold;
+        this.contentionThreshold = contentionThreshold;
+        this.maxAge = maxAge;
+        this.maxSize = maxSize;
+    }
+
+    @WriteOperation
+    public synchronized Map<String, Object> start(@Nullable String settings, @Nullable Duration duration) {
+        if (recording != null && recording.getState() == RecordingState.RUNNING) {
+            return status();
+        }
+        close();
+
+        Recording created = new Recording(configuration(settings != null ? settings : "default"));
+        created.setName(RECORDING_NAME);
+        created.setToDisk(true);
+        created.setMaxAge(maxAge);
+        created.setMaxSize(maxSize.toBytes());
+        if (duration != null) {
+            created.setDuration(duration);
+        }
+
+        created.enable(CacheLookupEvent.class).withThreshold(eventThreshold);
+        created.enable(UrlFallbackEvent.class).withThreshold(eventThreshold);
+        created.enable(IdGenerationEvent.class).withThreshold(eventThreshold);
+        created.enable(ClickPublishEvent.class).withThreshold(eventThreshold);
+        created.enable("jdk.VirtualThreadPinned").withThreshold(contentionThreshold).withStackTrace();
+        created.enable("jdk.JavaMonitorEnter").withThreshold(contentionThreshold).withStackTrace();
+        created.enable("jdk.ThreadPark").withThreshold(contentionThreshold).withStackTrace();
+        created.disable("jdk.InitialEnvironmentVariable");
+        created.disable("jdk.InitialSystemProperty");
+
+        created.start();
+        recording = created;
+        log.info("[JFR] recording 시작 - settings={}, duration={}, eventThreshold={}",
+            settings, duration, eventThreshold);
+        return status();
+    }
+
+    @ReadOperation(produces = "application/octet-stream")
+    public synchronized WebEndpointResponse<Resource> dump() {
+        if (recording == null) {
+            return new WebEndpointResponse<>(WebEndpointResponse.STATUS_NOT_FOUND);
+        }
+        try {
+            Path file = Files.createTempFile(RECORDING_NAME + "-", ".jfr");
+            recording.dump(file);
+            // 응답 스트림을 닫을 때 임시 파일 삭제
+            return new WebEndpointResponse<>(
+                new InputStreamResource(Files.newInputStream(file, StandardOpenOption.DELETE_ON_CLOSE)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to dump JFR recording", e);
+        }
+    }
+
+    @DeleteOperation
+    public synchronized Map<String, Object> stop() {
+        Map<String, Object> status = status();
+        close();
+        log.info("[JFR] recording 종료");
+        return status;
+    }
+
+    private Map<String, Object> status() {
+        Map<String, Object> status = new LinkedHashMap<>();
+        status.put("name", RECORDING_NAME);
+        status.put("state", recording != null ? recording.getState().name() : "NONE");
+        if (recording != null) {
+            status.put("startTime", recording.getStartTime());
+            status.put("size", recording.getSize());
+        }
+        return status;
+    }
+
+    private void close() {
+        if (recording != null) {
+            recording.close();
+            recording = null;
+        }
+    }
+
+    private static Configuration configuration(String settings) {
+        try {
+            return Configuration.getConfiguration(settings);
+        } catch (IOException | ParseException e) {
+            throw new IllegalArgumentException("Unknown JFR settings: " + settings, e);
+        }
+    }
+}
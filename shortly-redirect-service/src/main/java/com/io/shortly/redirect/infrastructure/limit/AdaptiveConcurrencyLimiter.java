@@ -0,0 +1,163 @@
+package com.io.shortly.redirect.infrastructure.limit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/*
+ * redirect 요청 동시 처리 한도와 부하 차단(load shedding)
+ *
+ * HIGH(L1 hit): 한도까지 처리. LOW(L1 miss): 한도의 lowPriorityShare 까지만 처리해 남은 자리를 L1 hit에 남겨 둠.
+ * 한도를 넘으면 queueTimeout 동안만 자리를 기다리고, 그래도 없으면 REJECTED를 반환해 바로 거절.
+ * 자리가 나면 HIGH 대기자를 먼저 깨움 (LOW는 lowPriorityShare에 막혀 자리를 쓰지 못할 수 있으므로 우선순위별로 대기)
+ * 한도 자체는 GradientConcurrencyLimit이 처리한 요청의 응답 시간으로 조정
+ */
+public class AdaptiveConcurrencyLimiter {
+
+    public static final long REJECTED = Long.MIN_VALUE;
+
+    public enum Priority {
+        HIGH, LOW
+    }
+
+    private final GradientConcurrencyLimit limit;
+    private final double lowPriorityShare;
+    private final long queueTimeoutNanos;
+
+    private final AtomicInteger inflight = new AtomicInteger();
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition highReleased = lock.newCondition();
+    private final Condition lowReleased = lock.newCondition();
+    // lock 안에서만 변경
+    private volatile int highWaiters;
+    private volatile int lowWaiters;
+
+    private final Counter shedHigh;
+    private final Counter shedLow;
+    private final Timer queueTime;
+
+    public AdaptiveConcurrencyLimiter(
+        GradientConcurrencyLimit limit,
+        double lowPriorityShare,
+        Duration queueTimeout,
+        MeterRegistry meterRegistry
+    ) {
+        this.limit = limit;
+        this.lowPriorityShare = Math.clamp(lowPriorityShare, 0.1, 1.0);
+        this.queueTimeoutNanos = Math.max(0, queueTimeout.toNanos());
+        this.shedHigh = shedCounter(meterRegistry, Priority.HIGH);
+        this.shedLow = shedCounter(meterRegistry, Priority.LOW);
+        this.queueTime = Timer.builder("shortly.redirect.limiter.queue")
+            .description("Time redirect requests waited for a concurrency permit (queued requests only)")
+            .publishPercentileHistogram()
+            .register(meterRegistry);
+        Gauge.builder("shortly.redirect.limiter.limit", limit, GradientConcurrencyLimit::limit)
+            .description("Current adaptive concurrency limit of the redirect endpoint")
+            .register(meterRegistry);
+        Gauge.builder("shortly.redirect.limiter.inflight", inflight, AtomicInteger::get)
+            .description("Redirect requests currently being processed")
+            .register(meterRegistry);
+    }
+
+    // 처리 시작 시각(nanoTime)을 반환, 자리가 없으면 REJECTED. 시작 시각은 release에 그대로 넘김
+    public long tryAcquire(Priority priority) {
+        if (tryIncrement(priority)) {
+            return System.nanoTime();
+        }
+        if (queueTimeoutNanos == 0) {
+            return reject(priority);
+        }
+        return awaitPermit(priority);
+    }
+
+    public void release(long startNanos) {
+        inflight.decrementAndGet();
+        limit.recordRtt(System.nanoTime() - startNanos);
+        if (highWaiters > 0 || lowWaiters > 0) {
+            lock.lock();
+            try {
+                if (highWaiters > 0) {
+                    highReleased.signal();
+                } else if (lowWaiters > 0) {
+                    lowReleased.signal();
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    public int inflight() {
+        return inflight.get();
+    }
+
+    private long awaitPermit(Priority priority) {
+        long arrival = System.nanoTime();
+        long deadline = arrival + queueTimeoutNanos;
+        boolean high = priority == Priority.HIGH;
+        Condition released = high ? highReleased : lowReleased;
+        lock.lock();
+        if (high) {
+            highWaiters++;
+        } else {
+            lowWaiters++;
+        }
+        try {
+            while (true) {
+                if (tryIncrement(priority)) {
+                    long admitted = System.nanoTime();
+                    queueTime.record(admitted - arrival, TimeUnit.NANOSECONDS);
+                    return admitted;
+                }
+                long remaining = deadline - System.nanoTime();
+                if (remaining <= 0) {
+                    return reject(priority);
+                }
+                released.awaitNanos(remaining);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return reject(priority);
+        } finally {
+            if (high) {
+                highWaiters--;
+            } else {
+                lowWaiters--;
+            }
+            lock.unlock();
+        }
+    }
+
+    private boolean tryIncrement(Priority priority) {
+        int current = limit.limit();
+        int allowed = priority == Priority.HIGH ? current : Math.max(1, (int) (current * lowPriorityShare));
+        while (true) {
+            int count = inflight.get();
+            if (count >= allowed) {
+                return false;
+            }
+            if (inflight.compareAndSet(count, count + 1)) {
+                limit.recordInflight(count + 1);
+                return true;
+            }
+        }
+    }
+
+    private long reject(Priority priority) {
+        (priority == Priority.HIGH ? shedHigh : shedLow).increment();
+        return REJECTED;
+    }
+
+    private static Counter shedCounter(MeterRegistry meterRegistry, Priority priority) {
+        return Counter.builder("shortly.redirect.limiter.shed")
+            .description("Redirect requests rejected by the concurrency limiter")
+            .tag("priority", priority.name())
+            .register(meterRegistry);
+    }
+}
@@ -0,0 +1,50 @@
+package com.io.shortly.redirect.infrastructure.limit;
+
+import com.io.shortly.redirect.domain.RedirectCacheService;
+import com.io.shortly.redirect.infrastructure.edge.PurgeRequestVerifier;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * virtual thread 환경에서는 Tomcat 스레드 수가 동시 처리 수를 제한하지 않으므로,
+ * 과부하 시 모든 요청이 함께 느려지지 않도록 응답 시간 기반 한도를 넘는 redirect 요청은 바로 거절
+ */
+@Configuration
+@ConditionalOnProperty(name = "shortly.redirect.limiter.enabled", havingValue = "true")
+public class ConcurrencyLimitConfig {
+
+    @Bean
+    public AdaptiveConcurrencyLimiter redirectConcurrencyLimiter(
+        MeterRegistry meterRegistry,
+        @Value("${shortly.redirect.limiter.initial-limit:200}") int initialLimit,
+        @Value("${shortly.redirect.limiter.min-limit:20}") int minLimit,
+        @Value("${shortly.redirect.limiter.max-limit:1000}") int maxLimit,
+        @Value("${shortly.redirect.limiter.window-size:200}") int windowSize,
+        @Value("${shortly.redirect.limiter.long-window:50}") int longWindow,
+        @Value("${shortly.redirect.limiter.tolerance:2.0}") double tolerance,
+        @Value("${shortly.redirect.limiter.smoothing:0.2}") double smoothing,
+        @Value("${shortly.redirect.limiter.low-priority-share:0.8}") double lowPriorityShare,
+        @Value("${shortly.redirect.limiter.queue-timeout:5ms}") Duration queueTimeout
+    ) {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(
+            initialLimit, minLimit, maxLimit, windowSize, longWindow, tolerance, smoothing);
+        return new AdaptiveConcurrencyLimiter(limit, lowPriorityShare, queueTimeout, meterRegistry);
+    }
+
+    @Bean
+    public FilterRegistrationBean<ConcurrencyLimitFilter> concurrencyLimitFilter(
+        AdaptiveConcurrencyLimiter redirectConcurrencyLimiter,
+        RedirectCacheService redirectCacheService,
+        PurgeRequestVerifier purgeRequestVerifier
+    ) {
+        FilterRegistrationBean<ConcurrencyLimitFilter> registration = new FilterRegistrationBean<>(
+            new ConcurrencyLimitFilter(redirectConcurrencyLimiter, redirectCacheService, purgeRequestVerifier));
+        registration.addUrlPatterns("/r/*");
+        return registration;
+    }
+}
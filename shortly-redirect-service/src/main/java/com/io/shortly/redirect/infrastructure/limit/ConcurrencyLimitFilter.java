@@ -0,0 +1,70 @@
+package com.io.shortly.redirect.infrastructure.limit;
+
+import com.io.shortly.redirect.domain.RedirectCacheService;
+import com.io.shortly.redirect.infrastructure.edge.PurgeRequestVerifier;
+import com.io.shortly.redirect.infrastructure.limit.AdaptiveConcurrencyLimiter.Priority;
+import com.io.shortly.shared.api.support.error.RetryPolicy;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * /r/{shortCode} 요청에 동시 처리 한도 적용
+ *
+ * L1에 있는 코드는 loader 없이 바로 응답하므로 HIGH, 그 외(L2/peer/URL Service 조회)는 LOW로 분류.
+ * 거절한 요청은 컨트롤러와 예외 처리기를 거치지 않고 본문 없는 503 + Retry-After로 바로 응답해 차단 비용을 최소화
+ */
+public class ConcurrencyLimitFilter extends OncePerRequestFilter {
+
+    private static final String PREFIX = "/r/";
+
+    private final AdaptiveConcurrencyLimiter limiter;
+    private final RedirectCacheService redirectCacheService;
+    private final PurgeRequestVerifier purgeRequestVerifier;
+
+    public ConcurrencyLimitFilter(
+        AdaptiveConcurrencyLimiter limiter,
+        RedirectCacheService redirectCacheService,
+        PurgeRequestVerifier purgeRequestVerifier
+    ) {
+        this.limiter = limiter;
+        this.redirectCacheService = redirectCacheService;
+        this.purgeRequestVerifier = purgeRequestVerifier;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        long start = limiter.tryAcquire(priority(request));
+        if (start == AdaptiveConcurrencyLimiter.REJECTED) {
+            response.setStatus(HttpStatus.SERVICE_UNAVAILABLE.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, RetryPolicy.IMMEDIATE.getHeaderValue());
+            response.setHeader(HttpHeaders.CACHE_CONTROL, "no-store");
+            return;
+        }
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            limiter.release(start);
+        }
+    }
+
+    private Priority priority(HttpServletRequest request) {
+        // nginx purge 전용 server의 edge 캐시 갱신은 거절하지 않도록 HIGH로 처리
+        if (purgeRequestVerifier.isPurge(request)) {
+            return Priority.HIGH;
+        }
+        String uri = request.getRequestURI();
+        int index = uri.indexOf(PREFIX);
+        if (index < 0 || index + PREFIX.length() >= uri.length()) {
+            return Priority.LOW;
+        }
+        String shortCode = uri.substring(index + PREFIX.length());
+        return redirectCacheService.isCachedLocally(shortCode) ? Priority.HIGH : Priority.LOW;
+    }
+}
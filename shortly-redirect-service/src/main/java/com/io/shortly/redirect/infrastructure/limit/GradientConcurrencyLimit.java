@@ -0,0 +1,99 @@
+package com.io.shortly.redirect.infrastructure.limit;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/*
+ * 응답 시간 기울기(gradient) 기반 동시 처리 한도
+ *
+ * shortRtt: 최근 windowSize 건 응답 시간 평균
+ * longRtt:  shortRtt의 지수 이동 평균 (longWindow 개 window). 부하가 없을 때의 기준 응답 시간
+ * gradient = clamp(tolerance * longRtt / shortRtt, 0.5, 1.0)
+ * newLimit = limit * gradient + sqrt(limit)
+ *
+ * 응답 시간이 기준의 tolerance 배 안이면 gradient가 1이므로 sqrt(limit)만큼 한도를 늘리고,
+ * 그 이상 느려지면 비율만큼 줄임. 결과는 smoothing 비율로 반영하고 minLimit ~ maxLimit로 제한.
+ * window 동안 최대 동시 처리 수가 한도의 절반에 못 미치면 응답 시간이 부하를 반영하지 않으므로 한도를 유지
+ */
+public class GradientConcurrencyLimit {
+
+    private static final double MIN_GRADIENT = 0.5;
+    // 부하가 줄었는데 longRtt가 높은 값에 머물러 있으면 빠르게 따라 내려감
+    private static final double LONG_RTT_DRIFT = 2.0;
+    private static final double LONG_RTT_DECAY = 0.95;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final int windowSize;
+    private final double tolerance;
+    private final double smoothing;
+    private final double longRttAlpha;
+
+    private final LongAdder rttSum = new LongAdder();
+    private final AtomicLong sampled = new AtomicLong();
+    private final AtomicInteger peakInflight = new AtomicInteger();
+    private volatile double limit;
+    private double longRtt;
+
+    public GradientConcurrencyLimit(
+        int initialLimit,
+        int minLimit,
+        int maxLimit,
+        int windowSize,
+        int longWindow,
+        double tolerance,
+        double smoothing
+    ) {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.windowSize = Math.max(1, windowSize);
+        this.tolerance = Math.max(1.0, tolerance);
+        this.smoothing = Math.clamp(smoothing, 0.01, 1.0);
+        this.longRttAlpha = 2.0 / (Math.max(1, longWindow) + 1);
+        this.limit = Math.clamp(initialLimit, this.minLimit, this.maxLimit);
+    }
+
+    public int limit() {
+        return (int) limit;
+    }
+
+    // 요청을 받은 직후의 동시 처리 수
+    public void recordInflight(int inflight) {
+        if (inflight > peakInflight.get()) {
+            peakInflight.accumulateAndGet(inflight, Math::max);
+        }
+    }
+
+    // 처리를 마친 요청의 응답 시간 (대기열에서 기다린 시간 제외)
+    public void recordRtt(long nanos) {
+        rttSum.add(nanos);
+        if (sampled.incrementAndGet() % windowSize == 0) {
+            update();
+        }
+    }
+
+    private synchronized void update() {
+        double shortRtt = Math.max(1.0, rttSum.sumThenReset() / (double) windowSize);
+        int peak = peakInflight.getAndSet(0);
+
+        if (longRtt == 0) {
+            longRtt = shortRtt;
+            return;
+        }
+        longRtt += (shortRtt - longRtt) * longRttAlpha;
+        if (longRtt / shortRtt > LONG_RTT_DRIFT) {
+            longRtt *= LONG_RTT_DECAY;
+        }
+
+        double current = limit;
+        if (peak < current / 2) {
+            return;
+        }
+
+        double gradient = Math.clamp(tolerance * longRtt / shortRtt, MIN_GRADIENT, 1.0);
+        double target = current * gradient + Math.sqrt(current);
+        double smoothed = current * (1 - smoothing) + target * smoothing;
+        limit = Math.clamp(smoothed, minLimit, maxLimit);
+    }
+}
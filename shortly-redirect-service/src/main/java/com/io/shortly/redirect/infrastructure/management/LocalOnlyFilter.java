@@ -0,0 +1,39 @@
+package com.io.shortly.redirect.infrastructure.management;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.net.InetAddress;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+/*
+ * 같은 호스트(컨테이너)에서 보낸 요청만 통과
+ *
+ * actuator는 애플리케이션 포트로 서비스되고 이 포트는 외부에 공개되어 있으므로,
+ * 운영용 endpoint(jfr, edgecache)는 노출하더라도 컨테이너 안에서만 호출할 수 있도록 제한
+ * (예: docker exec shortly-redirect-service curl -X POST localhost:8082/actuator/jfr)
+ */
+public class LocalOnlyFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+        throws ServletException, IOException {
+        if (!isLoopback(request.getRemoteAddr())) {
+            response.setStatus(HttpStatus.FORBIDDEN.value());
+            return;
+        }
+        chain.doFilter(request, response);
+    }
+
+    // remoteAddr는 IP 문자열이므로 DNS 조회 없이 변환됨
+    private static boolean isLoopback(String remoteAddr) {
+        try {
+            return remoteAddr != null && InetAddress.getByName(remoteAddr).isLoopbackAddress();
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,22 @@
+package com.io.shortly.redirect.infrastructure.management;
+
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 운영용 actuator endpoint 접근 제한
+ *
+ * /actuator/jfr는 recording 시작(오버헤드, 디스크 사용)과 dump(환경 변수 등 민감 정보 포함) 권한,
+ * /actuator/edgecache는 edge 캐시 purge 권한이므로 기본 노출 목록에서 빼고, 노출하더라도 loopback 요청만 허용
+ */
+@Configuration
+public class ManagementAccessConfig {
+
+    @Bean
+    public FilterRegistrationBean<LocalOnlyFilter> localOnlyManagementFilter() {
+        FilterRegistrationBean<LocalOnlyFilter> registration = new FilterRegistrationBean<>(new LocalOnlyFilter());
+        registration.addUrlPatterns("/actuator/jfr", "/actuator/jfr/*", "/actuator/edgecache", "/actuator/edgecache/*");
+        return registration;
+    }
+}
@@ -0,0 +1,183 @@
+package com.io.shortly.redirect.infrastructure.sampling;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.io.shortly.redirect.domain.ClickSampler;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/*
+ * 핫 링크 클릭 샘플링
+ *
+ * 링크별로 window 동안의 클릭 수를 세어, 직전 window의 초당 클릭이 thresholdPerSecond를 넘으면
+ * 다음 window에서는 N건 중 1건만 가중치 N으로 발행 (N = 초당 클릭 / threshold 이하의 2의 거듭제곱, 최대 maxRate).
+ * 링크당 발행량은 초당 threshold ~ 2 * threshold 건으로 묶이므로 트래픽이 늘어도 Kafka/DB 비용은 거의 늘지 않음.
+ * 무작위 추출이 아니라 클릭 순번의 N 배수만 발행하므로 가중치 합과 실제 클릭 수의 차이는 window마다 N 미만.
+ *
+ * fixedRates에 있는 링크는 클릭 수와 관계없이 항상 지정한 N으로 샘플링.
+ * 추적 링크 수는 maxTrackedLinks로 제한하며, 밀려난 링크는 다시 샘플링하지 않는 상태(N=1)에서 시작
+ */
+public class AdaptiveClickSampler implements ClickSampler {
+
+    private static final long SECOND_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final long thresholdPerSecond;
+    private final int maxRate;
+    private final long windowNanos;
+    private final Map<String, Integer> fixedRates;
+    private final LongSupplier nanoClock;
+    private final Cache<String, LinkRate> links;
+
+    private final Counter emitted;
+    private final Counter sampledOut;
+    // 직전 window 동안 발행하지 않은 클릭 비율
+    private final AtomicLong shareWindowStart;
+    private volatile double emittedAtWindowStart;
+    private volatile double sampledOutAtWindowStart;
+    private volatile double sampledOutShare;
+
+    public AdaptiveClickSampler(
+        long thresholdPerSecond,
+        int maxRate,
+        Duration window,
+        int maxTrackedLinks,
+        Map<String, Integer> fixedRates,
+        MeterRegistry meterRegistry
+    ) {
+        this(thresholdPerSecond, maxRate, window, maxTrackedLinks, fixedRates, meterRegistry, System::nanoTime);
+    }
+
+    public AdaptiveClickSampler(
+        long thresholdPerSecond,
+        int maxRate,
+        Duration window,
+        int maxTrackedLinks,
+        Map<String, Integer> fixedRates,
+        MeterRegistry meterRegistry,
+        LongSupplier nanoClock
+    ) {
+        this.thresholdPerSecond = Math.max(0, thresholdPerSecond);
+        this.maxRate = Math.max(1, maxRate);
+        this.windowNanos = Math.max(1, window.toNanos());
+        this.fixedRates = Map.copyOf(fixedRates);
+        this.nanoClock = nanoClock;
+        this.links = Caffeine.newBuilder()
+            .maximumSize(Math.max(1, maxTrackedLinks))
+            .expireAfterAccess(window.multipliedBy(10))
+            .build();
+        this.shareWindowStart = new AtomicLong(nanoClock.getAsLong());
+
+        this.emitted = clickCounter(meterRegistry, "emitted");
+        this.sampledOut = clickCounter(meterRegistry, "sampled_out");
+        Gauge.builder("shortly.redirect.click.sampling.share", this, AdaptiveClickSampler::sampledOutShare)
+            .description("Share of clicks not published because of sampling during the last window")
+            .register(meterRegistry);
+        Gauge.builder("shortly.redirect.click.sampling.hot.links", this, AdaptiveClickSampler::sampledLinks)
+            .description("Links whose clicks are currently published 1-in-N with N > 1")
+            .register(meterRegistry);
+    }
+
+    @Override
+    public int sample(String shortCode) {
+        Integer fixedRate = fixedRates.get(shortCode);
+        if (fixedRate == null && thresholdPerSecond == 0) {
+            return UrlClickedEvent.UNSAMPLED;
+        }
+
+        long now = nanoClock.getAsLong();
+        LinkRate link = links.get(shortCode, code -> new LinkRate(now, fixedRate != null ? fixedRate : 1));
+        long sequence = link.sequence.incrementAndGet();
+        if (fixedRate == null) {
+            link.adapt(now, sequence);
+        }
+        int rate = link.rate;
+        rollShareWindow(now);
+
+        if (rate > 1 && sequence % rate != 0) {
+            sampledOut.increment();
+            return DROP;
+        }
+        emitted.increment();
+        return rate;
+    }
+
+    public double sampledOutShare() {
+        return sampledOutShare;
+    }
+
+    public int rateOf(String shortCode) {
+        LinkRate link = links.getIfPresent(shortCode);
+        return link != null ? link.rate : 1;
+    }
+
+    private long sampledLinks() {
+        return links.asMap().values().stream().filter(link -> link.rate > 1).count();
+    }
+
+    private void rollShareWindow(long now) {
+        long start = shareWindowStart.get();
+        if (now - start < windowNanos || !shareWindowStart.compareAndSet(start, now)) {
+            return;
+        }
+        double emittedNow = emitted.count();
+        double sampledOutNow = sampledOut.count();
+        double emittedDelta = emittedNow - emittedAtWindowStart;
+        double sampledOutDelta = sampledOutNow - sampledOutAtWindowStart;
+        double total = emittedDelta + sampledOutDelta;
+        sampledOutShare = total > 0 ? sampledOutDelta / total : 0.0;
+        emittedAtWindowStart = emittedNow;
+        sampledOutAtWindowStart = sampledOutNow;
+    }
+
+    private int rateFor(long perSecond) {
+        if (perSecond <= thresholdPerSecond) {
+            return 1;
+        }
+        long ratio = Math.min(perSecond / thresholdPerSecond, maxRate);
+        return Integer.highestOneBit((int) ratio);
+    }
+
+    private static Counter clickCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("shortly.redirect.click.sampling")
+            .description("Clicks by sampling result (emitted events carry the sample weight)")
+            .tag("result", result)
+            .register(meterRegistry);
+    }
+
+    /*
+     * window 경계를 넘긴 첫 요청만 CAS로 직전 window의 초당 클릭을 계산해 rate를 바꿈.
+     * 클릭 수는 별도로 세지 않고 순번(sequence)의 차이로 구함
+     */
+    private final class LinkRate {
+
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicLong windowStart;
+        private volatile long sequenceAtWindowStart;
+        private volatile int rate;
+
+        private LinkRate(long now, int rate) {
+            this.windowStart = new AtomicLong(now);
+            this.rate = Math.max(1, rate);
+        }
+
+        private void adapt(long now, long sequence) {
+            long start = windowStart.get();
+            long elapsed = now - start;
+            if (elapsed < windowNanos || !windowStart.compareAndSet(start, now)) {
+                return;
+            }
+            // 경계를 넘긴 현재 클릭은 새 window에 포함
+            long clicks = sequence - 1 - sequenceAtWindowStart;
+            sequenceAtWindowStart = sequence - 1;
+            long perSecond = (long) ((double) clicks * SECOND_NANOS / elapsed);
+            rate = rateFor(perSecond);
+        }
+    }
+}
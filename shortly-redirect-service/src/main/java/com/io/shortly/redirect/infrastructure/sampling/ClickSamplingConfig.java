@@ -0,0 +1,62 @@
+package com.io.shortly.redirect.infrastructure.sampling;
+
+import com.io.shortly.redirect.domain.ClickSampler;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/*
+ * 클릭 이벤트 샘플링. 비활성화하면 모든 클릭을 가중치 1로 발행
+ *
+ *   adaptive-threshold  링크당 초당 클릭이 이 값을 넘으면 1/N 샘플링 (0이면 per-link에 있는 링크만 샘플링)
+ *   per-link            항상 고정 비율로 샘플링할 링크 목록 ("shortCode:N")
+ */
+@Configuration
+public class ClickSamplingConfig {
+
+    @Bean
+    public ClickSampler clickSampler(
+        MeterRegistry meterRegistry,
+        @Value("${shortly.event.click-sampling.enabled:false}") boolean enabled,
+        @Value("${shortly.event.click-sampling.adaptive-threshold:1000}") long adaptiveThreshold,
+        @Value("${shortly.event.click-sampling.max-rate:1024}") int maxRate,
+        @Value("${shortly.event.click-sampling.window:1s}") Duration window,
+        @Value("${shortly.event.click-sampling.max-tracked-links:10000}") int maxTrackedLinks,
+        @Value("${shortly.event.click-sampling.per-link:}") List<String> perLink
+    ) {
+        if (!enabled) {
+            return ClickSampler.none();
+        }
+        return new AdaptiveClickSampler(
+            adaptiveThreshold, maxRate, window, maxTrackedLinks, parseFixedRates(perLink), meterRegistry);
+    }
+
+    private static Map<String, Integer> parseFixedRates(List<String> perLink) {
+        Map<String, Integer> rates = new HashMap<>();
+        for (String entry : perLink) {
+            if (entry.isBlank()) {
+                continue;
+            }
+            int separator = entry.lastIndexOf(':');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Click sampling entry must be shortCode:rate - " + entry);
+            }
+            int rate;
+            try {
+                rate = Integer.parseInt(entry.substring(separator + 1).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Click sampling rate must be a number - " + entry, e);
+            }
+            if (rate < 1) {
+                throw new IllegalArgumentException("Click sampling rate must be at least 1 - " + entry);
+            }
+            rates.put(entry.substring(0, separator).trim(), rate);
+        }
+        return rates;
+    }
+}
@@ -8,6 +8,8 @@ import com.io.shortly.shared.api.support.error.RetryPolicy;
 import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
@@ -15,9 +17,23 @@ public abstract class BaseGlobalExceptionHandler {
 
     protected final Logger log = LoggerFactory.getLogger(getClass());
 
-    @org.springframework.beans.factory.annotation.Value("${spring.application.name:unknown-service}")
+    private static final int DEFAULT_LOG_MAX_PER_SECOND = 10;
+    private static final int DEFAULT_LOG_SAMPLE_EVERY = 100;
+
+    @Value("${spring.application.name:unknown-service}")
     private String serviceName;
 
+    private LogRateLimiter clientErrorLog = new LogRateLimiter(DEFAULT_LOG_MAX_PER_SECOND, DEFAULT_LOG_SAMPLE_EVERY);
+    private LogRateLimiter serverErrorLog = new LogRateLimiter(DEFAULT_LOG_MAX_PER_SECOND, DEFAULT_LOG_SAMPLE_EVERY);
+
+    @Autowired
+    public void configureErrorLog(
+            @Value("${shortly.error-log.max-per-second:10}") int maxPerSecond,
+            @Value("${shortly.error-log.sample-every:100}") int sampleEvery) {
+        this.clientErrorLog = new LogRateLimiter(maxPerSecond, sampleEvery);
+        this.serverErrorLog = new LogRateLimiter(maxPerSecond, sampleEvery);
+    }
+
     protected String getServiceName() {
         return serviceName;
     }
@@ -40,11 +56,7 @@ public abstract class BaseGlobalExceptionHandler {
 
     protected ResponseEntity<ErrorResponse> createErrorResponse(Exception ex, ErrorCode errorCode,
             HttpServletRequest request) {
-        if (errorCode.getHttpStatus().is5xxServerError()) {
-            log.error("Internal Server Error", ex);
-        } else {
-            log.warn("Client Error: {}", ex.getMessage());
-        }
+        logError(ex, errorCode);
 
         ErrorResponse response = ErrorResponse.of(
                 errorCode,
@@ -58,6 +70,25 @@ public abstract class BaseGlobalExceptionHandler {
         return builder.body(response);
     }
 
+    // 스캔/장애 폭주 시 로그 I/O가 CPU를 잠식하지 않도록 초당 상한 + 샘플링
+    protected void logError(Exception ex, ErrorCode errorCode) {
+        if (errorCode.getHttpStatus().is5xxServerError()) {
+            long suppressed = serverErrorLog.tryAcquire();
+            if (suppressed != LogRateLimiter.SUPPRESSED) {
+                log.error("Internal Server Error (suppressed={})", suppressed, ex);
+            }
+            return;
+        }
+
+        if (!log.isWarnEnabled()) {
+            return;
+        }
+        long suppressed = clientErrorLog.tryAcquire();
+        if (suppressed != LogRateLimiter.SUPPRESSED) {
+            log.warn("Client Error: {} (suppressed={})", ex.getMessage(), suppressed);
+        }
+    }
+
     private void addRetryHeaderIfNeeded(ResponseEntity.BodyBuilder builder, ErrorCode errorCode) {
         if (errorCode == CommonErrorCode.SERVICE_UNAVAILABLE
                 || errorCode == CommonErrorCode.CIRCUIT_BREAKER_OPEN) {
@@ -0,0 +1,55 @@
+package com.io.shortly.shared.api.support;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+// 초당 maxPerSecond건까지 기록하고, 초과분은 sampleEvery건마다 1건만 샘플링
+public class LogRateLimiter {
+
+    public static final long SUPPRESSED = -1L;
+
+    private static final long WINDOW_NANOS = TimeUnit.SECONDS.toNanos(1);
+
+    private final int maxPerSecond;
+    private final int sampleEvery;
+    private final LongSupplier nanoClock;
+
+    private final AtomicLong windowStart;
+    private final AtomicInteger windowCount = new AtomicInteger();
+    private final LongAdder suppressed = new LongAdder();
+
+    public LogRateLimiter(int maxPerSecond, int sampleEvery) {
+        this(maxPerSecond, sampleEvery, System::nanoTime);
+    }
+
+    public LogRateLimiter(int maxPerSecond, int sampleEvery, LongSupplier nanoClock) {
+        this.maxPerSecond = Math.max(0, maxPerSecond);
+        this.sampleEvery = Math.max(0, sampleEvery);
+        this.nanoClock = nanoClock;
+        this.windowStart = new AtomicLong(nanoClock.getAsLong());
+    }
+
+    // 기록해야 하면 직전 기록 이후 생략된 건수를, 생략해야 하면 SUPPRESSED를 반환
+    public long tryAcquire() {
+        long now = nanoClock.getAsLong();
+        long start = windowStart.get();
+        if (now - start >= WINDOW_NANOS && windowStart.compareAndSet(start, now)) {
+            windowCount.set(0);
+        }
+
+        int count = windowCount.incrementAndGet();
+        if (count <= maxPerSecond || isSampled(count - maxPerSecond)) {
+            return suppressed.sumThenReset();
+        }
+
+        suppressed.increment();
+        return SUPPRESSED;
+    }
+
+    private boolean isSampled(int overflow) {
+        return sampleEvery > 0 && overflow % sampleEvery == 0;
+    }
+}
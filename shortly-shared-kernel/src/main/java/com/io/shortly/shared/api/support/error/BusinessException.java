@@ -2,28 +2,26 @@ package com.io.shortly.shared.api.support.error;
 
 import lombok.Getter;
 
+// 비즈니스 예외는 흐름 제어용이므로 스택 트레이스를 채우지 않음 (원인 예외의 트레이스는 유지)
 @Getter
 public class BusinessException extends RuntimeException {
 
     private final ErrorCode errorCode;
 
     public BusinessException(ErrorCode errorCode) {
-        super(errorCode.getMessage());
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), null);
     }
 
     public BusinessException(ErrorCode errorCode, String message) {
-        super(message);
-        this.errorCode = errorCode;
+        this(errorCode, message, null);
     }
 
     public BusinessException(ErrorCode errorCode, String message, Throwable cause) {
-        super(message, cause);
+        super(message, cause, false, false);
         this.errorCode = errorCode;
     }
 
     public BusinessException(ErrorCode errorCode, Throwable cause) {
-        super(errorCode.getMessage(), cause);
-        this.errorCode = errorCode;
+        this(errorCode, errorCode.getMessage(), cause);
     }
 }
@@ -7,6 +7,9 @@ import lombok.Getter;
 @AllArgsConstructor
 public enum RetryPolicy {
 
+    // 부하 차단(load shedding): 대기열 없이 바로 거절하므로 곧바로 재시도해도 됨
+    IMMEDIATE("1"),
+
     SHORT("60"),
 
     MEDIUM("120"),
@@ -0,0 +1,38 @@
+package com.io.shortly.shared.event;
+
+import java.util.List;
+import java.util.Objects;
+import lombok.Getter;
+
+// 같은 타입의 이벤트 N개를 하나의 Kafka 레코드로 묶는 envelope
+@Getter
+public final class EventBatch<T extends BaseEvent> {
+
+    private final EventType eventType;
+    private final List<T> events;
+
+    private EventBatch(EventType eventType, List<T> events) {
+        this.eventType = Objects.requireNonNull(eventType, "eventType must not be null");
+        this.events = List.copyOf(events);
+
+        for (T event : this.events) {
+            if (event.getEventType() != eventType) {
+                throw new IllegalArgumentException(
+                    "Batch of " + eventType + " cannot contain " + event.getEventType());
+            }
+        }
+    }
+
+    public static <T extends BaseEvent> EventBatch<T> of(EventType eventType, List<T> events) {
+        return new EventBatch<>(eventType, events);
+    }
+
+    // 배치 이전 포맷의 단건 레코드를 같은 경로로 처리하기 위한 래핑
+    public static <T extends BaseEvent> EventBatch<T> single(T event) {
+        return new EventBatch<>(event.getEventType(), List.of(event));
+    }
+
+    public int size() {
+        return events.size();
+    }
+}
@@ -2,5 +2,6 @@ package com.io.shortly.shared.event;
 
 public enum EventType {
     URL_CREATED,
-    URL_CLICKED
+    URL_CLICKED,
+    URL_INVALIDATED
 }
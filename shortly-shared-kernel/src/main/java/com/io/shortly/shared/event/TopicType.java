@@ -10,6 +10,10 @@ public enum TopicType {
     // Main Topics
     URL_CREATED("url-created"),
     URL_CLICKED("url-clicked"),
+    URL_INVALIDATED("url-invalidated"),
+
+    // Redis Streams (생성/변경 이벤트를 하나의 스트림에 순서대로 기록)
+    URL_WARMING_STREAM("url-warming"),
 
     // Dead Letter Queue Topics
     URL_CLICKED_DLQ("url-clicked-dlq");
@@ -22,6 +26,10 @@ public enum TopicType {
 
     public static final class ConsumerGroups {
         public static final String CLICK_SERVICE = "click-service-group";
+        // redirect 노드마다 그룹을 따로 두어 모든 노드가 전체 이벤트를 받음 (접두사 + 노드 이름)
+        public static final String REDIRECT_WARMING_PREFIX = "redirect-warming-";
+        // 모든 redirect 노드가 공유하는 그룹: 항목마다 한 노드에만 전달되어 L2를 한 번만 기록
+        public static final String REDIRECT_L2_WRITER = "redirect-l2-writer";
 
         private ConsumerGroups() {
             throw new AssertionError("Cannot instantiate constants class");
@@ -9,8 +9,12 @@ import lombok.Getter;
 @Getter
 public final class UrlClickedEvent extends BaseEvent {
 
+    public static final int UNSAMPLED = 1;
+
     private final String shortCode;
     private final String originalUrl;
+    // 이 이벤트 1건이 대표하는 클릭 수. 핫 링크 샘플링(1/N 발행) 시 N, 샘플링하지 않으면 1
+    private final int sampleWeight;
 
     public UrlClickedEvent(
         final long eventId,
@@ -20,20 +24,37 @@ public final class UrlClickedEvent extends BaseEvent {
         this(eventId, EventType.URL_CLICKED, null, shortCode, originalUrl);
     }
 
+    public UrlClickedEvent(
+        final long eventId,
+        final EventType eventType,
+        final Instant timestamp,
+        final String shortCode,
+        final String originalUrl
+    ) {
+        this(eventId, eventType, timestamp, shortCode, originalUrl, null);
+    }
+
     @JsonCreator
     public UrlClickedEvent(
         @JsonProperty("eventId") final long eventId,
         @JsonProperty("eventType") final EventType eventType,
         @JsonProperty("timestamp") final Instant timestamp,
         @JsonProperty("shortCode") final String shortCode,
-        @JsonProperty("originalUrl") final String originalUrl
+        @JsonProperty("originalUrl") final String originalUrl,
+        @JsonProperty("sampleWeight") final Integer sampleWeight
     ) {
         super(eventId, eventType, timestamp);
         this.shortCode = Objects.requireNonNull(shortCode, "shortCode must not be null");
         this.originalUrl = Objects.requireNonNull(originalUrl, "originalUrl must not be null");
+        // 필드 추가 이전 이벤트는 null이므로 1건으로 취급
+        this.sampleWeight = sampleWeight == null || sampleWeight < UNSAMPLED ? UNSAMPLED : sampleWeight;
     }
 
     public static UrlClickedEvent of(long eventId, String shortCode, String originalUrl) {
         return new UrlClickedEvent(eventId, shortCode, originalUrl);
     }
+
+    public static UrlClickedEvent of(long eventId, String shortCode, String originalUrl, int sampleWeight) {
+        return new UrlClickedEvent(eventId, EventType.URL_CLICKED, null, shortCode, originalUrl, sampleWeight);
+    }
 }
@@ -2,6 +2,7 @@ package com.io.shortly.shared.event;
 
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.io.shortly.shared.redirect.RedirectPolicy;
 import java.time.Instant;
 import java.util.Objects;
 import lombok.Getter;
@@ -12,6 +13,9 @@ public class UrlCreatedEvent extends BaseEvent {
     private final String shortCode;
     private final String originalUrl;
     private final Instant createdAt;
+    // null이면 만료 없음
+    private final Instant expiresAt;
+    private final RedirectPolicy redirectPolicy;
 
     public UrlCreatedEvent(
         final long eventId,
@@ -19,7 +23,30 @@ public class UrlCreatedEvent extends BaseEvent {
         final String originalUrl,
         final Instant createdAt
     ) {
-        this(eventId, EventType.URL_CREATED, null, shortCode, originalUrl, createdAt);
+        this(eventId, EventType.URL_CREATED, null, shortCode, originalUrl, createdAt, null);
+    }
+
+    public UrlCreatedEvent(
+        final long eventId,
+        final EventType eventType,
+        final Instant timestamp,
+        final String shortCode,
+        final String originalUrl,
+        final Instant createdAt
+    ) {
+        this(eventId, eventType, timestamp, shortCode, originalUrl, createdAt, null);
+    }
+
+    public UrlCreatedEvent(
+        final long eventId,
+        final EventType eventType,
+        final Instant timestamp,
+        final String shortCode,
+        final String originalUrl,
+        final Instant createdAt,
+        final Instant expiresAt
+    ) {
+        this(eventId, eventType, timestamp, shortCode, originalUrl, createdAt, expiresAt, null);
     }
 
     @JsonCreator
@@ -29,15 +56,34 @@ public class UrlCreatedEvent extends BaseEvent {
         @JsonProperty("timestamp") final Instant timestamp,
         @JsonProperty("shortCode") final String shortCode,
         @JsonProperty("originalUrl") final String originalUrl,
-        @JsonProperty("createdAt") final Instant createdAt
+        @JsonProperty("createdAt") final Instant createdAt,
+        @JsonProperty("expiresAt") final Instant expiresAt,
+        @JsonProperty("redirectPolicy") final RedirectPolicy redirectPolicy
     ) {
         super(eventId, eventType, timestamp);
         this.shortCode = Objects.requireNonNull(shortCode, "shortCode must not be null");
         this.originalUrl = Objects.requireNonNull(originalUrl, "originalUrl must not be null");
         this.createdAt = createdAt != null ? createdAt : Instant.now();
+        this.expiresAt = expiresAt;
+        this.redirectPolicy = RedirectPolicy.orDefault(redirectPolicy);
     }
 
     public static UrlCreatedEvent of(long eventId, String shortCode, String originalUrl) {
         return new UrlCreatedEvent(eventId, shortCode, originalUrl, Instant.now());
     }
+
+    public static UrlCreatedEvent of(long eventId, String shortCode, String originalUrl, Instant expiresAt) {
+        return of(eventId, shortCode, originalUrl, expiresAt, null);
+    }
+
+    public static UrlCreatedEvent of(
+        long eventId,
+        String shortCode,
+        String originalUrl,
+        Instant expiresAt,
+        RedirectPolicy redirectPolicy
+    ) {
+        return new UrlCreatedEvent(
+            eventId, EventType.URL_CREATED, null, shortCode, originalUrl, Instant.now(), expiresAt, redirectPolicy);
+    }
 }
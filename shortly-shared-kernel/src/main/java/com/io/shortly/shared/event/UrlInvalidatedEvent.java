@@ -0,0 +1,130 @@
+package com.io.shortly.shared.event;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import java.time.Instant;
+import java.util.Objects;
+import lombok.Getter;
+
+// 링크 변경/비활성화 후의 상태. 캐시는 version이 더 낮은 값으로 덮어쓰지 않음
+@Getter
+public final class UrlInvalidatedEvent extends BaseEvent {
+
+    private final String shortCode;
+    private final String originalUrl;
+    private final long version;
+    private final boolean disabled;
+    // 변경 후에도 링크의 만료 시각과 redirect 정책/규칙을 유지하기 위해 함께 전달 (null이면 만료 없음)
+    private final Instant expiresAt;
+    private final RedirectPolicy redirectPolicy;
+    // RedirectRules 형식의 redirect 규칙. null이면 규칙 없음
+    private final String redirectRules;
+
+    public UrlInvalidatedEvent(
+        final long eventId,
+        final EventType eventType,
+        final Instant timestamp,
+        final String shortCode,
+        final String originalUrl,
+        final long version,
+        final boolean disabled
+    ) {
+        this(eventId, eventType, timestamp, shortCode, originalUrl, version, disabled, null);
+    }
+
+    public UrlInvalidatedEvent(
+        final long eventId,
+        final EventType eventType,
+        final Instant timestamp,
+        final String shortCode,
+        final String originalUrl,
+        final long version,
+        final boolean disabled,
+        final Instant expiresAt
+    ) {
+        this(eventId, eventType, timestamp, shortCode, originalUrl, version, disabled, expiresAt, null);
+    }
+
+    public UrlInvalidatedEvent(
+        final long eventId,
+        final EventType eventType,
+        final Instant timestamp,
+        final String shortCode,
+        final String originalUrl,
+        final long version,
+        final boolean disabled,
+        final Instant expiresAt,
+        final RedirectPolicy redirectPolicy
+    ) {
+        this(eventId, eventType, timestamp, shortCode, originalUrl, version, disabled, expiresAt, redirectPolicy, null);
+    }
+
+    @JsonCreator
+    public UrlInvalidatedEvent(
+        @JsonProperty("eventId") final long eventId,
+        @JsonProperty("eventType") final EventType eventType,
+        @JsonProperty("timestamp") final Instant timestamp,
+        @JsonProperty("shortCode") final String shortCode,
+        @JsonProperty("originalUrl") final String originalUrl,
+        @JsonProperty("version") final long version,
+        @JsonProperty("disabled") final boolean disabled,
+        @JsonProperty("expiresAt") final Instant expiresAt,
+        @JsonProperty("redirectPolicy") final RedirectPolicy redirectPolicy,
+        @JsonProperty("redirectRules") final String redirectRules
+    ) {
+        super(eventId, eventType, timestamp);
+        this.shortCode = Objects.requireNonNull(shortCode, "shortCode must not be null");
+        if (!disabled) {
+            Objects.requireNonNull(originalUrl, "originalUrl must not be null");
+        }
+        this.originalUrl = disabled ? null : originalUrl;
+        this.version = version;
+        this.disabled = disabled;
+        this.expiresAt = disabled ? null : expiresAt;
+        this.redirectPolicy = RedirectPolicy.orDefault(redirectPolicy);
+        this.redirectRules = disabled ? null : redirectRules;
+    }
+
+    public static UrlInvalidatedEvent updated(long eventId, String shortCode, String originalUrl, long version) {
+        return updated(eventId, shortCode, originalUrl, version, null);
+    }
+
+    public static UrlInvalidatedEvent updated(
+        long eventId,
+        String shortCode,
+        String originalUrl,
+        long version,
+        Instant expiresAt
+    ) {
+        return updated(eventId, shortCode, originalUrl, version, expiresAt, null);
+    }
+
+    public static UrlInvalidatedEvent updated(
+        long eventId,
+        String shortCode,
+        String originalUrl,
+        long version,
+        Instant expiresAt,
+        RedirectPolicy redirectPolicy
+    ) {
+        return updated(eventId, shortCode, originalUrl, version, expiresAt, redirectPolicy, null);
+    }
+
+    public static UrlInvalidatedEvent updated(
+        long eventId,
+        String shortCode,
+        String originalUrl,
+        long version,
+        Instant expiresAt,
+        RedirectPolicy redirectPolicy,
+        String redirectRules
+    ) {
+        return new UrlInvalidatedEvent(eventId, EventType.URL_INVALIDATED, null, shortCode, originalUrl, version, false,
+            expiresAt, redirectPolicy, redirectRules);
+    }
+
+    public static UrlInvalidatedEvent disabled(long eventId, String shortCode, long version) {
+        return new UrlInvalidatedEvent(eventId, EventType.URL_INVALIDATED, null, shortCode, null, version, true);
+    }
+}
@@ -0,0 +1,313 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.EventType;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import lombok.experimental.UtilityClass;
+
+/*
+ * Layout (big-endian)
+ *
+ *   [0]      magic (0xB1)          JSON('{')과 구분하기 위한 식별 바이트
+ *   [1]      schema version
+ *   [2]      event type code
+ *   [3..10]  eventId
+ *   [11..22] timestamp (epochSecond:int64, nano:int32)
+ *   [23..]   body - 모든 이벤트의 첫 필드는 shortCode (u16 length + UTF-8)
+ *
+ * 새 버전은 body 끝에만 필드를 추가하고, 디코더는 알지 못하는 trailing 바이트를 무시한다.
+ */
+@UtilityClass
+public class BinaryEventCodec {
+
+    public static final byte MAGIC = (byte) 0xB1;
+    public static final byte CURRENT_VERSION = 1;
+
+    private static final byte TYPE_URL_CREATED = 1;
+    private static final byte TYPE_URL_CLICKED = 2;
+    private static final byte TYPE_URL_INVALIDATED = 3;
+
+    private static final byte POLICY_TRACKED = 0;
+    private static final byte POLICY_CACHED = 1;
+    private static final byte POLICY_PERMANENT = 2;
+
+    private static final int VERSION_OFFSET = 1;
+    private static final int TYPE_OFFSET = 2;
+    private static final int EVENT_ID_OFFSET = 3;
+    private static final int HEADER_LENGTH = 23;
+    private static final int INSTANT_LENGTH = 12;
+    private static final int STRING_LENGTH_PREFIX = 2;
+    private static final int MAX_STRING_BYTES = 0xFFFF;
+
+    public boolean isBinary(byte[] data) {
+        return data != null && data.length >= HEADER_LENGTH && data[0] == MAGIC;
+    }
+
+    public byte[] encode(BaseEvent event) {
+        return switch (event) {
+            case UrlClickedEvent clicked -> encodeClicked(clicked);
+            case UrlCreatedEvent created -> encodeCreated(created);
+            case UrlInvalidatedEvent invalidated -> encodeInvalidated(invalidated);
+            default -> throw new IllegalArgumentException("Unsupported event type: " + event.getClass().getName());
+        };
+    }
+
+    public BaseEvent decode(byte[] data) {
+        ByteBuffer buffer = verifiedBuffer(data);
+        buffer.position(TYPE_OFFSET);
+
+        byte type = buffer.get();
+        long eventId = buffer.getLong();
+        Instant timestamp = getInstant(buffer);
+
+        return switch (type) {
+            case TYPE_URL_CLICKED -> new UrlClickedEvent(
+                eventId,
+                EventType.URL_CLICKED,
+                timestamp,
+                getString(buffer),
+                getString(buffer),
+                getOptionalSampleWeight(buffer)
+            );
+            case TYPE_URL_CREATED -> new UrlCreatedEvent(
+                eventId,
+                EventType.URL_CREATED,
+                timestamp,
+                getString(buffer),
+                getString(buffer),
+                getInstant(buffer),
+                getOptionalInstant(buffer),
+                getOptionalPolicy(buffer)
+            );
+            case TYPE_URL_INVALIDATED -> decodeInvalidated(eventId, timestamp, buffer);
+            default -> throw new IllegalArgumentException("Unknown event type code: " + type);
+        };
+    }
+
+    // 부분 디코딩: body를 파싱하지 않고 고정 오프셋의 헤더만 읽음
+    public EventHeader decodeHeader(byte[] data) {
+        ByteBuffer buffer = verifiedBuffer(data);
+        buffer.position(TYPE_OFFSET);
+
+        EventType eventType = toEventType(buffer.get());
+        long eventId = buffer.getLong();
+        Instant timestamp = getInstant(buffer);
+
+        return new EventHeader(data[VERSION_OFFSET], eventType, eventId, timestamp);
+    }
+
+    public long readEventId(byte[] data) {
+        return verifiedBuffer(data).getLong(EVENT_ID_OFFSET);
+    }
+
+    public String readShortCode(byte[] data) {
+        ByteBuffer buffer = verifiedBuffer(data);
+        buffer.position(HEADER_LENGTH);
+        return getString(buffer);
+    }
+
+    // body: shortCode, originalUrl, sampleWeight(i32)
+    private byte[] encodeClicked(UrlClickedEvent event) {
+        byte[] shortCode = utf8(event.getShortCode());
+        byte[] originalUrl = utf8(event.getOriginalUrl());
+
+        ByteBuffer buffer = header(TYPE_URL_CLICKED, event,
+            STRING_LENGTH_PREFIX + shortCode.length + STRING_LENGTH_PREFIX + originalUrl.length + Integer.BYTES);
+        putString(buffer, shortCode);
+        putString(buffer, originalUrl);
+        buffer.putInt(event.getSampleWeight());
+
+        return buffer.array();
+    }
+
+    // body: shortCode, originalUrl, createdAt, expiresAt(선택), redirectPolicy(u8)
+    private byte[] encodeCreated(UrlCreatedEvent event) {
+        byte[] shortCode = utf8(event.getShortCode());
+        byte[] originalUrl = utf8(event.getOriginalUrl());
+
+        ByteBuffer buffer = header(TYPE_URL_CREATED, event,
+            STRING_LENGTH_PREFIX + shortCode.length + STRING_LENGTH_PREFIX + originalUrl.length + INSTANT_LENGTH
+                + optionalInstantLength(event.getExpiresAt()) + 1);
+        putString(buffer, shortCode);
+        putString(buffer, originalUrl);
+        putInstant(buffer, event.getCreatedAt());
+        putOptionalInstant(buffer, event.getExpiresAt());
+        buffer.put(policyCode(event.getRedirectPolicy()));
+
+        return buffer.array();
+    }
+
+    // body: shortCode, version(int64), disabled(u8), originalUrl (비활성화 시 길이 0), expiresAt(선택), redirectPolicy(u8),
+    //       redirectRules (규칙 없으면 길이 0)
+    private byte[] encodeInvalidated(UrlInvalidatedEvent event) {
+        byte[] shortCode = utf8(event.getShortCode());
+        byte[] originalUrl = event.getOriginalUrl() != null ? utf8(event.getOriginalUrl()) : new byte[0];
+        byte[] redirectRules = event.getRedirectRules() != null ? utf8(event.getRedirectRules()) : new byte[0];
+
+        ByteBuffer buffer = header(TYPE_URL_INVALIDATED, event,
+            STRING_LENGTH_PREFIX + shortCode.length + Long.BYTES + 1 + STRING_LENGTH_PREFIX + originalUrl.length
+                + optionalInstantLength(event.getExpiresAt()) + 1 + STRING_LENGTH_PREFIX + redirectRules.length);
+        putString(buffer, shortCode);
+        buffer.putLong(event.getVersion());
+        buffer.put((byte) (event.isDisabled() ? 1 : 0));
+        putString(buffer, originalUrl);
+        putOptionalInstant(buffer, event.getExpiresAt());
+        buffer.put(policyCode(event.getRedirectPolicy()));
+        putString(buffer, redirectRules);
+
+        return buffer.array();
+    }
+
+    private UrlInvalidatedEvent decodeInvalidated(long eventId, Instant timestamp, ByteBuffer buffer) {
+        String shortCode = getString(buffer);
+        long version = buffer.getLong();
+        boolean disabled = buffer.get() != 0;
+        String originalUrl = getString(buffer);
+        Instant expiresAt = getOptionalInstant(buffer);
+        RedirectPolicy redirectPolicy = getOptionalPolicy(buffer);
+        String redirectRules = getOptionalString(buffer);
+
+        return new UrlInvalidatedEvent(
+            eventId,
+            EventType.URL_INVALIDATED,
+            timestamp,
+            shortCode,
+            disabled ? null : originalUrl,
+            version,
+            disabled,
+            expiresAt,
+            redirectPolicy,
+            redirectRules
+        );
+    }
+
+    private ByteBuffer header(byte type, BaseEvent event, int bodyLength) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + bodyLength);
+        buffer.put(MAGIC)
+            .put(CURRENT_VERSION)
+            .put(type)
+            .putLong(event.getEventId());
+        putInstant(buffer, event.getTimestamp());
+        return buffer;
+    }
+
+    private ByteBuffer verifiedBuffer(byte[] data) {
+        if (!isBinary(data)) {
+            throw new IllegalArgumentException("Not a binary encoded event");
+        }
+        byte version = data[VERSION_OFFSET];
+        if (version < 1 || version > CURRENT_VERSION) {
+            throw new IllegalArgumentException("Unsupported schema version: " + version);
+        }
+        return ByteBuffer.wrap(data);
+    }
+
+    byte typeCode(EventType eventType) {
+        return switch (eventType) {
+            case URL_CLICKED -> TYPE_URL_CLICKED;
+            case URL_CREATED -> TYPE_URL_CREATED;
+            case URL_INVALIDATED -> TYPE_URL_INVALIDATED;
+        };
+    }
+
+    EventType toEventType(byte type) {
+        return switch (type) {
+            case TYPE_URL_CLICKED -> EventType.URL_CLICKED;
+            case TYPE_URL_CREATED -> EventType.URL_CREATED;
+            case TYPE_URL_INVALIDATED -> EventType.URL_INVALIDATED;
+            default -> throw new IllegalArgumentException("Unknown event type code: " + type);
+        };
+    }
+
+    private byte policyCode(RedirectPolicy policy) {
+        return switch (policy) {
+            case TRACKED -> POLICY_TRACKED;
+            case CACHED -> POLICY_CACHED;
+            case PERMANENT -> POLICY_PERMANENT;
+        };
+    }
+
+    // 필드 추가 이전 페이로드는 남은 바이트가 없으므로 null(기본 정책)로 읽음
+    private RedirectPolicy getOptionalPolicy(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        byte code = buffer.get();
+        return switch (code) {
+            case POLICY_TRACKED -> RedirectPolicy.TRACKED;
+            case POLICY_CACHED -> RedirectPolicy.CACHED;
+            case POLICY_PERMANENT -> RedirectPolicy.PERMANENT;
+            default -> throw new IllegalArgumentException("Unknown redirect policy code: " + code);
+        };
+    }
+
+    // 필드 추가 이전 페이로드는 남은 바이트가 없으므로 null(샘플링하지 않은 1건)로 읽음
+    private Integer getOptionalSampleWeight(ByteBuffer buffer) {
+        return buffer.remaining() >= Integer.BYTES ? buffer.getInt() : null;
+    }
+
+    private byte[] utf8(String value) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > MAX_STRING_BYTES) {
+            throw new IllegalArgumentException("String field exceeds " + MAX_STRING_BYTES + " bytes");
+        }
+        return bytes;
+    }
+
+    private void putString(ByteBuffer buffer, byte[] bytes) {
+        buffer.putShort((short) bytes.length);
+        buffer.put(bytes);
+    }
+
+    private String getString(ByteBuffer buffer) {
+        int length = Short.toUnsignedInt(buffer.getShort());
+        String value = new String(buffer.array(), buffer.position(), length, StandardCharsets.UTF_8);
+        buffer.position(buffer.position() + length);
+        return value;
+    }
+
+    // 필드 추가 이전 페이로드(남은 바이트 없음)와 빈 문자열은 null로 읽음
+    private String getOptionalString(ByteBuffer buffer) {
+        if (!buffer.hasRemaining()) {
+            return null;
+        }
+        String value = getString(buffer);
+        return value.isEmpty() ? null : value;
+    }
+
+    private void putInstant(ByteBuffer buffer, Instant instant) {
+        buffer.putLong(instant.getEpochSecond());
+        buffer.putInt(instant.getNano());
+    }
+
+    private Instant getInstant(ByteBuffer buffer) {
+        long epochSecond = buffer.getLong();
+        int nano = buffer.getInt();
+        return Instant.ofEpochSecond(epochSecond, nano);
+    }
+
+    // 선택 필드: present(u8) + instant. 필드 추가 이전 페이로드는 남은 바이트가 없으므로 null로 읽음
+    private int optionalInstantLength(Instant instant) {
+        return 1 + (instant != null ? INSTANT_LENGTH : 0);
+    }
+
+    private void putOptionalInstant(ByteBuffer buffer, Instant instant) {
+        buffer.put((byte) (instant != null ? 1 : 0));
+        if (instant != null) {
+            putInstant(buffer, instant);
+        }
+    }
+
+    private Instant getOptionalInstant(ByteBuffer buffer) {
+        if (!buffer.hasRemaining() || buffer.get() == 0) {
+            return null;
+        }
+        return getInstant(buffer);
+    }
+}
@@ -0,0 +1,156 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.EventBatch;
+import com.io.shortly.shared.event.EventType;
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import lombok.experimental.UtilityClass;
+
+/*
+ * Layout (big-endian)
+ *
+ *   [0]      magic (0xB2)          단건 바이너리(0xB1), JSON('{')과 구분
+ *   [1]      schema version
+ *   [2]      event type code       배치 내 모든 이벤트가 공유하는 타입
+ *   [3]      compression           0 = none, 1 = deflate
+ *   [4..7]   event count
+ *   [8..11]  uncompressed body length
+ *   [12..]   body - { u32 length, BinaryEventCodec payload } * count
+ *
+ * 작은 배치는 압축 이득보다 비용이 커서 COMPRESSION_THRESHOLD 이상일 때만 압축한다.
+ */
+@UtilityClass
+public class EventBatchCodec {
+
+    public static final byte MAGIC = (byte) 0xB2;
+    public static final byte CURRENT_VERSION = 1;
+
+    private static final byte COMPRESSION_NONE = 0;
+    private static final byte COMPRESSION_DEFLATE = 1;
+
+    private static final int HEADER_LENGTH = 12;
+    private static final int LENGTH_PREFIX = 4;
+    private static final int COMPRESSION_THRESHOLD = 512;
+
+    public boolean isBatch(byte[] data) {
+        return data != null && data.length >= HEADER_LENGTH && data[0] == MAGIC;
+    }
+
+    public byte[] encode(EventBatch<? extends BaseEvent> batch) {
+        List<byte[]> payloads = new ArrayList<>(batch.size());
+        int bodyLength = 0;
+        for (BaseEvent event : batch.getEvents()) {
+            byte[] payload = BinaryEventCodec.encode(event);
+            payloads.add(payload);
+            bodyLength += LENGTH_PREFIX + payload.length;
+        }
+
+        ByteBuffer body = ByteBuffer.allocate(bodyLength);
+        for (byte[] payload : payloads) {
+            body.putInt(payload.length);
+            body.put(payload);
+        }
+
+        boolean compress = bodyLength >= COMPRESSION_THRESHOLD;
+        byte[] encodedBody = compress ? deflate(body.array()) : body.array();
+
+        return ByteBuffer.allocate(HEADER_LENGTH + encodedBody.length)
+            .put(MAGIC)
+            .put(CURRENT_VERSION)
+            .put(BinaryEventCodec.typeCode(batch.getEventType()))
+            .put(compress ? COMPRESSION_DEFLATE : COMPRESSION_NONE)
+            .putInt(batch.size())
+            .putInt(bodyLength)
+            .put(encodedBody)
+            .array();
+    }
+
+    public <T extends BaseEvent> EventBatch<T> decode(byte[] data, Class<T> type) {
+        if (!isBatch(data)) {
+            throw new IllegalArgumentException("Not a batch encoded event envelope");
+        }
+
+        ByteBuffer header = ByteBuffer.wrap(data, 0, HEADER_LENGTH);
+        header.position(1);
+        byte version = header.get();
+        if (version < 1 || version > CURRENT_VERSION) {
+            throw new IllegalArgumentException("Unsupported batch schema version: " + version);
+        }
+
+        EventType eventType = BinaryEventCodec.toEventType(header.get());
+        byte compression = header.get();
+        int count = header.getInt();
+        int bodyLength = header.getInt();
+
+        byte[] body = switch (compression) {
+            case COMPRESSION_NONE -> Arrays.copyOfRange(data, HEADER_LENGTH, HEADER_LENGTH + bodyLength);
+            case COMPRESSION_DEFLATE -> inflate(data, HEADER_LENGTH, bodyLength);
+            default -> throw new IllegalArgumentException("Unknown compression: " + compression);
+        };
+
+        ByteBuffer buffer = ByteBuffer.wrap(body);
+        List<T> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            byte[] payload = new byte[buffer.getInt()];
+            buffer.get(payload);
+
+            BaseEvent event = BinaryEventCodec.decode(payload);
+            if (!type.isInstance(event)) {
+                throw new IllegalArgumentException(
+                    "Expected " + type.getSimpleName() + " but decoded " + event.getClass().getSimpleName());
+            }
+            events.add(type.cast(event));
+        }
+
+        return EventBatch.of(eventType, events);
+    }
+
+    private byte[] deflate(byte[] body) {
+        Deflater deflater = new Deflater(Deflater.BEST_SPEED, true);
+        try {
+            deflater.setInput(body);
+            deflater.finish();
+
+            ByteArrayOutputStream out = new ByteArrayOutputStream(body.length / 2);
+            byte[] chunk = new byte[4096];
+            while (!deflater.finished()) {
+                int written = deflater.deflate(chunk);
+                out.write(chunk, 0, written);
+            }
+            return out.toByteArray();
+        } finally {
+            deflater.end();
+        }
+    }
+
+    private byte[] inflate(byte[] data, int offset, int bodyLength) {
+        Inflater inflater = new Inflater(true);
+        try {
+            inflater.setInput(data, offset, data.length - offset);
+            byte[] body = new byte[bodyLength];
+            int read = 0;
+            while (read < bodyLength) {
+                int inflated = inflater.inflate(body, read, bodyLength - read);
+                if (inflated == 0 && (inflater.finished() || inflater.needsInput())) {
+                    break;
+                }
+                read += inflated;
+            }
+            if (read != bodyLength) {
+                throw new IllegalArgumentException("Truncated batch body: expected " + bodyLength + " but was " + read);
+            }
+            return body;
+        } catch (DataFormatException e) {
+            throw new IllegalArgumentException("Corrupted batch body", e);
+        } finally {
+            inflater.end();
+        }
+    }
+}
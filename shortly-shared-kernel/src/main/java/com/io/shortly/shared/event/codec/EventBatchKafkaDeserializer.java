@@ -0,0 +1,54 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.EventBatch;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.util.ClassUtils;
+
+// 배치 envelope과 단건 레코드(바이너리/JSON)를 모두 EventBatch로 수신
+public class EventBatchKafkaDeserializer<T extends BaseEvent> implements Deserializer<EventBatch<T>> {
+
+    private Class<T> targetType;
+
+    public EventBatchKafkaDeserializer() {
+    }
+
+    public EventBatchKafkaDeserializer(Class<T> targetType) {
+        this.targetType = targetType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (targetType != null) {
+            return;
+        }
+
+        Object configured = configs.get(EventKafkaDeserializer.VALUE_TYPE_CONFIG);
+        if (configured instanceof Class<?> type) {
+            this.targetType = (Class<T>) type;
+        } else if (configured != null) {
+            this.targetType = (Class<T>) ClassUtils.resolveClassName(configured.toString(), getClass().getClassLoader());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public EventBatch<T> deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        Class<T> type = targetType != null ? targetType : (Class<T>) BaseEvent.class;
+        try {
+            if (EventBatchCodec.isBatch(data)) {
+                return EventBatchCodec.decode(data, type);
+            }
+            return EventBatch.single(EventCodecFormat.decode(data, type));
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to deserialize event batch from topic " + topic, e);
+        }
+    }
+}
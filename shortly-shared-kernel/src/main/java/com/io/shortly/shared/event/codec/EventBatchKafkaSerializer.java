@@ -0,0 +1,22 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.EventBatch;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class EventBatchKafkaSerializer<T extends BaseEvent> implements Serializer<EventBatch<T>> {
+
+    @Override
+    public byte[] serialize(String topic, EventBatch<T> data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return EventBatchCodec.encode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to serialize event batch for topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import java.util.Locale;
+
+public enum EventCodecFormat {
+
+    BINARY {
+        @Override
+        public byte[] encode(BaseEvent event) {
+            return BinaryEventCodec.encode(event);
+        }
+    },
+
+    JSON {
+        @Override
+        public byte[] encode(BaseEvent event) {
+            return JsonEventCodec.encode(event);
+        }
+    };
+
+    public abstract byte[] encode(BaseEvent event);
+
+    // 마이그레이션 기간 동안 바이너리/JSON 모두 수신 가능하도록 첫 바이트로 포맷 판별
+    public static <T extends BaseEvent> T decode(byte[] data, Class<T> type) {
+        if (!BinaryEventCodec.isBinary(data)) {
+            return JsonEventCodec.decode(data, type);
+        }
+
+        BaseEvent event = BinaryEventCodec.decode(data);
+        if (!type.isInstance(event)) {
+            throw new IllegalArgumentException(
+                "Expected " + type.getSimpleName() + " but decoded " + event.getClass().getSimpleName());
+        }
+        return type.cast(event);
+    }
+
+    // 기본값은 JSON. 모든 consumer가 바이너리를 읽을 수 있게 배포된 뒤에 binary로 전환
+    public static EventCodecFormat from(String value) {
+        if (value == null || value.isBlank()) {
+            return JSON;
+        }
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
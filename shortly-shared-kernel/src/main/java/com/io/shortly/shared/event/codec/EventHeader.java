@@ -0,0 +1,12 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.EventType;
+import java.time.Instant;
+
+public record EventHeader(
+    int schemaVersion,
+    EventType eventType,
+    long eventId,
+    Instant timestamp
+) {
+}
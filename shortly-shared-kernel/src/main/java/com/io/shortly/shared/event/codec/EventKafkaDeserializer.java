@@ -0,0 +1,52 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Deserializer;
+import org.springframework.util.ClassUtils;
+
+public class EventKafkaDeserializer<T extends BaseEvent> implements Deserializer<T> {
+
+    // JSON fallback 대상 타입은 기존 JsonDeserializer 설정 키를 그대로 사용
+    public static final String VALUE_TYPE_CONFIG = "spring.json.value.default.type";
+
+    private Class<T> targetType;
+
+    public EventKafkaDeserializer() {
+    }
+
+    public EventKafkaDeserializer(Class<T> targetType) {
+        this.targetType = targetType;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        if (targetType != null) {
+            return;
+        }
+
+        Object configured = configs.get(VALUE_TYPE_CONFIG);
+        if (configured instanceof Class<?> type) {
+            this.targetType = (Class<T>) type;
+        } else if (configured != null) {
+            this.targetType = (Class<T>) ClassUtils.resolveClassName(configured.toString(), getClass().getClassLoader());
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public T deserialize(String topic, byte[] data) {
+        if (data == null) {
+            return null;
+        }
+
+        Class<T> type = targetType != null ? targetType : (Class<T>) BaseEvent.class;
+        try {
+            return EventCodecFormat.decode(data, type);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to deserialize event from topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.apache.kafka.common.serialization.Serializer;
+
+public class EventKafkaSerializer implements Serializer<BaseEvent> {
+
+    public static final String FORMAT_CONFIG = "shortly.event.codec.format";
+
+    private EventCodecFormat format = EventCodecFormat.JSON;
+
+    public EventKafkaSerializer() {
+    }
+
+    public EventKafkaSerializer(EventCodecFormat format) {
+        this.format = format;
+    }
+
+    @Override
+    public void configure(Map<String, ?> configs, boolean isKey) {
+        Object configured = configs.get(FORMAT_CONFIG);
+        if (configured != null) {
+            this.format = EventCodecFormat.from(configured.toString());
+        }
+    }
+
+    @Override
+    public byte[] serialize(String topic, BaseEvent data) {
+        if (data == null) {
+            return null;
+        }
+
+        try {
+            return format.encode(data);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to serialize event for topic " + topic, e);
+        }
+    }
+}
@@ -0,0 +1,51 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+public class EventRedisSerializer<T extends BaseEvent> implements RedisSerializer<T> {
+
+    private final Class<T> type;
+    private final EventCodecFormat format;
+
+    public EventRedisSerializer(Class<T> type) {
+        this(type, EventCodecFormat.JSON);
+    }
+
+    public EventRedisSerializer(Class<T> type, EventCodecFormat format) {
+        this.type = type;
+        this.format = format;
+    }
+
+    @Override
+    public byte[] serialize(T value) throws SerializationException {
+        if (value == null) {
+            return null;
+        }
+
+        try {
+            return format.encode(value);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to serialize " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public T deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+
+        try {
+            return EventCodecFormat.decode(bytes, type);
+        } catch (RuntimeException e) {
+            throw new SerializationException("Failed to deserialize " + type.getSimpleName(), e);
+        }
+    }
+
+    @Override
+    public Class<?> getTargetType() {
+        return type;
+    }
+}
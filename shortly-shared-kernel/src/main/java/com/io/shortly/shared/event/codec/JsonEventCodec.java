@@ -0,0 +1,34 @@
+package com.io.shortly.shared.event.codec;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.io.shortly.shared.event.BaseEvent;
+import java.io.IOException;
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class JsonEventCodec {
+
+    private final ObjectMapper OBJECT_MAPPER = new ObjectMapper()
+        .registerModule(new JavaTimeModule())
+        .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+        .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+    public byte[] encode(BaseEvent event) {
+        try {
+            return OBJECT_MAPPER.writeValueAsBytes(event);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to encode event as JSON: " + event.getEventId(), e);
+        }
+    }
+
+    public <T extends BaseEvent> T decode(byte[] data, Class<T> type) {
+        try {
+            return OBJECT_MAPPER.readValue(data, type);
+        } catch (IOException e) {
+            throw new IllegalArgumentException("Failed to decode JSON event as " + type.getSimpleName(), e);
+        }
+    }
+}
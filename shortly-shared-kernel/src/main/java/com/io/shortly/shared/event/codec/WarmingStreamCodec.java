@@ -0,0 +1,52 @@
+package com.io.shortly.shared.event.codec;
+
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.EventType;
+import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Map;
+import lombok.experimental.UtilityClass;
+
+/*
+ * 캐시 warming 스트림 항목 형식
+ *
+ *   type    EventType 이름 (JSON 페이로드도 타입 판별 없이 디코딩하기 위함)
+ *   payload 이벤트 코덱(binary/JSON)으로 인코딩한 바이트
+ */
+@UtilityClass
+public class WarmingStreamCodec {
+
+    private static final byte[] TYPE_FIELD = "type".getBytes(StandardCharsets.UTF_8);
+    private static final byte[] PAYLOAD_FIELD = "payload".getBytes(StandardCharsets.UTF_8);
+
+    public Map<byte[], byte[]> encode(BaseEvent event, EventCodecFormat format) {
+        return Map.of(
+            TYPE_FIELD, event.getEventType().name().getBytes(StandardCharsets.UTF_8),
+            PAYLOAD_FIELD, format.encode(event)
+        );
+    }
+
+    public BaseEvent decode(Map<byte[], byte[]> fields) {
+        byte[] type = null;
+        byte[] payload = null;
+        for (Map.Entry<byte[], byte[]> field : fields.entrySet()) {
+            if (Arrays.equals(TYPE_FIELD, field.getKey())) {
+                type = field.getValue();
+            } else if (Arrays.equals(PAYLOAD_FIELD, field.getKey())) {
+                payload = field.getValue();
+            }
+        }
+        if (type == null || payload == null) {
+            throw new IllegalArgumentException("Warming stream record must have type and payload fields");
+        }
+
+        EventType eventType = EventType.valueOf(new String(type, StandardCharsets.UTF_8));
+        return switch (eventType) {
+            case URL_CREATED -> EventCodecFormat.decode(payload, UrlCreatedEvent.class);
+            case URL_INVALIDATED -> EventCodecFormat.decode(payload, UrlInvalidatedEvent.class);
+            default -> throw new IllegalArgumentException("Unsupported warming event type: " + eventType);
+        };
+    }
+}
@@ -3,10 +3,12 @@ package com.io.shortly.shared.id.impl.snowflake;
 import jakarta.annotation.PostConstruct;
 import jakarta.annotation.PreDestroy;
 import java.time.Duration;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.redis.core.StringRedisTemplate;
@@ -17,7 +19,11 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class NodeIdManager {
 
-    private static final String NODE_ID_KEY_PREFIX = "snowflake:node:";
+    // 모든 lease 키를 같은 hash tag로 묶어 Redis Cluster에서도 한 슬롯에 두고 MGET 한 번으로 빈 ID를 찾음
+    private static final String NODE_ID_KEY_PREFIX = "snowflake:{node}:";
+    // 이전 버전 인스턴스는 이 키만 SETNX하므로, 버전이 섞여 있는 동안(롤링 배포) 같은 ID의 이전 형식 키도 함께 보유/갱신.
+    // 모든 인스턴스가 새 키 형식을 쓰게 된 뒤 제거
+    private static final String LEGACY_NODE_ID_KEY_PREFIX = "snowflake:node:";
     private static final long LEASE_DURATION_SECONDS = 30;
     private static final long RENEW_INTERVAL_SECONDS = 10;
     private static final int MAX_NODE_ID = 1024;
@@ -35,17 +41,30 @@ public class NodeIdManager {
 
     private void assignNodeId() {
         String instanceId = UUID.randomUUID().toString();
+        List<String> keys = IntStream.range(0, MAX_NODE_ID).mapToObj(NodeIdManager::leaseKey).toList();
+        List<String> holders = redisTemplate.opsForValue().multiGet(keys);
 
         for (int i = 0; i < MAX_NODE_ID; i++) {
-            String key = NODE_ID_KEY_PREFIX + i;
-            Boolean success = redisTemplate.opsForValue()
-                    .setIfAbsent(key, instanceId, Duration.ofSeconds(LEASE_DURATION_SECONDS));
+            if (holders != null && holders.get(i) != null) {
+                continue;
+            }
 
-            if (Boolean.TRUE.equals(success)) {
-                this.assignedNodeId = i;
-                log.info("Successfully acquired Node ID: {}", assignedNodeId);
-                return;
+            // MGET 이후 다른 인스턴스가 먼저 가져갔으면 SETNX가 실패하고 다음 후보로 진행
+            String key = keys.get(i);
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(key, instanceId, Duration.ofSeconds(LEASE_DURATION_SECONDS)))) {
+                continue;
+            }
+            // 이전 버전 인스턴스가 이미 보유한 ID면 새 키를 반납하고 다음 후보로 진행
+            if (!Boolean.TRUE.equals(redisTemplate.opsForValue()
+                    .setIfAbsent(legacyLeaseKey(i), instanceId, Duration.ofSeconds(LEASE_DURATION_SECONDS)))) {
+                redisTemplate.delete(key);
+                continue;
             }
+
+            this.assignedNodeId = i;
+            log.info("Successfully acquired Node ID: {}", assignedNodeId);
+            return;
         }
 
         throw new IllegalStateException("Failed to acquire any Node ID. All " + MAX_NODE_ID + " IDs are taken.");
@@ -56,30 +75,42 @@ public class NodeIdManager {
             if (assignedNodeId == -1)
                 return;
 
-            String key = NODE_ID_KEY_PREFIX + assignedNodeId;
             try {
-                Boolean renewed = redisTemplate.expire(key, Duration.ofSeconds(LEASE_DURATION_SECONDS));
-                if (Boolean.FALSE.equals(renewed)) {
-                    String instanceId = "reacquired-after-loss";
-                    redisTemplate.opsForValue().setIfAbsent(key, instanceId,
-                            Duration.ofSeconds(LEASE_DURATION_SECONDS));
-                }
+                renew(leaseKey(assignedNodeId));
+                renew(legacyLeaseKey(assignedNodeId));
             } catch (Exception e) {
                 log.error("Failed to renew Node ID lease", e);
             }
         }, RENEW_INTERVAL_SECONDS, RENEW_INTERVAL_SECONDS, TimeUnit.SECONDS);
     }
 
+    private void renew(String key) {
+        Boolean renewed = redisTemplate.expire(key, Duration.ofSeconds(LEASE_DURATION_SECONDS));
+        if (Boolean.FALSE.equals(renewed)) {
+            String instanceId = "reacquired-after-loss";
+            redisTemplate.opsForValue().setIfAbsent(key, instanceId,
+                    Duration.ofSeconds(LEASE_DURATION_SECONDS));
+        }
+    }
+
     @PreDestroy
     public void cleanup() {
         scheduler.shutdown();
         if (assignedNodeId != -1) {
-            String key = NODE_ID_KEY_PREFIX + assignedNodeId;
-            redisTemplate.delete(key);
+            redisTemplate.delete(leaseKey(assignedNodeId));
+            redisTemplate.delete(legacyLeaseKey(assignedNodeId));
             log.info("Released Node ID: {}", assignedNodeId);
         }
     }
 
+    private static String leaseKey(int nodeId) {
+        return NODE_ID_KEY_PREFIX + nodeId;
+    }
+
+    private static String legacyLeaseKey(int nodeId) {
+        return LEGACY_NODE_ID_KEY_PREFIX + nodeId;
+    }
+
     public long getWorkerId() {
         if (assignedNodeId == -1)
             throw new IllegalStateException("Node ID not assigned yet");
@@ -0,0 +1,207 @@
+package com.io.shortly.shared.id.impl.snowflake;
+
+import static com.io.shortly.shared.id.impl.snowflake.UniqueIdGeneratorSnowflakeImpl.SEQUENCE_MASK;
+
+import com.io.shortly.shared.id.UniqueIdGenerator;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@Primary
+@ConditionalOnProperty(name = "shortly.id.clock-mode", havingValue = "monotonic")
+public class UniqueIdGeneratorMonotonicImpl implements UniqueIdGenerator, MeterBinder {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+    private static final long REGRESSION_THRESHOLD_MILLIS = 10L;
+    private static final long SLEW_RATIO = 10L;
+
+    private final long workerId;
+    private final long datacenterId;
+    private final long maxBorrowMillis;
+    private final long maxSlewMillis;
+    private final long resyncIntervalMillis;
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor(
+            Thread.ofPlatform().name("snowflake-clock-resync").daemon().factory());
+
+    private final LongAdder borrowedMillis = new LongAdder();
+    private final LongAdder budgetExhaustedCount = new LongAdder();
+    private final LongAdder regressionCount = new LongAdder();
+
+    // virtual thread에서 호출되므로 synchronized 대신 사용 (대기 중 carrier thread를 붙잡지 않음)
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private long anchorMillis;
+    private long anchorNanos;
+    private long sequence = 0L;
+    private long lastTimestamp = -1L;
+
+    private volatile long driftMillis = 0L;
+
+    public UniqueIdGeneratorMonotonicImpl(
+            NodeIdManager nodeIdManager,
+            @Value("${shortly.id.monotonic.max-borrow:1s}") Duration maxBorrow,
+            @Value("${shortly.id.monotonic.resync-interval:1s}") Duration resyncInterval
+    ) {
+        this.workerId = nodeIdManager.getWorkerId();
+        this.datacenterId = nodeIdManager.getDatacenterId();
+        this.maxBorrowMillis = Math.max(1L, maxBorrow.toMillis());
+        this.resyncIntervalMillis = Math.max(1L, resyncInterval.toMillis());
+        this.maxSlewMillis = Math.max(1L, Math.min(resyncIntervalMillis / SLEW_RATIO, maxBorrowMillis / 2));
+        this.anchorMillis = wallClockMillis();
+        this.anchorNanos = monotonicNanos();
+    }
+
+    @PostConstruct
+    public void startResync() {
+        scheduler.scheduleAtFixedRate(() -> {
+            try {
+                resync();
+            } catch (Exception e) {
+                log.error("Failed to resync logical clock", e);
+            }
+        }, resyncIntervalMillis, resyncIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stopResync() {
+        scheduler.shutdownNow();
+    }
+
+    @Override
+    public long generate() {
+        lock.lock();
+        try {
+            long now = logicalMillis();
+
+            if (now > lastTimestamp) {
+                lastTimestamp = now;
+                sequence = 0L;
+            } else {
+                sequence = (sequence + 1) & SEQUENCE_MASK;
+                if (sequence == 0) {
+                    lastTimestamp = borrowNextMillis(now);
+                }
+            }
+
+            return UniqueIdGeneratorSnowflakeImpl.compose(lastTimestamp, datacenterId, workerId, sequence);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // 벽시계가 앞서면 즉시 따라가고, 뒤처지면 논리 시계를 조금씩 늦춰(slew) 단조성 유지
+    public void resync() {
+        lock.lock();
+        try {
+            long wall = wallClockMillis();
+            long logical = logicalMillis();
+            long drift = wall - logical;
+            driftMillis = drift;
+
+            if (drift > 0) {
+                reanchor(wall);
+                return;
+            }
+
+            if (drift < 0) {
+                if (-drift > REGRESSION_THRESHOLD_MILLIS) {
+                    regressionCount.increment();
+                    log.warn("Wall clock is behind logical clock by {}ms. Slewing {}ms per resync.",
+                            -drift, Math.min(-drift, maxSlewMillis));
+                }
+                reanchor(logical - Math.min(-drift, maxSlewMillis));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getDriftMillis() {
+        return driftMillis;
+    }
+
+    public long getBorrowedLeadMillis() {
+        lock.lock();
+        try {
+            return Math.max(0L, lastTimestamp - logicalMillis());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        Gauge.builder("shortly.id.clock.drift", this, UniqueIdGeneratorMonotonicImpl::getDriftMillis)
+                .description("Wall clock minus logical clock at the last resync")
+                .baseUnit("milliseconds")
+                .register(registry);
+        Gauge.builder("shortly.id.clock.borrowed", this, UniqueIdGeneratorMonotonicImpl::getBorrowedLeadMillis)
+                .description("Milliseconds the last issued timestamp runs ahead of the logical clock")
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("shortly.id.clock.borrowed.total", borrowedMillis, LongAdder::sum)
+                .description("Future milliseconds borrowed after sequence exhaustion")
+                .baseUnit("milliseconds")
+                .register(registry);
+        FunctionCounter.builder("shortly.id.clock.budget.exhausted", budgetExhaustedCount, LongAdder::sum)
+                .description("Times the borrow budget was exhausted and generation waited")
+                .register(registry);
+        FunctionCounter.builder("shortly.id.clock.regressions", regressionCount, LongAdder::sum)
+                .description("Wall clock regressions detected during resync")
+                .register(registry);
+    }
+
+    protected long wallClockMillis() {
+        return System.currentTimeMillis();
+    }
+
+    protected long monotonicNanos() {
+        return System.nanoTime();
+    }
+
+    private long logicalMillis() {
+        return anchorMillis + (monotonicNanos() - anchorNanos) / NANOS_PER_MILLI;
+    }
+
+    private void reanchor(long millis) {
+        anchorMillis = millis;
+        anchorNanos = monotonicNanos();
+    }
+
+    private long borrowNextMillis(long now) {
+        long next = lastTimestamp + 1;
+        borrowedMillis.increment();
+
+        if (next - now <= maxBorrowMillis) {
+            return next;
+        }
+
+        // 예산 소진: 논리 시계가 따라올 때까지 park. lock을 잡고 있어 resync가 끼어들지 않으므로
+        // 대기는 (next - maxBorrow - now)ms로 정해지며, 직전 resync의 slew를 더해도 1ms + maxSlewMillis 이하
+        budgetExhaustedCount.increment();
+        long deadline = System.nanoTime() + (next - maxBorrowMillis - now) * NANOS_PER_MILLI;
+        long remaining;
+        while (next - logicalMillis() > maxBorrowMillis && (remaining = deadline - System.nanoTime()) > 0) {
+            LockSupport.parkNanos(remaining);
+        }
+        return next;
+    }
+}
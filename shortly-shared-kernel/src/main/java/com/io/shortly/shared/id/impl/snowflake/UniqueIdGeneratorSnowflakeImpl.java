@@ -2,12 +2,14 @@ package com.io.shortly.shared.id.impl.snowflake;
 
 import com.io.shortly.shared.id.UniqueIdGenerator;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Primary;
 import org.springframework.stereotype.Component;
 
 @Slf4j
 @Component
 @Primary
+@ConditionalOnProperty(name = "shortly.id.clock-mode", havingValue = "wall", matchIfMissing = true)
 public class UniqueIdGeneratorSnowflakeImpl implements UniqueIdGenerator {
 
     private static final long CUSTOM_EPOCH = 1704067200000L;
@@ -16,7 +18,7 @@ public class UniqueIdGeneratorSnowflakeImpl implements UniqueIdGenerator {
     private static final long DATACENTER_ID_BITS = 5L;
     private static final long SEQUENCE_BITS = 12L;
 
-    private static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
+    static final long SEQUENCE_MASK = ~(-1L << SEQUENCE_BITS);
 
     private static final long WORKER_ID_SHIFT = SEQUENCE_BITS;
     private static final long DATACENTER_ID_SHIFT = SEQUENCE_BITS + WORKER_ID_BITS;
@@ -67,6 +69,10 @@ public class UniqueIdGeneratorSnowflakeImpl implements UniqueIdGenerator {
 
         lastTimestamp = timestamp;
 
+        return compose(timestamp, datacenterId, workerId, sequence);
+    }
+
+    static long compose(long timestamp, long datacenterId, long workerId, long sequence) {
         return ((timestamp - CUSTOM_EPOCH) << TIMESTAMP_LEFT_SHIFT)
                 | (datacenterId << DATACENTER_ID_SHIFT)
                 | (workerId << WORKER_ID_SHIFT)
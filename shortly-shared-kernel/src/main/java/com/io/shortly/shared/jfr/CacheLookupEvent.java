@@ -0,0 +1,44 @@
+package com.io.shortly.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+ * 캐시 계층 단건 조회 (L1, PEER, L2)
+ *
+ * 기본 비활성화: recording이 명시적으로 켜지 않으면 shouldCommit()이 false라 필드 설정과 commit을 건너뜀.
+ * 호출부는 new -> begin() -> complete() 순서로만 사용하여 JIT가 이벤트 객체 할당을 제거할 수 있도록 함
+ */
+@Name(CacheLookupEvent.NAME)
+@Label("Cache Lookup")
+@Description("Single-key lookup on a redirect cache layer")
+@Category({"Shortly", "Redirect"})
+@Enabled(false)
+@StackTrace(false)
+public class CacheLookupEvent extends Event {
+
+    public static final String NAME = "shortly.CacheLookup";
+
+    @Label("Layer")
+    String layer;
+
+    @Label("Short Code")
+    String shortCode;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void complete(String layer, String shortCode, String outcome) {
+        if (shouldCommit()) {
+            this.layer = layer;
+            this.shortCode = shortCode;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
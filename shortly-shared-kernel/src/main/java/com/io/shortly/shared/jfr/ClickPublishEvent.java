@@ -0,0 +1,52 @@
+package com.io.shortly.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/*
+ * 클릭 이벤트 발행
+ *
+ * ENQUEUE: redirect 요청 스레드에서 발행 큐(배치 버퍼 또는 비동기 executor)에 넣는 구간
+ * SEND: Kafka 전송부터 ack(또는 실패)까지. ack 콜백 스레드에서 commit되므로 이벤트의 스레드는 전송 스레드와 다를 수 있음
+ */
+@Name(ClickPublishEvent.NAME)
+@Label("Click Publish")
+@Description("Click event enqueue on the redirect path or Kafka send until acknowledgement")
+@Category({"Shortly", "Redirect"})
+@Enabled(false)
+@StackTrace(false)
+public class ClickPublishEvent extends Event {
+
+    public static final String NAME = "shortly.ClickPublish";
+
+    public static final String ENQUEUE = "ENQUEUE";
+    public static final String SEND = "SEND";
+
+    @Label("Phase")
+    String phase;
+
+    // SEND 배치 전송은 여러 코드를 담으므로 null
+    @Label("Short Code")
+    String shortCode;
+
+    @Label("Batch Size")
+    int batchSize;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void complete(String phase, String shortCode, int batchSize, String outcome) {
+        if (shouldCommit()) {
+            this.phase = phase;
+            this.shortCode = shortCode;
+            this.batchSize = batchSize;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
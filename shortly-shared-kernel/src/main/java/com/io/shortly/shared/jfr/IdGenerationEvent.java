@@ -0,0 +1,35 @@
+package com.io.shortly.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 이벤트 ID 발급. 시계 역행 시 대기(borrow)가 길어지는 구간을 확인하는 용도
+@Name(IdGenerationEvent.NAME)
+@Label("ID Generation")
+@Description("Unique event ID generation on the redirect path")
+@Category({"Shortly", "Redirect"})
+@Enabled(false)
+@StackTrace(false)
+public class IdGenerationEvent extends Event {
+
+    public static final String NAME = "shortly.IdGeneration";
+
+    @Label("Short Code")
+    String shortCode;
+
+    @Label("Event ID")
+    long eventId;
+
+    public void complete(String shortCode, long eventId) {
+        if (shouldCommit()) {
+            this.shortCode = shortCode;
+            this.eventId = eventId;
+            commit();
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.io.shortly.shared.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// 캐시 miss 후 URL Service 조회 (hedging 포함 전체 대기 시간)
+@Name(UrlFallbackEvent.NAME)
+@Label("URL Service Fallback")
+@Description("Lookup against url-service after all cache layers missed")
+@Category({"Shortly", "Redirect"})
+@Enabled(false)
+@StackTrace(false)
+public class UrlFallbackEvent extends Event {
+
+    public static final String NAME = "shortly.UrlFallback";
+
+    @Label("Short Code")
+    String shortCode;
+
+    @Label("Outcome")
+    String outcome;
+
+    public void complete(String shortCode, String outcome) {
+        if (shouldCommit()) {
+            this.shortCode = shortCode;
+            this.outcome = outcome;
+            commit();
+        }
+    }
+}
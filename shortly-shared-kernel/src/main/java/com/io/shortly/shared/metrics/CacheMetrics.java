@@ -0,0 +1,66 @@
+package com.io.shortly.shared.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+
+public class CacheMetrics {
+
+    private static final Duration LOCAL_MIN = Duration.ofNanos(100);
+    private static final Duration LOCAL_MAX = Duration.ofMillis(10);
+
+    private final HotPathMetrics metrics;
+    private final Timer hit;
+    private final Timer miss;
+    private final Timer put;
+    private final Counter errors;
+    private final Counter rejectedGets;
+    private final Counter rejectedPuts;
+
+    CacheMetrics(HotPathMetrics metrics, String layer) {
+        this.metrics = metrics;
+        this.hit = getTimer(metrics, layer, "hit");
+        this.miss = getTimer(metrics, layer, "miss");
+        this.put = metrics.timer("shortly.cache.put", "Cache put latency per layer",
+            LOCAL_MIN, Duration.ofSeconds(5), "layer", layer);
+        this.errors = Counter.builder("shortly.cache.errors")
+            .description("Cache operation failures per layer")
+            .tag("layer", layer)
+            .register(metrics.registry());
+        this.rejectedGets = rejected(metrics, layer, "get");
+        this.rejectedPuts = rejected(metrics, layer, "put");
+    }
+
+    public void recordGet(boolean found, long startNanos) {
+        metrics.record(found ? hit : miss, startNanos);
+    }
+
+    public void recordPut(long startNanos) {
+        metrics.record(put, startNanos);
+    }
+
+    public void recordError() {
+        if (metrics.isEnabled()) {
+            errors.increment();
+        }
+    }
+
+    // circuit breaker가 열려 호출 없이 건너뛴 조회/버린 저장
+    public void recordRejected(boolean write) {
+        if (metrics.isEnabled()) {
+            (write ? rejectedPuts : rejectedGets).increment();
+        }
+    }
+
+    private static Counter rejected(HotPathMetrics metrics, String layer, String operation) {
+        return Counter.builder("shortly.cache.rejected")
+            .description("Cache operations skipped while the layer circuit breaker is open")
+            .tags("layer", layer, "operation", operation)
+            .register(metrics.registry());
+    }
+
+    private static Timer getTimer(HotPathMetrics metrics, String layer, String result) {
+        return metrics.timer("shortly.cache.get", "Cache get latency per layer",
+            LOCAL_MIN, Duration.ofSeconds(5), "layer", layer, "result", result);
+    }
+}
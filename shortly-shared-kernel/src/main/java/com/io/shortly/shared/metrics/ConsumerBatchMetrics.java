@@ -0,0 +1,26 @@
+package com.io.shortly.shared.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+
+public class ConsumerBatchMetrics {
+
+    private final HotPathMetrics metrics;
+    private final DistributionSummary size;
+    private final Timer duration;
+
+    ConsumerBatchMetrics(HotPathMetrics metrics, String source) {
+        this.metrics = metrics;
+        this.size = metrics.summary("shortly.consumer.batch.size", "Records per consumed batch",
+            1, 10_000, "source", source);
+        this.duration = metrics.ioTimer("shortly.consumer.batch.duration", "Consumer batch processing time",
+            "source", source);
+    }
+
+    public void record(int batchSize, long startNanos) {
+        if (metrics.isEnabled()) {
+            size.record(batchSize);
+            metrics.record(duration, startNanos);
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.io.shortly.shared.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.composite.CompositeMeterRegistry;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+public class HotPathMetrics {
+
+    private static final Duration ID_MIN = Duration.ofNanos(100);
+    private static final Duration ID_MAX = Duration.ofMillis(10);
+    private static final Duration IO_MIN = Duration.ofNanos(50_000);
+    private static final Duration IO_MAX = Duration.ofSeconds(5);
+
+    private final MeterRegistry registry;
+    private final boolean enabled;
+    private final Timer idGeneration;
+    private final Timer invalidationLag;
+
+    private final Map<String, CacheMetrics> cacheMetrics = new ConcurrentHashMap<>();
+    private final Map<String, LookupMetrics> lookupMetrics = new ConcurrentHashMap<>();
+    private final Map<String, PublishMetrics> publishMetrics = new ConcurrentHashMap<>();
+    private final Map<String, ConsumerBatchMetrics> consumerBatchMetrics = new ConcurrentHashMap<>();
+    private final Map<String, Timer> dbWriteTimers = new ConcurrentHashMap<>();
+    private final Map<String, Timer> redisReadTimers = new ConcurrentHashMap<>();
+
+    public HotPathMetrics(MeterRegistry registry) {
+        this(registry, true);
+    }
+
+    private HotPathMetrics(MeterRegistry registry, boolean enabled) {
+        this.registry = registry;
+        this.enabled = enabled;
+        this.idGeneration = timer("shortly.id.generate", "Unique ID generation latency", ID_MIN, ID_MAX);
+        this.invalidationLag = ioTimer("shortly.cache.invalidation.lag",
+            "Time from link change publish to cache invalidation applied");
+    }
+
+    // 하위 registry가 없는 CompositeMeterRegistry는 no-op 미터만 생성
+    public static HotPathMetrics noop() {
+        return new HotPathMetrics(new CompositeMeterRegistry(), false);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public long start() {
+        return enabled ? System.nanoTime() : 0L;
+    }
+
+    public void recordIdGeneration(long startNanos) {
+        record(idGeneration, startNanos);
+    }
+
+    // 반환된 인스턴스는 호출 측에서 필드로 보관하여 요청마다 태그 조회가 없도록 사용
+    public CacheMetrics cache(String layer) {
+        return cacheMetrics.computeIfAbsent(layer, key -> new CacheMetrics(this, key));
+    }
+
+    public LookupMetrics lookup(String layer) {
+        return lookupMetrics.computeIfAbsent(layer, key -> new LookupMetrics(this, key));
+    }
+
+    public PublishMetrics publish(String destination) {
+        return publishMetrics.computeIfAbsent(destination, key -> new PublishMetrics(this, key));
+    }
+
+    public ConsumerBatchMetrics consumerBatch(String source) {
+        return consumerBatchMetrics.computeIfAbsent(source, key -> new ConsumerBatchMetrics(this, key));
+    }
+
+    public void recordDbWrite(String operation, long startNanos) {
+        record(dbWriteTimers.computeIfAbsent(operation,
+            key -> timer("shortly.db.write", "Database write latency", IO_MIN, IO_MAX, "operation", key)), startNanos);
+    }
+
+    // node는 읽기를 처리한 Redis 노드(host:port 또는 master), 노드별 처리량은 timer count로 확인
+    public void recordRedisRead(String node, boolean success, long startNanos) {
+        String outcome = success ? "success" : "error";
+        record(redisReadTimers.computeIfAbsent(node + '|' + outcome,
+            key -> ioTimer("shortly.redis.read", "Redis read latency per node", "node", node, "outcome", outcome)),
+            startNanos);
+    }
+
+    // 발행 노드와 적용 노드의 벽시계 차이가 포함되므로 음수는 0으로 기록
+    public void recordInvalidationLag(Instant publishedAt) {
+        if (enabled) {
+            long lagNanos = Duration.between(publishedAt, Instant.now()).toNanos();
+            invalidationLag.record(Math.max(0L, lagNanos), TimeUnit.NANOSECONDS);
+        }
+    }
+
+    void record(Timer timer, long startNanos) {
+        if (enabled) {
+            timer.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    Timer timer(String name, String description, Duration min, Duration max, String... tags) {
+        return Timer.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(min)
+            .maximumExpectedValue(max)
+            .register(registry);
+    }
+
+    Timer ioTimer(String name, String description, String... tags) {
+        return timer(name, description, IO_MIN, IO_MAX, tags);
+    }
+
+    DistributionSummary summary(String name, String description, double min, double max, String... tags) {
+        return DistributionSummary.builder(name)
+            .description(description)
+            .tags(tags)
+            .publishPercentileHistogram()
+            .minimumExpectedValue(min)
+            .maximumExpectedValue(max)
+            .register(registry);
+    }
+
+    MeterRegistry registry() {
+        return registry;
+    }
+}
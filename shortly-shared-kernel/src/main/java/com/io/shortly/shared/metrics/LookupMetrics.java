@@ -0,0 +1,24 @@
+package com.io.shortly.shared.metrics;
+
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+
+// 요청 단위 조회 지연. layer는 응답을 제공한 계층이며, 계층별 count 비율이 요청 기준 hit ratio가 됨
+public class LookupMetrics {
+
+    private static final Duration LOOKUP_MIN = Duration.ofNanos(100);
+    private static final Duration LOOKUP_MAX = Duration.ofSeconds(5);
+
+    private final HotPathMetrics metrics;
+    private final Timer timer;
+
+    LookupMetrics(HotPathMetrics metrics, String layer) {
+        this.metrics = metrics;
+        this.timer = metrics.timer("shortly.redirect.lookup", "Redirect lookup latency by the layer that served it",
+            LOOKUP_MIN, LOOKUP_MAX, "layer", layer);
+    }
+
+    public void record(long startNanos) {
+        metrics.record(timer, startNanos);
+    }
+}
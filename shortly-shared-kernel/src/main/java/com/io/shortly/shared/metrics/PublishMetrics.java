@@ -0,0 +1,52 @@
+package com.io.shortly.shared.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+
+public class PublishMetrics {
+
+    private final HotPathMetrics metrics;
+    private final Timer queued;
+    private final Timer success;
+    private final Timer retry;
+    private final Timer deadLetter;
+    private final DistributionSummary batchSize;
+
+    PublishMetrics(HotPathMetrics metrics, String destination) {
+        this.metrics = metrics;
+        this.queued = metrics.ioTimer("shortly.event.publish.queue",
+            "Time an event waits before the publisher starts sending it", "destination", destination);
+        this.success = outcomeTimer(metrics, destination, "success");
+        this.retry = outcomeTimer(metrics, destination, "retry");
+        this.deadLetter = outcomeTimer(metrics, destination, "dlq");
+        this.batchSize = metrics.summary("shortly.event.publish.batch.size", "Events per published envelope",
+            1, 10_000, "destination", destination);
+    }
+
+    public void recordQueued(long enqueuedNanos) {
+        metrics.record(queued, enqueuedNanos);
+    }
+
+    public void recordBatch(int size) {
+        if (metrics.isEnabled()) {
+            batchSize.record(size);
+        }
+    }
+
+    public void recordSuccess(long startNanos) {
+        metrics.record(success, startNanos);
+    }
+
+    public void recordRetry(long startNanos) {
+        metrics.record(retry, startNanos);
+    }
+
+    public void recordDeadLetter(long startNanos) {
+        metrics.record(deadLetter, startNanos);
+    }
+
+    private static Timer outcomeTimer(HotPathMetrics metrics, String destination, String outcome) {
+        return metrics.ioTimer("shortly.event.publish", "Event publish latency by outcome",
+            "destination", destination, "outcome", outcome);
+    }
+}
@@ -0,0 +1,27 @@
+package com.io.shortly.shared.metrics.config;
+
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.actuate.autoconfigure.metrics.CompositeMeterRegistryAutoConfiguration;
+import org.springframework.boot.autoconfigure.AutoConfiguration;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.context.annotation.Bean;
+
+@AutoConfiguration(after = CompositeMeterRegistryAutoConfiguration.class)
+public class HotPathMetricsAutoConfiguration {
+
+    @Bean
+    @ConditionalOnMissingBean
+    public HotPathMetrics hotPathMetrics(
+            ObjectProvider<MeterRegistry> meterRegistry,
+            @Value("${shortly.metrics.hot-path.enabled:false}") boolean enabled
+    ) {
+        MeterRegistry registry = meterRegistry.getIfAvailable();
+        if (!enabled || registry == null) {
+            return HotPathMetrics.noop();
+        }
+        return new HotPathMetrics(registry);
+    }
+}
@@ -0,0 +1,34 @@
+package com.io.shortly.shared.redirect;
+
+/*
+ * redirect 규칙의 User-Agent 분류
+ *
+ * 조회 경로에서 요청마다 호출되므로 정규식/소문자 변환 없이 String.contains(indexOf)만 사용해 할당 없이 분류.
+ * Android는 "Mobile" 토큰이 있으면 MOBILE, 없으면 TABLET (Chrome/Firefox 규칙). 분류할 수 없으면 DESKTOP
+ */
+public enum DeviceClass {
+
+    DESKTOP,
+    MOBILE,
+    TABLET,
+    BOT;
+
+    public static DeviceClass classify(String userAgent) {
+        if (userAgent == null || userAgent.isEmpty()) {
+            return DESKTOP;
+        }
+        if (userAgent.contains("bot") || userAgent.contains("Bot")
+            || userAgent.contains("spider") || userAgent.contains("crawl")) {
+            return BOT;
+        }
+        boolean android = userAgent.contains("Android");
+        boolean mobile = userAgent.contains("Mobi");
+        if (userAgent.contains("iPad") || userAgent.contains("Tablet") || (android && !mobile)) {
+            return TABLET;
+        }
+        if (mobile || android || userAgent.contains("iPhone")) {
+            return MOBILE;
+        }
+        return DESKTOP;
+    }
+}
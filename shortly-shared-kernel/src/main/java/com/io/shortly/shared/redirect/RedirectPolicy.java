@@ -0,0 +1,26 @@
+package com.io.shortly.shared.redirect;
+
+/*
+ * 링크별 redirect 응답 정책 (url-service에 저장되고 이벤트와 캐시 항목으로 redirect 노드까지 전달됨)
+ *
+ *   TRACKED    302, 캐시 불가. 모든 클릭이 redirect 노드에 도달하여 집계됨 (기본값)
+ *   CACHED     302, edge(nginx)와 브라우저가 max-age 동안 재사용. 클릭은 edge 항목이 갱신될 때마다 1건씩만 집계됨
+ *   PERMANENT  301, CACHED와 같이 캐시되며 목적지가 바뀌지 않는 링크용
+ */
+public enum RedirectPolicy {
+
+    TRACKED,
+    CACHED,
+    PERMANENT;
+
+    public static final RedirectPolicy DEFAULT = TRACKED;
+
+    public boolean isCacheable() {
+        return this != TRACKED;
+    }
+
+    // 필드 추가 이전 데이터(이벤트, 캐시 항목)는 null이므로 기본값으로 읽음
+    public static RedirectPolicy orDefault(RedirectPolicy policy) {
+        return policy != null ? policy : DEFAULT;
+    }
+}
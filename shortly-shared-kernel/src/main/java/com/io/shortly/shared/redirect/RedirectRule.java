@@ -0,0 +1,50 @@
+package com.io.shortly.shared.redirect;
+
+import java.util.Locale;
+import java.util.Objects;
+
+/*
+ * 링크별 redirect 규칙 1건
+ *
+ *   device    null이면 모든 기기
+ *   language  Accept-Language의 기본 언어 태그 (ko, en 등 2~3자, 소문자로 보관). null이면 모든 언어
+ *   weight    같은 조건(device, language)의 규칙끼리 나누는 트래픽 비율 (1~100). 합이 100 미만이면 나머지는 링크 기본 URL
+ */
+public record RedirectRule(DeviceClass device, String language, int weight, String targetUrl) {
+
+    public static final int FULL_WEIGHT = 100;
+    private static final int MAX_TARGET_URL_LENGTH = 2048;
+
+    public RedirectRule {
+        if (language != null) {
+            language = language.toLowerCase(Locale.ROOT);
+            if (language.length() < 2 || language.length() > 3 || !isAsciiLetters(language)) {
+                throw new IllegalArgumentException("Rule language must be a 2-3 letter language tag: " + language);
+            }
+        }
+        if (weight < 1 || weight > FULL_WEIGHT) {
+            throw new IllegalArgumentException("Rule weight must be between 1 and " + FULL_WEIGHT);
+        }
+        if (targetUrl == null || !(targetUrl.startsWith("http://") || targetUrl.startsWith("https://"))) {
+            throw new IllegalArgumentException("Rule target URL must start with http:// or https://");
+        }
+        if (targetUrl.length() > MAX_TARGET_URL_LENGTH || targetUrl.chars().anyMatch(Character::isWhitespace)) {
+            throw new IllegalArgumentException("Rule target URL must be at most "
+                + MAX_TARGET_URL_LENGTH + " characters without whitespace");
+        }
+    }
+
+    public boolean sameCondition(RedirectRule other) {
+        return device == other.device && Objects.equals(language, other.language);
+    }
+
+    private static boolean isAsciiLetters(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c < 'a' || c > 'z') {
+                return false;
+            }
+        }
+        return true;
+    }
+}
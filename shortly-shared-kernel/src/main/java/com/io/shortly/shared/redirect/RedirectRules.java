@@ -0,0 +1,120 @@
+package com.io.shortly.shared.redirect;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.experimental.UtilityClass;
+
+/*
+ * redirect 규칙 목록의 저장/전송 형식 (DB 컬럼, 이벤트, 캐시 항목, 서비스 간 응답)
+ *
+ *   규칙 1건당 한 줄: [device=MOBILE] [lang=ko] [weight=30] <targetUrl>
+ *
+ *   device=MOBILE lang=ko https://m.example.com/ko
+ *   weight=50 https://example.com/b
+ *
+ * 요청은 선언 순서상 처음 일치하는 조건(device, lang 조합)의 규칙들로 weight 비율에 따라 나뉘고,
+ * 일치하는 조건이 없거나 weight 합을 넘는 구간이면 링크 기본 URL로 이동.
+ * 조회 경로에서는 이 문자열을 직접 해석하지 않고 캐시 항목을 만들 때 한 번 결정 테이블로 변환해 사용
+ */
+@UtilityClass
+public class RedirectRules {
+
+    public static final int MAX_RULES = 16;
+
+    private static final String DEVICE = "device=";
+    private static final String LANGUAGE = "lang=";
+    private static final String WEIGHT = "weight=";
+
+    public List<RedirectRule> parse(String spec) {
+        if (spec == null || spec.isBlank()) {
+            return List.of();
+        }
+        List<RedirectRule> rules = new ArrayList<>();
+        for (String line : spec.split("\n")) {
+            if (!line.isBlank()) {
+                rules.add(parseLine(line.trim()));
+            }
+        }
+        validate(rules);
+        return List.copyOf(rules);
+    }
+
+    // 규칙이 없으면 null (컬럼/필드 생략)
+    public String format(List<RedirectRule> rules) {
+        if (rules == null || rules.isEmpty()) {
+            return null;
+        }
+        validate(rules);
+        StringBuilder spec = new StringBuilder();
+        for (RedirectRule rule : rules) {
+            if (!spec.isEmpty()) {
+                spec.append('\n');
+            }
+            if (rule.device() != null) {
+                spec.append(DEVICE).append(rule.device().name()).append(' ');
+            }
+            if (rule.language() != null) {
+                spec.append(LANGUAGE).append(rule.language()).append(' ');
+            }
+            if (rule.weight() != RedirectRule.FULL_WEIGHT) {
+                spec.append(WEIGHT).append(rule.weight()).append(' ');
+            }
+            spec.append(rule.targetUrl());
+        }
+        return spec.toString();
+    }
+
+    private RedirectRule parseLine(String line) {
+        String[] tokens = line.split("\\s+");
+        DeviceClass device = null;
+        String language = null;
+        int weight = RedirectRule.FULL_WEIGHT;
+        for (int i = 0; i < tokens.length - 1; i++) {
+            String token = tokens[i];
+            if (token.startsWith(DEVICE)) {
+                device = parseDevice(token.substring(DEVICE.length()));
+            } else if (token.startsWith(LANGUAGE)) {
+                language = token.substring(LANGUAGE.length());
+            } else if (token.startsWith(WEIGHT)) {
+                weight = parseWeight(token.substring(WEIGHT.length()));
+            } else {
+                throw new IllegalArgumentException("Unknown redirect rule condition: " + token);
+            }
+        }
+        return new RedirectRule(device, language, weight, tokens[tokens.length - 1]);
+    }
+
+    private DeviceClass parseDevice(String value) {
+        try {
+            return DeviceClass.valueOf(value);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Unknown redirect rule device: " + value, e);
+        }
+    }
+
+    private int parseWeight(String value) {
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Redirect rule weight must be a number: " + value, e);
+        }
+    }
+
+    private void validate(List<RedirectRule> rules) {
+        if (rules.size() > MAX_RULES) {
+            throw new IllegalArgumentException("Redirect rules must not exceed " + MAX_RULES + " entries");
+        }
+        for (RedirectRule rule : rules) {
+            int total = 0;
+            for (RedirectRule other : rules) {
+                if (rule.sameCondition(other)) {
+                    total += other.weight();
+                }
+            }
+            if (total > RedirectRule.FULL_WEIGHT) {
+                throw new IllegalArgumentException(
+                    "Weights of rules with the same condition must not exceed " + RedirectRule.FULL_WEIGHT);
+            }
+        }
+    }
+}
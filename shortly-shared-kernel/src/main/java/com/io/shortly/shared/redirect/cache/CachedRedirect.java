@@ -0,0 +1,36 @@
+package com.io.shortly.shared.redirect.cache;
+
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import java.io.Serializable;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/*
+ * L2(Redis) 캐시 항목의 저장 형식
+ *
+ * redirect-service(조회 경로 적재, Streams 공유 group)와 url-service(Pub/Sub 발행 시 기록)가 같은 키에 쓰므로
+ * 필드 추가는 두 서비스가 모두 읽을 수 있게 기본값(0, null)을 유지해야 함
+ */
+public record CachedRedirect(
+    long eventId,
+    String shortCode,
+    String targetUrl,
+    LocalDateTime createdAt,
+    long version,
+    boolean disabled,
+    Instant expiresAt,
+    // L2 TTL 관리용 (기록 당시 TTL, 만료 epoch millis). 필드 추가 이전 항목은 0
+    long l2TtlMillis,
+    long l2ExpiresAt,
+    // 필드 추가 이전 항목은 null (TRACKED)
+    RedirectPolicy policy,
+    // RedirectRules 형식. 규칙이 없거나 필드 추가 이전 항목은 null
+    String rules
+) implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static long l2ExpiresAt(long l2TtlMillis, long nowMillis) {
+        return l2TtlMillis > 0 ? nowMillis + l2TtlMillis : 0L;
+    }
+}
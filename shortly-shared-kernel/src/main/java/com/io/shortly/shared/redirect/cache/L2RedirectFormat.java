@@ -0,0 +1,57 @@
+package com.io.shortly.shared.redirect.cache;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import lombok.experimental.UtilityClass;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+
+/*
+ * L2 키/값 형식과 version 비교 쓰기 스크립트
+ *
+ * 키 prefix, JSON 설정, 스크립트가 서비스마다 달라지면 한쪽이 쓴 항목을 다른 쪽이 읽지 못하거나
+ * version 가드를 우회하므로 두 서비스 모두 이 클래스만 사용
+ */
+@UtilityClass
+public class L2RedirectFormat {
+
+    public static final String KEY_PREFIX = "redirect:l2:";
+
+    // 저장된 값의 version이 더 높으면 쓰지 않음 (ARGV: json, version, ttlMillis). 단일 키라 클러스터에서도 동작
+    public static final RedisScript<Long> VERSIONED_SET = RedisScript.of("""
+            local current = redis.call('GET', KEYS[1])
+            if current then
+                local ok, decoded = pcall(cjson.decode, current)
+                if ok and type(decoded) == 'table' and tonumber(decoded['version'] or 0) > tonumber(ARGV[2]) then
+                    return 0
+                end
+            end
+            redis.call('SET', KEYS[1], ARGV[1], 'PX', ARGV[3])
+            return 1
+            """, Long.class);
+
+    public String key(String shortCode) {
+        return KEY_PREFIX + shortCode;
+    }
+
+    public Jackson2JsonRedisSerializer<CachedRedirect> serializer() {
+        return new Jackson2JsonRedisSerializer<>(objectMapper(), CachedRedirect.class);
+    }
+
+    public ObjectMapper objectMapper() {
+        ObjectMapper objectMapper = new ObjectMapper();
+
+        objectMapper.registerModule(new JavaTimeModule());
+
+        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        objectMapper.disable(SerializationFeature.FAIL_ON_EMPTY_BEANS);
+        objectMapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+
+        objectMapper.disable(SerializationFeature.INDENT_OUTPUT);
+        objectMapper.disable(DeserializationFeature.ADJUST_DATES_TO_CONTEXT_TIME_ZONE);
+
+        return objectMapper;
+    }
+}
@@ -0,0 +1,112 @@
+package com.io.shortly.shared.shortcode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+// Base62(0-9A-Za-z) 단축 코드 값 타입. 인코딩/디코딩/검증 모두 정규식 없이 테이블 조회로 처리
+public record ShortCode(String value) {
+
+    public static final int MIN_LENGTH = 6;
+    public static final int MAX_LENGTH = 10;
+
+    private static final byte[] ALPHABET =
+        "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".getBytes(StandardCharsets.US_ASCII);
+    private static final int BASE = ALPHABET.length;
+    private static final int MAX_ENCODED_LENGTH = 11; // Long.MAX_VALUE의 base62 자릿수
+    private static final byte[] DECODE_TABLE = new byte[128];
+
+    static {
+        Arrays.fill(DECODE_TABLE, (byte) -1);
+        for (int i = 0; i < BASE; i++) {
+            DECODE_TABLE[ALPHABET[i]] = (byte) i;
+        }
+    }
+
+    public ShortCode {
+        if (!isValid(value)) {
+            throw new IllegalArgumentException(
+                "Short code must be " + MIN_LENGTH + "-" + MAX_LENGTH + " alphanumeric characters");
+        }
+    }
+
+    public static ShortCode of(String value) {
+        return new ShortCode(value);
+    }
+
+    public static ShortCode fromId(long id) {
+        return new ShortCode(encode(id));
+    }
+
+    public long toId() {
+        return decode(value);
+    }
+
+    // 최소 길이(MIN_LENGTH)에 못 미치면 앞을 '0'으로 채움
+    public static String encode(long id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Id must not be negative: " + id);
+        }
+
+        byte[] buffer = new byte[MAX_ENCODED_LENGTH];
+        int position = MAX_ENCODED_LENGTH;
+        long current = id;
+        do {
+            buffer[--position] = ALPHABET[(int) (current % BASE)];
+            current /= BASE;
+        } while (current > 0);
+
+        int start = Math.min(position, MAX_ENCODED_LENGTH - MIN_LENGTH);
+        for (int i = start; i < position; i++) {
+            buffer[i] = '0';
+        }
+        return new String(buffer, start, MAX_ENCODED_LENGTH - start, StandardCharsets.US_ASCII);
+    }
+
+    public static long decode(CharSequence code) {
+        if (code == null || code.isEmpty() || code.length() > MAX_ENCODED_LENGTH) {
+            throw new IllegalArgumentException("Invalid short code length");
+        }
+
+        long result = 0;
+        for (int i = 0; i < code.length(); i++) {
+            int digit = digit(code.charAt(i));
+            if (digit < 0) {
+                throw new IllegalArgumentException("Short code must be alphanumeric");
+            }
+            if (result > (Long.MAX_VALUE - digit) / BASE) {
+                throw new IllegalArgumentException("Short code exceeds the id range");
+            }
+            result = result * BASE + digit;
+        }
+        return result;
+    }
+
+    public static boolean isValid(CharSequence code) {
+        if (code == null) {
+            return false;
+        }
+        int length = code.length();
+        if (length < MIN_LENGTH || length > MAX_LENGTH) {
+            return false;
+        }
+        return isAlphanumeric(code);
+    }
+
+    public static boolean isAlphanumeric(CharSequence code) {
+        for (int i = 0; i < code.length(); i++) {
+            if (digit(code.charAt(i)) < 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static int digit(char c) {
+        return c < DECODE_TABLE.length ? DECODE_TABLE[c] : -1;
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
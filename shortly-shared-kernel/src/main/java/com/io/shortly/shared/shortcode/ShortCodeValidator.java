@@ -0,0 +1,13 @@
+package com.io.shortly.shared.shortcode;
+
+import jakarta.validation.ConstraintValidator;
+import jakarta.validation.ConstraintValidatorContext;
+
+public class ShortCodeValidator implements ConstraintValidator<ValidShortCode, CharSequence> {
+
+    // null은 @NotBlank 등 별도 제약에서 처리
+    @Override
+    public boolean isValid(CharSequence value, ConstraintValidatorContext context) {
+        return value == null || ShortCode.isValid(value);
+    }
+}
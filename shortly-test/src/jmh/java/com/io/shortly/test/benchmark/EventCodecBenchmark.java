@@ -0,0 +1,100 @@
+package com.io.shortly.test.benchmark;
+
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.EventType;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import com.io.shortly.shared.event.codec.BinaryEventCodec;
+import com.io.shortly.shared.event.codec.EventCodecFormat;
+import com.io.shortly.shared.event.codec.EventKafkaDeserializer;
+import com.io.shortly.shared.event.codec.EventKafkaSerializer;
+import java.time.Instant;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.serializer.JsonSerializer;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+public class EventCodecBenchmark {
+
+    private static final String TOPIC = "url-clicked";
+
+    private UrlClickedEvent event;
+
+    private EventKafkaSerializer binarySerializer;
+    private EventKafkaDeserializer<UrlClickedEvent> binaryDeserializer;
+    private JsonSerializer<BaseEvent> jacksonSerializer;
+    private JsonDeserializer<UrlClickedEvent> jacksonDeserializer;
+
+    private byte[] binaryPayload;
+    private byte[] jacksonPayload;
+
+    @Setup
+    public void setup() {
+        event = new UrlClickedEvent(
+            230_584_300_921_369_395L,
+            EventType.URL_CLICKED,
+            Instant.parse("2026-10-19T10:15:30.123456Z"),
+            "0hDkP3xQ2a",
+            "https://example.com/products/12345?utm_source=newsletter"
+        );
+
+        binarySerializer = new EventKafkaSerializer(EventCodecFormat.BINARY);
+        binaryDeserializer = new EventKafkaDeserializer<>(UrlClickedEvent.class);
+
+        jacksonSerializer = new JsonSerializer<>();
+        jacksonSerializer.setAddTypeInfo(false);
+        jacksonDeserializer = new JsonDeserializer<>(UrlClickedEvent.class, false);
+
+        binaryPayload = binarySerializer.serialize(TOPIC, event);
+        jacksonPayload = jacksonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] encodeBinary() {
+        return binarySerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public byte[] encodeJackson() {
+        return jacksonSerializer.serialize(TOPIC, event);
+    }
+
+    @Benchmark
+    public UrlClickedEvent decodeBinary() {
+        return binaryDeserializer.deserialize(TOPIC, binaryPayload);
+    }
+
+    @Benchmark
+    public UrlClickedEvent decodeJackson() {
+        return jacksonDeserializer.deserialize(TOPIC, jacksonPayload);
+    }
+
+    @Benchmark
+    public UrlClickedEvent decodeJsonFallback() {
+        return binaryDeserializer.deserialize(TOPIC, jacksonPayload);
+    }
+
+    @Benchmark
+    public long decodeBinaryEventIdOnly() {
+        return BinaryEventCodec.readEventId(binaryPayload);
+    }
+
+    @Benchmark
+    public String decodeBinaryShortCodeOnly() {
+        return BinaryEventCodec.readShortCode(binaryPayload);
+    }
+}
@@ -0,0 +1,89 @@
+package com.io.shortly.test.benchmark;
+
+import com.io.shortly.shared.api.support.LogRateLimiter;
+import com.io.shortly.shared.api.support.error.BusinessException;
+import com.io.shortly.shared.api.support.error.CommonErrorCode;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/*
+ * 404 폭주 시 요청당 비용 비교 (Tomcat + Spring MVC 호출 깊이를 stackDepth로 모사)
+ *
+ *   legacyException   : 기존 방식 - 스택 트레이스를 채우는 예외 + 매 요청 WARN 로그 메시지 생성
+ *   stacklessException: 스택 트레이스 없는 BusinessException + 샘플링된 로그
+ *   optionalNotFound  : 리다이렉트 조회 경로 - 예외 없이 빈 결과 반환
+ *
+ * 측정 예 (JDK 21, 1 vCPU, depth 60/150): legacy 3.8/7.9us (2.5/4.6KB), stackless 1.4/3.3us (41B), optional 76/101ns (0B)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+public class NotFoundPathBenchmark {
+
+    private static final String SHORT_CODE = "zzzzzz";
+
+    @Param({ "60", "150" })
+    private int stackDepth;
+
+    private LogRateLimiter logRateLimiter;
+
+    @Setup
+    public void setup() {
+        logRateLimiter = new LogRateLimiter(10, 100);
+    }
+
+    @Benchmark
+    public String legacyException() {
+        try {
+            return descend(stackDepth, Mode404.LEGACY);
+        } catch (RuntimeException e) {
+            return "Client Error: " + e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public Object stacklessException() {
+        try {
+            return descend(stackDepth, Mode404.STACKLESS);
+        } catch (BusinessException e) {
+            long suppressed = logRateLimiter.tryAcquire();
+            return suppressed == LogRateLimiter.SUPPRESSED ? e.getErrorCode() : "Client Error: " + e.getMessage();
+        }
+    }
+
+    @Benchmark
+    public String optionalNotFound() {
+        return descend(stackDepth, Mode404.OPTIONAL);
+    }
+
+    private String descend(int depth, Mode404 mode) {
+        if (depth > 0) {
+            return descend(depth - 1, mode);
+        }
+        return switch (mode) {
+            case LEGACY -> throw new RuntimeException(String.format("Short code not found: %s", SHORT_CODE));
+            case STACKLESS -> throw new BusinessException(CommonErrorCode.RESOURCE_NOT_FOUND);
+            case OPTIONAL -> Optional.<String>empty().orElse(null);
+        };
+    }
+
+    private enum Mode404 {
+        LEGACY,
+        STACKLESS,
+        OPTIONAL
+    }
+}
@@ -0,0 +1,71 @@
+package com.io.shortly.test.benchmark;
+
+import com.io.shortly.shared.shortcode.ShortCode;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 2, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgs = { "-Xms2G", "-Xmx2G" })
+public class ShortCodeBenchmark {
+
+    private static final char[] LEGACY_BASE62 = "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+    private static final String LEGACY_PATTERN = "^[a-zA-Z0-9]+$";
+
+    private long id;
+    private String code;
+
+    @Setup
+    public void setup() {
+        id = 230_584_300_921_369_395L;
+        code = ShortCode.encode(id);
+    }
+
+    @Benchmark
+    public String encode() {
+        return ShortCode.encode(id);
+    }
+
+    @Benchmark
+    public String encodeLegacy() {
+        StringBuilder builder = new StringBuilder();
+        long current = id;
+        while (current > 0) {
+            builder.append(LEGACY_BASE62[(int) (current % LEGACY_BASE62.length)]);
+            current /= LEGACY_BASE62.length;
+        }
+        while (builder.length() < ShortCode.MIN_LENGTH) {
+            builder.append('0');
+        }
+        return builder.reverse().toString();
+    }
+
+    @Benchmark
+    public long decode() {
+        return ShortCode.decode(code);
+    }
+
+    @Benchmark
+    public boolean validate() {
+        return ShortCode.isValid(code);
+    }
+
+    @Benchmark
+    public boolean validateLegacyRegex() {
+        return code.length() >= ShortCode.MIN_LENGTH
+            && code.length() <= ShortCode.MAX_LENGTH
+            && code.matches(LEGACY_PATTERN);
+    }
+}
@@ -0,0 +1,36 @@
+package com.io.shortly.test.unit.click;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.io.shortly.click.infrastructure.event.kafka.ClickEventUnbatcher;
+import com.io.shortly.shared.event.EventBatch;
+import com.io.shortly.shared.event.EventType;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("클릭 이벤트 unbatcher 테스트")
+class ClickEventUnbatcherTest {
+
+    @Test
+    @DisplayName("재전송된 envelope의 중복 eventId 제거, 최초 순서 유지")
+    void unbatch_DeduplicatesByEventId() {
+        // given
+        UrlClickedEvent first = UrlClickedEvent.of(1L, "abc123", "https://example.com");
+        UrlClickedEvent second = UrlClickedEvent.of(2L, "abc123", "https://example.com");
+        UrlClickedEvent third = UrlClickedEvent.of(3L, "xyz789", "https://example.org");
+
+        List<EventBatch<UrlClickedEvent>> batches = List.of(
+            EventBatch.of(EventType.URL_CLICKED, List.of(first, second)),
+            EventBatch.of(EventType.URL_CLICKED, List.of(first, second)),
+            EventBatch.single(third)
+        );
+
+        // when
+        List<UrlClickedEvent> events = ClickEventUnbatcher.unbatch(batches);
+
+        // then
+        assertEquals(List.of(1L, 2L, 3L), events.stream().map(UrlClickedEvent::getEventId).toList());
+    }
+}
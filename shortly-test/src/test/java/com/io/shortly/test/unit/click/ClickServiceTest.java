@@ -275,13 +275,43 @@ class ClickServiceTest {
         assertTrue(result.clicksLast7Days() >= 300);
     }
 
+    @Test
+    @DisplayName("클릭 통계 조회 - 샘플링된 클릭은 가중치만큼 집계")
+    void getClickStats_SampledClicks_WeightedCount() {
+        // given
+        String shortCode = "viral1";
+        LocalDateTime now = LocalDateTime.now();
+
+        // 핫 링크 구간: 64건 중 1건씩 발행된 클릭 3개
+        saveClickAt(shortCode, now.minusHours(1), 64);
+        saveClickAt(shortCode, now.minusHours(2), 64);
+        saveClickAt(shortCode, now.minusDays(3), 64);
+
+        // 샘플링 이전 클릭
+        saveClickAt(shortCode, now.minusHours(3));
+        saveClickAt(shortCode, now.minusDays(10));
+
+        // when
+        ClickStatsResult result = clickService.getClickStats(new ClickStatsCommand(shortCode));
+
+        // then
+        assertEquals(194L, result.totalClicks());
+        assertEquals(129L, result.clicksLast24Hours());
+        assertEquals(193L, result.clicksLast7Days());
+    }
+
     // Helper method
     private void saveClickAt(String shortCode, LocalDateTime clickedAt) {
+        saveClickAt(shortCode, clickedAt, 1);
+    }
+
+    private void saveClickAt(String shortCode, LocalDateTime clickedAt, int sampleWeight) {
         UrlClick click = UrlClick.restore(
             null,
             System.nanoTime(),
             shortCode,
             "https://example.com",
+            sampleWeight,
             clickedAt
         );
         repository.save(click);
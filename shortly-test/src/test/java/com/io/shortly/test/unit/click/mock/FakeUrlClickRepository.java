@@ -28,6 +28,7 @@ public class FakeUrlClickRepository implements UrlClickRepository {
             urlClick.getEventId(),
             urlClick.getShortCode(),
             urlClick.getOriginalUrl(),
+            urlClick.getSampleWeight(),
             urlClick.getClickedAt()
         );
 
@@ -41,8 +42,19 @@ public class FakeUrlClickRepository implements UrlClickRepository {
     }
 
     @Override
-    public long countByShortCode(String shortCode) {
-        return storage.getOrDefault(shortCode, List.of()).size();
+    public long sumSampleWeightByShortCode(String shortCode) {
+        return storage.getOrDefault(shortCode, List.of()).stream()
+                .mapToLong(UrlClick::getSampleWeight)
+                .sum();
+    }
+
+    @Override
+    public List<Long> findExistingEventIds(List<Long> eventIds) {
+        return storage.values().stream()
+                .flatMap(List::stream)
+                .map(UrlClick::getEventId)
+                .filter(eventIds::contains)
+                .collect(Collectors.toList());
     }
 
     @Override
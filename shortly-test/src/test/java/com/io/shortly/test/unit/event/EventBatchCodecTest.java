@@ -0,0 +1,91 @@
+package com.io.shortly.test.unit.event;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.shared.event.EventBatch;
+import com.io.shortly.shared.event.EventType;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.codec.BinaryEventCodec;
+import com.io.shortly.shared.event.codec.EventBatchCodec;
+import com.io.shortly.shared.event.codec.EventBatchKafkaDeserializer;
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("이벤트 배치 envelope 코덱 테스트")
+class EventBatchCodecTest {
+
+    private static final String TOPIC = "url-clicked";
+
+    @Test
+    @DisplayName("배치 왕복 변환 - 순서와 필드 유지")
+    void batch_RoundTrip_PreservesOrder() {
+        // given
+        EventBatch<UrlClickedEvent> batch = EventBatch.of(EventType.URL_CLICKED, clicks(3));
+
+        // when
+        EventBatch<UrlClickedEvent> decoded = EventBatchCodec.decode(EventBatchCodec.encode(batch), UrlClickedEvent.class);
+
+        // then
+        assertEquals(3, decoded.size());
+        for (int i = 0; i < 3; i++) {
+            assertEquals(batch.getEvents().get(i).getEventId(), decoded.getEvents().get(i).getEventId());
+            assertEquals(batch.getEvents().get(i).getShortCode(), decoded.getEvents().get(i).getShortCode());
+        }
+    }
+
+    @Test
+    @DisplayName("큰 배치는 압축되어 단건 레코드 합보다 작음")
+    void largeBatch_Compressed() {
+        // given
+        List<UrlClickedEvent> events = clicks(500);
+        int singleRecordBytes = events.stream().mapToInt(event -> BinaryEventCodec.encode(event).length).sum();
+
+        // when
+        byte[] encoded = EventBatchCodec.encode(EventBatch.of(EventType.URL_CLICKED, events));
+
+        // then
+        assertTrue(encoded.length < singleRecordBytes / 2,
+            "압축된 envelope은 단건 합의 절반 미만이어야 함 (batch=" + encoded.length + ", singles=" + singleRecordBytes + ")");
+        assertEquals(500, EventBatchCodec.decode(encoded, UrlClickedEvent.class).size());
+    }
+
+    @Test
+    @DisplayName("Deserializer - 기존 단건 레코드도 크기 1 배치로 수신")
+    void deserializer_SingleRecord_WrappedAsBatch() {
+        // given
+        UrlClickedEvent event = clicks(1).get(0);
+        EventBatchKafkaDeserializer<UrlClickedEvent> deserializer = new EventBatchKafkaDeserializer<>(UrlClickedEvent.class);
+
+        // when
+        EventBatch<UrlClickedEvent> batch = deserializer.deserialize(TOPIC, BinaryEventCodec.encode(event));
+
+        // then
+        assertEquals(1, batch.size());
+        assertEquals(event.getEventId(), batch.getEvents().get(0).getEventId());
+    }
+
+    @Test
+    @DisplayName("다른 타입 이벤트는 같은 배치에 담을 수 없음")
+    void mixedTypes_Rejected() {
+        // given
+        List<UrlClickedEvent> events = clicks(1);
+        UrlCreatedEvent created = UrlCreatedEvent.of(1L, "abc123", "https://example.com");
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+            () -> EventBatch.of(EventType.URL_CREATED, List.of(created, events.get(0))));
+    }
+
+    private List<UrlClickedEvent> clicks(int count) {
+        List<UrlClickedEvent> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            events.add(UrlClickedEvent.of(1_000L + i, "code" + (i % 7), "https://example.com/landing/" + (i % 7)));
+        }
+        return events;
+    }
+}
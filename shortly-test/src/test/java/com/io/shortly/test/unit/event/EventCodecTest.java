@@ -0,0 +1,284 @@
+package com.io.shortly.test.unit.event;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.shared.event.EventType;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.event.codec.BinaryEventCodec;
+import com.io.shortly.shared.event.codec.EventCodecFormat;
+import com.io.shortly.shared.event.codec.EventHeader;
+import com.io.shortly.shared.event.codec.EventKafkaDeserializer;
+import com.io.shortly.shared.event.codec.EventKafkaSerializer;
+import com.io.shortly.shared.event.codec.EventRedisSerializer;
+import com.io.shortly.shared.event.codec.WarmingStreamCodec;
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Map;
+import org.apache.kafka.common.errors.SerializationException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("이벤트 바이너리 코덱 테스트")
+class EventCodecTest {
+
+    private static final String TOPIC = "url-clicked";
+    private static final Instant TIMESTAMP = Instant.parse("2026-10-19T10:15:30.123456789Z");
+
+    private final UrlClickedEvent clickedEvent = new UrlClickedEvent(
+        230_584_300_921_369_395L,
+        EventType.URL_CLICKED,
+        TIMESTAMP,
+        "0hDkP3xQ2a",
+        "https://example.com/상품/12345?utm_source=newsletter"
+    );
+
+    @Test
+    @DisplayName("UrlClickedEvent 바이너리 왕복 변환")
+    void clickedEvent_RoundTrip() {
+        // when
+        byte[] encoded = BinaryEventCodec.encode(clickedEvent);
+        UrlClickedEvent decoded = (UrlClickedEvent) BinaryEventCodec.decode(encoded);
+
+        // then
+        assertEquals(clickedEvent.getEventId(), decoded.getEventId());
+        assertEquals(EventType.URL_CLICKED, decoded.getEventType());
+        assertEquals(TIMESTAMP, decoded.getTimestamp());
+        assertEquals(clickedEvent.getShortCode(), decoded.getShortCode());
+        assertEquals(clickedEvent.getOriginalUrl(), decoded.getOriginalUrl());
+    }
+
+    @Test
+    @DisplayName("UrlCreatedEvent Redis 직렬화 왕복 변환")
+    void createdEvent_RedisRoundTrip() {
+        // given
+        Instant createdAt = Instant.parse("2026-10-19T10:15:00Z");
+        UrlCreatedEvent event = new UrlCreatedEvent(42L, EventType.URL_CREATED, TIMESTAMP,
+            "abc123", "https://example.com", createdAt);
+        EventRedisSerializer<UrlCreatedEvent> serializer = new EventRedisSerializer<>(UrlCreatedEvent.class);
+
+        // when
+        UrlCreatedEvent decoded = serializer.deserialize(serializer.serialize(event));
+
+        // then
+        assertEquals(42L, decoded.getEventId());
+        assertEquals("abc123", decoded.getShortCode());
+        assertEquals("https://example.com", decoded.getOriginalUrl());
+        assertEquals(createdAt, decoded.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("UrlInvalidatedEvent 변경/비활성화 바이너리 왕복 변환")
+    void invalidatedEvent_RoundTrip() {
+        // given
+        UrlInvalidatedEvent updated = UrlInvalidatedEvent.updated(7L, "abc123", "https://example.com/new", 3L);
+        UrlInvalidatedEvent disabled = UrlInvalidatedEvent.disabled(8L, "abc123", 4L);
+
+        // when
+        UrlInvalidatedEvent decodedUpdated = (UrlInvalidatedEvent) BinaryEventCodec.decode(BinaryEventCodec.encode(updated));
+        UrlInvalidatedEvent decodedDisabled = (UrlInvalidatedEvent) BinaryEventCodec.decode(BinaryEventCodec.encode(disabled));
+
+        // then
+        assertEquals(EventType.URL_INVALIDATED, decodedUpdated.getEventType());
+        assertEquals(updated.getTimestamp(), decodedUpdated.getTimestamp());
+        assertEquals("https://example.com/new", decodedUpdated.getOriginalUrl());
+        assertEquals(3L, decodedUpdated.getVersion());
+        assertFalse(decodedUpdated.isDisabled());
+
+        assertEquals("abc123", decodedDisabled.getShortCode());
+        assertNull(decodedDisabled.getOriginalUrl());
+        assertEquals(4L, decodedDisabled.getVersion());
+        assertTrue(decodedDisabled.isDisabled());
+    }
+
+    @Test
+    @DisplayName("UrlCreatedEvent 만료 시각 왕복 변환, 만료 필드 이전 페이로드는 null로 디코딩")
+    void createdEvent_ExpiresAt_RoundTripAndLegacyPayload() {
+        // given
+        Instant expiresAt = Instant.parse("2026-12-31T23:59:59Z");
+        UrlCreatedEvent expiring = new UrlCreatedEvent(42L, EventType.URL_CREATED, TIMESTAMP,
+            "abc123", "https://example.com", TIMESTAMP, expiresAt);
+        UrlCreatedEvent permanent = new UrlCreatedEvent(43L, EventType.URL_CREATED, TIMESTAMP,
+            "abc123", "https://example.com", TIMESTAMP);
+        byte[] current = BinaryEventCodec.encode(permanent);
+        // expiresAt, redirectPolicy 필드 추가 이전 페이로드
+        byte[] legacy = Arrays.copyOf(current, current.length - 2);
+
+        // when
+        UrlCreatedEvent decodedExpiring = (UrlCreatedEvent) BinaryEventCodec.decode(BinaryEventCodec.encode(expiring));
+        UrlCreatedEvent decodedPermanent = (UrlCreatedEvent) BinaryEventCodec.decode(current);
+        UrlCreatedEvent decodedLegacy = (UrlCreatedEvent) BinaryEventCodec.decode(legacy);
+
+        // then
+        assertEquals(expiresAt, decodedExpiring.getExpiresAt());
+        assertNull(decodedPermanent.getExpiresAt());
+        assertNull(decodedLegacy.getExpiresAt());
+        assertEquals(TIMESTAMP, decodedLegacy.getCreatedAt());
+    }
+
+    @Test
+    @DisplayName("redirect 정책 왕복 변환, 정책 필드 이전 페이로드는 TRACKED로 디코딩")
+    void redirectPolicy_RoundTripAndLegacyPayload() {
+        // given
+        UrlCreatedEvent created = UrlCreatedEvent.of(1L, "abc123", "https://example.com", null, RedirectPolicy.CACHED);
+        UrlInvalidatedEvent updated = UrlInvalidatedEvent.updated(
+            2L, "abc123", "https://example.com/new", 3L, null, RedirectPolicy.PERMANENT);
+        byte[] current = BinaryEventCodec.encode(created);
+        byte[] legacy = Arrays.copyOf(current, current.length - 1);
+
+        // when
+        UrlCreatedEvent decodedCreated = (UrlCreatedEvent) BinaryEventCodec.decode(current);
+        UrlInvalidatedEvent decodedUpdated = (UrlInvalidatedEvent) BinaryEventCodec.decode(BinaryEventCodec.encode(updated));
+        UrlCreatedEvent decodedLegacy = (UrlCreatedEvent) BinaryEventCodec.decode(legacy);
+
+        // then
+        assertEquals(RedirectPolicy.CACHED, decodedCreated.getRedirectPolicy());
+        assertEquals(RedirectPolicy.PERMANENT, decodedUpdated.getRedirectPolicy());
+        assertEquals(RedirectPolicy.TRACKED, decodedLegacy.getRedirectPolicy());
+    }
+
+    @Test
+    @DisplayName("redirect 규칙 왕복 변환, 규칙 필드 이전 페이로드는 규칙 없음으로 디코딩")
+    void redirectRules_RoundTripAndLegacyPayload() {
+        // given
+        String rules = "device=MOBILE lang=ko https://m.example.com/ko\nweight=30 https://example.com/b";
+        UrlInvalidatedEvent updated = UrlInvalidatedEvent.updated(
+            2L, "abc123", "https://example.com", 3L, null, RedirectPolicy.CACHED, rules);
+        byte[] current = BinaryEventCodec.encode(updated);
+        byte[] withoutRules = BinaryEventCodec.encode(UrlInvalidatedEvent.updated(
+            2L, "abc123", "https://example.com", 3L, null, RedirectPolicy.CACHED));
+        // redirectRules 필드 추가 이전 페이로드 (빈 문자열의 길이 prefix 제거)
+        byte[] legacy = Arrays.copyOf(withoutRules, withoutRules.length - 2);
+
+        // when
+        UrlInvalidatedEvent decoded = (UrlInvalidatedEvent) BinaryEventCodec.decode(current);
+        UrlInvalidatedEvent decodedWithoutRules = (UrlInvalidatedEvent) BinaryEventCodec.decode(withoutRules);
+        UrlInvalidatedEvent decodedLegacy = (UrlInvalidatedEvent) BinaryEventCodec.decode(legacy);
+
+        // then
+        assertEquals(rules, decoded.getRedirectRules());
+        assertEquals(RedirectPolicy.CACHED, decoded.getRedirectPolicy());
+        assertNull(decodedWithoutRules.getRedirectRules());
+        assertNull(decodedLegacy.getRedirectRules());
+        assertEquals(RedirectPolicy.CACHED, decodedLegacy.getRedirectPolicy());
+    }
+
+    @Test
+    @DisplayName("클릭 샘플링 가중치 왕복 변환, 가중치 필드 이전 페이로드는 1건으로 디코딩")
+    void sampleWeight_RoundTripAndLegacyPayload() {
+        // given
+        UrlClickedEvent sampled = UrlClickedEvent.of(1L, "abc123", "https://example.com", 64);
+        byte[] current = BinaryEventCodec.encode(sampled);
+        byte[] unsampled = BinaryEventCodec.encode(clickedEvent);
+        // sampleWeight 필드 추가 이전 페이로드 (i32 제거)
+        byte[] legacy = Arrays.copyOf(unsampled, unsampled.length - Integer.BYTES);
+
+        // when
+        UrlClickedEvent decoded = (UrlClickedEvent) BinaryEventCodec.decode(current);
+        UrlClickedEvent decodedLegacy = (UrlClickedEvent) BinaryEventCodec.decode(legacy);
+
+        // then
+        assertEquals(64, decoded.getSampleWeight());
+        assertEquals(UrlClickedEvent.UNSAMPLED, clickedEvent.getSampleWeight());
+        assertEquals(UrlClickedEvent.UNSAMPLED, decodedLegacy.getSampleWeight());
+        assertEquals(clickedEvent.getOriginalUrl(), decodedLegacy.getOriginalUrl());
+    }
+
+    @Test
+    @DisplayName("warming 스트림 항목은 포맷과 관계없이 타입별로 디코딩")
+    void warmingStreamRecord_RoundTrip() {
+        // given
+        UrlCreatedEvent created = UrlCreatedEvent.of(1L, "abc123", "https://example.com");
+        UrlInvalidatedEvent disabled = UrlInvalidatedEvent.disabled(2L, "abc123", 5L);
+
+        // when
+        Map<byte[], byte[]> createdFields = WarmingStreamCodec.encode(created, EventCodecFormat.JSON);
+        Map<byte[], byte[]> disabledFields = WarmingStreamCodec.encode(disabled, EventCodecFormat.BINARY);
+
+        // then
+        UrlCreatedEvent decodedCreated = (UrlCreatedEvent) WarmingStreamCodec.decode(createdFields);
+        UrlInvalidatedEvent decodedDisabled = (UrlInvalidatedEvent) WarmingStreamCodec.decode(disabledFields);
+        assertEquals("https://example.com", decodedCreated.getOriginalUrl());
+        assertEquals(5L, decodedDisabled.getVersion());
+        assertTrue(decodedDisabled.isDisabled());
+        assertThrows(IllegalArgumentException.class, () -> WarmingStreamCodec.decode(Map.of()));
+    }
+
+    @Test
+    @DisplayName("부분 디코딩 - 헤더와 shortCode만 읽기")
+    void partialDecode_HeaderAndShortCode() {
+        // given
+        byte[] encoded = BinaryEventCodec.encode(clickedEvent);
+
+        // when
+        EventHeader header = BinaryEventCodec.decodeHeader(encoded);
+
+        // then
+        assertEquals(BinaryEventCodec.CURRENT_VERSION, header.schemaVersion());
+        assertEquals(EventType.URL_CLICKED, header.eventType());
+        assertEquals(clickedEvent.getEventId(), header.eventId());
+        assertEquals(TIMESTAMP, header.timestamp());
+        assertEquals(clickedEvent.getEventId(), BinaryEventCodec.readEventId(encoded));
+        assertEquals("0hDkP3xQ2a", BinaryEventCodec.readShortCode(encoded));
+    }
+
+    @Test
+    @DisplayName("Kafka Deserializer - JSON 페이로드 fallback 수신")
+    void kafkaDeserializer_JsonFallback() {
+        // given
+        byte[] json = new EventKafkaSerializer(EventCodecFormat.JSON).serialize(TOPIC, clickedEvent);
+        EventKafkaDeserializer<UrlClickedEvent> deserializer = new EventKafkaDeserializer<>(UrlClickedEvent.class);
+
+        // when
+        UrlClickedEvent decoded = deserializer.deserialize(TOPIC, json);
+
+        // then
+        assertEquals((byte) '{', json[0]);
+        assertEquals(clickedEvent.getEventId(), decoded.getEventId());
+        assertEquals(clickedEvent.getOriginalUrl(), decoded.getOriginalUrl());
+    }
+
+    @Test
+    @DisplayName("바이너리 페이로드는 JSON보다 작음")
+    void binaryPayload_SmallerThanJson() {
+        // when
+        byte[] binary = new EventKafkaSerializer(EventCodecFormat.BINARY).serialize(TOPIC, clickedEvent);
+        byte[] json = new EventKafkaSerializer(EventCodecFormat.JSON).serialize(TOPIC, clickedEvent);
+
+        // then
+        assertTrue(binary.length < json.length / 2 + 10,
+            "바이너리 크기는 JSON의 절반 수준이어야 함 (binary=" + binary.length + ", json=" + json.length + ")");
+    }
+
+    @Test
+    @DisplayName("다른 타입 이벤트 수신 시 예외")
+    void kafkaDeserializer_TypeMismatch_ThrowsException() {
+        // given
+        UrlCreatedEvent created = UrlCreatedEvent.of(1L, "abc123", "https://example.com");
+        byte[] encoded = BinaryEventCodec.encode(created);
+        EventKafkaDeserializer<UrlClickedEvent> deserializer = new EventKafkaDeserializer<>(UrlClickedEvent.class);
+
+        // when & then
+        assertThrows(SerializationException.class, () -> deserializer.deserialize(TOPIC, encoded));
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 스키마 버전은 거부")
+    void unsupportedSchemaVersion_ThrowsException() {
+        // given
+        byte[] encoded = BinaryEventCodec.encode(clickedEvent);
+        byte[] future = encoded.clone();
+        future[1] = (byte) (BinaryEventCodec.CURRENT_VERSION + 1);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> BinaryEventCodec.decode(future));
+        assertArrayEquals(encoded, BinaryEventCodec.encode(clickedEvent));
+    }
+}
@@ -0,0 +1,156 @@
+package com.io.shortly.test.unit.id;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.shared.id.impl.snowflake.NodeIdManager;
+import com.io.shortly.shared.id.impl.snowflake.UniqueIdGeneratorMonotonicImpl;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("단조 논리 시계 Snowflake ID 생성기 테스트")
+class MonotonicSnowflakeIdGeneratorTest {
+
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final AtomicLong wallMillis = new AtomicLong(1_760_000_000_000L);
+    private final AtomicLong monotonicNanos = new AtomicLong(0L);
+
+    private UniqueIdGeneratorMonotonicImpl generator;
+
+    @BeforeEach
+    void setUp() {
+        NodeIdManager nodeIdManager = new NodeIdManager(null) {
+            @Override
+            public long getWorkerId() {
+                return 1L;
+            }
+
+            @Override
+            public long getDatacenterId() {
+                return 1L;
+            }
+        };
+
+        generator = new UniqueIdGeneratorMonotonicImpl(nodeIdManager, Duration.ofMillis(50), Duration.ofSeconds(1)) {
+            @Override
+            protected long wallClockMillis() {
+                return wallMillis.get();
+            }
+
+            @Override
+            protected long monotonicNanos() {
+                return monotonicNanos.get();
+            }
+        };
+    }
+
+    @Test
+    @DisplayName("벽시계가 5초 역행해도 예외 없이 단조 증가 ID 생성")
+    void wallClockRegression_NoFailure_MonotonicallyIncreasing() {
+        // given
+        long before = generator.generate();
+        advance(5);
+
+        // when - NTP step으로 벽시계 5초 역행 후 재동기화
+        wallMillis.addAndGet(-5_000);
+        assertDoesNotThrow(generator::resync);
+
+        // then
+        long previous = before;
+        for (int i = 0; i < 10_000; i++) {
+            if (i % 1000 == 0) {
+                advance(1);
+            }
+            long id = generator.generate();
+            assertTrue(id > previous, "ID는 항상 이전보다 커야 함 (단조 증가)");
+            previous = id;
+        }
+        assertTrue(generator.getDriftMillis() < 0, "벽시계가 논리 시계보다 뒤처진 drift가 기록되어야 함");
+    }
+
+    @Test
+    @DisplayName("같은 밀리초에 시퀀스를 모두 소진하면 미래 밀리초를 빌려 대기 없이 생성")
+    void sequenceExhausted_BorrowsFutureMillis_WithoutWaiting() {
+        // given - 단조 시계가 멈춘 상태에서 4096 * 10개 생성
+        int count = 4096 * 10;
+        Set<Long> ids = new HashSet<>();
+
+        // when
+        for (int i = 0; i < count; i++) {
+            ids.add(generator.generate());
+        }
+
+        // then
+        assertEquals(count, ids.size(), "빌린 밀리초에서도 모든 ID는 고유해야 함");
+        assertEquals(9, generator.getBorrowedLeadMillis(), "9ms를 미래에서 빌려야 함");
+    }
+
+    @Test
+    @DisplayName("빌릴 수 있는 시간(max-borrow)을 모두 쓰면 제한된 시간만 기다린 뒤 계속 생성")
+    void borrowBudgetExhausted_WaitIsBounded() {
+        // given - 단조 시계가 멈춘 상태에서 max-borrow(50ms)를 넘겨 생성
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        generator.bindTo(meterRegistry);
+        int count = 4096 * 55;
+        Set<Long> ids = new HashSet<>();
+
+        // when
+        assertTimeoutPreemptively(Duration.ofSeconds(5), () -> {
+            for (int i = 0; i < count; i++) {
+                ids.add(generator.generate());
+            }
+        });
+
+        // then
+        assertEquals(count, ids.size());
+        assertTrue(meterRegistry.get("shortly.id.clock.budget.exhausted").functionCounter().count() > 0);
+    }
+
+    @Test
+    @DisplayName("빌린 시간은 단조 시계가 따라오면 해소됨")
+    void borrowedLead_ResolvedAsClockAdvances() {
+        // given
+        for (int i = 0; i < 4096 * 3; i++) {
+            generator.generate();
+        }
+        assertEquals(2, generator.getBorrowedLeadMillis());
+
+        // when
+        advance(3);
+        generator.generate();
+
+        // then
+        assertEquals(0, generator.getBorrowedLeadMillis());
+    }
+
+    @Test
+    @DisplayName("벽시계가 앞서면 재동기화 시 논리 시계가 즉시 따라감")
+    void wallClockAhead_ResyncJumpsForward() {
+        // given
+        long before = generator.generate();
+
+        // when
+        wallMillis.addAndGet(2_000);
+        generator.resync();
+        long after = generator.generate();
+
+        // then
+        long elapsedMillis = (after >> 22) - (before >> 22);
+        assertEquals(2_000, elapsedMillis, "ID 타임스탬프가 벽시계를 따라 2초 전진해야 함");
+        assertEquals(2_000, generator.getDriftMillis());
+    }
+
+    private void advance(long millis) {
+        wallMillis.addAndGet(millis);
+        monotonicNanos.addAndGet(millis * NANOS_PER_MILLI);
+    }
+}
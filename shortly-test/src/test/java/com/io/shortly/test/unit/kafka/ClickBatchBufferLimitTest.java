@@ -0,0 +1,57 @@
+package com.io.shortly.test.unit.kafka;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.infrastructure.event.kafka.RedirectEventPublisherKafkaBatchImpl;
+import com.io.shortly.shared.event.UrlClickedEvent;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.kafka.KafkaProperties;
+import org.springframework.util.backoff.ExponentialBackOff;
+
+@DisplayName("클릭 배치 발행 buffer 상한 테스트")
+class ClickBatchBufferLimitTest {
+
+    private static final int MAX_EVENTS = 50;
+    private static final int MAX_PENDING = 100;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private RedirectEventPublisherKafkaBatchImpl publisher;
+
+    @AfterEach
+    void tearDown() {
+        if (publisher != null) {
+            publisher.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("broker 장애로 전송이 막혀도 buffer는 max-pending을 넘지 않고 초과분은 버린 수로 집계")
+    void brokerDown_BufferBoundedAndDropsCounted() {
+        // given: 연결할 수 없는 broker -> flusher는 첫 send에서 max.block.ms 동안 막힘
+        KafkaProperties kafkaProperties = new KafkaProperties();
+        kafkaProperties.setBootstrapServers(List.of("localhost:1"));
+        kafkaProperties.getProducer().getProperties().put("max.block.ms", "500");
+        ExponentialBackOff backOff = new ExponentialBackOff(10, 2.0);
+        backOff.setMaxElapsedTime(20);
+        publisher = new RedirectEventPublisherKafkaBatchImpl(kafkaProperties, backOff,
+            new HotPathMetrics(meterRegistry), meterRegistry, MAX_EVENTS, MAX_PENDING,
+            Duration.ofSeconds(10), Duration.ofMinutes(5));
+
+        // when
+        for (int i = 0; i < 1_000; i++) {
+            publisher.publishUrlClicked(UrlClickedEvent.of(i, "code" + i, "https://example.com"));
+        }
+
+        // then: 막힌 send가 가진 최대 한 번의 drain 분량을 빼면 나머지는 버려짐
+        double pending = meterRegistry.get("shortly.event.publish.pending").gauge().value();
+        double dropped = meterRegistry.get("shortly.event.publish.dropped").counter().count();
+        assertTrue(pending <= MAX_PENDING, "pending=" + pending);
+        assertTrue(dropped >= 1_000 - MAX_PENDING - MAX_PENDING, "dropped=" + dropped);
+    }
+}
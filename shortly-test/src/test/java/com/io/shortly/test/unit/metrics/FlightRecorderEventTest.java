@@ -0,0 +1,78 @@
+package com.io.shortly.test.unit.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+import com.io.shortly.shared.jfr.CacheLookupEvent;
+import com.io.shortly.shared.jfr.ClickPublishEvent;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("JFR hot path 이벤트 테스트")
+class FlightRecorderEventTest {
+
+    @Test
+    @DisplayName("recording이 켜지 않으면 이벤트는 commit되지 않음")
+    void disabledByDefault_DoesNotCommit() {
+        // given
+        CacheLookupEvent event = new CacheLookupEvent();
+
+        // when
+        event.begin();
+
+        // then
+        assertFalse(event.isEnabled());
+        assertFalse(event.shouldCommit());
+    }
+
+    @Test
+    @DisplayName("recording에서 활성화하면 short code와 outcome 필드가 기록됨")
+    void enabledRecording_RecordsFields() throws Exception {
+        // given
+        Path file = Files.createTempFile("shortly-jfr-test-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(CacheLookupEvent.class).withoutThreshold();
+            recording.enable(ClickPublishEvent.class).withoutThreshold();
+            recording.start();
+
+            // when
+            CacheLookupEvent lookup = new CacheLookupEvent();
+            lookup.begin();
+            lookup.complete("L1", "abc123", "HIT");
+
+            ClickPublishEvent enqueue = new ClickPublishEvent();
+            enqueue.begin();
+            enqueue.complete(ClickPublishEvent.ENQUEUE, "abc123", 1, "QUEUED");
+
+            recording.stop();
+            recording.dump(file);
+        }
+
+        // then
+        List<RecordedEvent> events = RecordingFile.readAllEvents(file);
+        Files.deleteIfExists(file);
+
+        RecordedEvent lookup = single(events, CacheLookupEvent.NAME);
+        assertEquals("L1", lookup.getString("layer"));
+        assertEquals("abc123", lookup.getString("shortCode"));
+        assertEquals("HIT", lookup.getString("outcome"));
+
+        RecordedEvent enqueue = single(events, ClickPublishEvent.NAME);
+        assertEquals(ClickPublishEvent.ENQUEUE, enqueue.getString("phase"));
+        assertEquals(1, enqueue.getInt("batchSize"));
+    }
+
+    private static RecordedEvent single(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matched = events.stream()
+            .filter(event -> event.getEventType().getName().equals(name))
+            .toList();
+        assertEquals(1, matched.size());
+        return matched.get(0);
+    }
+}
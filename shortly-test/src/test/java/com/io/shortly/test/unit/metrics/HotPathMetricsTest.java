@@ -0,0 +1,72 @@
+package com.io.shortly.test.unit.metrics;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import com.io.shortly.shared.metrics.CacheMetrics;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("핫패스 메트릭 테스트")
+class HotPathMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final HotPathMetrics metrics = new HotPathMetrics(registry);
+
+    @Test
+    @DisplayName("캐시 조회는 레이어와 HIT/MISS 태그별로 기록")
+    void cacheGet_RecordedPerLayerAndResult() {
+        // given
+        CacheMetrics l1 = metrics.cache("L1");
+
+        // when
+        l1.recordGet(true, metrics.start());
+        l1.recordGet(true, metrics.start());
+        l1.recordGet(false, metrics.start());
+
+        // then
+        assertEquals(2, registry.get("shortly.cache.get").tags("layer", "L1", "result", "hit").timer().count());
+        assertEquals(1, registry.get("shortly.cache.get").tags("layer", "L1", "result", "miss").timer().count());
+    }
+
+    @Test
+    @DisplayName("같은 레이어는 동일한 미터 인스턴스를 재사용")
+    void cacheMetrics_ReusedPerLayer() {
+        assertSame(metrics.cache("L2"), metrics.cache("L2"));
+    }
+
+    @Test
+    @DisplayName("컨슈머 배치는 크기와 처리 시간을 함께 기록")
+    void consumerBatch_RecordsSizeAndDuration() {
+        // when
+        metrics.consumerBatch("url-clicked").record(500, metrics.start());
+
+        // then
+        DistributionSummary size = registry.get("shortly.consumer.batch.size").summary();
+        assertEquals(1, size.count());
+        assertEquals(500, size.totalAmount());
+        assertEquals(1, registry.get("shortly.consumer.batch.duration").timer().count());
+    }
+
+    @Test
+    @DisplayName("비활성화 시 시간 측정 없이 no-op")
+    void noop_RecordsNothing() {
+        // given
+        HotPathMetrics noop = HotPathMetrics.noop();
+
+        // when
+        noop.cache("L1").recordGet(true, noop.start());
+        noop.recordIdGeneration(noop.start());
+
+        // then
+        assertFalse(noop.isEnabled());
+        assertEquals(0L, noop.start());
+        assertEquals(0, registry.getMeters().stream()
+            .filter(meter -> meter.getId().getName().equals("shortly.cache.get"))
+            .count());
+    }
+}
@@ -0,0 +1,138 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.domain.ClickSampler;
+import com.io.shortly.redirect.infrastructure.sampling.AdaptiveClickSampler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("핫 링크 클릭 샘플링 테스트")
+class AdaptiveClickSamplerTest {
+
+    private static final long SECOND = 1_000_000_000L;
+    private static final int THRESHOLD = 100;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final AdaptiveClickSampler sampler = new AdaptiveClickSampler(
+        THRESHOLD, 64, Duration.ofSeconds(1), 1_000, Map.of("fixed1", 10), registry, clock::get);
+
+    @Test
+    @DisplayName("임계치 이하 링크는 모든 클릭을 가중치 1로 발행")
+    void belowThreshold_EmitsEveryClick() {
+        // when
+        long weights = clicks("abc123", THRESHOLD, 3);
+
+        // then
+        assertEquals(3L * THRESHOLD, weights);
+        assertEquals(1, sampler.rateOf("abc123"));
+        assertEquals(0.0, sampler.sampledOutShare());
+    }
+
+    @Test
+    @DisplayName("임계치를 넘은 다음 window부터 N건 중 1건만 가중치 N으로 발행, 가중치 합은 클릭 수와 일치")
+    void aboveThreshold_EmitsOneInN() {
+        // given: 첫 window 초당 1,000건 -> N = 8 (1000 / 100 이하의 2의 거듭제곱)
+        clicks("viral1", 1_000, 1);
+
+        // when
+        int emitted = 0;
+        long weights = 0;
+        for (int i = 0; i < 1_000; i++) {
+            int weight = sampler.sample("viral1");
+            if (weight != ClickSampler.DROP) {
+                emitted++;
+                weights += weight;
+            }
+        }
+
+        // then
+        assertEquals(8, sampler.rateOf("viral1"));
+        assertEquals(125, emitted);
+        assertEquals(1_000L, weights);
+    }
+
+    @Test
+    @DisplayName("샘플링 비율은 max-rate까지만 올라가고 발행량은 클릭 수의 1/N")
+    void emittedEventsGrowSubLinearly() {
+        // given
+        clicks("viral1", 100_000, 1);
+
+        // when
+        int emitted = emittedCount("viral1", 100_000);
+
+        // then
+        assertEquals(64, sampler.rateOf("viral1"));
+        assertTrue(emitted <= 100_000 / 64 + 1, "emitted=" + emitted);
+    }
+
+    @Test
+    @DisplayName("트래픽이 줄면 다음 window에서 다시 모든 클릭 발행")
+    void trafficDrops_StopsSampling() {
+        // given
+        clicks("viral1", 1_000, 2);
+        assertEquals(8, sampler.rateOf("viral1"));
+
+        // when
+        clicks("viral1", 50, 1);
+        sampler.sample("viral1");
+
+        // then
+        assertEquals(1, sampler.rateOf("viral1"));
+    }
+
+    @Test
+    @DisplayName("고정 비율 링크는 트래픽과 관계없이 지정한 비율로 발행")
+    void fixedRate_AlwaysSampled() {
+        // when
+        int emitted = emittedCount("fixed1", 100);
+
+        // then
+        assertEquals(10, emitted);
+        assertEquals(10, sampler.rateOf("fixed1"));
+    }
+
+    @Test
+    @DisplayName("직전 window에서 발행하지 않은 클릭 비율을 gauge로 노출")
+    void sampledOutShare_ExportedAsGauge() {
+        // given: 1초 동안 800건 -> 다음 window는 N = 8
+        clicks("viral1", 800, 2);
+
+        // when: window를 넘긴 첫 클릭에서 직전 window 비율 계산
+        sampler.sample("viral1");
+
+        // then
+        double share = registry.get("shortly.redirect.click.sampling.share").gauge().value();
+        assertEquals(sampler.sampledOutShare(), share);
+        assertEquals(7.0 / 8, share, 0.01);
+        assertEquals(1.0, registry.get("shortly.redirect.click.sampling.hot.links").gauge().value());
+    }
+
+    // window(1초)마다 perSecond 건씩 클릭하고 시계를 넘김. 발행된 이벤트의 가중치 합을 반환
+    private long clicks(String shortCode, int perSecond, int seconds) {
+        long weights = 0;
+        for (int second = 0; second < seconds; second++) {
+            for (int i = 0; i < perSecond; i++) {
+                weights += sampler.sample(shortCode);
+            }
+            clock.addAndGet(SECOND);
+        }
+        return weights;
+    }
+
+    private int emittedCount(String shortCode, int clicks) {
+        int emitted = 0;
+        for (int i = 0; i < clicks; i++) {
+            if (sampler.sample(shortCode) != ClickSampler.DROP) {
+                emitted++;
+            }
+        }
+        return emitted;
+    }
+}
@@ -0,0 +1,140 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.infrastructure.limit.AdaptiveConcurrencyLimiter;
+import com.io.shortly.redirect.infrastructure.limit.AdaptiveConcurrencyLimiter.Priority;
+import com.io.shortly.redirect.infrastructure.limit.GradientConcurrencyLimit;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("redirect 동시 처리 한도 테스트")
+class AdaptiveConcurrencyLimiterTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Test
+    @DisplayName("응답 시간이 기준 안이면 한도를 늘리고, tolerance 배를 넘으면 줄임")
+    void limit_FollowsLatencyGradient() {
+        // given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(100, 10, 1000, 10, 10, 2.0, 1.0);
+
+        // when - 한도까지 사용하면서 기준 응답 시간(1ms)으로 처리
+        runWindows(limit, 100, 1 * MILLIS, 3);
+        int grown = limit.limit();
+
+        // 응답 시간이 기준의 10배로 증가
+        runWindows(limit, grown, 10 * MILLIS, 1);
+        int shrunk = limit.limit();
+
+        // then
+        assertTrue(grown > 100);
+        assertTrue(shrunk < grown);
+    }
+
+    @Test
+    @DisplayName("동시 처리 수가 한도의 절반에 못 미치면 응답 시간이 늘어도 한도를 유지")
+    void limit_HeldWhenApplicationLimited() {
+        // given
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(100, 10, 1000, 10, 10, 2.0, 1.0);
+
+        // when
+        runWindows(limit, 10, 1 * MILLIS, 1);
+        runWindows(limit, 10, 50 * MILLIS, 3);
+
+        // then
+        assertEquals(100, limit.limit());
+    }
+
+    @Test
+    @DisplayName("한도에 가까우면 L1 miss(LOW)부터 거절하고 L1 hit(HIGH)은 한도까지 처리")
+    void lowPriority_ShedBeforeHighPriority() {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 0.5, Duration.ZERO);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            assertNotEquals(AdaptiveConcurrencyLimiter.REJECTED, limiter.tryAcquire(Priority.LOW));
+        }
+        long low = limiter.tryAcquire(Priority.LOW);
+        long high = limiter.tryAcquire(Priority.HIGH);
+
+        // then
+        assertEquals(AdaptiveConcurrencyLimiter.REJECTED, low);
+        assertNotEquals(AdaptiveConcurrencyLimiter.REJECTED, high);
+        assertEquals(6, limiter.inflight());
+        assertEquals(1.0, shedCount(Priority.LOW));
+        assertEquals(0.0, shedCount(Priority.HIGH));
+    }
+
+    @Test
+    @DisplayName("한도를 넘은 요청은 queue-timeout 안에 자리가 나면 처리, 아니면 거절")
+    void overLimit_WaitsUpToQueueTimeout() throws Exception {
+        // given
+        AdaptiveConcurrencyLimiter limiter = limiter(10, 1.0, Duration.ofSeconds(2));
+        long[] held = new long[10];
+        for (int i = 0; i < held.length; i++) {
+            held[i] = limiter.tryAcquire(Priority.HIGH);
+        }
+
+        // when
+        CompletableFuture<Long> queued = CompletableFuture.supplyAsync(() -> limiter.tryAcquire(Priority.HIGH));
+        Thread.sleep(50);
+        limiter.release(held[0]);
+
+        // then
+        assertNotEquals(AdaptiveConcurrencyLimiter.REJECTED, queued.get(1, TimeUnit.SECONDS));
+        assertEquals(1, meterRegistry.get("shortly.redirect.limiter.queue").timer().count());
+
+        AdaptiveConcurrencyLimiter noQueue = limiter(1, 1.0, Duration.ofMillis(10));
+        noQueue.tryAcquire(Priority.HIGH);
+        assertEquals(AdaptiveConcurrencyLimiter.REJECTED, noQueue.tryAcquire(Priority.HIGH));
+    }
+
+    @Test
+    @DisplayName("자리가 나면 먼저 기다린 LOW가 아니라 HIGH 대기자에게 넘김")
+    void release_HandsPermitToHighWaiterFirst() throws Exception {
+        // given: 한도 2, LOW는 1까지만 처리
+        AdaptiveConcurrencyLimiter limiter = limiter(2, 0.5, Duration.ofMillis(500));
+        long held = limiter.tryAcquire(Priority.HIGH);
+        limiter.tryAcquire(Priority.HIGH);
+        CompletableFuture<Long> low = CompletableFuture.supplyAsync(() -> limiter.tryAcquire(Priority.LOW));
+        Thread.sleep(50);
+        CompletableFuture<Long> high = CompletableFuture.supplyAsync(() -> limiter.tryAcquire(Priority.HIGH));
+        Thread.sleep(50);
+
+        // when
+        limiter.release(held);
+
+        // then
+        assertNotEquals(AdaptiveConcurrencyLimiter.REJECTED, high.get(200, TimeUnit.MILLISECONDS));
+        assertEquals(AdaptiveConcurrencyLimiter.REJECTED, low.get(1, TimeUnit.SECONDS));
+    }
+
+    private AdaptiveConcurrencyLimiter limiter(int fixedLimit, double lowPriorityShare, Duration queueTimeout) {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(
+            fixedLimit, fixedLimit, fixedLimit, 100, 10, 2.0, 0.2);
+        return new AdaptiveConcurrencyLimiter(limit, lowPriorityShare, queueTimeout, meterRegistry);
+    }
+
+    private static void runWindows(GradientConcurrencyLimit limit, int inflight, long rttNanos, int windows) {
+        for (int w = 0; w < windows; w++) {
+            limit.recordInflight(inflight);
+            for (int i = 0; i < 10; i++) {
+                limit.recordRtt(rttNanos);
+            }
+        }
+    }
+
+    private double shedCount(Priority priority) {
+        return meterRegistry.get("shortly.redirect.limiter.shed").tag("priority", priority.name()).counter().count();
+    }
+}
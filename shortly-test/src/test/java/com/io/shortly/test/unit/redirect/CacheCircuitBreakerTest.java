@@ -0,0 +1,132 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.infrastructure.cache.CacheCircuitBreaker;
+import com.io.shortly.redirect.infrastructure.cache.CacheCircuitBreaker.State;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("캐시 circuit breaker 테스트")
+class CacheCircuitBreakerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final AtomicLong clock = new AtomicLong();
+    private final CacheCircuitBreaker breaker = new CacheCircuitBreaker(
+        10, 4, 50, Duration.ofMillis(100), Duration.ofSeconds(5), 2, clock::get);
+
+    @Test
+    @DisplayName("실패 비율이 임계치를 넘으면 OPEN, 호출 없이 즉시 거절")
+    void failureRateExceeded_OpensAndRejects() {
+        // given
+        succeed();
+        succeed();
+
+        // when
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        // then
+        assertEquals(State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("응답이 느린 호출은 성공해도 실패로 집계")
+    void slowCalls_CountAsFailures() {
+        // when
+        for (int i = 0; i < 4; i++) {
+            long start = breaker.start();
+            clock.addAndGet(150 * MILLIS);
+            breaker.recordSuccess(start);
+        }
+
+        // then
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    @Test
+    @DisplayName("최소 호출 수 미만이면 실패해도 CLOSED 유지")
+    void belowMinimumCalls_StaysClosed() {
+        // when
+        breaker.recordFailure();
+        breaker.recordFailure();
+        breaker.recordFailure();
+
+        // then
+        assertEquals(State.CLOSED, breaker.state());
+        assertTrue(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("OPEN 시간이 지나면 probe를 하나씩만 허용하고, 연속 성공 시 CLOSED")
+    void halfOpen_SingleProbe_ClosesAfterSuccesses() {
+        // given
+        open();
+        clock.addAndGet(5_000 * MILLIS);
+
+        // when & then
+        assertTrue(breaker.tryAcquire());
+        assertEquals(State.HALF_OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+
+        succeed();
+        assertTrue(breaker.tryAcquire());
+        succeed();
+        assertEquals(State.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate());
+    }
+
+    @Test
+    @DisplayName("probe가 실패하면 다시 OPEN")
+    void halfOpen_ProbeFailure_Reopens() {
+        // given
+        open();
+        clock.addAndGet(5_000 * MILLIS);
+        assertTrue(breaker.tryAcquire());
+
+        // when
+        breaker.recordFailure();
+
+        // then
+        assertEquals(State.OPEN, breaker.state());
+        assertFalse(breaker.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("결과 없이 반환된 probe permit은 다음 probe를 허용하고 상태는 유지")
+    void halfOpen_ReleasedProbe_AllowsNextProbe() {
+        // given
+        open();
+        clock.addAndGet(5_000 * MILLIS);
+        assertTrue(breaker.tryAcquire());
+        assertFalse(breaker.tryAcquire());
+
+        // when
+        breaker.release();
+
+        // then
+        assertEquals(State.HALF_OPEN, breaker.state());
+        assertTrue(breaker.tryAcquire());
+        succeed();
+        assertTrue(breaker.tryAcquire());
+        succeed();
+        assertEquals(State.CLOSED, breaker.state());
+    }
+
+    private void open() {
+        for (int i = 0; i < 4; i++) {
+            breaker.recordFailure();
+        }
+        assertEquals(State.OPEN, breaker.state());
+    }
+
+    private void succeed() {
+        breaker.recordSuccess(breaker.start());
+    }
+}
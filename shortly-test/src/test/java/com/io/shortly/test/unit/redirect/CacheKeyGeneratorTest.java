@@ -0,0 +1,24 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.io.shortly.redirect.infrastructure.cache.CacheKeyGenerator;
+import com.io.shortly.redirect.infrastructure.cache.CacheLayer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("캐시 키 생성 테스트")
+class CacheKeyGeneratorTest {
+
+    @Test
+    @DisplayName("L2 키는 배포 전후로 기존 항목을 그대로 읽도록 prefix + shortCode 형식 유지")
+    void l2Key_Plain() {
+        assertEquals("redirect:l2:abc123", CacheKeyGenerator.generateCacheKey(CacheLayer.L2, "abc123"));
+    }
+
+    @Test
+    @DisplayName("L1 키는 prefix + shortCode")
+    void l1Key_Plain() {
+        assertEquals("redirect:l1:abc123", CacheKeyGenerator.generateCacheKey(CacheLayer.L1, "abc123"));
+    }
+}
@@ -0,0 +1,80 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.infrastructure.cache.peer.ConsistentHashRing;
+import com.io.shortly.shared.shortcode.ShortCode;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Consistent hash 링 테스트")
+class ConsistentHashRingTest {
+
+    private static final int KEYS = 100_000;
+    private static final List<String> NODES = List.of(
+        "http://10.0.0.1:8082", "http://10.0.0.2:8082", "http://10.0.0.3:8082", "http://10.0.0.4:8082");
+
+    @Test
+    @DisplayName("가상 노드로 각 노드가 코드 공간을 고르게 분담")
+    void ownerOf_EvenDistribution() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 128);
+        Map<String, Integer> owned = new HashMap<>();
+
+        // when
+        for (int i = 0; i < KEYS; i++) {
+            owned.merge(ring.ownerOf(ShortCode.encode(1_000_000L + i * 7919L)), 1, Integer::sum);
+        }
+
+        // then - 노드당 기대치 25% 기준 ±20% 이내
+        for (String node : NODES) {
+            int count = owned.getOrDefault(node, 0);
+            assertTrue(Math.abs(count - KEYS / 4) < KEYS / 4 / 5, node + " 담당 수: " + count);
+        }
+    }
+
+    @Test
+    @DisplayName("노드 추가 시 새 노드로 옮겨가는 코드만 담당이 바뀜")
+    void addNode_OnlyMovesKeysToNewNode() {
+        // given
+        ConsistentHashRing before = new ConsistentHashRing(NODES, 128);
+        List<String> scaled = new ArrayList<>(NODES);
+        scaled.add("http://10.0.0.5:8082");
+        ConsistentHashRing after = new ConsistentHashRing(scaled, 128);
+
+        // when
+        int moved = 0;
+        for (int i = 0; i < KEYS; i++) {
+            String code = ShortCode.encode(1_000_000L + i * 7919L);
+            String previousOwner = before.ownerOf(code);
+            String newOwner = after.ownerOf(code);
+            if (!previousOwner.equals(newOwner)) {
+                moved++;
+                assertEquals("http://10.0.0.5:8082", newOwner);
+            }
+        }
+
+        // then - 약 1/5만 이동
+        assertTrue(moved < KEYS * 0.25, "이동한 코드 수: " + moved);
+        assertTrue(moved > KEYS * 0.15, "이동한 코드 수: " + moved);
+    }
+
+    @Test
+    @DisplayName("멤버 입력 순서와 무관하게 같은 담당 노드")
+    void ownerOf_IndependentOfMemberOrder() {
+        // given
+        ConsistentHashRing ring = new ConsistentHashRing(NODES, 64);
+        ConsistentHashRing reversed = new ConsistentHashRing(NODES.reversed(), 64);
+
+        // when & then
+        for (int i = 0; i < 1000; i++) {
+            String code = ShortCode.encode(i * 104_729L);
+            assertEquals(ring.ownerOf(code), reversed.ownerOf(code));
+        }
+    }
+}
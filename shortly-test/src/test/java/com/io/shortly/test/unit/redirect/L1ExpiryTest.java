@@ -0,0 +1,84 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RedirectPeerLookup;
+import com.io.shortly.redirect.infrastructure.cache.caffeine.CaffeineConfig;
+import com.io.shortly.test.unit.redirect.mock.FakeRedirectPeerLookup;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+@DisplayName("L1 항목 만료 테스트")
+class L1ExpiryTest {
+
+    private static final Duration MAX_TTL = Duration.ofMinutes(10);
+    private static final Duration NEAR_TTL = Duration.ofSeconds(2);
+
+    @Test
+    @DisplayName("만료 시각이 없는 링크도 max-ttl 이후 만료 (무효화 메시지 유실 대비)")
+    void noExpiry_BoundedByMaxTtl() {
+        // given
+        Cache<String, Redirect> cache = cache(null);
+
+        // when
+        cache.put("abc123", Redirect.create("abc123", "https://example.com", 1L));
+
+        // then
+        assertEquals(MAX_TTL, expiresAfter(cache, "abc123"));
+    }
+
+    @Test
+    @DisplayName("링크 만료 시각이 max-ttl보다 가까우면 링크 만료 시각까지만 보관")
+    void linkExpiry_ShorterThanMaxTtl() {
+        // given
+        Cache<String, Redirect> cache = cache(null);
+        Redirect redirect = Redirect.create("abc123", "https://example.com", 1L)
+            .expiringAt(Instant.now().plus(Duration.ofMinutes(1)));
+
+        // when
+        cache.put("abc123", redirect);
+
+        // then
+        Duration expiresAfter = expiresAfter(cache, "abc123");
+        assertTrue(expiresAfter.compareTo(Duration.ofMinutes(1)) <= 0, "expiresAfter=" + expiresAfter);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 담당하는 코드는 near-ttl, 담당 코드는 max-ttl")
+    void peerEntries_NearTtl() {
+        // given
+        FakeRedirectPeerLookup peerLookup = new FakeRedirectPeerLookup();
+        peerLookup.registerOnPeer("remote1", "https://example.com/remote");
+        Cache<String, Redirect> cache = cache(peerLookup);
+
+        // when
+        cache.put("remote1", Redirect.create("remote1", "https://example.com/remote", 1L));
+        cache.put("owned1", Redirect.create("owned1", "https://example.com/owned", 1L));
+
+        // then
+        assertEquals(NEAR_TTL, expiresAfter(cache, "remote1"));
+        assertEquals(MAX_TTL, expiresAfter(cache, "owned1"));
+    }
+
+    private Cache<String, Redirect> cache(RedirectPeerLookup peerLookup) {
+        StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+        if (peerLookup != null) {
+            beanFactory.addBean("peerLookup", peerLookup);
+        }
+        return new CaffeineConfig(1_000, MAX_TTL, NEAR_TTL)
+            .caffeineCache(beanFactory.getBeanProvider(RedirectPeerLookup.class));
+    }
+
+    // 방금 기록한 항목이므로 남은 시간을 초 단위로 맞춰 비교
+    private Duration expiresAfter(Cache<String, Redirect> cache, String key) {
+        Duration remaining = cache.policy().expireVariably().orElseThrow()
+            .getExpiresAfter(key).orElseThrow();
+        return Duration.ofSeconds((remaining.toMillis() + 500) / 1000);
+    }
+}
@@ -0,0 +1,94 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.infrastructure.cache.CachedRedirectMapper;
+import com.io.shortly.redirect.infrastructure.cache.redis.L2TtlPolicy;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("L2 TTL 정책 테스트")
+class L2TtlPolicyTest {
+
+    private static final long NOW = 1_000_000L;
+    private static final long MINUTE = 60_000L;
+
+    private final Redirect redirect = Redirect.create(1L, "abc123", "https://example.com");
+
+    @Test
+    @DisplayName("새 항목은 초기 TTL, 연장 시 growth배씩 최대 TTL까지")
+    void ttl_GrowsUntilMax() {
+        // given
+        L2TtlPolicy policy = policy(0.0, 0.5);
+
+        // when & then
+        assertEquals(10 * MINUTE, policy.ttlMillis(redirect, 0L, NOW));
+        assertEquals(20 * MINUTE, policy.ttlMillis(redirect, 10 * MINUTE, NOW));
+        assertEquals(60 * MINUTE, policy.ttlMillis(redirect, 40 * MINUTE, NOW));
+    }
+
+    @Test
+    @DisplayName("jitter는 TTL을 줄이는 방향으로만 적용")
+    void jitter_ShortensTtl() {
+        // given
+        L2TtlPolicy policy = policy(0.1, 1.0);
+
+        // when
+        long ttl = policy.ttlMillis(redirect, 0L, NOW);
+
+        // then
+        assertEquals(9 * MINUTE, ttl);
+    }
+
+    @Test
+    @DisplayName("링크 만료 시각을 넘지 않음")
+    void ttl_CappedByLinkExpiry() {
+        // given
+        L2TtlPolicy policy = policy(0.0, 0.5);
+        Redirect expiring = redirect.expiringAt(Instant.ofEpochMilli(NOW + MINUTE));
+
+        // when & then
+        assertEquals(MINUTE, policy.ttlMillis(expiring, 40 * MINUTE, NOW));
+    }
+
+    @Test
+    @DisplayName("XFetch - 만료가 가까울수록 미리 갱신, 필드 없는 이전 항목은 갱신하지 않음")
+    void shouldRefresh_NearExpiryOnly() {
+        // given
+        L2TtlPolicy policy = policy(0.0, 0.5);
+        CachedRedirect farFromExpiry = CachedRedirectMapper.toCached(redirect, 10 * MINUTE, NOW);
+        CachedRedirect nearExpiry = CachedRedirectMapper.toCached(redirect, 10 * MINUTE, NOW - 10 * MINUTE + 1_000L);
+        CachedRedirect legacy = CachedRedirectMapper.toCached(redirect, 0L, NOW);
+
+        // when & then
+        assertFalse(policy.shouldRefresh(farFromExpiry, NOW));
+        assertTrue(policy.shouldRefresh(nearExpiry, NOW));
+        assertFalse(policy.shouldRefresh(legacy, NOW));
+    }
+
+    @Test
+    @DisplayName("L1 재적재 - 남은 TTL이 L1 항목 수명보다 짧으면 만료 구간 전이라도 연장")
+    void shouldRefresh_BeforeNextL1Reload() {
+        // given: L1 항목은 최대 5분마다 L2에서 다시 읽음
+        L2TtlPolicy policy = new L2TtlPolicy(Duration.ofMinutes(10), Duration.ofHours(1), 2.0, 0.0,
+            Duration.ofSeconds(30), 1.0, Duration.ofMinutes(5), () -> 0.5);
+        CachedRedirect sixMinutesLeft = CachedRedirectMapper.toCached(redirect, 10 * MINUTE, NOW - 4 * MINUTE);
+        CachedRedirect fourMinutesLeft = CachedRedirectMapper.toCached(redirect, 10 * MINUTE, NOW - 6 * MINUTE);
+
+        // when & then
+        assertFalse(policy.shouldRefresh(sixMinutesLeft, NOW));
+        assertTrue(policy.shouldRefresh(fourMinutesLeft, NOW));
+    }
+
+    // random 고정: delta(30s) * -ln(0.5) ≈ 20.8s 이내로 남은 항목만 갱신
+    private L2TtlPolicy policy(double jitter, double random) {
+        return new L2TtlPolicy(Duration.ofMinutes(10), Duration.ofHours(1), 2.0, jitter,
+            Duration.ofSeconds(30), 1.0, Duration.ZERO, () -> random);
+    }
+}
@@ -0,0 +1,55 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.io.shortly.redirect.infrastructure.management.LocalOnlyFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+@DisplayName("운영용 actuator loopback 제한 테스트")
+class LocalOnlyFilterTest {
+
+    private final LocalOnlyFilter filter = new LocalOnlyFilter();
+
+    @Test
+    @DisplayName("컨테이너 안(loopback)에서 보낸 요청은 통과")
+    void loopback_Allowed() throws Exception {
+        // given
+        MockFilterChain chain = new MockFilterChain();
+
+        // when
+        filter.doFilter(request("127.0.0.1"), new MockHttpServletResponse(), chain);
+        MockFilterChain ipv6Chain = new MockFilterChain();
+        filter.doFilter(request("0:0:0:0:0:0:0:1"), new MockHttpServletResponse(), ipv6Chain);
+
+        // then
+        assertNotNull(chain.getRequest());
+        assertNotNull(ipv6Chain.getRequest());
+    }
+
+    @Test
+    @DisplayName("공개 포트로 들어온 외부 요청은 403")
+    void remote_Forbidden() throws Exception {
+        // given
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // when
+        filter.doFilter(request("172.18.0.1"), response, chain);
+
+        // then
+        assertEquals(403, response.getStatus());
+        assertNull(chain.getRequest());
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/actuator/jfr");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,96 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RedirectCacheService;
+import com.io.shortly.test.unit.redirect.mock.FakeRedirectCache;
+import com.io.shortly.test.unit.redirect.mock.FakeRedirectPeerLookup;
+import com.io.shortly.test.unit.redirect.mock.FakeUrlFetcher;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RedirectCacheService peer 계층 단위 테스트")
+class PeerRedirectCacheServiceTest {
+
+    private FakeRedirectCache l1Cache;
+    private FakeRedirectCache l2Cache;
+    private FakeUrlFetcher urlFetcher;
+    private FakeRedirectPeerLookup peerLookup;
+    private RedirectCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        l1Cache = new FakeRedirectCache();
+        l2Cache = new FakeRedirectCache();
+        urlFetcher = new FakeUrlFetcher();
+        peerLookup = new FakeRedirectPeerLookup();
+        cacheService = new RedirectCacheService(l1Cache, l2Cache, urlFetcher, peerLookup);
+    }
+
+    @Test
+    @DisplayName("담당 peer가 응답하면 L2와 URL Service를 조회하지 않음")
+    void findRedirect_PeerFound_SkipsL2AndFetcher() {
+        // given
+        peerLookup.registerOnPeer("abc123", "https://example.com");
+        urlFetcher.register("abc123", "https://example.com");
+
+        // when
+        Optional<Redirect> result = cacheService.findRedirect("abc123");
+
+        // then
+        assertEquals("https://example.com", result.orElseThrow().getTargetUrl());
+        assertEquals(0, urlFetcher.getFetchCallCount());
+        assertFalse(l2Cache.contains("abc123"));
+        assertTrue(l1Cache.contains("abc123"));
+    }
+
+    @Test
+    @DisplayName("담당 peer가 미존재로 응답하면 URL Service를 다시 조회하지 않음")
+    void findRedirect_PeerNotFound_ReturnsEmpty() {
+        // given
+        peerLookup.registerMissingOnPeer("nope42");
+
+        // when
+        Optional<Redirect> result = cacheService.findRedirect("nope42");
+
+        // then
+        assertTrue(result.isEmpty());
+        assertEquals(0, urlFetcher.getFetchCallCount());
+    }
+
+    @Test
+    @DisplayName("이 노드가 담당하는 코드는 L2 -> URL Service 순서로 조회")
+    void findRedirect_OwnedLocally_LoadsFromRemote() {
+        // given
+        urlFetcher.register("abc123", "https://example.com");
+
+        // when
+        Optional<Redirect> result = cacheService.findRedirect("abc123");
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals(1, peerLookup.getLookupCallCount());
+        assertTrue(l2Cache.contains("abc123"));
+    }
+
+    @Test
+    @DisplayName("peer 요청 처리 시 다시 peer로 전달하지 않음")
+    void findOwnedRedirect_NeverForwardsToPeer() {
+        // given - 링 정보가 달라 이 노드 기준으로는 다른 peer 담당인 상황
+        peerLookup.registerOnPeer("abc123", "https://example.com");
+        urlFetcher.register("abc123", "https://example.com");
+
+        // when
+        Optional<Redirect> result = cacheService.findOwnedRedirect("abc123");
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals(0, peerLookup.getLookupCallCount());
+        assertEquals(1, urlFetcher.getFetchCallCount());
+    }
+}
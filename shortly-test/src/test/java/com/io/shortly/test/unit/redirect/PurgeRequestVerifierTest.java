@@ -0,0 +1,51 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.infrastructure.edge.PurgeRequestVerifier;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+@DisplayName("edge purge 요청 판별 테스트")
+class PurgeRequestVerifierTest {
+
+    private final PurgeRequestVerifier verifier =
+        new PurgeRequestVerifier(true, "http://127.0.0.1:8080", Duration.ofSeconds(30));
+
+    @Test
+    @DisplayName("purge server 주소에서 헤더를 붙여 보낸 요청만 purge로 인정")
+    void purgeServer_Accepted() {
+        // when & then
+        assertTrue(verifier.isPurge(request("127.0.0.1", true)));
+        assertFalse(verifier.isPurge(request("127.0.0.1", false)));
+    }
+
+    @Test
+    @DisplayName("공개 포트로 직접 들어온 요청의 헤더는 무시")
+    void otherSource_Ignored() {
+        // when & then
+        assertFalse(verifier.isPurge(request("172.18.0.1", true)));
+    }
+
+    @Test
+    @DisplayName("purge가 꺼져 있으면 헤더를 항상 무시")
+    void purgeDisabled_Ignored() {
+        // given
+        PurgeRequestVerifier disabled = new PurgeRequestVerifier(false, "http://127.0.0.1:8080", Duration.ofSeconds(30));
+
+        // when & then
+        assertFalse(disabled.isPurge(request("127.0.0.1", true)));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr, boolean purgeHeader) {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/r/abc123");
+        request.setRemoteAddr(remoteAddr);
+        if (purgeHeader) {
+            request.addHeader(PurgeRequestVerifier.PURGE_HEADER, "1");
+        }
+        return request;
+    }
+}
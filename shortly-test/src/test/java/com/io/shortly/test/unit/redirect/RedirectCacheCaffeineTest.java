@@ -0,0 +1,59 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.infrastructure.cache.caffeine.RedirectCacheCaffeineImpl;
+import com.io.shortly.redirect.infrastructure.cache.caffeine.WarmingAdmission;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("L1 Caffeine 캐시 테스트")
+class RedirectCacheCaffeineTest {
+
+    private final Cache<String, Redirect> caffeineCache = Caffeine.newBuilder()
+        .maximumSize(100)
+        .recordStats()
+        .build();
+    private final RedirectCacheCaffeineImpl l1 = new RedirectCacheCaffeineImpl(
+        caffeineCache,
+        new WarmingAdmission(new SimpleMeterRegistry(), "always", 10, Duration.ofMinutes(5)),
+        HotPathMetrics.noop());
+
+    @Test
+    @DisplayName("miss 후 적재, 다음 조회 hit - Caffeine 통계에 miss 1건, hit 1건만 기록")
+    void getOrLoad_RecordsEachLookupOnce() {
+        // when
+        l1.getOrLoad("abc123", () -> Redirect.create("abc123", "https://example.com", 1L));
+        l1.getOrLoad("abc123", () -> {
+            throw new AssertionError("hit에서는 loader를 호출하지 않아야 함");
+        });
+
+        // then
+        CacheStats stats = caffeineCache.stats();
+        assertEquals(1, stats.missCount());
+        assertEquals(1, stats.hitCount());
+        assertEquals(1, stats.loadSuccessCount());
+    }
+
+    @Test
+    @DisplayName("loader가 null을 반환하면 캐싱하지 않고, 조회마다 miss 1건씩 기록")
+    void getOrLoad_NotFound_NotCached() {
+        // when
+        Redirect first = l1.getOrLoad("abc123", () -> null);
+        Redirect second = l1.getOrLoad("abc123", () -> null);
+
+        // then
+        assertNull(first);
+        assertNull(second);
+        assertEquals(0, caffeineCache.estimatedSize());
+        assertEquals(2, caffeineCache.stats().missCount());
+    }
+}
@@ -0,0 +1,189 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RedirectCacheService;
+import com.io.shortly.redirect.domain.RedirectLookupRecorder.ServedBy;
+import com.io.shortly.redirect.domain.RedirectPeerLookup;
+import com.io.shortly.test.unit.redirect.mock.FakeRedirectCache;
+import com.io.shortly.test.unit.redirect.mock.FakeRedirectLookupRecorder;
+import com.io.shortly.test.unit.redirect.mock.FakeUrlFetcher;
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("RedirectCacheService 단위 테스트")
+class RedirectCacheServiceTest {
+
+    private FakeRedirectCache l1Cache;
+    private FakeRedirectCache l2Cache;
+    private FakeUrlFetcher urlFetcher;
+    private RedirectCacheService cacheService;
+
+    @BeforeEach
+    void setUp() {
+        l1Cache = new FakeRedirectCache();
+        l2Cache = new FakeRedirectCache();
+        urlFetcher = new FakeUrlFetcher();
+        cacheService = new RedirectCacheService(l1Cache, l2Cache, urlFetcher);
+    }
+
+    @Test
+    @DisplayName("미존재 단축 코드 - 예외 없이 빈 결과 반환, 캐싱하지 않음")
+    void findRedirect_NotFound_ReturnsEmptyWithoutCaching() {
+        // when
+        Optional<Redirect> result = cacheService.findRedirect("nope42");
+
+        // then
+        assertTrue(result.isEmpty());
+        assertFalse(l1Cache.contains("nope42"));
+        assertFalse(l2Cache.contains("nope42"));
+        assertEquals(1, urlFetcher.getFetchCallCount());
+    }
+
+    @Test
+    @DisplayName("요청마다 응답을 제공한 계층을 기록 - L1, L2, 원본 조회, 미존재")
+    void findRedirect_RecordsServingLayer() {
+        // given
+        FakeRedirectLookupRecorder recorder = new FakeRedirectLookupRecorder();
+        RedirectCacheService recorded = new RedirectCacheService(
+            l1Cache, l2Cache, urlFetcher, RedirectPeerLookup.local(), recorder);
+        l2Cache.put(Redirect.create("inl2aa", "https://example.com/l2"));
+        urlFetcher.register("remote", "https://example.com/remote");
+
+        // when
+        recorded.findRedirect("inl2aa");
+        recorded.findRedirect("inl2aa");
+        recorded.findRedirect("remote");
+        recorded.findRedirect("nope42");
+
+        // then
+        assertEquals(List.of(ServedBy.L2, ServedBy.L1, ServedBy.FALLBACK, ServedBy.NOT_FOUND),
+            recorder.getRecorded());
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 각 계층은 이전 계층의 miss만 조회하고, 비활성화 코드는 결과에서 제외")
+    void findRedirects_ResolvesThroughLayers() {
+        // given
+        l1Cache.put(Redirect.create(1L, "inl1aa", "https://example.com/l1"));
+        l2Cache.put(Redirect.create(2L, "inl2aa", "https://example.com/l2"));
+        l2Cache.put(Redirect.disabled("gone01", 3L));
+        urlFetcher.register("remote", "https://example.com/remote");
+
+        // when
+        Map<String, Redirect> result = cacheService.findRedirects(
+            List.of("inl1aa", "inl2aa", "gone01", "remote", "nope42"));
+
+        // then
+        assertEquals(3, result.size());
+        assertEquals("https://example.com/l2", result.get("inl2aa").getTargetUrl());
+        assertEquals("https://example.com/remote", result.get("remote").getTargetUrl());
+        assertEquals(List.of(List.of("remote", "nope42")), urlFetcher.getBatchRequests());
+        assertEquals(1, l2Cache.getFillCount());
+        assertTrue(l1Cache.contains("inl2aa"));
+        assertTrue(l1Cache.contains("remote"));
+    }
+
+    @Test
+    @DisplayName("warming 분리 적재 - putLocal은 L1만, putShared는 L2만 기록")
+    void putLocalAndShared_WriteSingleLayer() {
+        // given
+        Redirect local = Redirect.create(1L, "local1", "https://example.com/local");
+        Redirect shared = Redirect.create(2L, "share1", "https://example.com/shared");
+
+        // when
+        cacheService.putLocal(local);
+        cacheService.putShared(shared);
+
+        // then
+        assertTrue(l1Cache.contains("local1"));
+        assertFalse(l2Cache.contains("local1"));
+        assertFalse(l1Cache.contains("share1"));
+        assertTrue(l2Cache.contains("share1"));
+    }
+
+    @Test
+    @DisplayName("L1/L2 미스 후 조회 성공 - L1과 L2 모두 적재")
+    void findRedirect_Found_FillsBothLayers() {
+        // given
+        urlFetcher.register("abc123", "https://example.com");
+
+        // when
+        Optional<Redirect> result = cacheService.findRedirect("abc123");
+
+        // then
+        assertEquals("https://example.com", result.orElseThrow().getTargetUrl());
+        assertTrue(l1Cache.contains("abc123"));
+        assertTrue(l2Cache.contains("abc123"));
+        assertEquals(1, l2Cache.getFillCount());
+    }
+
+    @Test
+    @DisplayName("L1 HIT - URL Service를 호출하지 않음")
+    void findRedirect_L1Hit_SkipsFetcher() {
+        // given
+        l1Cache.put(Redirect.create("abc123", "https://example.com"));
+
+        // when
+        Optional<Redirect> result = cacheService.findRedirect("abc123");
+
+        // then
+        assertTrue(result.isPresent());
+        assertEquals(0, urlFetcher.getFetchCallCount());
+    }
+
+    @Test
+    @DisplayName("늦게 도착한 이전 version 쓰기는 최신 값을 덮어쓰지 않음")
+    void put_OlderVersionAfterNewer_KeepsNewer() {
+        // given - 변경 이벤트(v2)가 생성 이벤트(v0)보다 먼저 도착
+        cacheService.put(Redirect.create("abc123", "https://example.com/v2", 2L));
+
+        // when
+        cacheService.put(Redirect.create(1L, "abc123", "https://example.com/v0"));
+
+        // then
+        assertEquals("https://example.com/v2", cacheService.findRedirect("abc123").orElseThrow().getTargetUrl());
+        assertEquals(2L, l2Cache.get("abc123").orElseThrow().getVersion());
+    }
+
+    @Test
+    @DisplayName("비활성화 tombstone - L1/L2에 남지만 조회 결과는 비어 있고 URL Service를 호출하지 않음")
+    void put_DisabledTombstone_HidesRedirect() {
+        // given
+        urlFetcher.register("abc123", "https://example.com");
+        cacheService.findRedirect("abc123");
+
+        // when
+        cacheService.put(Redirect.disabled("abc123", 1L));
+        cacheService.put(Redirect.create(1L, "abc123", "https://example.com"));
+
+        // then
+        assertTrue(cacheService.findRedirect("abc123").isEmpty());
+        assertTrue(cacheService.findOwnedRedirect("abc123").isEmpty());
+        assertTrue(l2Cache.get("abc123").orElseThrow().isDisabled());
+        assertEquals(1, urlFetcher.getFetchCallCount());
+    }
+
+    @Test
+    @DisplayName("만료 시각이 지난 항목 - 캐시에 남아 있어도 조회 결과는 비어 있음")
+    void findRedirect_Expired_ReturnsEmpty() {
+        // given
+        l1Cache.put(Redirect.create("abc123", "https://example.com", 1L)
+            .expiringAt(Instant.now().minusSeconds(1)));
+        l1Cache.put(Redirect.create("live01", "https://example.com", 1L)
+            .expiringAt(Instant.now().plusSeconds(60)));
+
+        // when & then
+        assertTrue(cacheService.findRedirect("abc123").isEmpty());
+        assertTrue(cacheService.findRedirect("live01").isPresent());
+        assertEquals(0, urlFetcher.getFetchCallCount());
+    }
+}
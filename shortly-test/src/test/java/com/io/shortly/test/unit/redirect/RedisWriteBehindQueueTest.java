@@ -0,0 +1,140 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.infrastructure.cache.redis.RedisWriteBehindQueue;
+import com.io.shortly.redirect.infrastructure.cache.redis.RedisWriteBehindQueue.Entry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("L2 write-behind 큐 테스트")
+class RedisWriteBehindQueueTest {
+
+    // 주기 flush가 끼어들지 않도록 start()를 호출하지 않고, stop()의 마지막 flush로 기록 결과를 확인
+    private static final Duration FLUSH_INTERVAL = Duration.ofMillis(10);
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final List<List<Entry>> batches = new CopyOnWriteArrayList<>();
+    private RedisWriteBehindQueue queue;
+
+    @AfterEach
+    void tearDown() {
+        if (queue != null) {
+            queue.stop();
+        }
+    }
+
+    @Test
+    @DisplayName("같은 코드는 하나로 합쳐지고 더 높은 version이 남음")
+    void sameCode_CoalescedToHighestVersion() {
+        // given
+        queue = queue(100, 100);
+
+        // when
+        queue.offer(redirect("abc123", 1L), 0L);
+        queue.offer(redirect("abc123", 3L), 0L);
+        queue.offer(redirect("abc123", 2L), 0L);
+
+        // then
+        assertEquals(1, queue.depth());
+        assertEquals(2.0, counter("shortly.cache.write.behind.coalesced"));
+
+        queue.stop();
+        List<Entry> written = written();
+        assertEquals(1, written.size());
+        assertEquals(3L, written.getFirst().redirect().getVersion());
+    }
+
+    @Test
+    @DisplayName("같은 version이면 더 길게 연장하는 쪽(이전 TTL이 큰 항목)을 유지")
+    void sameVersion_KeepsLongerExtension() {
+        // given
+        queue = queue(100, 100);
+
+        // when
+        queue.offer(redirect("abc123", 1L), 60_000L);
+        queue.offer(redirect("abc123", 1L), 0L);
+
+        // then
+        queue.stop();
+        assertEquals(60_000L, written().getFirst().previousTtlMillis());
+    }
+
+    @Test
+    @DisplayName("max-pending에 도달하면 새 코드는 버리고, 이미 대기 중인 코드는 계속 합쳐짐")
+    void full_DropsNewKeysOnly() {
+        // given
+        queue = queue(2, 100);
+        queue.offer(redirect("abc123", 1L), 0L);
+        queue.offer(redirect("abc124", 1L), 0L);
+
+        // when
+        queue.offer(redirect("abc125", 1L), 0L);
+        queue.offer(redirect("abc123", 2L), 0L);
+
+        // then
+        assertEquals(2, queue.depth());
+        assertEquals(1.0, counter("shortly.cache.write.behind.dropped"));
+        assertEquals(1.0, counter("shortly.cache.write.behind.coalesced"));
+
+        queue.stop();
+        List<String> codes = written().stream().map(entry -> entry.redirect().getShortCode()).sorted().toList();
+        assertEquals(List.of("abc123", "abc124"), codes);
+    }
+
+    @Test
+    @DisplayName("batch-size만큼 모이면 주기를 기다리지 않고 기록, 기록 후 depth는 0")
+    void batchSizeReached_FlushesImmediately() {
+        // given
+        queue = queue(100, 2);
+
+        // when
+        queue.offer(redirect("abc123", 1L), 0L);
+        queue.offer(redirect("abc124", 1L), 0L);
+
+        // then
+        await().atMost(Duration.ofSeconds(2)).until(() -> written().size() == 2);
+        assertEquals(0, queue.depth());
+        assertEquals(1, batches.size());
+    }
+
+    @Test
+    @DisplayName("기록 실패는 예외를 전파하지 않고 해당 배치를 버림 (다음 조회에서 다시 채워짐)")
+    void writerFailure_BatchDiscarded() {
+        // given
+        queue = new RedisWriteBehindQueue(batch -> {
+            throw new IllegalStateException("redis down");
+        }, 100, 100, FLUSH_INTERVAL, meterRegistry);
+        queue.offer(redirect("abc123", 1L), 0L);
+
+        // when
+        queue.stop();
+
+        // then
+        assertEquals(0, queue.depth());
+    }
+
+    private RedisWriteBehindQueue queue(int maxPending, int batchSize) {
+        return new RedisWriteBehindQueue(batch -> batches.add(List.copyOf(batch)), maxPending, batchSize,
+            FLUSH_INTERVAL, meterRegistry);
+    }
+
+    private List<Entry> written() {
+        return batches.stream().flatMap(List::stream).toList();
+    }
+
+    private double counter(String name) {
+        return meterRegistry.get(name).counter().count();
+    }
+
+    private static Redirect redirect(String shortCode, long version) {
+        return Redirect.create(shortCode, "https://example.com/" + shortCode, version);
+    }
+}
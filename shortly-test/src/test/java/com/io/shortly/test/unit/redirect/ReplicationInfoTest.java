@@ -0,0 +1,60 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.io.shortly.redirect.infrastructure.cache.redis.ReplicationInfo;
+import java.util.Properties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Redis 복제 지연 계산 테스트")
+class ReplicationInfoTest {
+
+    @Test
+    @DisplayName("master offset과 replica offset 차이로 지연 byte 계산")
+    void lagBytes_FromOffsets() {
+        // given
+        Properties info = new Properties();
+        info.setProperty("role", "master");
+        info.setProperty("connected_slaves", "2");
+        info.setProperty("slave0", "ip=172.18.0.3,port=6379,state=online,offset=10231,lag=0");
+        info.setProperty("slave1", "ip=172.18.0.4,port=6379,state=online,offset=8000,lag=1");
+        info.setProperty("master_repl_offset", "10245");
+
+        // when
+        ReplicationInfo replication = ReplicationInfo.parse(info);
+
+        // then
+        assertEquals(2, replication.replicas().size());
+        assertEquals(14, replication.lagBytes("172.18.0.3:6379"));
+        assertEquals(2245, replication.lagBytes("172.18.0.4:6379"));
+    }
+
+    @Test
+    @DisplayName("동기화 중이거나 master가 모르는 replica는 지연 무한대")
+    void lagBytes_NotOnlineOrUnknown_MaxValue() {
+        // given
+        Properties info = new Properties();
+        info.setProperty("slave0", "ip=172.18.0.3,port=6379,state=wait_bgsave,offset=0,lag=0");
+        info.setProperty("master_repl_offset", "10245");
+
+        // when
+        ReplicationInfo replication = ReplicationInfo.parse(info);
+
+        // then
+        assertEquals(Long.MAX_VALUE, replication.lagBytes("172.18.0.3:6379"));
+        assertEquals(Long.MAX_VALUE, replication.lagBytes("172.18.0.9:6379"));
+    }
+
+    @Test
+    @DisplayName("replica가 master보다 앞선 offset을 보고해도 지연은 0")
+    void lagBytes_ReplicaAhead_Zero() {
+        // given - replica ack 이후 master INFO가 먼저 조회된 경우
+        Properties info = new Properties();
+        info.setProperty("slave0", "ip=10.0.0.2,port=6380,state=online,offset=500,lag=0");
+        info.setProperty("master_repl_offset", "400");
+
+        // when & then
+        assertEquals(0, ReplicationInfo.parse(info).lagBytes("10.0.0.2:6380"));
+    }
+}
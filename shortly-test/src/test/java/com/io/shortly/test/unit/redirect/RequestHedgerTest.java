@@ -0,0 +1,145 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.infrastructure.client.HedgingPolicy;
+import com.io.shortly.redirect.infrastructure.client.RequestHedger;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("URL Service fallback hedging 테스트")
+class RequestHedgerTest {
+
+    private static final long MILLIS = 1_000_000L;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final CountDownLatch slowCall = new CountDownLatch(1);
+    private RequestHedger hedger;
+
+    @AfterEach
+    void tearDown() {
+        slowCall.countDown();
+        if (hedger != null) {
+            hedger.close();
+        }
+    }
+
+    @Test
+    @DisplayName("delay는 최근 응답 시간의 percentile, 샘플이 부족하면 max-delay")
+    void delay_FollowsPercentileWithinBounds() {
+        // given
+        HedgingPolicy policy = new HedgingPolicy(90, 100, Duration.ofMillis(5), Duration.ofMillis(500), 0.1, 10);
+        long initial = policy.delayNanos();
+
+        // when - 1~100ms 응답 100건
+        for (int i = 1; i <= 100; i++) {
+            policy.recordLatency(i * MILLIS);
+        }
+
+        // then
+        assertEquals(500 * MILLIS, initial);
+        assertEquals(90 * MILLIS, policy.delayNanos());
+    }
+
+    @Test
+    @DisplayName("hedge는 요청 수 x budget-ratio 만큼만 허용, max-burst 이상 적립하지 않음")
+    void budget_LimitsHedgesToRatioOfRequests() {
+        // given
+        HedgingPolicy policy = new HedgingPolicy(95, 100, Duration.ofMillis(5), Duration.ofMillis(500), 0.5, 2);
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            policy.recordRequest();
+        }
+
+        // then
+        assertTrue(policy.tryAcquireHedge());
+        assertTrue(policy.tryAcquireHedge());
+        assertFalse(policy.tryAcquireHedge());
+    }
+
+    @Test
+    @DisplayName("첫 요청이 delay 안에 응답하지 않으면 두 번째 요청의 응답을 사용")
+    void slowPrimary_HedgeWins() {
+        // given
+        hedger = new RequestHedger(fixedDelayPolicy(1.0), meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = hedger.execute(() -> attempts.incrementAndGet() == 1 ? awaitSlow() : "fast");
+
+        // then
+        assertEquals("fast", result);
+        assertEquals(2, attempts.get());
+        assertEquals(1.0, hedgeCount("sent"));
+        assertEquals(1.0, hedgeCount("won"));
+    }
+
+    @Test
+    @DisplayName("첫 요청이 delay 안에 응답하면 hedge를 보내지 않음")
+    void fastPrimary_NoHedge() {
+        // given
+        hedger = new RequestHedger(fixedDelayPolicy(1.0), meterRegistry);
+        AtomicInteger attempts = new AtomicInteger();
+
+        // when
+        String result = hedger.execute(() -> {
+            attempts.incrementAndGet();
+            return "primary";
+        });
+
+        // then
+        assertEquals("primary", result);
+        assertEquals(1, attempts.get());
+        assertEquals(0.0, hedgeCount("sent"));
+    }
+
+    @Test
+    @DisplayName("budget이 없으면 hedge 없이 첫 요청을 기다리고, 실패는 호출자에게 그대로 전달")
+    void budgetExhausted_WaitsForPrimary() {
+        // given
+        hedger = new RequestHedger(fixedDelayPolicy(0.0), meterRegistry);
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () -> hedger.execute(() -> {
+            sleep(50);
+            throw new IllegalArgumentException("primary failed");
+        }));
+        assertEquals(1.0, hedgeCount("budget_exhausted"));
+        assertEquals(0.0, hedgeCount("sent"));
+    }
+
+    private static HedgingPolicy fixedDelayPolicy(double budgetRatio) {
+        return new HedgingPolicy(95, 100, Duration.ofMillis(10), Duration.ofMillis(10), budgetRatio, 10);
+    }
+
+    private String awaitSlow() {
+        try {
+            slowCall.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return "slow";
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private double hedgeCount(String outcome) {
+        return meterRegistry.get("shortly.fallback.hedge").tag("outcome", outcome).counter().count();
+    }
+}
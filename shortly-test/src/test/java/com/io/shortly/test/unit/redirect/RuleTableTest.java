@@ -0,0 +1,109 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RuleTable;
+import com.io.shortly.shared.redirect.DeviceClass;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("redirect 규칙 결정 테이블 테스트")
+class RuleTableTest {
+
+    private static final String DEFAULT_URL = "https://example.com";
+    private static final String IPHONE = "Mozilla/5.0 (iPhone; CPU iPhone OS 17_4 like Mac OS X) Mobile/15E148";
+    private static final String ANDROID_TABLET = "Mozilla/5.0 (Linux; Android 14; SM-X710) Chrome/124.0 Safari/537.36";
+    private static final String DESKTOP = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) Chrome/124.0.0.0 Safari/537.36";
+    private static final String CRAWLER = "Mozilla/5.0 (compatible; Googlebot/2.1; +http://www.google.com/bot.html)";
+
+    @Test
+    @DisplayName("User-Agent를 기기 분류로 변환, 분류할 수 없으면 DESKTOP")
+    void classify_UserAgent() {
+        assertEquals(DeviceClass.MOBILE, DeviceClass.classify(IPHONE));
+        assertEquals(DeviceClass.TABLET, DeviceClass.classify(ANDROID_TABLET));
+        assertEquals(DeviceClass.DESKTOP, DeviceClass.classify(DESKTOP));
+        assertEquals(DeviceClass.BOT, DeviceClass.classify(CRAWLER));
+        assertEquals(DeviceClass.DESKTOP, DeviceClass.classify(null));
+    }
+
+    @Test
+    @DisplayName("선언 순서상 처음 일치하는 device/lang 조건의 목적지, 일치하는 조건이 없으면 기본 URL")
+    void select_FirstMatchingCondition() {
+        // given
+        Redirect redirect = Redirect.create("abc123", DEFAULT_URL).withRules(String.join("\n",
+            "device=MOBILE lang=ko https://m.example.com/ko",
+            "device=MOBILE https://m.example.com",
+            "lang=ja https://example.com/ja"));
+
+        // when & then
+        assertEquals("https://m.example.com/ko", redirect.resolveTarget(IPHONE, "ko-KR,ko;q=0.9", 0));
+        assertEquals("https://m.example.com", redirect.resolveTarget(IPHONE, "en-US,en;q=0.9", 0));
+        // 선호 순서상 뒤에 있어도 규칙 언어와 일치하면 적용
+        assertEquals("https://example.com/ja", redirect.resolveTarget(DESKTOP, "fr-FR, ja;q=0.5", 0));
+        assertEquals(DEFAULT_URL, redirect.resolveTarget(DESKTOP, "en-US", 0));
+        assertEquals(DEFAULT_URL, redirect.resolveTarget(null, null, 0));
+    }
+
+    @Test
+    @DisplayName("같은 조건의 규칙은 weight 비율로 bucket을 나누고, 남은 구간은 기본 URL")
+    void select_WeightedSplit() {
+        // given
+        Redirect redirect = Redirect.create("abc123", DEFAULT_URL).withRules(String.join("\n",
+            "weight=30 https://example.com/a",
+            "weight=20 https://example.com/b"));
+
+        // when
+        int a = 0;
+        int b = 0;
+        int fallback = 0;
+        for (int bucket = 0; bucket < RuleTable.BUCKETS; bucket++) {
+            String target = redirect.resolveTarget(DESKTOP, null, bucket);
+            switch (target) {
+                case "https://example.com/a" -> a++;
+                case "https://example.com/b" -> b++;
+                default -> fallback++;
+            }
+        }
+
+        // then
+        assertEquals(30, a);
+        assertEquals(20, b);
+        assertEquals(50, fallback);
+    }
+
+    @Test
+    @DisplayName("규칙이 없으면 결정 테이블을 만들지 않고, 잘못된 규칙이나 weight 합 초과는 거부")
+    void compile_EmptyAndInvalid() {
+        // given
+        Redirect plain = Redirect.create("abc123", DEFAULT_URL).withRules(null);
+
+        // when & then
+        assertFalse(plain.hasRules());
+        assertNull(plain.getRules());
+        assertEquals(DEFAULT_URL, plain.resolveTarget(IPHONE, "ko", 0));
+        assertThrows(IllegalArgumentException.class, () -> RuleTable.compile("device=WATCH https://example.com"));
+        assertThrows(IllegalArgumentException.class,
+            () -> RuleTable.compile("weight=60 https://example.com/a\nweight=50 https://example.com/b"));
+    }
+
+    @Test
+    @DisplayName("만료/정책 변경 후에도 결정 테이블 유지, 비활성화 tombstone은 규칙 없음")
+    void withers_KeepCompiledRules() {
+        // given
+        String rules = "device=BOT https://example.com/bot";
+
+        // when
+        Redirect redirect = Redirect.create("abc123", DEFAULT_URL, 3L).withRules(rules).expiringAt(null);
+
+        // then
+        assertTrue(redirect.hasRules());
+        assertEquals(rules, redirect.getRules());
+        assertEquals("https://example.com/bot", redirect.resolveTarget(CRAWLER, null, 0));
+        assertFalse(Redirect.disabled("abc123", 4L).withRules(rules).hasRules());
+    }
+}
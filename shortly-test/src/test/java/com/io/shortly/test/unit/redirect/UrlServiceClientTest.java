@@ -0,0 +1,146 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withServerError;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.infrastructure.client.RequestHedger;
+import com.io.shortly.redirect.infrastructure.client.UrlServiceClient;
+import com.io.shortly.shared.api.support.error.BusinessException;
+import com.io.shortly.shared.api.support.error.CommonErrorCode;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.net.SocketTimeoutException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+@DisplayName("URL Service fallback 클라이언트 테스트")
+class UrlServiceClientTest {
+
+    private static final String BASE_URL = "http://url-service";
+
+    private MockRestServiceServer server;
+    private UrlServiceClient client;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl(BASE_URL);
+        server = MockRestServiceServer.bindTo(builder).build();
+        client = new UrlServiceClient(
+            builder.build(),
+            new StaticListableBeanFactory().getBeanProvider(RequestHedger.class),
+            new HotPathMetrics(new SimpleMeterRegistry()));
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 200 응답은 Redirect로 변환")
+    void fetchShortUrl_Found() {
+        // given
+        server.expect(requestTo(BASE_URL + "/api/v1/urls/abc123"))
+            .andRespond(withSuccess(
+                "{\"shortCode\":\"abc123\",\"originalUrl\":\"https://example.com\",\"version\":3}",
+                MediaType.APPLICATION_JSON));
+
+        // when
+        Optional<Redirect> found = client.fetchShortUrl("abc123");
+
+        // then
+        assertTrue(found.isPresent());
+        assertEquals("https://example.com", found.get().getTargetUrl());
+        assertEquals(3L, found.get().getVersion());
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 404 응답만 미존재로 처리")
+    void fetchShortUrl_NotFound() {
+        // given
+        server.expect(requestTo(BASE_URL + "/api/v1/urls/abc123"))
+            .andRespond(withStatus(HttpStatus.NOT_FOUND));
+
+        // when
+        Optional<Redirect> found = client.fetchShortUrl("abc123");
+
+        // then
+        assertTrue(found.isEmpty());
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 5xx 응답은 미존재가 아닌 SERVICE_UNAVAILABLE")
+    void fetchShortUrl_ServerError_Unavailable() {
+        // given
+        server.expect(requestTo(BASE_URL + "/api/v1/urls/abc123"))
+            .andRespond(withServerError());
+
+        // when
+        BusinessException e = assertThrows(BusinessException.class, () -> client.fetchShortUrl("abc123"));
+
+        // then
+        assertEquals(CommonErrorCode.SERVICE_UNAVAILABLE, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("단건 조회 - 타임아웃/연결 실패는 미존재가 아닌 SERVICE_UNAVAILABLE")
+    void fetchShortUrl_TransportError_Unavailable() {
+        // given
+        server.expect(requestTo(BASE_URL + "/api/v1/urls/abc123"))
+            .andRespond(request -> {
+                throw new SocketTimeoutException("Read timed out");
+            });
+
+        // when
+        BusinessException e = assertThrows(BusinessException.class, () -> client.fetchShortUrl("abc123"));
+
+        // then
+        assertEquals(CommonErrorCode.SERVICE_UNAVAILABLE, e.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 응답에 없는 코드만 미존재")
+    void fetchShortUrls_MissingCodesNotFound() {
+        // given
+        server.expect(requestTo(BASE_URL + "/api/v1/urls/lookup"))
+            .andRespond(withSuccess(
+                "{\"urls\":[{\"shortCode\":\"abc123\",\"originalUrl\":\"https://example.com\",\"version\":1}]}",
+                MediaType.APPLICATION_JSON));
+
+        // when
+        Map<String, Redirect> found = client.fetchShortUrls(List.of("abc123", "xyz789"));
+
+        // then
+        assertEquals(1, found.size());
+        assertTrue(found.containsKey("abc123"));
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 한 묶음이라도 실패하면 해당 코드를 미존재로 응답하지 않고 SERVICE_UNAVAILABLE")
+    void fetchShortUrls_ChunkFailure_Unavailable() {
+        // given: 150건 -> 100건 + 50건 두 묶음, 두 번째 묶음 실패
+        List<String> codes = IntStream.range(0, 150).mapToObj(i -> "code" + i).toList();
+        server.expect(requestTo(BASE_URL + "/api/v1/urls/lookup"))
+            .andRespond(withSuccess("{\"urls\":[]}", MediaType.APPLICATION_JSON));
+        server.expect(requestTo(BASE_URL + "/api/v1/urls/lookup"))
+            .andRespond(withServerError());
+
+        // when
+        BusinessException e = assertThrows(BusinessException.class, () -> client.fetchShortUrls(codes));
+
+        // then
+        assertEquals(CommonErrorCode.SERVICE_UNAVAILABLE, e.getErrorCode());
+        server.verify();
+    }
+}
@@ -0,0 +1,77 @@
+package com.io.shortly.test.unit.redirect;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.infrastructure.cache.caffeine.RedirectCacheCaffeineImpl;
+import com.io.shortly.redirect.infrastructure.cache.caffeine.WarmingAdmission;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.Duration;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("L1 warming admission 테스트")
+class WarmingAdmissionTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final Cache<String, Redirect> mainCache = Caffeine.newBuilder().maximumSize(100).build();
+
+    @Test
+    @DisplayName("probation - warming 항목은 L1에 들어가지 않고 첫 조회에서 loader 없이 승격")
+    void probation_PromotedOnFirstAccess() {
+        // given
+        RedirectCacheCaffeineImpl l1 = l1("probation");
+        l1.warm(Redirect.create(1L, "abc123", "https://example.com"));
+
+        // when
+        long sizeBeforeAccess = mainCache.estimatedSize();
+        Redirect loaded = l1.getOrLoad("abc123", () -> {
+            throw new AssertionError("probation 항목은 loader를 호출하지 않아야 함");
+        });
+
+        // then
+        assertEquals(0, sizeBeforeAccess);
+        assertEquals("https://example.com", loaded.getTargetUrl());
+        assertEquals(1, mainCache.estimatedSize());
+        assertEquals(1.0, registry.get("shortly.cache.warming.probation").tag("result", "promoted").counter().count());
+    }
+
+    @Test
+    @DisplayName("probation - 변경 이벤트는 승격 전 probation 항목에도 반영")
+    void probation_InvalidationAppliedBeforePromotion() {
+        // given
+        RedirectCacheCaffeineImpl l1 = l1("probation");
+        l1.warm(Redirect.create("abc123", "https://example.com/v1", 1L));
+
+        // when
+        l1.put(Redirect.create("abc123", "https://example.com/v2", 2L));
+
+        // then
+        assertEquals("https://example.com/v2", l1.get("abc123").orElseThrow().getTargetUrl());
+    }
+
+    @Test
+    @DisplayName("l2-only - warming 항목은 L1에 적재하지 않음")
+    void l2Only_SkipsL1() {
+        // given
+        RedirectCacheCaffeineImpl l1 = l1("l2-only");
+
+        // when
+        l1.warm(Redirect.create(1L, "abc123", "https://example.com"));
+
+        // then
+        assertTrue(l1.get("abc123").isEmpty());
+        assertNull(mainCache.getIfPresent("redirect:l1:abc123"));
+        assertEquals(1.0, registry.get("shortly.cache.warming.admission").tag("outcome", "skipped").counter().count());
+    }
+
+    private RedirectCacheCaffeineImpl l1(String policy) {
+        WarmingAdmission admission = new WarmingAdmission(registry, policy, 10, Duration.ofMinutes(5));
+        return new RedirectCacheCaffeineImpl(mainCache, admission, HotPathMetrics.noop());
+    }
+}
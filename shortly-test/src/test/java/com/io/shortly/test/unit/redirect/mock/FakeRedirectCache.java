@@ -0,0 +1,58 @@
+package com.io.shortly.test.unit.redirect.mock;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RedirectCache;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * RedirectCache의 테스트용 Fake 구현체
+ * Caffeine과 동일하게 loader가 null을 반환하면 캐싱하지 않음
+ * put은 실제 구현과 동일하게 더 낮은 version으로 덮어쓰지 않음
+ */
+public class FakeRedirectCache implements RedirectCache {
+
+    private final Map<String, Redirect> store = new HashMap<>();
+    private int fillCount;
+
+    @Override
+    public Optional<Redirect> get(String shortCode) {
+        return Optional.ofNullable(store.get(shortCode));
+    }
+
+    @Override
+    public Redirect getOrLoad(String shortCode, Supplier<Redirect> loader) {
+        Redirect cached = store.get(shortCode);
+        if (cached != null) {
+            return cached;
+        }
+        Redirect loaded = loader.get();
+        if (loaded != null) {
+            store.put(shortCode, loaded);
+        }
+        return loaded;
+    }
+
+    @Override
+    public void put(Redirect redirect) {
+        store.compute(redirect.getShortCode(),
+            (key, existing) -> redirect.supersedes(existing) ? redirect : existing);
+    }
+
+    @Override
+    public void fill(Redirect redirect) {
+        fillCount++;
+        put(redirect);
+    }
+
+    // 테스트 검증용 메서드
+    public int getFillCount() {
+        return fillCount;
+    }
+
+    public boolean contains(String shortCode) {
+        return store.containsKey(shortCode);
+    }
+}
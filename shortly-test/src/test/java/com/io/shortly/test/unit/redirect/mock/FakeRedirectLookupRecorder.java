@@ -0,0 +1,29 @@
+package com.io.shortly.test.unit.redirect.mock;
+
+import com.io.shortly.redirect.domain.RedirectLookupRecorder;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * RedirectLookupRecorder의 테스트용 Fake 구현체
+ * 요청마다 기록된 응답 계층을 순서대로 보관
+ */
+public class FakeRedirectLookupRecorder implements RedirectLookupRecorder {
+
+    private final List<ServedBy> recorded = new ArrayList<>();
+
+    @Override
+    public long start() {
+        return 0L;
+    }
+
+    @Override
+    public void record(ServedBy servedBy, long startNanos) {
+        recorded.add(servedBy);
+    }
+
+    // 테스트 검증용 메서드
+    public List<ServedBy> getRecorded() {
+        return recorded;
+    }
+}
@@ -0,0 +1,50 @@
+package com.io.shortly.test.unit.redirect.mock;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.RedirectPeerLookup;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * RedirectPeerLookup의 테스트용 Fake 구현체
+ * peer에 등록된 코드는 FOUND, 미존재로 등록된 코드는 NOT_FOUND, 나머지는 이 노드가 담당(LOCAL)
+ */
+public class FakeRedirectPeerLookup implements RedirectPeerLookup {
+
+    private final Map<String, Redirect> peerEntries = new HashMap<>();
+    private final Set<String> peerMissing = new HashSet<>();
+    private int lookupCallCount = 0;
+
+    @Override
+    public boolean isOwner(String shortCode) {
+        return !peerEntries.containsKey(shortCode) && !peerMissing.contains(shortCode);
+    }
+
+    @Override
+    public PeerLookupResult lookup(String shortCode) {
+        lookupCallCount++;
+        if (peerEntries.containsKey(shortCode)) {
+            return PeerLookupResult.found(peerEntries.get(shortCode));
+        }
+        if (peerMissing.contains(shortCode)) {
+            return PeerLookupResult.notFound();
+        }
+        return PeerLookupResult.local();
+    }
+
+    // 테스트 설정용 메서드
+    public void registerOnPeer(String shortCode, String targetUrl) {
+        peerEntries.put(shortCode, Redirect.create(shortCode, targetUrl));
+    }
+
+    public void registerMissingOnPeer(String shortCode) {
+        peerMissing.add(shortCode);
+    }
+
+    // 테스트 검증용 메서드
+    public int getLookupCallCount() {
+        return lookupCallCount;
+    }
+}
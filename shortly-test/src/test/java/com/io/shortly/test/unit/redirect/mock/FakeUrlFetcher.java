@@ -0,0 +1,47 @@
+package com.io.shortly.test.unit.redirect.mock;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.domain.UrlFetcher;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * UrlFetcher의 테스트용 Fake 구현체
+ * 등록된 단축 코드만 조회되고 나머지는 빈 결과를 반환
+ */
+public class FakeUrlFetcher implements UrlFetcher {
+
+    private final Map<String, Redirect> urls = new HashMap<>();
+    private int fetchCallCount = 0;
+    private final List<Collection<String>> batchRequests = new ArrayList<>();
+
+    @Override
+    public Optional<Redirect> fetchShortUrl(String shortCode) {
+        fetchCallCount++;
+        return Optional.ofNullable(urls.get(shortCode));
+    }
+
+    @Override
+    public Map<String, Redirect> fetchShortUrls(Collection<String> shortCodes) {
+        batchRequests.add(List.copyOf(shortCodes));
+        return UrlFetcher.super.fetchShortUrls(shortCodes);
+    }
+
+    // 테스트 설정용 메서드
+    public void register(String shortCode, String targetUrl) {
+        urls.put(shortCode, Redirect.create(shortCode, targetUrl));
+    }
+
+    // 테스트 검증용 메서드
+    public int getFetchCallCount() {
+        return fetchCallCount;
+    }
+
+    public List<Collection<String>> getBatchRequests() {
+        return batchRequests;
+    }
+}
@@ -0,0 +1,73 @@
+package com.io.shortly.test.unit.shortcode;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.shared.shortcode.ShortCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+@DisplayName("ShortCode 값 타입 테스트")
+class ShortCodeTest {
+
+    @ParameterizedTest
+    @ValueSource(longs = {0L, 1L, 61L, 62L, 56_800_235_583L, 56_800_235_584L, 230_584_300_921_369_395L, Long.MAX_VALUE})
+    @DisplayName("인코딩 후 디코딩하면 원래 ID로 복원")
+    void encodeDecode_RoundTrip(long id) {
+        // when
+        String code = ShortCode.encode(id);
+
+        // then
+        assertEquals(id, ShortCode.decode(code));
+        assertTrue(code.length() >= ShortCode.MIN_LENGTH);
+    }
+
+    @Test
+    @DisplayName("기존 생성기와 동일한 알파벳/자릿수/패딩 사용")
+    void encode_CompatibleWithLegacyFormat() {
+        assertEquals("000000", ShortCode.encode(0L));
+        assertEquals("00000z", ShortCode.encode(61L));
+        assertEquals("000010", ShortCode.encode(62L));
+        assertEquals("AzL8n0Y58m7", ShortCode.encode(Long.MAX_VALUE));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"abc123", "ABCdef0123", "000000"})
+    @DisplayName("6-10자 영숫자는 유효")
+    void isValid_Alphanumeric(String code) {
+        assertTrue(ShortCode.isValid(code));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "abc12", "abcdefghijk", "abc-12", "abc 12", "한글코드입니다"})
+    @DisplayName("길이 또는 문자 조건을 벗어나면 무효")
+    void isValid_Invalid(String code) {
+        assertFalse(ShortCode.isValid(code));
+    }
+
+    @Test
+    @DisplayName("무효한 값으로 생성 시 예외, null은 무효")
+    void of_Invalid_ThrowsException() {
+        assertFalse(ShortCode.isValid(null));
+        assertThrows(IllegalArgumentException.class, () -> ShortCode.of("abc-12"));
+        assertThrows(IllegalArgumentException.class, () -> ShortCode.decode("zzzzzzzzzzz"));
+    }
+
+    @Test
+    @DisplayName("ID로 생성한 ShortCode는 같은 ID로 변환")
+    void fromId_ToId() {
+        // given
+        long id = 230_584_300_921_369_395L;
+
+        // when
+        ShortCode shortCode = ShortCode.fromId(id);
+
+        // then
+        assertEquals(id, shortCode.toId());
+        assertEquals(shortCode.value(), shortCode.toString());
+    }
+}
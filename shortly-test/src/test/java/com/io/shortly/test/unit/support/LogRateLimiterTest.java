@@ -0,0 +1,60 @@
+package com.io.shortly.test.unit.support;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import com.io.shortly.shared.api.support.LogRateLimiter;
+import com.io.shortly.shared.api.support.error.BusinessException;
+import com.io.shortly.shared.api.support.error.CommonErrorCode;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("에러 로그 제한 테스트")
+class LogRateLimiterTest {
+
+    private final AtomicLong nanos = new AtomicLong();
+    private final LogRateLimiter limiter = new LogRateLimiter(2, 10, nanos::get);
+
+    @Test
+    @DisplayName("초당 상한 초과분은 sampleEvery건마다 1건만 기록")
+    void overflow_Sampled() {
+        // when
+        int logged = 0;
+        for (int i = 0; i < 102; i++) {
+            if (limiter.tryAcquire() != LogRateLimiter.SUPPRESSED) {
+                logged++;
+            }
+        }
+
+        // then - 상한 2건 + 초과 100건 중 10건
+        assertEquals(12, logged);
+    }
+
+    @Test
+    @DisplayName("다음 기록 시 직전까지 생략된 건수를 함께 반환")
+    void nextWindow_ReportsSuppressedCount() {
+        // given
+        for (int i = 0; i < 5; i++) {
+            limiter.tryAcquire();
+        }
+
+        // when
+        nanos.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        long suppressed = limiter.tryAcquire();
+
+        // then
+        assertEquals(3, suppressed);
+        assertEquals(0, limiter.tryAcquire());
+    }
+
+    @Test
+    @DisplayName("비즈니스 예외는 스택 트레이스를 채우지 않음")
+    void businessException_Stackless() {
+        // when
+        BusinessException exception = new BusinessException(CommonErrorCode.RESOURCE_NOT_FOUND);
+
+        // then
+        assertEquals(0, exception.getStackTrace().length);
+    }
+}
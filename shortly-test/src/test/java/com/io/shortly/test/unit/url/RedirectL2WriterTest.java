@@ -0,0 +1,77 @@
+package com.io.shortly.test.unit.url;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.io.shortly.redirect.domain.Redirect;
+import com.io.shortly.redirect.infrastructure.cache.CachedRedirectMapper;
+import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import com.io.shortly.shared.redirect.cache.L2RedirectFormat;
+import com.io.shortly.url.infrastructure.cache.RedirectL2Writer;
+import java.time.Duration;
+import java.time.Instant;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("Pub/Sub 발행 시 L2 기록 항목 테스트")
+class RedirectL2WriterTest {
+
+    private static final long MINUTE = 60_000L;
+
+    private final RedirectL2Writer writer = new RedirectL2Writer(Duration.ofMinutes(30), 0.0);
+
+    @Test
+    @DisplayName("url-service가 기록한 항목을 redirect-service가 같은 형식으로 읽음")
+    void createdEntry_ReadableByRedirectService() {
+        // given
+        long now = System.currentTimeMillis();
+        UrlCreatedEvent event = UrlCreatedEvent.of(42L, "abc123", "https://example.com");
+
+        // when
+        CachedRedirect entry = writer.entry(event, now);
+        CachedRedirect read = L2RedirectFormat.serializer()
+            .deserialize(L2RedirectFormat.serializer().serialize(entry));
+        Redirect redirect = CachedRedirectMapper.toDomain(read);
+
+        // then
+        assertEquals(30 * MINUTE, read.l2TtlMillis());
+        assertEquals(now + 30 * MINUTE, read.l2ExpiresAt());
+        assertEquals(42L, redirect.getEventId());
+        assertEquals("https://example.com", redirect.getTargetUrl());
+        assertEquals(0L, redirect.getVersion());
+    }
+
+    @Test
+    @DisplayName("TTL은 링크 만료 시각을 넘지 않고, 이미 만료된 링크는 기록 대상이 아님")
+    void ttl_CappedByLinkExpiry() {
+        // given
+        long now = System.currentTimeMillis();
+        UrlCreatedEvent expiring = UrlCreatedEvent.of(1L, "abc123", "https://example.com",
+            Instant.ofEpochMilli(now + MINUTE));
+        UrlCreatedEvent expired = UrlCreatedEvent.of(2L, "def456", "https://example.com",
+            Instant.ofEpochMilli(now - MINUTE));
+
+        // when & then
+        assertEquals(MINUTE, writer.entry(expiring, now).l2TtlMillis());
+        assertTrue(writer.entry(expired, now).l2TtlMillis() <= 0);
+    }
+
+    @Test
+    @DisplayName("비활성화는 version을 가진 tombstone으로 기록")
+    void disabledEntry_IsTombstone() {
+        // given
+        UrlInvalidatedEvent event = UrlInvalidatedEvent.disabled(7L, "abc123", 3L);
+
+        // when
+        CachedRedirect entry = writer.entry(event, System.currentTimeMillis());
+
+        // then
+        assertTrue(entry.disabled());
+        assertEquals(3L, entry.version());
+        assertNull(entry.targetUrl());
+        assertEquals(30 * MINUTE, entry.l2TtlMillis());
+    }
+}
@@ -3,16 +3,33 @@ package com.io.shortly.test.unit.url;
 import static org.junit.jupiter.api.Assertions.*;
 
 import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.redirect.DeviceClass;
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import com.io.shortly.shared.redirect.RedirectRule;
+import com.io.shortly.shared.redirect.RedirectRules;
 import com.io.shortly.test.unit.url.mock.FakeShortUrlEventPublisher;
 import com.io.shortly.test.unit.url.mock.FakeShortUrlGenerator;
 import com.io.shortly.test.unit.url.mock.FakeShortUrlRepository;
 import com.io.shortly.url.application.UrlFacade;
+import com.io.shortly.url.application.dto.ShortUrlCommand.ChangePolicyCommand;
+import com.io.shortly.url.application.dto.ShortUrlCommand.ChangeRulesCommand;
+import com.io.shortly.url.application.dto.ShortUrlCommand.DisableCommand;
+import com.io.shortly.url.application.dto.ShortUrlCommand.FindAllCommand;
 import com.io.shortly.url.application.dto.ShortUrlCommand.FindCommand;
 import com.io.shortly.url.application.dto.ShortUrlCommand.ShortenCommand;
+import com.io.shortly.url.application.dto.ShortUrlCommand.UpdateCommand;
+import com.io.shortly.url.application.dto.ShortUrlResult.ChangedResult;
 import com.io.shortly.url.application.dto.ShortUrlResult.ShortenedResult;
 import com.io.shortly.url.domain.GeneratedShortCode;
 import com.io.shortly.url.domain.ShortCodeNotFoundException;
 import com.io.shortly.url.domain.ShortUrl;
+import com.io.shortly.url.domain.ShortUrlVersionConflictException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -30,7 +47,8 @@ class UrlFacadeTest {
         repository = new FakeShortUrlRepository();
         generator = new FakeShortUrlGenerator();
         eventPublisher = new FakeShortUrlEventPublisher();
-        urlFacade = new UrlFacade(repository, generator, eventPublisher);
+        AtomicLong eventIds = new AtomicLong(1000L);
+        urlFacade = new UrlFacade(repository, generator, eventPublisher, eventIds::incrementAndGet);
     }
 
     @Test
@@ -208,4 +226,204 @@ class UrlFacadeTest {
         assertEquals(3, eventPublisher.getPublishCallCount());
         assertEquals(3, eventPublisher.getPublishedEvents().size());
     }
+
+    @Test
+    @DisplayName("원본 URL 변경 - version 증가 후 무효화 이벤트 발행")
+    void updateOriginalUrl_IncrementsVersion_PublishesInvalidation() {
+        // given
+        repository.save(ShortUrl.create("abc123", "https://example.com/old"));
+
+        // when
+        ChangedResult result = urlFacade.updateOriginalUrl(
+            UpdateCommand.of("abc123", "https://example.com/new", 0L));
+
+        // then
+        assertEquals(1L, result.version());
+        assertEquals("https://example.com/new", urlFacade.findByShortCode(FindCommand.of("abc123")).originalUrl());
+
+        List<UrlInvalidatedEvent> events = eventPublisher.getInvalidatedEvents();
+        assertEquals(1, events.size());
+        assertEquals(1L, events.get(0).getVersion());
+        assertEquals("https://example.com/new", events.get(0).getOriginalUrl());
+        assertFalse(events.get(0).isDisabled());
+    }
+
+    @Test
+    @DisplayName("redirect 정책 변경 - 원본 URL 유지, version 증가 후 정책을 담은 무효화 이벤트 발행")
+    void changeRedirectPolicy_PublishesInvalidationWithPolicy() {
+        // given
+        repository.save(ShortUrl.create("abc123", "https://example.com", null, RedirectPolicy.TRACKED));
+
+        // when
+        ChangedResult result = urlFacade.changeRedirectPolicy(
+            ChangePolicyCommand.of("abc123", RedirectPolicy.PERMANENT, 0L));
+
+        // then
+        assertEquals(1L, result.version());
+        ShortenedResult found = urlFacade.findByShortCode(FindCommand.of("abc123"));
+        assertEquals(RedirectPolicy.PERMANENT, found.redirectPolicy());
+        assertEquals("https://example.com", found.originalUrl());
+
+        UrlInvalidatedEvent event = eventPublisher.getLastInvalidatedEvent();
+        assertEquals(RedirectPolicy.PERMANENT, event.getRedirectPolicy());
+        assertEquals("https://example.com", event.getOriginalUrl());
+    }
+
+    @Test
+    @DisplayName("redirect 규칙 변경 - 정규화된 규칙으로 저장하고 무효화 이벤트로 전달, 빈 목록이면 제거")
+    void changeRedirectRules_PublishesInvalidationWithRules() {
+        // given
+        repository.save(ShortUrl.create("abc123", "https://example.com"));
+        List<RedirectRule> rules = List.of(
+            new RedirectRule(DeviceClass.MOBILE, "KO", 100, "https://m.example.com/ko"),
+            new RedirectRule(null, null, 30, "https://example.com/b"));
+
+        // when
+        urlFacade.changeRedirectRules(ChangeRulesCommand.of("abc123", rules, 0L));
+        UrlInvalidatedEvent changed = eventPublisher.getLastInvalidatedEvent();
+        urlFacade.changeRedirectRules(ChangeRulesCommand.of("abc123", List.of(), null));
+        UrlInvalidatedEvent cleared = eventPublisher.getLastInvalidatedEvent();
+
+        // then
+        assertEquals("device=MOBILE lang=ko https://m.example.com/ko\nweight=30 https://example.com/b",
+            changed.getRedirectRules());
+        assertEquals(rules.get(1), RedirectRules.parse(changed.getRedirectRules()).get(1));
+        assertEquals(1L, changed.getVersion());
+        assertNull(cleared.getRedirectRules());
+        assertNull(urlFacade.findByShortCode(FindCommand.of("abc123")).redirectRules());
+    }
+
+    @Test
+    @DisplayName("redirect 규칙 변경 - 같은 조건의 weight 합이 100을 넘으면 거부")
+    void changeRedirectRules_WeightOverflow_Throws() {
+        // given
+        repository.save(ShortUrl.create("abc123", "https://example.com"));
+        List<RedirectRule> rules = List.of(
+            new RedirectRule(null, "en", 60, "https://example.com/a"),
+            new RedirectRule(null, "en", 50, "https://example.com/b"));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class,
+            () -> urlFacade.changeRedirectRules(ChangeRulesCommand.of("abc123", rules, null)));
+        assertNull(eventPublisher.getLastInvalidatedEvent());
+    }
+
+    @Test
+    @DisplayName("원본 URL 변경 - 기대 version이 다르면 충돌, 이벤트 미발행")
+    void updateOriginalUrl_StaleVersion_ThrowsConflict() {
+        // given
+        repository.save(ShortUrl.create("abc123", "https://example.com/old"));
+        urlFacade.updateOriginalUrl(UpdateCommand.of("abc123", "https://example.com/v1", null));
+
+        // when & then
+        assertThrows(ShortUrlVersionConflictException.class, () ->
+            urlFacade.updateOriginalUrl(UpdateCommand.of("abc123", "https://example.com/v2", 0L)));
+        assertEquals(1, eventPublisher.getInvalidatedEvents().size());
+    }
+
+    @Test
+    @DisplayName("비활성화 - 조회 시 미존재 처리, tombstone 이벤트 발행")
+    void disable_HidesUrl_PublishesDisabledEvent() {
+        // given
+        repository.save(ShortUrl.create("abc123", "https://example.com"));
+
+        // when
+        ChangedResult result = urlFacade.disable(DisableCommand.of("abc123"));
+
+        // then
+        assertTrue(result.disabled());
+        assertThrows(ShortCodeNotFoundException.class,
+            () -> urlFacade.findByShortCode(FindCommand.of("abc123")));
+        assertThrows(ShortCodeNotFoundException.class,
+            () -> urlFacade.updateOriginalUrl(UpdateCommand.of("abc123", "https://example.com/new", null)));
+
+        UrlInvalidatedEvent event = eventPublisher.getLastInvalidatedEvent();
+        assertTrue(event.isDisabled());
+        assertNull(event.getOriginalUrl());
+        assertEquals(result.version(), event.getVersion());
+    }
+
+    @Test
+    @DisplayName("이미 비활성화된 링크 - 저장 없이 같은 version으로 이벤트만 재발행")
+    void disable_AlreadyDisabled_RepublishesWithoutWrite() {
+        // given
+        repository.save(ShortUrl.create("abc123", "https://example.com"));
+        urlFacade.disable(DisableCommand.of("abc123"));
+
+        // when
+        ChangedResult result = urlFacade.disable(DisableCommand.of("abc123"));
+
+        // then
+        assertEquals(1, repository.getUpdateCallCount());
+        assertEquals(1L, result.version());
+        assertEquals(2, eventPublisher.getInvalidatedEvents().size());
+    }
+
+    @Test
+    @DisplayName("만료 시각 지정 단축 - 이벤트와 조회 결과에 expiresAt 포함")
+    void shortenUrl_WithExpiresAt_PropagatesExpiry() {
+        // given
+        Instant expiresAt = Instant.now().plus(Duration.ofHours(1));
+
+        // when
+        urlFacade.shortenUrl(ShortenCommand.of("https://example.com", expiresAt));
+
+        // then
+        assertEquals(expiresAt, eventPublisher.getLastPublishedEvent().getExpiresAt());
+        assertEquals(expiresAt, urlFacade.findByShortCode(FindCommand.of("abc123")).expiresAt());
+    }
+
+    @Test
+    @DisplayName("만료된 링크 - 조회 시 미존재 처리")
+    void findByShortCode_Expired_ThrowsNotFound() {
+        // given
+        repository.save(expiredUrl("exp001", Duration.ofSeconds(1)));
+
+        // when & then
+        assertThrows(ShortCodeNotFoundException.class,
+            () -> urlFacade.findByShortCode(FindCommand.of("exp001")));
+    }
+
+    @Test
+    @DisplayName("만료 정리 - 만료된 링크만 비활성화하고 tombstone 이벤트 발행")
+    void expireDue_DisablesOnlyExpiredLinks() {
+        // given
+        repository.save(expiredUrl("exp001", Duration.ofMinutes(5)));
+        repository.save(expiredUrl("exp002", Duration.ofMinutes(1)));
+        repository.save(ShortUrl.create("live01", "https://example.com", Instant.now().plus(Duration.ofHours(1))));
+
+        // when
+        int disabled = urlFacade.expireDue(Instant.now(), 10);
+
+        // then
+        assertEquals(2, disabled);
+        assertTrue(repository.findByShortCode("exp001").orElseThrow().isDisabled());
+        assertFalse(repository.findByShortCode("live01").orElseThrow().isDisabled());
+        assertTrue(eventPublisher.getInvalidatedEvents().stream().allMatch(UrlInvalidatedEvent::isDisabled));
+        assertEquals(0, urlFacade.expireDue(Instant.now(), 10));
+    }
+
+    @Test
+    @DisplayName("일괄 조회 - 활성 링크만 반환, 없거나 비활성화/만료된 코드는 제외")
+    void findAllActive_ReturnsOnlyActiveLinks() {
+        // given
+        repository.save(ShortUrl.create("live01", "https://example.com/1"));
+        repository.save(ShortUrl.create("off001", "https://example.com/2"));
+        repository.save(expiredUrl("exp001", Duration.ofSeconds(1)));
+        urlFacade.disable(DisableCommand.of("off001"));
+
+        // when
+        List<ShortenedResult> results = urlFacade.findAllActive(
+            FindAllCommand.of(List.of("live01", "off001", "exp001", "none01", "live01")));
+
+        // then
+        assertEquals(1, results.size());
+        assertEquals("live01", results.get(0).shortCode());
+        assertEquals("https://example.com/1", results.get(0).originalUrl());
+    }
+
+    private static ShortUrl expiredUrl(String shortCode, Duration ago) {
+        return ShortUrl.restore(1L, shortCode, "https://example.com", LocalDateTime.now(), 0L, false,
+            Instant.now().minus(ago));
+    }
 }
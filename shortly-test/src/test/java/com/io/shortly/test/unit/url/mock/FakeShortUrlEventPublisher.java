@@ -1,6 +1,7 @@
 package com.io.shortly.test.unit.url.mock;
 
 import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
 import com.io.shortly.url.domain.ShortUrlEventPublisher;
 import java.util.ArrayList;
 import java.util.List;
@@ -13,6 +14,7 @@ public class FakeShortUrlEventPublisher implements ShortUrlEventPublisher {
 
     private final List<UrlCreatedEvent> publishedEvents = new ArrayList<>();
     private int publishCallCount = 0;
+    private final List<UrlInvalidatedEvent> invalidatedEvents = new ArrayList<>();
 
     @Override
     public void publishUrlCreated(UrlCreatedEvent event) {
@@ -20,6 +22,11 @@ public class FakeShortUrlEventPublisher implements ShortUrlEventPublisher {
         publishedEvents.add(event);
     }
 
+    @Override
+    public void publishUrlInvalidated(UrlInvalidatedEvent event) {
+        invalidatedEvents.add(event);
+    }
+
     // 테스트 검증용 메서드
     public int getPublishCallCount() {
         return publishCallCount;
@@ -33,7 +40,16 @@ public class FakeShortUrlEventPublisher implements ShortUrlEventPublisher {
         return publishedEvents.isEmpty() ? null : publishedEvents.get(publishedEvents.size() - 1);
     }
 
+    public List<UrlInvalidatedEvent> getInvalidatedEvents() {
+        return new ArrayList<>(invalidatedEvents);
+    }
+
+    public UrlInvalidatedEvent getLastInvalidatedEvent() {
+        return invalidatedEvents.isEmpty() ? null : invalidatedEvents.get(invalidatedEvents.size() - 1);
+    }
+
     public void clear() {
+        invalidatedEvents.clear();
         publishedEvents.clear();
         publishCallCount = 0;
     }
@@ -2,8 +2,14 @@ package com.io.shortly.test.unit.url.mock;
 
 import com.io.shortly.url.domain.ShortUrl;
 import com.io.shortly.url.domain.ShortUrlRepository;
+import com.io.shortly.url.domain.ShortUrlVersionConflictException;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 
 /**
@@ -15,6 +21,7 @@ public class FakeShortUrlRepository implements ShortUrlRepository {
     private final Map<String, ShortUrl> storage = new HashMap<>();
     private int saveCallCount = 0;
     private ShortUrl lastSavedUrl = null;
+    private int updateCallCount = 0;
 
     @Override
     public void save(ShortUrl shortUrl) {
@@ -23,11 +30,51 @@ public class FakeShortUrlRepository implements ShortUrlRepository {
         storage.put(shortUrl.getShortCode(), shortUrl);
     }
 
+    // JPA @Version과 동일하게 읽은 version이 다르면 충돌, 성공 시 version 증가
+    @Override
+    public ShortUrl update(ShortUrl shortUrl) {
+        updateCallCount++;
+        ShortUrl stored = storage.get(shortUrl.getShortCode());
+        if (stored == null || stored.getVersion() != shortUrl.getVersion()) {
+            throw new ShortUrlVersionConflictException(shortUrl.getShortCode(), shortUrl.getVersion());
+        }
+        ShortUrl updated = ShortUrl.restore(
+            shortUrl.getId(),
+            shortUrl.getShortCode(),
+            shortUrl.getOriginalUrl(),
+            shortUrl.getCreatedAt(),
+            shortUrl.getVersion() + 1,
+            shortUrl.isDisabled(),
+            shortUrl.getExpiresAt(),
+            shortUrl.getRedirectPolicy(),
+            shortUrl.getRedirectRules()
+        );
+        storage.put(updated.getShortCode(), updated);
+        return updated;
+    }
+
     @Override
     public Optional<ShortUrl> findByShortCode(String shortCode) {
         return Optional.ofNullable(storage.get(shortCode));
     }
 
+    @Override
+    public List<ShortUrl> findAllByShortCodes(Collection<String> shortCodes) {
+        return shortCodes.stream()
+            .map(storage::get)
+            .filter(Objects::nonNull)
+            .toList();
+    }
+
+    @Override
+    public List<ShortUrl> findExpired(Instant now, int limit) {
+        return storage.values().stream()
+            .filter(shortUrl -> !shortUrl.isDisabled() && shortUrl.isExpired(now))
+            .sorted(Comparator.comparing(ShortUrl::getExpiresAt))
+            .limit(limit)
+            .toList();
+    }
+
     // 테스트 검증용 메서드
     public int getSaveCallCount() {
         return saveCallCount;
@@ -37,9 +84,14 @@ public class FakeShortUrlRepository implements ShortUrlRepository {
         return lastSavedUrl;
     }
 
+    public int getUpdateCallCount() {
+        return updateCallCount;
+    }
+
     public void clear() {
         storage.clear();
         saveCallCount = 0;
         lastSavedUrl = null;
+        updateCallCount = 0;
     }
 }
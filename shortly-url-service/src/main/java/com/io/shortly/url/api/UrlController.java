@@ -1,11 +1,23 @@
 package com.io.shortly.url.api;
 
+import static com.io.shortly.url.api.dto.ShortUrlRequest.LookupRequest;
+import static com.io.shortly.url.api.dto.ShortUrlRequest.PolicyRequest;
+import static com.io.shortly.url.api.dto.ShortUrlRequest.RulesRequest;
 import static com.io.shortly.url.api.dto.ShortUrlRequest.ShortenRequest;
+import static com.io.shortly.url.api.dto.ShortUrlRequest.UpdateRequest;
+import static com.io.shortly.url.application.dto.ShortUrlCommand.ChangePolicyCommand;
+import static com.io.shortly.url.application.dto.ShortUrlCommand.ChangeRulesCommand;
+import static com.io.shortly.url.application.dto.ShortUrlCommand.DisableCommand;
+import static com.io.shortly.url.application.dto.ShortUrlCommand.FindAllCommand;
 import static com.io.shortly.url.application.dto.ShortUrlCommand.FindCommand;
 import static com.io.shortly.url.application.dto.ShortUrlCommand.ShortenCommand;
+import static com.io.shortly.url.application.dto.ShortUrlCommand.UpdateCommand;
+import static com.io.shortly.url.application.dto.ShortUrlResult.ChangedResult;
 import static com.io.shortly.url.application.dto.ShortUrlResult.ShortenedResult;
 
+import com.io.shortly.url.api.dto.ShortUrlResponse.ChangedResponse;
 import com.io.shortly.url.api.dto.ShortUrlResponse.GetShortUrlResponse;
+import com.io.shortly.url.api.dto.ShortUrlResponse.LookupResponse;
 import com.io.shortly.url.api.dto.ShortUrlResponse.ShortenedResponse;
 import com.io.shortly.url.application.UrlFacade;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,8 +27,10 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.ResponseStatus;
@@ -34,7 +48,8 @@ public class UrlController {
     @ResponseStatus(HttpStatus.CREATED)
     @Operation(summary = "URL 단축", description = "긴 URL을 짧은 코드로 변환합니다")
     public ShortenedResponse shortenUrl(@Valid @RequestBody ShortenRequest request) {
-        ShortenedResult result = urlFacade.shortenUrl(ShortenCommand.of(request.originalUrl()));
+        ShortenedResult result = urlFacade.shortenUrl(ShortenCommand.of(
+            request.originalUrl(), request.expiresAt(), request.redirectPolicy()));
         return ShortenedResponse.of(result);
     }
 
@@ -44,6 +59,58 @@ public class UrlController {
     @ApiResponse(responseCode = "404", description = "Short Code를 찾을 수 없음")
     public GetShortUrlResponse findUrl(@PathVariable String shortCode) {
         ShortenedResult result = urlFacade.findByShortCode(FindCommand.of(shortCode));
-        return GetShortUrlResponse.of(result.shortCode(), result.originalUrl());
+        return GetShortUrlResponse.of(result);
+    }
+
+    @PostMapping("/lookup")
+    @Operation(summary = "Short Code 일괄 조회", description = "Redirect Service의 일괄 resolve fallback용 API, 찾은 코드만 반환합니다")
+    @ApiResponse(responseCode = "200", description = "조회 성공")
+    public LookupResponse lookupUrls(@Valid @RequestBody LookupRequest request) {
+        return LookupResponse.of(urlFacade.findAllActive(FindAllCommand.of(request.shortCodes())));
+    }
+
+    @PatchMapping("/{shortCode}")
+    @Operation(summary = "원본 URL 변경", description = "version을 지정하면 해당 version일 때만 변경합니다")
+    @ApiResponse(responseCode = "200", description = "변경 성공")
+    @ApiResponse(responseCode = "404", description = "Short Code를 찾을 수 없거나 비활성화됨")
+    @ApiResponse(responseCode = "409", description = "다른 요청이 먼저 변경함")
+    public ChangedResponse updateUrl(@PathVariable String shortCode, @Valid @RequestBody UpdateRequest request) {
+        ChangedResult result = urlFacade.updateOriginalUrl(
+            UpdateCommand.of(shortCode, request.originalUrl(), request.version()));
+        return ChangedResponse.of(result);
+    }
+
+    @PutMapping("/{shortCode}/redirect-policy")
+    @Operation(summary = "redirect 정책 변경",
+        description = "TRACKED(302, 캐시 안 함) | CACHED(302, edge 캐시) | PERMANENT(301, edge 캐시). edge 캐시 항목은 redirect 노드가 purge합니다")
+    @ApiResponse(responseCode = "200", description = "변경 성공")
+    @ApiResponse(responseCode = "404", description = "Short Code를 찾을 수 없거나 비활성화됨")
+    @ApiResponse(responseCode = "409", description = "다른 요청이 먼저 변경함")
+    public ChangedResponse changeRedirectPolicy(@PathVariable String shortCode, @Valid @RequestBody PolicyRequest request) {
+        ChangedResult result = urlFacade.changeRedirectPolicy(
+            ChangePolicyCommand.of(shortCode, request.redirectPolicy(), request.version()));
+        return ChangedResponse.of(result);
+    }
+
+    @PutMapping("/{shortCode}/redirect-rules")
+    @Operation(summary = "redirect 규칙 변경",
+        description = "기기(User-Agent)/언어(Accept-Language) 조건과 weight 비율로 목적지를 나눕니다. 빈 목록이면 규칙을 제거합니다")
+    @ApiResponse(responseCode = "200", description = "변경 성공")
+    @ApiResponse(responseCode = "400", description = "규칙 형식 오류 또는 같은 조건의 weight 합이 100 초과")
+    @ApiResponse(responseCode = "404", description = "Short Code를 찾을 수 없거나 비활성화됨")
+    @ApiResponse(responseCode = "409", description = "다른 요청이 먼저 변경함")
+    public ChangedResponse changeRedirectRules(@PathVariable String shortCode, @Valid @RequestBody RulesRequest request) {
+        ChangedResult result = urlFacade.changeRedirectRules(
+            ChangeRulesCommand.of(shortCode, request.toRules(), request.version()));
+        return ChangedResponse.of(result);
+    }
+
+    @PostMapping("/{shortCode}/disable")
+    @Operation(summary = "단축 URL 비활성화", description = "비활성화된 코드는 모든 redirect 노드에서 404로 응답합니다")
+    @ApiResponse(responseCode = "200", description = "비활성화 성공")
+    @ApiResponse(responseCode = "404", description = "Short Code를 찾을 수 없음")
+    @ApiResponse(responseCode = "409", description = "다른 요청이 먼저 변경함")
+    public ChangedResponse disableUrl(@PathVariable String shortCode) {
+        return ChangedResponse.of(urlFacade.disable(DisableCommand.of(shortCode)));
     }
 }
@@ -1,8 +1,21 @@
 package com.io.shortly.url.api.dto;
 
+import com.io.shortly.shared.redirect.DeviceClass;
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import com.io.shortly.shared.redirect.RedirectRule;
+import com.io.shortly.shared.redirect.RedirectRules;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.Future;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Pattern;
+import jakarta.validation.constraints.PositiveOrZero;
 import jakarta.validation.constraints.Size;
+import java.time.Instant;
+import java.util.List;
 import lombok.experimental.UtilityClass;
 import org.hibernate.validator.constraints.URL;
 
@@ -13,6 +26,63 @@ public class ShortUrlRequest {
             @NotBlank(message = "Original URL must not be blank")
             @Size(max = 2048, message = "URL must not exceed 2048 characters")
             @Pattern(regexp = "^https?://.*", message = "URL must start with http:// or https://")
-            String originalUrl
+            String originalUrl,
+            @Future(message = "Expiration time must be in the future")
+            Instant expiresAt,
+            // 생략하면 TRACKED
+            RedirectPolicy redirectPolicy
+    ) {}
+
+    public record UpdateRequest(
+            @NotBlank(message = "Original URL must not be blank")
+            @Size(max = 2048, message = "URL must not exceed 2048 characters")
+            @Pattern(regexp = "^https?://.*", message = "URL must start with http:// or https://")
+            String originalUrl,
+            @PositiveOrZero(message = "Version must not be negative")
+            Long version
+    ) {}
+
+    public record PolicyRequest(
+            @NotNull(message = "Redirect policy must not be null")
+            RedirectPolicy redirectPolicy,
+            @PositiveOrZero(message = "Version must not be negative")
+            Long version
+    ) {}
+
+    // 빈 목록이면 규칙 제거
+    public record RulesRequest(
+            @NotNull(message = "Redirect rules must not be null")
+            @Size(max = RedirectRules.MAX_RULES, message = "Redirect rules must not exceed 16 entries")
+            List<@Valid @NotNull RuleRequest> rules,
+            @PositiveOrZero(message = "Version must not be negative")
+            Long version
+    ) {
+        public List<RedirectRule> toRules() {
+            return rules.stream().map(RuleRequest::toRule).toList();
+        }
+    }
+
+    // device, language를 생략하면 모든 기기/언어, weight를 생략하면 100
+    public record RuleRequest(
+            DeviceClass device,
+            @Pattern(regexp = "^[A-Za-z]{2,3}$", message = "Language must be a 2-3 letter language tag")
+            String language,
+            @Min(value = 1, message = "Weight must be between 1 and 100")
+            @Max(value = 100, message = "Weight must be between 1 and 100")
+            Integer weight,
+            @NotBlank(message = "Target URL must not be blank")
+            @Size(max = 2048, message = "URL must not exceed 2048 characters")
+            @Pattern(regexp = "^https?://\\S*$", message = "URL must start with http:// or https:// without whitespace")
+            String targetUrl
+    ) {
+        public RedirectRule toRule() {
+            return new RedirectRule(device, language, weight != null ? weight : RedirectRule.FULL_WEIGHT, targetUrl);
+        }
+    }
+
+    public record LookupRequest(
+            @NotEmpty(message = "Short codes must not be empty")
+            @Size(max = 100, message = "Short codes must not exceed 100 entries")
+            List<@NotBlank String> shortCodes
     ) {}
 }
@@ -1,6 +1,10 @@
 package com.io.shortly.url.api.dto;
 
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import com.io.shortly.url.application.dto.ShortUrlResult.ChangedResult;
 import com.io.shortly.url.application.dto.ShortUrlResult.ShortenedResult;
+import java.time.Instant;
+import java.util.List;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -8,19 +12,52 @@ public class ShortUrlResponse {
 
     public record ShortenedResponse(
             String shortCode,
-            String originalUrl
+            String originalUrl,
+            Instant expiresAt,
+            RedirectPolicy redirectPolicy
     ) {
         public static ShortenedResponse of(ShortenedResult result) {
-            return new ShortenedResponse(result.shortCode(), result.originalUrl());
+            return new ShortenedResponse(
+                    result.shortCode(), result.originalUrl(), result.expiresAt(), result.redirectPolicy());
         }
     }
 
     public record GetShortUrlResponse(
             String shortCode,
-            String originalUrl
+            String originalUrl,
+            long version,
+            Instant expiresAt,
+            RedirectPolicy redirectPolicy,
+            // RedirectRules 형식, 규칙이 없으면 null
+            String redirectRules
     ) {
         public static GetShortUrlResponse of(String shortCode, String originalUrl) {
-            return new GetShortUrlResponse(shortCode, originalUrl);
+            return new GetShortUrlResponse(shortCode, originalUrl, 0L, null, RedirectPolicy.DEFAULT, null);
+        }
+
+        public static GetShortUrlResponse of(ShortenedResult result) {
+            return new GetShortUrlResponse(result.shortCode(), result.originalUrl(), result.version(),
+                    result.expiresAt(), result.redirectPolicy(), result.redirectRules());
+        }
+    }
+
+    // 찾은 코드만 포함
+    public record LookupResponse(
+            List<GetShortUrlResponse> urls
+    ) {
+        public static LookupResponse of(List<ShortenedResult> results) {
+            return new LookupResponse(results.stream().map(GetShortUrlResponse::of).toList());
+        }
+    }
+
+    public record ChangedResponse(
+            String shortCode,
+            String originalUrl,
+            long version,
+            boolean disabled
+    ) {
+        public static ChangedResponse of(ChangedResult result) {
+            return new ChangedResponse(result.shortCode(), result.originalUrl(), result.version(), result.disabled());
         }
     }
 }
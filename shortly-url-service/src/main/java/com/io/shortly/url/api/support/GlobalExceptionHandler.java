@@ -4,6 +4,7 @@ import com.io.shortly.shared.api.support.BaseGlobalExceptionHandler;
 import com.io.shortly.shared.api.support.error.ErrorResponse;
 import com.io.shortly.url.domain.ShortCodeGenerationFailedException;
 import com.io.shortly.url.domain.ShortCodeNotFoundException;
+import com.io.shortly.url.domain.ShortUrlVersionConflictException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
@@ -24,4 +25,11 @@ public class GlobalExceptionHandler extends BaseGlobalExceptionHandler {
     ) {
         return createErrorResponse(ex, ex.getErrorCode(), request);
     }
+
+    @ExceptionHandler(ShortUrlVersionConflictException.class)
+    public org.springframework.http.ResponseEntity<ErrorResponse> handleVersionConflict(
+        ShortUrlVersionConflictException ex, HttpServletRequest request
+    ) {
+        return createErrorResponse(ex, ex.getErrorCode(), request);
+    }
 }
@@ -11,7 +11,8 @@ public enum UrlErrorCode implements ErrorCode {
 
     SHORT_CODE_GENERATION_FAILED("URL-001", "Failed to generate unique short code", HttpStatus.SERVICE_UNAVAILABLE),
     INVALID_URL_FORMAT("URL-002", "Invalid URL format", HttpStatus.BAD_REQUEST),
-    INVALID_SHORT_CODE("URL-003", "Invalid short code format", HttpStatus.BAD_REQUEST);
+    INVALID_SHORT_CODE("URL-003", "Invalid short code format", HttpStatus.BAD_REQUEST),
+    VERSION_CONFLICT("URL-004", "Short URL was modified concurrently", HttpStatus.CONFLICT);
 
     private final String code;
     private final String message;
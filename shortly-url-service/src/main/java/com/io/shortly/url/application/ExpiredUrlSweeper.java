@@ -0,0 +1,48 @@
+package com.io.shortly.url.application;
+
+import java.time.Instant;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+public class ExpiredUrlSweeper {
+
+    private final UrlFacade urlFacade;
+    private final int batchSize;
+    private final int maxBatches;
+
+    public ExpiredUrlSweeper(
+            UrlFacade urlFacade,
+            @Value("${shortly.url.expiry.sweep-batch-size:500}") int batchSize,
+            @Value("${shortly.url.expiry.sweep-max-batches:20}") int maxBatches
+    ) {
+        this.urlFacade = urlFacade;
+        this.batchSize = Math.max(1, batchSize);
+        this.maxBatches = Math.max(1, maxBatches);
+    }
+
+    // expires_at 인덱스로 만료된 구간만 읽음. 한 번에 처리하지 못한 나머지는 다음 주기에 이어서 처리
+    @Scheduled(fixedDelayString = "${shortly.url.expiry.sweep-interval:10s}")
+    public void sweep() {
+        Instant now = Instant.now();
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int disabled = urlFacade.expireDue(now, batchSize);
+                total += disabled;
+                if (disabled < batchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("[Expiry] 만료 링크 정리 실패 - processed={}, error={}", total, e.getMessage());
+            return;
+        }
+        if (total > 0) {
+            log.info("[Expiry] 만료 링크 비활성화 - count={}", total);
+        }
+    }
+}
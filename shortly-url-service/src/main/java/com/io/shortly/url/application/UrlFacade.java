@@ -1,14 +1,26 @@
 package com.io.shortly.url.application;
 
 import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.id.UniqueIdGenerator;
+import com.io.shortly.url.application.dto.ShortUrlCommand.ChangePolicyCommand;
+import com.io.shortly.url.application.dto.ShortUrlCommand.ChangeRulesCommand;
+import com.io.shortly.url.application.dto.ShortUrlCommand.DisableCommand;
+import com.io.shortly.url.application.dto.ShortUrlCommand.FindAllCommand;
 import com.io.shortly.url.application.dto.ShortUrlCommand.FindCommand;
 import com.io.shortly.url.application.dto.ShortUrlCommand.ShortenCommand;
+import com.io.shortly.url.application.dto.ShortUrlCommand.UpdateCommand;
+import com.io.shortly.url.application.dto.ShortUrlResult.ChangedResult;
 import com.io.shortly.url.application.dto.ShortUrlResult.ShortenedResult;
 import com.io.shortly.url.domain.ShortCodeNotFoundException;
 import com.io.shortly.url.domain.ShortUrl;
 import com.io.shortly.url.domain.ShortUrlEventPublisher;
 import com.io.shortly.url.domain.ShortUrlGenerator;
 import com.io.shortly.url.domain.ShortUrlRepository;
+import com.io.shortly.url.domain.ShortUrlVersionConflictException;
+import java.time.Instant;
+import java.util.List;
+import java.util.Set;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
@@ -23,6 +35,7 @@ public class UrlFacade {
     private final ShortUrlRepository shortUrlRepository;
     private final ShortUrlGenerator shortUrlGenerator;
     private final ShortUrlEventPublisher eventPublisher;
+    private final UniqueIdGenerator uniqueIdGenerator;
 
     @Transactional
     public ShortenedResult shortenUrl(ShortenCommand command) {
@@ -31,7 +44,8 @@ public class UrlFacade {
 
         var generated = shortUrlGenerator.generate(command.originalUrl());
 
-        ShortUrl shortUrl = ShortUrl.create(generated.shortCode(), command.originalUrl());
+        ShortUrl shortUrl = ShortUrl.create(
+            generated.shortCode(), command.originalUrl(), command.expiresAt(), command.redirectPolicy());
         shortUrlRepository.save(shortUrl);
 
         log.info("URL shortened: {} -> {} ", command.originalUrl(), shortUrl.getShortCode());
@@ -39,12 +53,14 @@ public class UrlFacade {
         UrlCreatedEvent event = UrlCreatedEvent.of(
             generated.snowflakeId(),
             shortUrl.getShortCode(),
-            shortUrl.getOriginalUrl()
+            shortUrl.getOriginalUrl(),
+            shortUrl.getExpiresAt(),
+            shortUrl.getRedirectPolicy()
         );
 
         eventPublisher.publishUrlCreated(event);
 
-        return ShortenedResult.of(shortUrl.getShortCode(), shortUrl.getOriginalUrl());
+        return ShortenedResult.of(shortUrl);
     }
 
     @Transactional(readOnly = true)
@@ -53,11 +69,156 @@ public class UrlFacade {
         Assert.hasText(command.shortCode(), "Short code must not be blank");
 
         String shortCode = command.shortCode();
-        ShortUrl shortUrl = shortUrlRepository.findByShortCode(shortCode)
-                .orElseThrow(() -> new ShortCodeNotFoundException(shortCode));
+        ShortUrl shortUrl = findActive(shortCode);
 
         log.debug("URL found: {} -> {}", shortCode, shortUrl.getOriginalUrl());
 
-        return ShortenedResult.of(shortUrl.getShortCode(), shortUrl.getOriginalUrl());
+        return ShortenedResult.of(shortUrl);
+    }
+
+    // redirect 노드의 일괄 조회용: 없거나 비활성화/만료된 코드는 결과에서 빠짐
+    @Transactional(readOnly = true)
+    public List<ShortenedResult> findAllActive(FindAllCommand command) {
+        Assert.notNull(command, "Command must not be null");
+        Assert.notNull(command.shortCodes(), "Short codes must not be null");
+
+        Instant now = Instant.now();
+        return shortUrlRepository.findAllByShortCodes(Set.copyOf(command.shortCodes())).stream()
+            .filter(shortUrl -> !shortUrl.isDisabled() && !shortUrl.isExpired(now))
+            .map(ShortenedResult::of)
+            .toList();
+    }
+
+    /*
+     * 트랜잭션을 걸지 않음: 저장(@Version 검사)이 커밋된 뒤에 무효화 이벤트를 발행해야
+     * redirect 노드가 아직 커밋되지 않은 version을 캐시하지 않음
+     */
+    public ChangedResult updateOriginalUrl(UpdateCommand command) {
+        Assert.notNull(command, "Command must not be null");
+        Assert.hasText(command.shortCode(), "Short code must not be blank");
+        Assert.hasText(command.originalUrl(), "Original URL must not be blank");
+
+        ShortUrl current = findActive(command.shortCode());
+        if (command.expectedVersion() != null && command.expectedVersion() != current.getVersion()) {
+            throw new ShortUrlVersionConflictException(current.getShortCode(), command.expectedVersion());
+        }
+
+        ShortUrl updated = shortUrlRepository.update(current.changeOriginalUrl(command.originalUrl()));
+
+        log.info("URL updated: {} -> {} (version={})",
+            updated.getShortCode(), updated.getOriginalUrl(), updated.getVersion());
+
+        publishUpdated(updated);
+
+        return ChangedResult.of(updated.getShortCode(), updated.getOriginalUrl(), updated.getVersion(), false);
+    }
+
+    // 원본 URL 변경과 같은 경로로 무효화 이벤트를 발행하며, redirect 노드는 이벤트를 받아 edge 캐시도 purge함
+    public ChangedResult changeRedirectPolicy(ChangePolicyCommand command) {
+        Assert.notNull(command, "Command must not be null");
+        Assert.hasText(command.shortCode(), "Short code must not be blank");
+        Assert.notNull(command.redirectPolicy(), "Redirect policy must not be null");
+
+        ShortUrl current = findActive(command.shortCode());
+        if (command.expectedVersion() != null && command.expectedVersion() != current.getVersion()) {
+            throw new ShortUrlVersionConflictException(current.getShortCode(), command.expectedVersion());
+        }
+
+        ShortUrl updated = shortUrlRepository.update(current.changeRedirectPolicy(command.redirectPolicy()));
+
+        log.info("URL redirect policy changed: {} -> {} (version={})",
+            updated.getShortCode(), updated.getRedirectPolicy(), updated.getVersion());
+
+        publishUpdated(updated);
+
+        return ChangedResult.of(updated.getShortCode(), updated.getOriginalUrl(), updated.getVersion(), false);
+    }
+
+    // 규칙은 redirect 노드가 캐시 항목을 만들 때 결정 테이블로 변환하므로 정책 변경과 같은 무효화 이벤트로 전달
+    public ChangedResult changeRedirectRules(ChangeRulesCommand command) {
+        Assert.notNull(command, "Command must not be null");
+        Assert.hasText(command.shortCode(), "Short code must not be blank");
+        Assert.notNull(command.redirectRules(), "Redirect rules must not be null");
+
+        ShortUrl current = findActive(command.shortCode());
+        if (command.expectedVersion() != null && command.expectedVersion() != current.getVersion()) {
+            throw new ShortUrlVersionConflictException(current.getShortCode(), command.expectedVersion());
+        }
+
+        ShortUrl updated = shortUrlRepository.update(current.changeRedirectRules(command.redirectRules()));
+
+        log.info("URL redirect rules changed: {} -> {} rules (version={})",
+            updated.getShortCode(), command.redirectRules().size(), updated.getVersion());
+
+        publishUpdated(updated);
+
+        return ChangedResult.of(updated.getShortCode(), updated.getOriginalUrl(), updated.getVersion(), false);
+    }
+
+    // 이미 비활성화된 링크는 저장 없이 현재 version으로 이벤트만 재발행 (메시지를 놓친 노드 복구용)
+    public ChangedResult disable(DisableCommand command) {
+        Assert.notNull(command, "Command must not be null");
+        Assert.hasText(command.shortCode(), "Short code must not be blank");
+
+        String shortCode = command.shortCode();
+        ShortUrl current = shortUrlRepository.findByShortCode(shortCode)
+                .orElseThrow(() -> new ShortCodeNotFoundException(shortCode));
+
+        ShortUrl disabled = current.isDisabled() ? current : shortUrlRepository.update(current.disable());
+
+        log.info("URL disabled: {} (version={})", disabled.getShortCode(), disabled.getVersion());
+
+        eventPublisher.publishUrlInvalidated(UrlInvalidatedEvent.disabled(
+            uniqueIdGenerator.generate(),
+            disabled.getShortCode(),
+            disabled.getVersion()
+        ));
+
+        return ChangedResult.of(disabled.getShortCode(), null, disabled.getVersion(), true);
+    }
+
+    /*
+     * 만료된 링크를 비활성화하고 tombstone 이벤트를 발행
+     * redirect 노드는 캐시 항목의 expiresAt으로 이미 차단하므로, 여기서는 DB 상태와 캐시 정리를 맞추는 역할
+     * 다른 인스턴스가 먼저 처리한 링크는 version 충돌로 건너뜀
+     */
+    public int expireDue(Instant now, int limit) {
+        List<ShortUrl> expired = shortUrlRepository.findExpired(now, limit);
+        int disabledCount = 0;
+
+        for (ShortUrl shortUrl : expired) {
+            try {
+                ShortUrl disabled = shortUrlRepository.update(shortUrl.disable());
+                eventPublisher.publishUrlInvalidated(UrlInvalidatedEvent.disabled(
+                    uniqueIdGenerator.generate(),
+                    disabled.getShortCode(),
+                    disabled.getVersion()
+                ));
+                disabledCount++;
+            } catch (ShortUrlVersionConflictException e) {
+                log.debug("Expired URL already changed: {}", shortUrl.getShortCode());
+            }
+        }
+        return disabledCount;
+    }
+
+    private void publishUpdated(ShortUrl updated) {
+        eventPublisher.publishUrlInvalidated(UrlInvalidatedEvent.updated(
+            uniqueIdGenerator.generate(),
+            updated.getShortCode(),
+            updated.getOriginalUrl(),
+            updated.getVersion(),
+            updated.getExpiresAt(),
+            updated.getRedirectPolicy(),
+            updated.getRedirectRules()
+        ));
+    }
+
+    // 비활성화되었거나 만료된 링크는 조회/변경 대상에서 미존재와 동일하게 취급
+    private ShortUrl findActive(String shortCode) {
+        Instant now = Instant.now();
+        return shortUrlRepository.findByShortCode(shortCode)
+                .filter(shortUrl -> !shortUrl.isDisabled() && !shortUrl.isExpired(now))
+                .orElseThrow(() -> new ShortCodeNotFoundException(shortCode));
     }
 }
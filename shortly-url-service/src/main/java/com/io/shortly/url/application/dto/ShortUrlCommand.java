@@ -1,14 +1,31 @@
 package com.io.shortly.url.application.dto;
 
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import com.io.shortly.shared.redirect.RedirectRule;
+import java.time.Instant;
+import java.util.List;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
 public class ShortUrlCommand {
 
-    public record ShortenCommand(String originalUrl) {
+    // expiresAt이 null이면 만료 없음, redirectPolicy가 null이면 TRACKED
+    public record ShortenCommand(String originalUrl, Instant expiresAt, RedirectPolicy redirectPolicy) {
+        public ShortenCommand(String originalUrl) {
+            this(originalUrl, null, null);
+        }
+
         public static ShortenCommand of(String originalUrl) {
             return new ShortenCommand(originalUrl);
         }
+
+        public static ShortenCommand of(String originalUrl, Instant expiresAt) {
+            return new ShortenCommand(originalUrl, expiresAt, null);
+        }
+
+        public static ShortenCommand of(String originalUrl, Instant expiresAt, RedirectPolicy redirectPolicy) {
+            return new ShortenCommand(originalUrl, expiresAt, redirectPolicy);
+        }
     }
 
     public record FindCommand(String shortCode) {
@@ -16,4 +33,37 @@ public class ShortUrlCommand {
             return new FindCommand(shortCode);
         }
     }
+
+    public record FindAllCommand(List<String> shortCodes) {
+        public static FindAllCommand of(List<String> shortCodes) {
+            return new FindAllCommand(shortCodes);
+        }
+    }
+
+    // expectedVersion이 null이면 현재 version 기준으로 변경 (last-writer-wins)
+    public record UpdateCommand(String shortCode, String originalUrl, Long expectedVersion) {
+        public static UpdateCommand of(String shortCode, String originalUrl, Long expectedVersion) {
+            return new UpdateCommand(shortCode, originalUrl, expectedVersion);
+        }
+    }
+
+    // expectedVersion이 null이면 현재 version 기준으로 변경 (last-writer-wins)
+    public record ChangePolicyCommand(String shortCode, RedirectPolicy redirectPolicy, Long expectedVersion) {
+        public static ChangePolicyCommand of(String shortCode, RedirectPolicy redirectPolicy, Long expectedVersion) {
+            return new ChangePolicyCommand(shortCode, redirectPolicy, expectedVersion);
+        }
+    }
+
+    // 빈 목록이면 규칙 제거. expectedVersion이 null이면 현재 version 기준으로 변경 (last-writer-wins)
+    public record ChangeRulesCommand(String shortCode, List<RedirectRule> redirectRules, Long expectedVersion) {
+        public static ChangeRulesCommand of(String shortCode, List<RedirectRule> redirectRules, Long expectedVersion) {
+            return new ChangeRulesCommand(shortCode, redirectRules, expectedVersion);
+        }
+    }
+
+    public record DisableCommand(String shortCode) {
+        public static DisableCommand of(String shortCode) {
+            return new DisableCommand(shortCode);
+        }
+    }
 }
@@ -1,5 +1,8 @@
 package com.io.shortly.url.application.dto;
 
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import com.io.shortly.url.domain.ShortUrl;
+import java.time.Instant;
 import lombok.experimental.UtilityClass;
 
 @UtilityClass
@@ -7,10 +10,35 @@ public class ShortUrlResult {
 
     public record ShortenedResult(
             String shortCode,
-            String originalUrl
+            String originalUrl,
+            long version,
+            Instant expiresAt,
+            RedirectPolicy redirectPolicy,
+            // RedirectRules 형식, 규칙이 없으면 null
+            String redirectRules
     ) {
         public static ShortenedResult of(String shortCode, String originalUrl) {
-            return new ShortenedResult(shortCode, originalUrl);
+            return new ShortenedResult(shortCode, originalUrl, 0L, null, RedirectPolicy.DEFAULT, null);
+        }
+
+        public static ShortenedResult of(String shortCode, String originalUrl, long version, Instant expiresAt) {
+            return new ShortenedResult(shortCode, originalUrl, version, expiresAt, RedirectPolicy.DEFAULT, null);
+        }
+
+        public static ShortenedResult of(ShortUrl shortUrl) {
+            return new ShortenedResult(shortUrl.getShortCode(), shortUrl.getOriginalUrl(), shortUrl.getVersion(),
+                    shortUrl.getExpiresAt(), shortUrl.getRedirectPolicy(), shortUrl.getRedirectRules());
+        }
+    }
+
+    public record ChangedResult(
+            String shortCode,
+            String originalUrl,
+            long version,
+            boolean disabled
+    ) {
+        public static ChangedResult of(String shortCode, String originalUrl, long version, boolean disabled) {
+            return new ChangedResult(shortCode, originalUrl, version, disabled);
         }
     }
 }
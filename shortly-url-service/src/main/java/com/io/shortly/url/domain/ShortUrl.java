@@ -1,25 +1,40 @@
 package com.io.shortly.url.domain;
 
+import com.io.shortly.shared.redirect.RedirectPolicy;
+import com.io.shortly.shared.redirect.RedirectRule;
+import com.io.shortly.shared.redirect.RedirectRules;
+import com.io.shortly.shared.shortcode.ShortCode;
+import java.time.Instant;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Objects;
 
 public class ShortUrl {
 
-    private static final int MIN_SHORT_CODE_LENGTH = 6;
-    private static final int MAX_SHORT_CODE_LENGTH = 10;
-    private static final String SHORT_CODE_PATTERN = "^[a-zA-Z0-9]+$";
     private static final int MAX_ORIGINAL_URL_LENGTH = 2048;
 
     private final Long id;
     private final String shortCode;
     private final String originalUrl;
     private final LocalDateTime createdAt;
+    private final long version;
+    private final boolean disabled;
+    // null이면 만료 없음. 서비스 간 비교를 위해 절대 시각(Instant)으로 보관
+    private final Instant expiresAt;
+    private final RedirectPolicy redirectPolicy;
+    // RedirectRules 형식. null이면 규칙 없음 (항상 기본 URL로 이동)
+    private final String redirectRules;
 
     private ShortUrl(
             final Long id,
             final String shortCode,
             final String originalUrl,
-            final LocalDateTime createdAt
+            final LocalDateTime createdAt,
+            final long version,
+            final boolean disabled,
+            final Instant expiresAt,
+            final RedirectPolicy redirectPolicy,
+            final String redirectRules
     ) {
         if (createdAt == null) {
             throw new IllegalArgumentException("createdAt must not be null");
@@ -31,21 +46,72 @@ public class ShortUrl {
         this.shortCode = shortCode;
         this.originalUrl = originalUrl;
         this.createdAt = createdAt;
+        this.version = version;
+        this.disabled = disabled;
+        this.expiresAt = expiresAt;
+        this.redirectPolicy = RedirectPolicy.orDefault(redirectPolicy);
+        this.redirectRules = redirectRules;
     }
 
     public static ShortUrl create(String shortCode, String originalUrl) {
-        return new ShortUrl(null, shortCode, originalUrl, LocalDateTime.now());
+        return new ShortUrl(null, shortCode, originalUrl, LocalDateTime.now(), 0L, false, null, null, null);
+    }
+
+    public static ShortUrl create(String shortCode, String originalUrl, Instant expiresAt) {
+        return create(shortCode, originalUrl, expiresAt, null);
+    }
+
+    // redirectPolicy가 null이면 TRACKED
+    public static ShortUrl create(String shortCode, String originalUrl, Instant expiresAt, RedirectPolicy redirectPolicy) {
+        if (expiresAt != null && !expiresAt.isAfter(Instant.now())) {
+            throw new IllegalArgumentException("Expiration time must be in the future");
+        }
+        return new ShortUrl(null, shortCode, originalUrl, LocalDateTime.now(), 0L, false, expiresAt, redirectPolicy,
+                null);
+    }
+
+    // version은 저장소가 저장 시점에 증가시키므로 변경 메서드는 읽은 version을 그대로 유지
+    public ShortUrl changeOriginalUrl(String newOriginalUrl) {
+        if (disabled) {
+            throw new IllegalStateException("Disabled short URL cannot be changed: " + shortCode);
+        }
+        return new ShortUrl(id, shortCode, newOriginalUrl, createdAt, version, false, expiresAt, redirectPolicy,
+                redirectRules);
+    }
+
+    public ShortUrl changeRedirectPolicy(RedirectPolicy newRedirectPolicy) {
+        if (disabled) {
+            throw new IllegalStateException("Disabled short URL cannot be changed: " + shortCode);
+        }
+        return new ShortUrl(id, shortCode, originalUrl, createdAt, version, false, expiresAt, newRedirectPolicy,
+                redirectRules);
+    }
+
+    // 빈 목록이면 규칙 제거. 저장 전에 RedirectRules 형식으로 검증/정규화
+    public ShortUrl changeRedirectRules(List<RedirectRule> newRedirectRules) {
+        if (disabled) {
+            throw new IllegalStateException("Disabled short URL cannot be changed: " + shortCode);
+        }
+        return new ShortUrl(id, shortCode, originalUrl, createdAt, version, false, expiresAt, redirectPolicy,
+                RedirectRules.format(newRedirectRules));
+    }
+
+    public ShortUrl disable() {
+        return new ShortUrl(id, shortCode, originalUrl, createdAt, version, true, expiresAt, redirectPolicy,
+                redirectRules);
+    }
+
+    public boolean isExpired(Instant now) {
+        return expiresAt != null && !now.isBefore(expiresAt);
     }
 
     private static void validateShortCode(String shortCode) {
         if (shortCode == null || shortCode.isBlank()) {
             throw new IllegalArgumentException("Short code must not be blank");
         }
-        if (shortCode.length() < MIN_SHORT_CODE_LENGTH || shortCode.length() > MAX_SHORT_CODE_LENGTH) {
-            throw new IllegalArgumentException("Short code must be " + MIN_SHORT_CODE_LENGTH + "-" + MAX_SHORT_CODE_LENGTH + " characters");
-        }
-        if (!shortCode.matches(SHORT_CODE_PATTERN)) {
-            throw new IllegalArgumentException("Short code must be alphanumeric");
+        if (!ShortCode.isValid(shortCode)) {
+            throw new IllegalArgumentException(
+                    "Short code must be " + ShortCode.MIN_LENGTH + "-" + ShortCode.MAX_LENGTH + " alphanumeric characters");
         }
     }
 
@@ -59,7 +125,47 @@ public class ShortUrl {
     }
 
     public static ShortUrl restore(Long id, String shortCode, String originalUrl, LocalDateTime createdAt) {
-        return new ShortUrl(id, shortCode, originalUrl, createdAt);
+        return new ShortUrl(id, shortCode, originalUrl, createdAt, 0L, false, null, null, null);
+    }
+
+    public static ShortUrl restore(
+            Long id,
+            String shortCode,
+            String originalUrl,
+            LocalDateTime createdAt,
+            long version,
+            boolean disabled,
+            Instant expiresAt
+    ) {
+        return new ShortUrl(id, shortCode, originalUrl, createdAt, version, disabled, expiresAt, null, null);
+    }
+
+    public static ShortUrl restore(
+            Long id,
+            String shortCode,
+            String originalUrl,
+            LocalDateTime createdAt,
+            long version,
+            boolean disabled,
+            Instant expiresAt,
+            RedirectPolicy redirectPolicy
+    ) {
+        return restore(id, shortCode, originalUrl, createdAt, version, disabled, expiresAt, redirectPolicy, null);
+    }
+
+    public static ShortUrl restore(
+            Long id,
+            String shortCode,
+            String originalUrl,
+            LocalDateTime createdAt,
+            long version,
+            boolean disabled,
+            Instant expiresAt,
+            RedirectPolicy redirectPolicy,
+            String redirectRules
+    ) {
+        return new ShortUrl(id, shortCode, originalUrl, createdAt, version, disabled, expiresAt, redirectPolicy,
+                redirectRules);
     }
 
     public Long getId() {
@@ -78,6 +184,26 @@ public class ShortUrl {
         return createdAt;
     }
 
+    public long getVersion() {
+        return version;
+    }
+
+    public boolean isDisabled() {
+        return disabled;
+    }
+
+    public Instant getExpiresAt() {
+        return expiresAt;
+    }
+
+    public RedirectPolicy getRedirectPolicy() {
+        return redirectPolicy;
+    }
+
+    public String getRedirectRules() {
+        return redirectRules;
+    }
+
     @Override
     public boolean equals(Object o) {
         if (this == o) return true;
@@ -1,9 +1,12 @@
 package com.io.shortly.url.domain;
 
 import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
 
 public interface ShortUrlEventPublisher {
 
     void publishUrlCreated(UrlCreatedEvent event);
+
+    void publishUrlInvalidated(UrlInvalidatedEvent event);
 }
 
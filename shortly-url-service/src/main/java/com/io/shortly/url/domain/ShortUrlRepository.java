@@ -1,11 +1,23 @@
 package com.io.shortly.url.domain;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface ShortUrlRepository {
 
     void save(ShortUrl shortUrl);
 
+    // 읽은 version이 저장소의 version과 다르면 ShortUrlVersionConflictException, 성공 시 증가된 version으로 반환
+    ShortUrl update(ShortUrl shortUrl);
+
     Optional<ShortUrl> findByShortCode(String shortCode);
 
+    // 존재하는 코드만 반환하며 순서는 보장하지 않음 (short_code 유니크 인덱스 IN 조회)
+    List<ShortUrl> findAllByShortCodes(Collection<String> shortCodes);
+
+    // 아직 비활성화되지 않은 만료 링크를 만료 시각 순으로 최대 limit개 (expires_at 인덱스 범위 조회)
+    List<ShortUrl> findExpired(Instant now, int limit);
+
 }
@@ -0,0 +1,14 @@
+package com.io.shortly.url.domain;
+
+import com.io.shortly.shared.api.support.error.BusinessException;
+import com.io.shortly.url.api.support.UrlErrorCode;
+
+public class ShortUrlVersionConflictException extends BusinessException {
+
+    public ShortUrlVersionConflictException(String shortCode, long expectedVersion) {
+        super(
+                UrlErrorCode.VERSION_CONFLICT,
+                String.format("Short URL %s was modified after version %d. Reload and retry.",
+                        shortCode, expectedVersion));
+    }
+}
@@ -0,0 +1,106 @@
+package com.io.shortly.url.infrastructure.cache;
+
+import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
+import com.io.shortly.shared.redirect.cache.L2RedirectFormat;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.concurrent.ThreadLocalRandom;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+
+/*
+ * Pub/Sub warming의 L2 기록
+ *
+ * Pub/Sub은 모든 redirect 노드에 전달되어 노드 중 하나를 writer로 정할 수 없으므로, 발행하는 쪽에서 한 번만 기록하고
+ * 리스너는 자기 L1만 채움. 값 형식과 version 비교 스크립트는 redirect-service와 같은 L2RedirectFormat을 사용하여
+ * 늦게 도착한 이전 version 쓰기는 무시되며, 이후 TTL 연장은 redirect-service의 조회 경로가 맡음
+ */
+@Component
+@ConditionalOnProperty(name = "shortly.event.warming.transport", havingValue = "pubsub", matchIfMissing = true)
+public class RedirectL2Writer {
+
+    private static final byte[] VERSIONED_SET_SOURCE =
+        L2RedirectFormat.VERSIONED_SET.getScriptAsString().getBytes(StandardCharsets.UTF_8);
+
+    private final RedisSerializer<CachedRedirect> serializer = L2RedirectFormat.serializer();
+    private final long ttlMillis;
+    private final double jitter;
+
+    public RedirectL2Writer(
+        @Value("${shortly.cache.l2.ttl:30m}") Duration ttl,
+        @Value("${shortly.cache.l2.ttl-jitter:0.1}") double jitter
+    ) {
+        this.ttlMillis = Math.max(1L, ttl.toMillis());
+        this.jitter = Math.clamp(jitter, 0.0, 0.5);
+    }
+
+    // 새 링크는 version 0
+    public CachedRedirect entry(UrlCreatedEvent event, long nowMillis) {
+        long ttl = ttlMillis(event.getExpiresAt(), nowMillis);
+        return new CachedRedirect(
+            event.getEventId(),
+            event.getShortCode(),
+            event.getOriginalUrl(),
+            LocalDateTime.ofInstant(event.getCreatedAt(), ZoneId.systemDefault()),
+            0L,
+            false,
+            event.getExpiresAt(),
+            ttl,
+            CachedRedirect.l2ExpiresAt(ttl, nowMillis),
+            event.getRedirectPolicy(),
+            null
+        );
+    }
+
+    // 삭제 대신 새 version으로 덮어써서 늦게 도착한 이전 version 쓰기를 차단 (비활성화는 tombstone)
+    public CachedRedirect entry(UrlInvalidatedEvent event, long nowMillis) {
+        Instant expiresAt = event.isDisabled() ? null : event.getExpiresAt();
+        long ttl = ttlMillis(expiresAt, nowMillis);
+        return new CachedRedirect(
+            0L,
+            event.getShortCode(),
+            event.isDisabled() ? null : event.getOriginalUrl(),
+            LocalDateTime.now(),
+            event.getVersion(),
+            event.isDisabled(),
+            expiresAt,
+            ttl,
+            CachedRedirect.l2ExpiresAt(ttl, nowMillis),
+            event.isDisabled() ? null : event.getRedirectPolicy(),
+            event.isDisabled() ? null : event.getRedirectRules()
+        );
+    }
+
+    // 파이프라인 안에서 호출하면 응답을 기다리지 않음. 이미 만료된 링크는 기록하지 않음
+    // 링크 생성/변경당 1회라 SHA 대신 EVAL로 보내 NOSCRIPT 재전송 처리를 두지 않음
+    public void write(RedisConnection connection, CachedRedirect entry) {
+        if (entry.l2TtlMillis() <= 0) {
+            return;
+        }
+        byte[][] keyAndArgs = {
+            L2RedirectFormat.key(entry.shortCode()).getBytes(StandardCharsets.UTF_8),
+            serializer.serialize(entry),
+            Long.toString(entry.version()).getBytes(StandardCharsets.UTF_8),
+            Long.toString(entry.l2TtlMillis()).getBytes(StandardCharsets.UTF_8)
+        };
+        connection.scriptingCommands().eval(VERSIONED_SET_SOURCE, ReturnType.INTEGER, 1, keyAndArgs);
+    }
+
+    // redirect-service의 첫 기록과 같은 규칙: [1 - jitter, 1] 비율의 초기 TTL, 링크 만료 시각을 넘지 않음
+    private long ttlMillis(Instant expiresAt, long nowMillis) {
+        long jittered = Math.max(1L, (long) (ttlMillis * (1.0 - jitter * ThreadLocalRandom.current().nextDouble())));
+        if (expiresAt == null) {
+            return jittered;
+        }
+        return Math.min(jittered, expiresAt.toEpochMilli() - nowMillis);
+    }
+}
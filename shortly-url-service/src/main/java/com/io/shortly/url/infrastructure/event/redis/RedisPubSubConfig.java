@@ -1,15 +1,15 @@
 package com.io.shortly.url.infrastructure.event.redis;
 
 import com.io.shortly.shared.event.UrlCreatedEvent;
-import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.SerializationFeature;
-import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.event.codec.EventCodecFormat;
+import com.io.shortly.shared.event.codec.EventRedisSerializer;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -18,22 +18,35 @@ public class RedisPubSubConfig {
 
     @Bean
     public RedisTemplate<String, UrlCreatedEvent> urlCreatedEventRedisTemplate(
-            RedisConnectionFactory connectionFactory
+            RedisConnectionFactory connectionFactory,
+            @Value("${shortly.event.codec.format:json}") String codecFormat
     ) {
         RedisTemplate<String, UrlCreatedEvent> template = new RedisTemplate<>();
         template.setConnectionFactory(connectionFactory);
         template.setKeySerializer(new StringRedisSerializer());
 
-        ObjectMapper objectMapper = new ObjectMapper();
-        objectMapper.registerModule(new JavaTimeModule());
-        objectMapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
-
-        Jackson2JsonRedisSerializer<UrlCreatedEvent> serializer = new Jackson2JsonRedisSerializer<>(
-            objectMapper,
-            UrlCreatedEvent.class
+        EventRedisSerializer<UrlCreatedEvent> serializer = new EventRedisSerializer<>(
+            UrlCreatedEvent.class,
+            EventCodecFormat.from(codecFormat)
         );
         template.setValueSerializer(serializer);
 
         return template;
     }
+
+    @Bean
+    public RedisTemplate<String, UrlInvalidatedEvent> urlInvalidatedEventRedisTemplate(
+            RedisConnectionFactory connectionFactory,
+            @Value("${shortly.event.codec.format:json}") String codecFormat
+    ) {
+        RedisTemplate<String, UrlInvalidatedEvent> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(new StringRedisSerializer());
+        template.setValueSerializer(new EventRedisSerializer<>(
+            UrlInvalidatedEvent.class,
+            EventCodecFormat.from(codecFormat)
+        ));
+
+        return template;
+    }
 }
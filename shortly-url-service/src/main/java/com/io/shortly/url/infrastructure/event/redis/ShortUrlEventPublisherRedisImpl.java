@@ -1,31 +1,126 @@
 package com.io.shortly.url.infrastructure.event.redis;
 
+import com.io.shortly.shared.event.BaseEvent;
 import com.io.shortly.shared.event.UrlCreatedEvent;
 import com.io.shortly.shared.event.TopicType;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import com.io.shortly.shared.metrics.PublishMetrics;
+import com.io.shortly.shared.redirect.cache.CachedRedirect;
 import com.io.shortly.url.domain.ShortUrlEventPublisher;
-import lombok.RequiredArgsConstructor;
+import com.io.shortly.url.infrastructure.cache.RedirectL2Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.InvalidDataAccessApiUsageException;
+import org.springframework.data.redis.connection.RedisPipelineException;
+import org.springframework.data.redis.core.RedisCallback;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import org.springframework.stereotype.Component;
 
+/*
+ * Pub/Sub warming 발행
+ *
+ * L2 항목은 발행 직전에 같은 파이프라인으로 한 번 기록 (왕복 1회). 리스너는 노드마다 L1만 채우므로
+ * 노드 수와 무관하게 L2 쓰기가 이벤트당 1회이고, L1 miss로 L2를 읽는 시점에는 항목이 이미 있음
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
+@ConditionalOnProperty(name = "shortly.event.warming.transport", havingValue = "pubsub", matchIfMissing = true)
 public class ShortUrlEventPublisherRedisImpl implements ShortUrlEventPublisher {
 
+    private static final String CHANNEL = TopicType.URL_CREATED.getTopicName();
+    private static final String INVALIDATION_CHANNEL = TopicType.URL_INVALIDATED.getTopicName();
+
     private final RedisTemplate<String, UrlCreatedEvent> redisTemplate;
+    private final RedisTemplate<String, UrlInvalidatedEvent> invalidationTemplate;
+    private final RedirectL2Writer l2Writer;
+    private final HotPathMetrics hotPathMetrics;
+    private final PublishMetrics publishMetrics;
+    private final PublishMetrics invalidationMetrics;
+
+    public ShortUrlEventPublisherRedisImpl(
+        RedisTemplate<String, UrlCreatedEvent> redisTemplate,
+        RedisTemplate<String, UrlInvalidatedEvent> invalidationTemplate,
+        RedirectL2Writer l2Writer,
+        HotPathMetrics hotPathMetrics
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.invalidationTemplate = invalidationTemplate;
+        this.l2Writer = l2Writer;
+        this.hotPathMetrics = hotPathMetrics;
+        this.publishMetrics = hotPathMetrics.publish(CHANNEL);
+        this.invalidationMetrics = hotPathMetrics.publish(INVALIDATION_CHANNEL);
+    }
 
     @Override
     public void publishUrlCreated(UrlCreatedEvent event) {
+        long start = hotPathMetrics.start();
         try {
-            redisTemplate.convertAndSend(TopicType.URL_CREATED.getTopicName(), event);
+            publish(redisTemplate, CHANNEL, event, l2Writer.entry(event, System.currentTimeMillis()));
+            publishMetrics.recordSuccess(start);
             log.debug("[Event] URL 단축 이벤트 발행 성공: eventId={}, shortCode={}",
                 event.getEventId(), event.getShortCode()
             );
         } catch (Exception e) {
+            publishMetrics.recordDeadLetter(start);
             log.error("[Event] URL 단축 이벤트 발행 실패 - eventId={}, shortCode={}, error={}",
                 event.getEventId(), event.getShortCode(), e.getMessage()
             );
         }
     }
+
+    @Override
+    public void publishUrlInvalidated(UrlInvalidatedEvent event) {
+        long start = hotPathMetrics.start();
+        try {
+            publish(invalidationTemplate, INVALIDATION_CHANNEL, event, l2Writer.entry(event, System.currentTimeMillis()));
+            invalidationMetrics.recordSuccess(start);
+            log.debug("[Event] URL 무효화 이벤트 발행 성공: eventId={}, shortCode={}, version={}",
+                event.getEventId(), event.getShortCode(), event.getVersion()
+            );
+        } catch (Exception e) {
+            invalidationMetrics.recordDeadLetter(start);
+            log.error("[Event] URL 무효화 이벤트 발행 실패 - eventId={}, shortCode={}, version={}, error={}",
+                event.getEventId(), event.getShortCode(), event.getVersion(), e.getMessage()
+            );
+        }
+    }
+
+    // 발행 실패만 예외로 전달. L2 기록 실패는 조회 경로(L2 miss -> 원본 조회 -> 적재)에서 다시 채워지므로 경고만 남김
+    private <E extends BaseEvent> void publish(RedisTemplate<String, E> template, String channel, E event, CachedRedirect entry) {
+        byte[] rawChannel = channel.getBytes(StandardCharsets.UTF_8);
+        byte[] message = valueSerializer(template).serialize(event);
+        try {
+            template.executePipelined((RedisCallback<Object>) connection -> {
+                l2Writer.write(connection, entry);
+                connection.publish(rawChannel, message);
+                return null;
+            });
+        } catch (RedisPipelineException e) {
+            List<Object> results = e.getPipelineResult();
+            if (results.isEmpty() || results.getLast() instanceof Exception) {
+                throw e;
+            }
+            log.warn("[Event] L2 기록 실패, 발행은 완료: shortCode={}, error={}", entry.shortCode(), e.getMessage());
+        } catch (UnsupportedOperationException | InvalidDataAccessApiUsageException e) {
+            // 파이프라인을 지원하지 않는 연결(일부 클러스터 구성): 기록 후 발행을 건별로 전송
+            try {
+                template.execute((RedisCallback<Object>) connection -> {
+                    l2Writer.write(connection, entry);
+                    return null;
+                });
+            } catch (Exception writeFailure) {
+                log.warn("[Event] L2 기록 실패: shortCode={}, error={}", entry.shortCode(), writeFailure.getMessage());
+            }
+            template.convertAndSend(channel, event);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E> RedisSerializer<E> valueSerializer(RedisTemplate<String, E> template) {
+        return (RedisSerializer<E>) template.getValueSerializer();
+    }
 }
@@ -0,0 +1,160 @@
+package com.io.shortly.url.infrastructure.event.redis;
+
+import com.io.shortly.shared.event.BaseEvent;
+import com.io.shortly.shared.event.TopicType;
+import com.io.shortly.shared.event.UrlCreatedEvent;
+import com.io.shortly.shared.event.UrlInvalidatedEvent;
+import com.io.shortly.shared.event.codec.EventCodecFormat;
+import com.io.shortly.shared.event.codec.WarmingStreamCodec;
+import com.io.shortly.shared.metrics.HotPathMetrics;
+import com.io.shortly.shared.metrics.PublishMetrics;
+import com.io.shortly.url.domain.ShortUrlEventPublisher;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.ByteRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+/*
+ * Redis Streams 기반 캐시 warming 발행
+ *
+ * Pub/Sub과 달리 항목이 스트림에 남으므로, 재시작/단절된 redirect 노드는 마지막 ACK 이후부터 다시 읽는다.
+ * 스트림 길이는 MAXLEN ~ 으로 제한하고, XADD 실패 시 메모리 큐에 보관했다가 재시도한다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "shortly.event.warming.transport", havingValue = "stream")
+public class ShortUrlEventPublisherRedisStreamImpl implements ShortUrlEventPublisher {
+
+    private static final String STREAM = TopicType.URL_WARMING_STREAM.getTopicName();
+    private static final byte[] STREAM_KEY = STREAM.getBytes(StandardCharsets.UTF_8);
+
+    private final StringRedisTemplate redisTemplate;
+    private final EventCodecFormat codecFormat;
+    private final XAddOptions addOptions;
+    private final int maxPending;
+    private final long retryIntervalMillis;
+    private final HotPathMetrics hotPathMetrics;
+    private final PublishMetrics publishMetrics;
+
+    private final ConcurrentLinkedQueue<BaseEvent> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final ScheduledExecutorService retrier = Executors.newSingleThreadScheduledExecutor(
+        Thread.ofPlatform().name("warming-stream-retry").daemon().factory());
+
+    public ShortUrlEventPublisherRedisStreamImpl(
+        StringRedisTemplate redisTemplate,
+        HotPathMetrics hotPathMetrics,
+        @Value("${shortly.event.codec.format:json}") String codecFormat,
+        @Value("${shortly.event.warming.stream.max-length:100000}") long maxLength,
+        @Value("${shortly.event.warming.stream.max-pending:10000}") int maxPending,
+        @Value("${shortly.event.warming.stream.retry-interval:1s}") Duration retryInterval
+    ) {
+        this.redisTemplate = redisTemplate;
+        this.codecFormat = EventCodecFormat.from(codecFormat);
+        // 근사 trim(~)은 매 XADD마다 정확히 자르지 않아 비용이 작음
+        this.addOptions = XAddOptions.maxlen(maxLength).approximateTrimming(true);
+        this.maxPending = Math.max(1, maxPending);
+        this.retryIntervalMillis = Math.max(1L, retryInterval.toMillis());
+        this.hotPathMetrics = hotPathMetrics;
+        this.publishMetrics = hotPathMetrics.publish(STREAM);
+    }
+
+    @PostConstruct
+    public void start() {
+        retrier.scheduleWithFixedDelay(this::retryPending, retryIntervalMillis, retryIntervalMillis,
+            TimeUnit.MILLISECONDS);
+    }
+
+    @PreDestroy
+    public void stop() {
+        retrier.shutdown();
+        retryPending();
+        if (pendingCount.get() > 0) {
+            log.warn("[Event] 종료 시 warming 스트림 미발행 이벤트 - count={}", pendingCount.get());
+        }
+    }
+
+    @Override
+    public void publishUrlCreated(UrlCreatedEvent event) {
+        publish(event);
+    }
+
+    @Override
+    public void publishUrlInvalidated(UrlInvalidatedEvent event) {
+        publish(event);
+    }
+
+    private void publish(BaseEvent event) {
+        // 앞선 이벤트가 재시도 대기 중이면 순서를 유지하도록 뒤에 줄을 세움
+        if (pendingCount.get() > 0) {
+            enqueue(event);
+            return;
+        }
+
+        long start = hotPathMetrics.start();
+        try {
+            RecordId id = append(event);
+            publishMetrics.recordSuccess(start);
+            log.debug("[Event] warming 스트림 발행 성공: eventId={}, type={}, recordId={}",
+                event.getEventId(), event.getEventType(), id);
+        } catch (Exception e) {
+            publishMetrics.recordRetry(start);
+            log.warn("[Event] warming 스트림 발행 실패, 재시도 대기 - eventId={}, error={}",
+                event.getEventId(), e.getMessage());
+            enqueue(event);
+        }
+    }
+
+    private RecordId append(BaseEvent event) {
+        ByteRecord record = StreamRecords.rawBytes(WarmingStreamCodec.encode(event, codecFormat))
+            .withStreamKey(STREAM_KEY);
+        return redisTemplate.execute((RedisCallback<RecordId>) connection ->
+            connection.streamCommands().xAdd(record, addOptions));
+    }
+
+    private void enqueue(BaseEvent event) {
+        pending.add(event);
+        publishMetrics.recordQueued(hotPathMetrics.start());
+        if (pendingCount.incrementAndGet() > maxPending) {
+            BaseEvent dropped = pending.poll();
+            if (dropped != null) {
+                pendingCount.decrementAndGet();
+                publishMetrics.recordDeadLetter(hotPathMetrics.start());
+                log.error("[Event] warming 재시도 큐 초과, 가장 오래된 이벤트 폐기 - eventId={}", dropped.getEventId());
+            }
+        }
+    }
+
+    // 단일 스레드에서만 실행. 첫 실패에서 멈춰 다음 주기에 같은 위치부터 재시도
+    private void retryPending() {
+        BaseEvent event;
+        while ((event = pending.peek()) != null) {
+            long start = hotPathMetrics.start();
+            try {
+                append(event);
+            } catch (Exception e) {
+                log.debug("[Event] warming 스트림 재시도 실패 - pending={}, error={}", pendingCount.get(), e.getMessage());
+                return;
+            }
+            publishMetrics.recordSuccess(start);
+            if (pending.remove(event)) {
+                pendingCount.decrementAndGet();
+            }
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.io.shortly.url.infrastructure.persistence.jpa.url;
 
+import com.io.shortly.shared.redirect.RedirectPolicy;
 import com.io.shortly.url.domain.ShortUrl;
 import jakarta.persistence.*;
 import lombok.AccessLevel;
@@ -8,12 +9,14 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import org.hibernate.annotations.CreationTimestamp;
 
+import java.time.Instant;
 import java.time.LocalDateTime;
 
 @Entity
 @Getter
 @Table(name = "urls", indexes = {
-    @Index(name = "idx_short_code", columnList = "short_code", unique = true)
+    @Index(name = "idx_short_code", columnList = "short_code", unique = true),
+    @Index(name = "idx_expires_at", columnList = "expires_at")
 })
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
@@ -33,8 +36,28 @@ public class ShortUrlJpaEntity {
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
 
+    // 변경 시 Hibernate가 증가시키며, 캐시 무효화 이벤트의 순서 기준으로 사용
+    @Version
+    @Column(name = "version", nullable = false)
+    private long version;
+
+    @Column(name = "disabled", nullable = false)
+    private boolean disabled;
+
+    @Column(name = "expires_at")
+    private Instant expiresAt;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "redirect_policy", nullable = false, length = 16)
+    private RedirectPolicy redirectPolicy;
+
+    // RedirectRules 형식, 최대 16줄
+    @Column(name = "redirect_rules", columnDefinition = "TEXT")
+    private String redirectRules;
+
     public ShortUrl toDomain() {
-        return ShortUrl.restore(id, shortCode, originalUrl, createdAt);
+        return ShortUrl.restore(
+                id, shortCode, originalUrl, createdAt, version, disabled, expiresAt, redirectPolicy, redirectRules);
     }
 
     public static ShortUrlJpaEntity fromDomain(ShortUrl shortUrl) {
@@ -42,7 +65,12 @@ public class ShortUrlJpaEntity {
                 shortUrl.getId(),
                 shortUrl.getShortCode(),
                 shortUrl.getOriginalUrl(),
-                shortUrl.getCreatedAt()
+                shortUrl.getCreatedAt(),
+                shortUrl.getVersion(),
+                shortUrl.isDisabled(),
+                shortUrl.getExpiresAt(),
+                shortUrl.getRedirectPolicy(),
+                shortUrl.getRedirectRules()
         );
     }
 }
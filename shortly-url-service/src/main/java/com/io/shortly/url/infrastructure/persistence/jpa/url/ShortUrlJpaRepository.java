@@ -1,6 +1,10 @@
 package com.io.shortly.url.infrastructure.persistence.jpa.url;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
@@ -8,4 +12,8 @@ import org.springframework.stereotype.Repository;
 public interface ShortUrlJpaRepository extends JpaRepository<ShortUrlJpaEntity, Long> {
 
     Optional<ShortUrlJpaEntity> findByShortCode(String shortCode);
+
+    List<ShortUrlJpaEntity> findByShortCodeIn(Collection<String> shortCodes);
+
+    List<ShortUrlJpaEntity> findByExpiresAtLessThanEqualAndDisabledFalseOrderByExpiresAtAsc(Instant now, Limit limit);
 }
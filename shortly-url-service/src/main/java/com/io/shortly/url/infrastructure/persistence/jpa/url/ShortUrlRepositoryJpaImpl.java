@@ -1,10 +1,17 @@
 package com.io.shortly.url.infrastructure.persistence.jpa.url;
 
+import com.io.shortly.shared.metrics.HotPathMetrics;
 import com.io.shortly.url.domain.ShortUrl;
 import com.io.shortly.url.domain.ShortUrlRepository;
+import com.io.shortly.url.domain.ShortUrlVersionConflictException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Component;
 
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Component
@@ -12,10 +19,26 @@ import java.util.Optional;
 public class ShortUrlRepositoryJpaImpl implements ShortUrlRepository {
 
     private final ShortUrlJpaRepository jpaRepository;
+    private final HotPathMetrics hotPathMetrics;
 
     @Override
     public void save(ShortUrl shortUrl) {
+        long start = hotPathMetrics.start();
         jpaRepository.save(ShortUrlJpaEntity.fromDomain(shortUrl));
+        hotPathMetrics.recordDbWrite("short_url.save", start);
+    }
+
+    // detached 엔티티 merge 시 @Version 비교 -> 다른 요청이 먼저 커밋했으면 낙관적 락 실패
+    @Override
+    public ShortUrl update(ShortUrl shortUrl) {
+        long start = hotPathMetrics.start();
+        try {
+            ShortUrlJpaEntity saved = jpaRepository.save(ShortUrlJpaEntity.fromDomain(shortUrl));
+            hotPathMetrics.recordDbWrite("short_url.update", start);
+            return saved.toDomain();
+        } catch (OptimisticLockingFailureException e) {
+            throw new ShortUrlVersionConflictException(shortUrl.getShortCode(), shortUrl.getVersion());
+        }
     }
 
     @Override
@@ -23,4 +46,23 @@ public class ShortUrlRepositoryJpaImpl implements ShortUrlRepository {
         return jpaRepository.findByShortCode(shortCode)
                 .map(ShortUrlJpaEntity::toDomain);
     }
+
+    @Override
+    public List<ShortUrl> findAllByShortCodes(Collection<String> shortCodes) {
+        if (shortCodes.isEmpty()) {
+            return List.of();
+        }
+        return jpaRepository.findByShortCodeIn(shortCodes)
+                .stream()
+                .map(ShortUrlJpaEntity::toDomain)
+                .toList();
+    }
+
+    @Override
+    public List<ShortUrl> findExpired(Instant now, int limit) {
+        return jpaRepository.findByExpiresAtLessThanEqualAndDisabledFalseOrderByExpiresAtAsc(now, Limit.of(limit))
+                .stream()
+                .map(ShortUrlJpaEntity::toDomain)
+                .toList();
+    }
 }